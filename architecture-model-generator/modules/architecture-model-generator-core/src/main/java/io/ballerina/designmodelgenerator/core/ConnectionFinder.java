@@ -55,9 +55,11 @@ import io.ballerina.tools.text.LineRange;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Find connections for the given symbol.
@@ -70,6 +72,7 @@ public class ConnectionFinder {
     private final Map<String, ModulePartNode> documentMap;
     private final Path rootPath;
     private final IntermediateModel intermediateModel;
+    private final Set<String> referencedDocuments = new HashSet<>();
 
     public ConnectionFinder(SemanticModel semanticModel, Path rootPath,
                             Map<String, ModulePartNode> documentMap,
@@ -84,6 +87,7 @@ public class ConnectionFinder {
         if (symbol.getLocation().isEmpty()) {
             return;
         }
+        referencedDocuments.add(symbol.getLocation().get().lineRange().fileName());
         String hashKey = String.valueOf(symbol.getLocation().get().hashCode());
         referenceLocations.add(hashKey);
         if (this.intermediateModel.connectionMap.containsKey(hashKey)) {
@@ -97,7 +101,7 @@ public class ConnectionFinder {
         if (symbol instanceof ClassFieldSymbol classFieldSymbol) {
             if (classFieldSymbol.hasDefaultValue()) {
                 Location location = classFieldSymbol.getLocation().get();
-                ModulePartNode modulePartNode = documentMap.get(location.lineRange().fileName());
+                ModulePartNode modulePartNode = getModulePartNode(location);
                 NonTerminalNode node = modulePartNode.findNode(location.textRange());
                 if (node instanceof ObjectFieldNode objectFieldNode) {
                     if (objectFieldNode.expression().isEmpty()) {
@@ -123,7 +127,7 @@ public class ConnectionFinder {
             } else {
                 List<Location> references = this.semanticModel.references(classFieldSymbol);
                 for (Location location : references) {
-                    ModulePartNode modulePartNode = documentMap.get(location.lineRange().fileName());
+                    ModulePartNode modulePartNode = getModulePartNode(location);
                     NonTerminalNode node = modulePartNode.findNode(location.textRange()).parent();
                     if (node instanceof AssignmentStatementNode assignmentStatementNode) {
                         if (isNewConnection(assignmentStatementNode.expression())) {
@@ -170,7 +174,7 @@ public class ConnectionFinder {
             } else {
                 List<Location> references = this.semanticModel.references(variableSymbol);
                 for (Location location : references) {
-                    ModulePartNode modulePartNode = documentMap.get(location.lineRange().fileName());
+                    ModulePartNode modulePartNode = getModulePartNode(location);
                     NonTerminalNode node = modulePartNode.findNode(location.textRange()).parent();
                     if (node instanceof VariableDeclarationNode variableDeclarationNode) {
                         if (variableDeclarationNode.initializer().isEmpty()) {
@@ -223,6 +227,21 @@ public class ConnectionFinder {
         }
     }
 
+    /**
+     * Returns the names of the documents the connections were looked up in.
+     *
+     * @return names of the referenced documents
+     */
+    public Set<String> getReferencedDocuments() {
+        return referencedDocuments;
+    }
+
+    private ModulePartNode getModulePartNode(Location location) {
+        String fileName = location.lineRange().fileName();
+        referencedDocuments.add(fileName);
+        return documentMap.get(fileName);
+    }
+
     private boolean isNewConnection(ExpressionNode expressionNode) {
         return switch (expressionNode) {
             case ImplicitNewExpressionNode ignored -> true;
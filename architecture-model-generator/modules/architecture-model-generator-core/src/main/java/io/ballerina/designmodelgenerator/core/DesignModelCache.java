@@ -0,0 +1,408 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.designmodelgenerator.core.model.Connection;
+import io.ballerina.designmodelgenerator.core.model.DesignModel;
+import io.ballerina.designmodelgenerator.core.model.Listener;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.TomlDocument;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Intermediate models of the documents of a module, along with the connections found while analysing them.
+ * <p>
+ * A document is only re-analysed if it changed, or if it depends on a document that changed. A document depends on
+ * the documents the connection finder looked up references in, and on the documents owning the connections its
+ * functions use. The connections of module level variables are owned by the declaring document, and the other
+ * connections by the document being analysed when they were found. Changes to type or class definitions, to the
+ * other modules of the package, or to the package manifest invalidate all the documents. The design model built from
+ * the intermediate models is reused until the module changes.
+ * <p>
+ * The cache is not thread-safe. Callers synchronize on it while syncing and building models.
+ *
+ * @since 1.3.0
+ */
+final class DesignModelCache {
+
+    private static final int MAX_MODULES = 16;
+    private static final Map<ModuleKey, DesignModelCache> caches = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ModuleKey, DesignModelCache> eldest) {
+            return size() > MAX_MODULES;
+        }
+    };
+
+    private final Map<DocumentId, DocumentModel> documents = new HashMap<>();
+    private WeakReference<Package> syncedPackage = new WeakReference<>(null);
+    private boolean synced;
+    private byte[] environmentDigest;
+    private DesignModel designModel;
+
+    private DesignModelCache() {
+    }
+
+    static DesignModelCache of(Module module) {
+        ModuleKey key = new ModuleKey(module.project().sourceRoot().toString(), module.moduleName().toString());
+        synchronized (caches) {
+            return caches.computeIfAbsent(key, k -> new DesignModelCache());
+        }
+    }
+
+    /**
+     * Updates the cache to the current state of the module, dropping the intermediate models of the changed documents
+     * and the documents depending on them.
+     *
+     * @param module module of the cache
+     * @return the documents to analyse, in the order of the module
+     */
+    List<DocumentId> sync(Module module) {
+        Package currentPackage = module.packageInstance();
+        if (syncedPackage.get() == currentPackage) {
+            return List.of();
+        }
+        syncedPackage = new WeakReference<>(currentPackage);
+
+        byte[] currentEnvironmentDigest = environmentDigest(module);
+        boolean reset = !synced || !Arrays.equals(currentEnvironmentDigest, environmentDigest);
+        synced = true;
+        environmentDigest = currentEnvironmentDigest;
+
+        Map<DocumentId, DocumentModel> previousDocuments = new HashMap<>(documents);
+        Set<DocumentId> invalidated = new HashSet<>();
+        Set<String> invalidatedNames = new HashSet<>();
+        Set<String> replacedConnections = new HashSet<>();
+        documents.clear();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            SyntaxTree syntaxTree = document.syntaxTree();
+            DocumentModel previous = previousDocuments.remove(documentId);
+            if (previous != null && previous.matches(syntaxTree)) {
+                documents.put(documentId, previous.withSyntaxTree(syntaxTree));
+                continue;
+            }
+            byte[] previousDefinitionsDigest = previous == null ? null : previous.definitionsDigest();
+            reset |= !Arrays.equals(previousDefinitionsDigest, definitionsDigest(syntaxTree));
+            invalidated.add(documentId);
+            invalidatedNames.add(document.name());
+            if (previous != null) {
+                replacedConnections.addAll(previous.ownedConnections());
+            }
+        }
+        for (DocumentModel removed : previousDocuments.values()) {
+            reset |= removed.definitionsDigest() != null;
+            invalidatedNames.add(removed.name());
+            replacedConnections.addAll(removed.ownedConnections());
+        }
+
+        if (reset) {
+            documents.clear();
+            designModel = null;
+            return List.copyOf(module.documentIds());
+        }
+        if (invalidated.isEmpty() && previousDocuments.isEmpty()) {
+            return List.of();
+        }
+
+        // Invalidate the documents depending on the invalidated ones, until no more documents are affected
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<DocumentId, DocumentModel> entry : documents.entrySet()) {
+                DocumentModel documentModel = entry.getValue();
+                if (invalidated.contains(entry.getKey()) || !documentModel.dependsOn(invalidatedNames,
+                        replacedConnections)) {
+                    continue;
+                }
+                invalidated.add(entry.getKey());
+                invalidatedNames.add(documentModel.name());
+                replacedConnections.addAll(documentModel.ownedConnections());
+                changed = true;
+            }
+        }
+        documents.keySet().removeAll(invalidated);
+        designModel = null;
+        return module.documentIds().stream().filter(invalidated::contains).toList();
+    }
+
+    /**
+     * Drops the intermediate models of all the documents, so that the module is analysed again on the next sync.
+     */
+    void clear() {
+        documents.clear();
+        syncedPackage = new WeakReference<>(null);
+        synced = false;
+        designModel = null;
+    }
+
+    /**
+     * Returns the design model built since the last change to the module, if any.
+     *
+     * @return the design model, or null if it has to be built
+     */
+    DesignModel designModel() {
+        return designModel;
+    }
+
+    void setDesignModel(DesignModel designModel) {
+        this.designModel = designModel;
+    }
+
+    /**
+     * Returns an intermediate model to analyse a document with, holding the connections known so far.
+     *
+     * @param moduleConnections connections of the module level variables declared in the documents being analysed,
+     *                          by document name
+     * @return the intermediate model of the document
+     */
+    IntermediateModel newDocumentModel(Map<String, Map<String, Connection>> moduleConnections) {
+        IntermediateModel intermediateModel = new IntermediateModel();
+        knownConnections(moduleConnections).forEach((key, connection) -> {
+            intermediateModel.connectionMap.put(key, connection);
+            intermediateModel.uuidToConnectionMap.put(connection.getUuid(), connection);
+        });
+        return intermediateModel;
+    }
+
+    /**
+     * Records the intermediate model of an analysed document, along with the connections it found and used.
+     *
+     * @param documentId          id of the document
+     * @param document            the analysed document
+     * @param intermediateModel   intermediate model the document was analysed into
+     * @param moduleConnections   connections of the module level variables declared in the documents being analysed,
+     *                            by document name
+     * @param referencedDocuments names of the documents the connection finder looked up references in
+     */
+    void update(DocumentId documentId, Document document, IntermediateModel intermediateModel,
+                Map<String, Map<String, Connection>> moduleConnections, Set<String> referencedDocuments) {
+        Map<String, Connection> knownConnections = knownConnections(moduleConnections);
+        Set<String> knownUuids = new HashSet<>();
+        knownConnections.values().forEach(connection -> knownUuids.add(connection.getUuid()));
+
+        // Keep the connections declared in the document, and the ones found or aliased while analysing it
+        Map<String, Connection> connections =
+                new HashMap<>(moduleConnections.getOrDefault(document.name(), Map.of()));
+        intermediateModel.connectionMap.forEach((key, connection) -> {
+            if (knownConnections.get(key) != connection) {
+                connections.put(key, connection);
+            }
+        });
+        intermediateModel.connectionMap.clear();
+        intermediateModel.uuidToConnectionMap.clear();
+        Set<String> ownedConnections = new HashSet<>();
+        Set<String> referencedConnections = new HashSet<>();
+        connections.forEach((key, connection) -> {
+            intermediateModel.connectionMap.put(key, connection);
+            intermediateModel.uuidToConnectionMap.put(connection.getUuid(), connection);
+            referencedConnections.add(connection.getUuid());
+            if (!knownUuids.contains(connection.getUuid())) {
+                ownedConnections.add(connection.getUuid());
+            }
+        });
+        moduleConnections.getOrDefault(document.name(), Map.of())
+                .values().forEach(connection -> ownedConnections.add(connection.getUuid()));
+        for (String ownedConnection : ownedConnections) {
+            referencedConnections.addAll(intermediateModel.uuidToConnectionMap.get(ownedConnection)
+                    .getDependentConnection());
+        }
+        intermediateModel.functionModelMap.values()
+                .forEach(functionModel -> referencedConnections.addAll(functionModel.connections));
+        for (IntermediateModel.ServiceModel serviceModel : intermediateModel.serviceModelMap.values()) {
+            serviceModel.remoteFunctions.forEach(functionModel -> referencedConnections.addAll(
+                    functionModel.connections));
+            serviceModel.resourceFunctions.forEach(functionModel -> referencedConnections.addAll(
+                    functionModel.connections));
+            serviceModel.otherFunctions.values().forEach(functionModel -> referencedConnections.addAll(
+                    functionModel.connections));
+        }
+
+        SyntaxTree syntaxTree = document.syntaxTree();
+        documents.put(documentId, new DocumentModel(document.name(), new WeakReference<>(syntaxTree),
+                contentDigest(syntaxTree), definitionsDigest(syntaxTree), intermediateModel,
+                Collections.unmodifiableSet(ownedConnections), Collections.unmodifiableSet(referencedConnections),
+                Set.copyOf(referencedDocuments)));
+    }
+
+    /**
+     * Merges the intermediate models of the documents of the module. The function, service and listener models are
+     * copied, as building a design model updates them.
+     *
+     * @param module module of the cache
+     * @return the intermediate model of the module
+     */
+    IntermediateModel merge(Module module) {
+        IntermediateModel merged = new IntermediateModel();
+        Map<Listener, Listener> listenerCopies = new IdentityHashMap<>();
+        for (DocumentId documentId : module.documentIds()) {
+            DocumentModel documentModel = documents.get(documentId);
+            if (documentModel == null) {
+                continue;
+            }
+            IntermediateModel intermediateModel = documentModel.intermediateModel();
+            merged.connectionMap.putAll(intermediateModel.connectionMap);
+            merged.uuidToConnectionMap.putAll(intermediateModel.uuidToConnectionMap);
+            intermediateModel.listeners.forEach((key, listener) -> {
+                Listener copy = listenerCopies.computeIfAbsent(listener, DesignModelCache::copy);
+                if (listener.getKind() == Listener.Kind.IMPORTED) {
+                    merged.listeners.putIfAbsent(key, copy);
+                } else {
+                    merged.listeners.put(key, copy);
+                }
+            });
+            intermediateModel.functionModelMap.forEach((name, functionModel) ->
+                    merged.functionModelMap.put(name, functionModel.copy()));
+            intermediateModel.serviceModelMap.forEach((key, serviceModel) -> merged.serviceModelMap.put(key,
+                    serviceModel.copy(listener -> listenerCopies.computeIfAbsent(listener,
+                            DesignModelCache::copy))));
+        }
+        return merged;
+    }
+
+    private Map<String, Connection> knownConnections(Map<String, Map<String, Connection>> moduleConnections) {
+        Map<String, Connection> connections = new HashMap<>();
+        documents.values().forEach(documentModel ->
+                connections.putAll(documentModel.intermediateModel().connectionMap));
+        moduleConnections.values().forEach(connections::putAll);
+        return connections;
+    }
+
+    private static Listener copy(Listener listener) {
+        return new Listener(listener.getSymbol(), listener.getSortText(), listener.getLocation(), listener.getType(),
+                listener.getIcon(), listener.getKind(), listener.getArgs(), listener.isFlowModelEnabled());
+    }
+
+    private static byte[] environmentDigest(Module module) {
+        Package currentPackage = module.packageInstance();
+        // Digests the digests of the parts, so that the content of one part cannot be mistaken for another
+        MessageDigest digest = sha256();
+        digest.update(currentPackage.ballerinaToml().map(toml -> tomlDigest(toml.tomlDocument())).orElse(new byte[0]));
+        digest.update((byte) 0);
+        digest.update(currentPackage.dependenciesToml().map(toml -> tomlDigest(toml.tomlDocument()))
+                .orElse(new byte[0]));
+        for (Module otherModule : currentPackage.modules()) {
+            if (otherModule.moduleId().equals(module.moduleId())) {
+                continue;
+            }
+            for (DocumentId documentId : otherModule.documentIds()) {
+                digest.update(contentDigest(otherModule.document(documentId).syntaxTree()));
+            }
+        }
+        return digest.digest();
+    }
+
+    private static byte[] tomlDigest(TomlDocument tomlDocument) {
+        return digest(tomlDocument.textDocument().toString());
+    }
+
+    private static byte[] contentDigest(SyntaxTree syntaxTree) {
+        return digest(syntaxTree.textDocument().toString());
+    }
+
+    /**
+     * Returns the digest of the type, class and enum definitions of the document, or null if it has none.
+     */
+    private static byte[] definitionsDigest(SyntaxTree syntaxTree) {
+        if (!syntaxTree.containsModulePart()) {
+            return null;
+        }
+        MessageDigest digest = null;
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            switch (member.kind()) {
+                case TYPE_DEFINITION, CLASS_DEFINITION, ENUM_DECLARATION -> {
+                    if (digest == null) {
+                        digest = sha256();
+                    }
+                    digest.update(digest(member.toSourceCode()));
+                }
+                default -> {
+                }
+            }
+        }
+        return digest == null ? null : digest.digest();
+    }
+
+    private static byte[] digest(String content) {
+        return sha256().digest(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record ModuleKey(String project, String module) {
+    }
+
+    /**
+     * Intermediate model of a document and the dependencies of its connections.
+     *
+     * @param name                  name of the document
+     * @param syntaxTree            syntax tree the model was analysed from
+     * @param contentDigest         SHA-256 digest of the document content
+     * @param definitionsDigest     SHA-256 digest of the type and class definitions of the document, if any
+     * @param intermediateModel     functions, services, listeners and connections of the document
+     * @param ownedConnections      ids of the connections declared in or found while analysing the document
+     * @param referencedConnections ids of the connections used by the document
+     * @param referencedDocuments   names of the documents the connections were looked up in
+     */
+    private record DocumentModel(String name, WeakReference<SyntaxTree> syntaxTree, byte[] contentDigest,
+                                 byte[] definitionsDigest, IntermediateModel intermediateModel,
+                                 Set<String> ownedConnections, Set<String> referencedConnections,
+                                 Set<String> referencedDocuments) {
+
+        boolean matches(SyntaxTree other) {
+            return syntaxTree.get() == other || Arrays.equals(contentDigest, contentDigest(other));
+        }
+
+        DocumentModel withSyntaxTree(SyntaxTree other) {
+            return syntaxTree.get() == other ? this : new DocumentModel(name, new WeakReference<>(other),
+                    contentDigest, definitionsDigest, intermediateModel, ownedConnections, referencedConnections,
+                    referencedDocuments);
+        }
+
+        boolean dependsOn(Set<String> documentNames, Set<String> connections) {
+            return !Collections.disjoint(referencedDocuments, documentNames) ||
+                    !Collections.disjoint(referencedConnections, connections);
+        }
+    }
+}
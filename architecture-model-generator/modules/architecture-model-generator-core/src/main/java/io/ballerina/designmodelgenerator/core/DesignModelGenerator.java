@@ -36,6 +36,7 @@ import io.ballerina.designmodelgenerator.core.model.ResourceFunction;
 import io.ballerina.designmodelgenerator.core.model.Service;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.tools.text.LineRange;
@@ -50,6 +51,9 @@ import java.util.Set;
 
 /**
  * Generate the design model for the default package.
+ * <p>
+ * The intermediate models of the documents are cached per module, so that only the documents changed since the last
+ * generation, and the documents depending on their connections, are analysed again.
  *
  * @since 1.0.0
  */
@@ -76,16 +80,43 @@ public class DesignModelGenerator {
     }
 
     public DesignModel generate() {
-        IntermediateModel intermediateModel = new IntermediateModel();
-        this.populateModuleLevelConnections(intermediateModel);
-        ConnectionFinder connectionFinder = new ConnectionFinder(semanticModel, rootPath, documentMap,
-                intermediateModel);
-        this.defaultModule.documentIds().forEach(d -> {
-            ModulePartNode rootNode = this.defaultModule.document(d).syntaxTree().rootNode();
-            CodeAnalyzer codeAnalyzer = new CodeAnalyzer(semanticModel, intermediateModel, rootPath, connectionFinder);
-            codeAnalyzer.visit(rootNode);
-        });
+        DesignModelCache cache = DesignModelCache.of(this.defaultModule);
+        synchronized (cache) {
+            try {
+                List<DocumentId> documentIds = cache.sync(this.defaultModule);
+                DesignModel designModel = cache.designModel();
+                if (designModel != null) {
+                    return designModel;
+                }
+
+                Set<String> documentNames = new HashSet<>();
+                documentIds.forEach(documentId -> documentNames.add(this.defaultModule.document(documentId).name()));
+                Map<String, Map<String, Connection>> moduleConnections =
+                        this.populateModuleLevelConnections(documentNames);
+                for (DocumentId documentId : documentIds) {
+                    Document document = this.defaultModule.document(documentId);
+                    IntermediateModel intermediateModel = cache.newDocumentModel(moduleConnections);
+                    ConnectionFinder connectionFinder = new ConnectionFinder(semanticModel, rootPath, documentMap,
+                            intermediateModel);
+                    CodeAnalyzer codeAnalyzer =
+                            new CodeAnalyzer(semanticModel, intermediateModel, rootPath, connectionFinder);
+                    ModulePartNode rootNode = document.syntaxTree().rootNode();
+                    codeAnalyzer.visit(rootNode);
+                    cache.update(documentId, document, intermediateModel, moduleConnections,
+                            connectionFinder.getReferencedDocuments());
+                }
+
+                designModel = build(cache.merge(this.defaultModule));
+                cache.setDesignModel(designModel);
+                return designModel;
+            } catch (RuntimeException e) {
+                cache.clear();
+                throw e;
+            }
+        }
+    }
 
+    private DesignModel build(IntermediateModel intermediateModel) {
         DesignModel.DesignModelBuilder builder = new DesignModel.DesignModelBuilder();
 
         if (intermediateModel.functionModelMap.containsKey(MAIN_FUNCTION_NAME)) {
@@ -170,9 +201,11 @@ public class DesignModelGenerator {
                 .build();
     }
 
-    private void populateModuleLevelConnections(IntermediateModel intermediateModel) {
+    private Map<String, Map<String, Connection>> populateModuleLevelConnections(Set<String> documentNames) {
+        Map<String, Map<String, Connection>> moduleConnections = new HashMap<>();
         for (Symbol symbol : this.semanticModel.moduleSymbols()) {
-            if (symbol instanceof VariableSymbol variableSymbol) {
+            if (symbol instanceof VariableSymbol variableSymbol && variableSymbol.getLocation().isPresent() &&
+                    documentNames.contains(variableSymbol.getLocation().get().lineRange().fileName())) {
                 TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
                 if (typeSymbol instanceof ObjectTypeSymbol objectTypeSymbol) {
                     boolean isAgentClass = CommonUtils.isAgentClass(objectTypeSymbol);
@@ -184,13 +217,13 @@ public class DesignModelGenerator {
                         Connection connection = new Connection(variableSymbol.getName().get(), sortText,
                                 getLocation(lineRange), Connection.Scope.GLOBAL, icon, showConnection,
                                 CommonUtils.getConnectionKind(objectTypeSymbol));
-                        intermediateModel.connectionMap.put(
-                                String.valueOf(variableSymbol.getLocation().get().hashCode()), connection);
-                        intermediateModel.uuidToConnectionMap.put(connection.getUuid(), connection);
+                        moduleConnections.computeIfAbsent(lineRange.fileName(), k -> new HashMap<>())
+                                .put(String.valueOf(variableSymbol.getLocation().get().hashCode()), connection);
                     }
                 }
             }
         }
+        return moduleConnections;
     }
 
     private void buildConnectionGraph(IntermediateModel intermediateModel,
@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * Intermediate model to store the intermediate representation of the code.
@@ -70,6 +71,23 @@ public class IntermediateModel {
             this.resourceFunctions = new ArrayList<>();
             this.otherFunctions = new HashMap<>();
         }
+
+        /**
+         * Returns a copy of the service model that can be used to build a design model, which updates the function
+         * models while resolving their connections.
+         *
+         * @param listenerCopy returns the copy of an attached listener
+         * @return a copy of the service model
+         */
+        ServiceModel copy(UnaryOperator<Listener> listenerCopy) {
+            ServiceModel copy = new ServiceModel(displayName, absolutePath, sortText, location);
+            remoteFunctions.forEach(functionModel -> copy.remoteFunctions.add(functionModel.copy()));
+            resourceFunctions.forEach(functionModel -> copy.resourceFunctions.add(functionModel.copy()));
+            otherFunctions.forEach((name, functionModel) -> copy.otherFunctions.put(name, functionModel.copy()));
+            copy.namedListeners.addAll(namedListeners);
+            anonListeners.forEach(listener -> copy.anonListeners.add(listenerCopy.apply(listener)));
+            return copy;
+        }
     }
 
     public static class FunctionModel {
@@ -91,5 +109,21 @@ public class IntermediateModel {
             this.visited = false;
             this.allDependentConnections = new HashSet<>();
         }
+
+        /**
+         * Returns a copy of the function model as analysed, without the connections resolved from its dependencies.
+         *
+         * @return a copy of the function model
+         */
+        FunctionModel copy() {
+            FunctionModel copy = new FunctionModel(name);
+            copy.dependentFuncs.addAll(dependentFuncs);
+            copy.dependentObjFuncs.addAll(dependentObjFuncs);
+            copy.connections.addAll(connections);
+            copy.location = location;
+            copy.path = path;
+            copy.displayName = displayName;
+            return copy;
+        }
     }
 }
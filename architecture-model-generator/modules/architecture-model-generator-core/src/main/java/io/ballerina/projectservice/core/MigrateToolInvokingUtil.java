@@ -20,11 +20,11 @@ package io.ballerina.projectservice.core;
 
 import io.ballerina.projectservice.core.baltool.BalToolsUtil;
 
-import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.URLClassLoader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 /**
  * Utility class to invoke methods from migration tools and converting results.
@@ -41,28 +41,39 @@ public class MigrateToolInvokingUtil {
     private MigrateToolInvokingUtil() {
     }
 
+    /**
+     * Invokes the migration method of the tool. A {@link CancellationException} thrown by a callback of the tool to
+     * cancel the migration is rethrown.
+     *
+     * @param commandName command of the tool
+     * @param className   class of the migration method
+     * @param methodName  name of the migration method
+     * @param args        arguments of the migration method
+     * @return the result of the migration
+     */
     public static ToolExecutionResult invokeToolMethod(String commandName, String className, String methodName,
                                                         Map<String, Object> args) {
         BalToolsUtil.updateOldBalToolsToml();
-        URLClassLoader classLoader = BalToolsUtil.getCustomToolClassLoader(commandName);
-        try {
-            Class<?> toolClass = classLoader.loadClass(className);
+        try (BalToolsUtil.ToolClassLoaderLease lease = BalToolsUtil.leaseToolClassLoader(commandName)) {
+            Class<?> toolClass = lease.classLoader().loadClass(className);
             Method method = toolClass.getMethod(methodName, Map.class);
             Object invoke = method.invoke(null, args);
-            classLoader.close();
             if (invoke instanceof Map<?, ?> mapResult) {
                 return transformToolExecutionResult(mapResult);
             }
             return new ToolExecutionResult.Builder()
                     .error("Unexpected return type from migration method: " + invoke.getClass())
                     .build();
-        } catch (ReflectiveOperationException e) {
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof CancellationException cancellationException) {
+                throw cancellationException;
+            }
             return new ToolExecutionResult.Builder()
                     .error("Error invoking migration method: " + e.getMessage())
                     .build();
-        } catch (IOException e) {
+        } catch (ReflectiveOperationException e) {
             return new ToolExecutionResult.Builder()
-                    .error("Error closing class loader: " + e.getMessage())
+                    .error("Error invoking migration method: " + e.getMessage())
                     .build();
         }
     }
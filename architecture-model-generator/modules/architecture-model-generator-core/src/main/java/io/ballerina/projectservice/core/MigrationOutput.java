@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projectservice.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Utility class to hand over the files generated by a migration tool in parts rather than in a single message.
+ *
+ * @since 1.3.0
+ */
+public final class MigrationOutput {
+
+    public static final String CHUNK_SIZE_PROPERTY = "ls.migration.chunkSize";
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private MigrationOutput() {
+    }
+
+    /**
+     * Returns the maximum size of a chunk in characters, which can be set with the {@value #CHUNK_SIZE_PROPERTY}
+     * system property.
+     *
+     * @return the maximum chunk size
+     */
+    public static int chunkSize() {
+        return Integer.getInteger(CHUNK_SIZE_PROPERTY, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Splits the generated files into chunks ordered by their paths. A chunk holds files up to the given total size
+     * in characters, and a file larger than the size forms a chunk of its own.
+     *
+     * @param textEdits    generated files, keyed by their paths relative to the package root
+     * @param maxChunkSize maximum size of a chunk in characters
+     * @return the chunks of the files
+     */
+    public static List<Map<String, String>> chunks(Map<String, String> textEdits, int maxChunkSize) {
+        List<Map<String, String>> chunks = new ArrayList<>();
+        Map<String, String> chunk = new LinkedHashMap<>();
+        long chunkSize = 0;
+        for (Map.Entry<String, String> entry : new TreeMap<>(textEdits).entrySet()) {
+            long fileSize = entry.getKey().length() + entry.getValue().length();
+            if (!chunk.isEmpty() && chunkSize + fileSize > maxChunkSize) {
+                chunks.add(chunk);
+                chunk = new LinkedHashMap<>();
+                chunkSize = 0;
+            }
+            chunk.put(entry.getKey(), entry.getValue());
+            chunkSize += fileSize;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Writes the generated files to the target directory, replacing the existing ones.
+     *
+     * @param targetDirectory directory to write the files to
+     * @param textEdits       generated files, keyed by their paths relative to the target directory
+     * @throws IOException if a path is outside the target directory, or a file cannot be written
+     */
+    public static void write(Path targetDirectory, Map<String, String> textEdits) throws IOException {
+        Path root = targetDirectory.toAbsolutePath().normalize();
+        for (Map.Entry<String, String> entry : textEdits.entrySet()) {
+            Path file = root.resolve(entry.getKey()).normalize();
+            if (!file.startsWith(root) || file.equals(root)) {
+                throw new IOException("Generated file is outside the target directory: " + entry.getKey());
+            }
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, entry.getValue());
+        }
+    }
+}
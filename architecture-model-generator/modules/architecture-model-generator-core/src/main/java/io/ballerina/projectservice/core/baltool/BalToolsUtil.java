@@ -30,6 +30,7 @@ import io.ballerina.projectservice.core.MigrationTool;
 import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -37,10 +38,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.ProjectConstants.BALA_DIR_NAME;
@@ -121,6 +128,14 @@ public final class BalToolsUtil {
     private static final Path balaCacheDirPath = ProjectUtils.createAndGetHomeReposPath()
             .resolve(REPOSITORIES_DIR).resolve(CENTRAL_REPOSITORY_CACHE_NAME)
             .resolve(ProjectConstants.BALA_DIR_NAME);
+    private static final long IDLE_TIMEOUT_MINUTES = 10;
+    private static final Map<String, ToolClassLoader> toolClassLoaders = new HashMap<>();
+    private static final ScheduledExecutorService idleCloser = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bal-tool-class-loader-closer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Logger LOGGER = Logger.getLogger(BalToolsUtil.class.getName());
 
     private BalToolsUtil() {
     }
@@ -135,7 +150,63 @@ public final class BalToolsUtil {
     }
 
     public static URLClassLoader getCustomToolClassLoader(String commandName) {
+        return createClassLoader(getToolCommandJarAndDependencyJars(commandName));
+    }
+
+    /**
+     * Leases the class loader of the active version of the tool, which stays open until the lease is closed. The
+     * class loader created for a previous invocation is reused as long as the jars of the tool do not change, so that
+     * the tool classes are loaded only once.
+     * <p>
+     * A class loader keeps the jars of the tool open, which prevents them from being replaced on Windows. Hence, the
+     * class loader of a replaced tool version is closed once its last lease is closed, an unused class loader is
+     * closed after ten idle minutes, and all of them are closed by {@link #closeToolClassLoaders()}.
+     *
+     * @param commandName command of the tool
+     * @return the lease of the class loader of the tool
+     */
+    public static synchronized ToolClassLoaderLease leaseToolClassLoader(String commandName) {
         List<File> toolJars = getToolCommandJarAndDependencyJars(commandName);
+        ToolClassLoader toolClassLoader = toolClassLoaders.get(commandName);
+        if (toolClassLoader == null || !toolClassLoader.jars.equals(toolJars)) {
+            if (toolClassLoader != null) {
+                toolClassLoader.retire();
+            }
+            toolClassLoader = new ToolClassLoader(commandName, toolJars, createClassLoader(toolJars));
+            toolClassLoaders.put(commandName, toolClassLoader);
+        }
+        return toolClassLoader.lease();
+    }
+
+    /**
+     * Closes the cached class loaders of the tools, or marks them to be closed once their leases are closed. Called
+     * when the server shuts down.
+     */
+    public static synchronized void closeToolClassLoaders() {
+        toolClassLoaders.values().forEach(ToolClassLoader::retire);
+        toolClassLoaders.clear();
+    }
+
+    private static synchronized void release(ToolClassLoader toolClassLoader) {
+        toolClassLoader.leases--;
+        if (toolClassLoader.leases > 0) {
+            return;
+        }
+        if (toolClassLoader.retired) {
+            toolClassLoader.close();
+            return;
+        }
+        toolClassLoader.idleClose = idleCloser.schedule(() -> closeIdle(toolClassLoader), IDLE_TIMEOUT_MINUTES,
+                TimeUnit.MINUTES);
+    }
+
+    private static synchronized void closeIdle(ToolClassLoader toolClassLoader) {
+        if (toolClassLoader.leases == 0 && toolClassLoaders.remove(toolClassLoader.commandName, toolClassLoader)) {
+            toolClassLoader.close();
+        }
+    }
+
+    private static URLClassLoader createClassLoader(List<File> toolJars) {
         URL[] urls = toolJars.stream()
                 .map(file -> {
                     try {
@@ -299,6 +370,81 @@ public final class BalToolsUtil {
                 .map(SemanticVersion::toString);
     }
 
+    /**
+     * Leased class loader of a tool.
+     */
+    public static final class ToolClassLoaderLease implements AutoCloseable {
+
+        private final ToolClassLoader toolClassLoader;
+        private boolean closed;
+
+        private ToolClassLoaderLease(ToolClassLoader toolClassLoader) {
+            this.toolClassLoader = toolClassLoader;
+        }
+
+        public URLClassLoader classLoader() {
+            return toolClassLoader.classLoader;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                release(toolClassLoader);
+            }
+        }
+    }
+
+    /**
+     * Class loader of a tool version, with the number of its open leases. Guarded by the lock of {@link BalToolsUtil}.
+     */
+    private static final class ToolClassLoader {
+
+        private final String commandName;
+        private final List<File> jars;
+        private final URLClassLoader classLoader;
+        private int leases;
+        private boolean retired;
+        private ScheduledFuture<?> idleClose;
+
+        private ToolClassLoader(String commandName, List<File> jars, URLClassLoader classLoader) {
+            this.commandName = commandName;
+            this.jars = jars;
+            this.classLoader = classLoader;
+        }
+
+        private ToolClassLoaderLease lease() {
+            if (idleClose != null) {
+                idleClose.cancel(false);
+                idleClose = null;
+            }
+            leases++;
+            return new ToolClassLoaderLease(this);
+        }
+
+        /**
+         * Stops handing out the class loader, and closes it unless it is still leased.
+         */
+        private void retire() {
+            retired = true;
+            if (leases == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (idleClose != null) {
+                idleClose.cancel(false);
+                idleClose = null;
+            }
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                LOGGER.warning("Error closing the class loader of the tool '" + commandName + "': " + e.getMessage());
+            }
+        }
+    }
+
     public static Path getPlatformSpecificBalaPath(String orgName, String pkgName, String version,
                                                    Path balaCache) {
         Path balaPath = balaCache.resolve(
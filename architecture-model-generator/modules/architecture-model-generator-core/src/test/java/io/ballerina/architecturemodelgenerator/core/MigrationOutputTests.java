@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core;
+
+import io.ballerina.projectservice.core.MigrationOutput;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test the chunking and the writing of the files generated by a migration tool.
+ *
+ * @since 1.3.0
+ */
+public class MigrationOutputTests {
+
+    @Test(description = "Test that the files are chunked in the order of their paths")
+    public void testChunks() {
+        Map<String, String> textEdits = Map.of(
+                "c.bal", "cc",
+                "a.bal", "aa",
+                "b.bal", "bb",
+                "large.bal", "x".repeat(64));
+        List<Map<String, String>> chunks = MigrationOutput.chunks(textEdits, 16);
+
+        Assert.assertEquals(chunks.size(), 3);
+        Assert.assertEquals(List.copyOf(chunks.get(0).keySet()), List.of("a.bal", "b.bal"));
+        Assert.assertEquals(List.copyOf(chunks.get(1).keySet()), List.of("c.bal"));
+        Assert.assertEquals(List.copyOf(chunks.get(2).keySet()), List.of("large.bal"));
+        Assert.assertEquals(chunks.get(2).get("large.bal").length(), 64);
+        Assert.assertTrue(MigrationOutput.chunks(Map.of(), 16).isEmpty());
+    }
+
+    @Test(description = "Test that the files are written relative to the target directory")
+    public void testWrite() throws IOException {
+        Path targetDirectory = Files.createTempDirectory("migration-output");
+        MigrationOutput.write(targetDirectory, Map.of(
+                "main.bal", "public function main() {}",
+                "modules/util/util.bal", "function util() {}"));
+
+        Assert.assertEquals(Files.readString(targetDirectory.resolve("main.bal")), "public function main() {}");
+        Assert.assertEquals(Files.readString(targetDirectory.resolve("modules/util/util.bal")), "function util() {}");
+        Assert.assertThrows(IOException.class,
+                () -> MigrationOutput.write(targetDirectory.resolve("modules"), Map.of("../../outside.bal", "")));
+        Assert.assertFalse(Files.exists(targetDirectory.getParent().resolve("outside.bal")));
+    }
+}
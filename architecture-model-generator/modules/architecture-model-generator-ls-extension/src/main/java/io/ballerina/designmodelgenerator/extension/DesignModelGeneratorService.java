@@ -28,6 +28,8 @@ import io.ballerina.designmodelgenerator.extension.response.ArtifactResponse;
 import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -61,9 +63,11 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
             try {
                 Path projectPath = Path.of(request.projectPath());
                 Project project = workspaceManager.loadProject(projectPath);
-                DesignModelGenerator designModelGenerator = new DesignModelGenerator(project.currentPackage());
-                DesignModel designModel = designModelGenerator.generate();
-                response.setDesignModel(designModel);
+                try (OperationSpan ignored = OperationTracer.getInstance().startSpan("designModel/generate")) {
+                    DesignModelGenerator designModelGenerator = new DesignModelGenerator(project.currentPackage());
+                    DesignModel designModel = designModelGenerator.generate();
+                    response.setDesignModel(designModel);
+                }
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projectservice.extension;
+
+import io.ballerina.projectservice.core.MigrationOutput;
+import io.ballerina.projectservice.core.ToolExecutionResult;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a migration tool on behalf of an import request and streams its result to the client.
+ * <p>
+ * The state updates of the tool are reported as work done progress when the request has a work done token, and the
+ * request is cancelled from the callbacks of the tool, which are invoked while it runs. The generated files are then
+ * written to the target directory, or sent in chunks as partial results when the request has a partial result token,
+ * so that the response only holds the reports. Otherwise, the files are returned in the response.
+ *
+ * @since 1.3.0
+ */
+final class MigrationStream {
+
+    private final ExtendedLanguageClient client;
+    private final CancelChecker cancelChecker;
+    private final String targetDirectory;
+    private final String workDoneToken;
+    private final String partialResultToken;
+
+    MigrationStream(ExtendedLanguageClient client, CancelChecker cancelChecker, String targetDirectory,
+                    String workDoneToken, String partialResultToken) {
+        this.client = client;
+        this.cancelChecker = cancelChecker;
+        this.targetDirectory = targetDirectory;
+        this.workDoneToken = workDoneToken;
+        this.partialResultToken = partialResultToken;
+    }
+
+    /**
+     * Runs the migration tool and builds the response from its result.
+     *
+     * @param title           title of the progress
+     * @param tool            invokes the tool with the state and the log callbacks
+     * @param responseFactory builds the response, and the partial results, from a tool execution result
+     * @param <R>             type of the response
+     * @return the response of the request
+     */
+    <R> R run(String title, BiFunction<Consumer<String>, Consumer<String>, ToolExecutionResult> tool,
+              Function<ToolExecutionResult, R> responseFactory) {
+        WorkDoneProgressBegin begin = new WorkDoneProgressBegin();
+        begin.setTitle(title);
+        begin.setCancellable(true);
+        notifyWorkDone(begin);
+        try {
+            ToolExecutionResult result = tool.apply(this::state, this::log);
+            cancelChecker.checkCanceled();
+            R response = result.error() != null || (targetDirectory == null && partialResultToken == null)
+                    ? responseFactory.apply(result) : stream(result, responseFactory);
+            end(result.error() == null ? "Import completed" : "Import failed");
+            return response;
+        } catch (CancellationException e) {
+            end("Import cancelled");
+            throw e;
+        } catch (RuntimeException e) {
+            end("Import failed");
+            throw e;
+        }
+    }
+
+    private <R> R stream(ToolExecutionResult result, Function<ToolExecutionResult, R> responseFactory) {
+        Map<String, String> textEdits = result.textEdits();
+        List<Map<String, String>> chunks = MigrationOutput.chunks(textEdits, MigrationOutput.chunkSize());
+        int completed = 0;
+        for (Map<String, String> chunk : chunks) {
+            cancelChecker.checkCanceled();
+            if (targetDirectory != null) {
+                try {
+                    MigrationOutput.write(Path.of(targetDirectory), chunk);
+                } catch (IOException e) {
+                    return responseFactory.apply(new ToolExecutionResult("Error writing the generated files: " +
+                            e.getMessage(), Map.of(), result.report(), result.jsonReport()));
+                }
+            } else {
+                R partialResult = responseFactory.apply(new ToolExecutionResult(null, chunk, null, null));
+                client.notifyProgress(new ProgressParams(Either.forLeft(partialResultToken),
+                        Either.forRight(partialResult)));
+            }
+            completed += chunk.size();
+            report("Generated " + completed + " of " + textEdits.size() + " files",
+                    completed * 100 / textEdits.size());
+        }
+        return responseFactory.apply(new ToolExecutionResult(null, Map.of(), result.report(), result.jsonReport()));
+    }
+
+    private void state(String message) {
+        cancelChecker.checkCanceled();
+        client.stateCallback(message);
+        report(message, null);
+    }
+
+    private void log(String message) {
+        cancelChecker.checkCanceled();
+        client.logCallback(message);
+    }
+
+    private void report(String message, Integer percentage) {
+        WorkDoneProgressReport report = new WorkDoneProgressReport();
+        report.setMessage(message);
+        report.setCancellable(true);
+        report.setPercentage(percentage);
+        notifyWorkDone(report);
+    }
+
+    private void end(String message) {
+        WorkDoneProgressEnd end = new WorkDoneProgressEnd();
+        end.setMessage(message);
+        notifyWorkDone(end);
+    }
+
+    private void notifyWorkDone(WorkDoneProgressNotification notification) {
+        if (workDoneToken != null) {
+            client.notifyProgress(new ProgressParams(Either.forLeft(workDoneToken), Either.forLeft(notification)));
+        }
+    }
+}
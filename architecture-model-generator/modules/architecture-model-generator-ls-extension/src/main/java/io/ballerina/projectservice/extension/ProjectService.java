@@ -24,7 +24,6 @@ import com.google.gson.stream.JsonReader;
 import io.ballerina.projectservice.core.MigrationTool;
 import io.ballerina.projectservice.core.MuleImporter;
 import io.ballerina.projectservice.core.TibcoImporter;
-import io.ballerina.projectservice.core.ToolExecutionResult;
 import io.ballerina.projectservice.core.baltool.BalToolsUtil;
 import io.ballerina.projectservice.extension.request.ImportMuleRequest;
 import io.ballerina.projectservice.extension.request.ImportTibcoRequest;
@@ -36,6 +35,7 @@ import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -47,7 +47,6 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Consumer;
 
 /**
  * This service provides project-related functionalities.
@@ -89,45 +88,54 @@ public class ProjectService implements ExtendedLanguageServerService {
         return null;
     }
 
+    @Override
+    public void shutdown() {
+        BalToolsUtil.closeToolClassLoaders();
+    }
+
     /**
-     * Use a tibco project or file to import a Tibco project into the Ballerina project.
+     * Use a tibco project or file to import a Tibco project into the Ballerina project. The generated files are
+     * streamed when the request has a target directory or a partial result token, and the request can be cancelled
+     * while the tool runs.
      *
      * @param request The request containing the details of the Tibco project to be imported.
      * @return A CompletableFuture that resolves to an ImportTibcoResponse.
      */
     @JsonRequest
     public CompletableFuture<ImportTibcoResponse> importTibco(ImportTibcoRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return CompletableFutures.computeAsync(cancelChecker -> {
             ExtendedLanguageClient langClient = this.context.get(ExtendedLanguageClient.class);
             if (langClient == null) {
                 return new ImportTibcoResponse("Language client not available", null, null, null);
             }
-            Consumer<String> stateCallback = langClient::stateCallback;
-            Consumer<String> logCallback = langClient::logCallback;
-            ToolExecutionResult result = TibcoImporter.importTibco(request.orgName(), request.packageName(),
-                    request.sourcePath(), stateCallback, logCallback);
-            return ImportTibcoResponse.from(result);
+            MigrationStream stream = new MigrationStream(langClient, cancelChecker, request.targetDirectory(),
+                    request.workDoneToken(), request.partialResultToken());
+            return stream.run("Importing TIBCO project", (stateCallback, logCallback) ->
+                    TibcoImporter.importTibco(request.orgName(), request.packageName(), request.sourcePath(),
+                            stateCallback, logCallback), ImportTibcoResponse::from);
         });
     }
 
     /**
-     * Use a mule project or file to import a Mule project into the Ballerina project.
+     * Use a mule project or file to import a Mule project into the Ballerina project. The generated files are
+     * streamed when the request has a target directory or a partial result token, and the request can be cancelled
+     * while the tool runs.
      *
      * @param request The request containing the details of the Mule project to be imported.
      * @return A CompletableFuture that resolves to an ImportMuleResponse.
      */
     @JsonRequest
     public CompletableFuture<ImportMuleResponse> importMule(ImportMuleRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return CompletableFutures.computeAsync(cancelChecker -> {
             ExtendedLanguageClient langClient = this.context.get(ExtendedLanguageClient.class);
             if (langClient == null) {
                 return new ImportMuleResponse("Language client not available", null, null, null);
             }
-            Consumer<String> stateCallback = langClient::stateCallback;
-            Consumer<String> logCallback = langClient::logCallback;
-            ToolExecutionResult result = MuleImporter.importMule(request.orgName(), request.packageName(),
-                    request.sourcePath(), request.parameters(), stateCallback, logCallback);
-            return ImportMuleResponse.from(result);
+            MigrationStream stream = new MigrationStream(langClient, cancelChecker, request.targetDirectory(),
+                    request.workDoneToken(), request.partialResultToken());
+            return stream.run("Importing Mule project", (stateCallback, logCallback) ->
+                    MuleImporter.importMule(request.orgName(), request.packageName(), request.sourcePath(),
+                            request.parameters(), stateCallback, logCallback), ImportMuleResponse::from);
         });
     }
 
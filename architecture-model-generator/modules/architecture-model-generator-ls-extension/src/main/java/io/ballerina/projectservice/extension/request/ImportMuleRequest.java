@@ -23,11 +23,19 @@ import java.util.Map;
 /**
  * Request to import Mule project to Ballerina.
  *
- * @param orgName     organization name for the Ballerina project
- * @param packageName package name for the Ballerina project
- * @param sourcePath  path to the Mule project source
- * @param parameters  additional parameters for the migration process
+ * @param orgName            organization name for the Ballerina project
+ * @param packageName        package name for the Ballerina project
+ * @param sourcePath         path to the Mule project source
+ * @param parameters         additional parameters for the migration process
+ * @param targetDirectory    directory to write the generated files to instead of returning them, if any
+ * @param workDoneToken      token to report the progress of the import with, if any
+ * @param partialResultToken token to send the generated files with as partial results, if any
  * @since 1.2.0
  */
-public record ImportMuleRequest(String orgName, String packageName, String sourcePath, Map<String, String> parameters) {
+public record ImportMuleRequest(String orgName, String packageName, String sourcePath, Map<String, String> parameters,
+                                String targetDirectory, String workDoneToken, String partialResultToken) {
+
+    public ImportMuleRequest(String orgName, String packageName, String sourcePath, Map<String, String> parameters) {
+        this(orgName, packageName, sourcePath, parameters, null, null, null);
+    }
 }
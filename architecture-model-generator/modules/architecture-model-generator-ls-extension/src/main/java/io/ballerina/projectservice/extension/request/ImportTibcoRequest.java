@@ -21,11 +21,19 @@ package io.ballerina.projectservice.extension.request;
 /**
  * Request to import a Tibco project.
  *
- * @param orgName     The organization name for the Ballerina package.
- * @param packageName The name of the Ballerina package to be created.
- * @param sourcePath  The file system path to the root of the Tibco project to be imported.
+ * @param orgName            The organization name for the Ballerina package.
+ * @param packageName        The name of the Ballerina package to be created.
+ * @param sourcePath         The file system path to the root of the Tibco project to be imported.
+ * @param targetDirectory    The directory to write the generated files to instead of returning them, if any.
+ * @param workDoneToken      The token to report the progress of the import with, if any.
+ * @param partialResultToken The token to send the generated files with as partial results, if any.
  *
  * @since 1.2.0
  */
-public record ImportTibcoRequest(String orgName, String packageName, String sourcePath) {
+public record ImportTibcoRequest(String orgName, String packageName, String sourcePath, String targetDirectory,
+                                 String workDoneToken, String partialResultToken) {
+
+    public ImportTibcoRequest(String orgName, String packageName, String sourcePath) {
+        this(orgName, packageName, sourcePath, null, null, null);
+    }
 }
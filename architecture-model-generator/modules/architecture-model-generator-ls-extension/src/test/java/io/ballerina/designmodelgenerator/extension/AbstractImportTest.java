@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.extension;
+
+import com.google.gson.JsonObject;
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.projectservice.core.MigrationOutput;
+import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base test class for the import functionality of the migration tools, covering the streamed results and the
+ * cancellation of an import.
+ *
+ * @param <T> type of the import request
+ * @since 1.3.0
+ */
+public abstract class AbstractImportTest<T> extends AbstractLSTest {
+
+    private static final String WORK_DONE_TOKEN = "import-progress";
+    private static final String PARTIAL_RESULT_TOKEN = "import-files";
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    @Test(description = "The generated files are sent as partial results, and the response only holds the reports")
+    public void testPartialResults() throws IOException {
+        JsonObject testConfig = readConfig(getStreamedConfig(), JsonObject.class);
+        ExtendedLanguageClient client = Mockito.mock(ExtendedLanguageClient.class);
+        Endpoint endpoint = TestUtil.newLanguageServer().withLanguageServer(new BallerinaLanguageServer())
+                .withClient(client).build();
+        // Send each file as a chunk of its own
+        System.setProperty(MigrationOutput.CHUNK_SIZE_PROPERTY, "1");
+        try {
+            T request = createRequest(testConfig, WORK_DONE_TOKEN, PARTIAL_RESULT_TOKEN);
+            ImportResponse response = gson.fromJson(getResponse(endpoint, request), ImportResponse.class);
+            ImportResponse expectedResponse = gson.fromJson(testConfig.get("output"), ImportResponse.class);
+            Assert.assertNull(response.error());
+            Assert.assertTrue(response.textEdits().isEmpty());
+            Assert.assertEquals(response.report(), expectedResponse.report());
+
+            ArgumentCaptor<ProgressParams> progress = ArgumentCaptor.forClass(ProgressParams.class);
+            Mockito.verify(client, Mockito.atLeastOnce()).notifyProgress(progress.capture());
+            Map<String, String> textEdits = new HashMap<>();
+            int partialResults = 0;
+            for (ProgressParams params : progress.getAllValues()) {
+                if (PARTIAL_RESULT_TOKEN.equals(params.getToken().getLeft())) {
+                    textEdits.putAll(gson.fromJson(gson.toJsonTree(params.getValue().getRight()),
+                            ImportResponse.class).textEdits());
+                    partialResults++;
+                }
+            }
+            Assert.assertEquals(textEdits, expectedResponse.textEdits());
+            Assert.assertEquals(partialResults, expectedResponse.textEdits().size());
+            Assert.assertTrue(progress.getValue().getValue().getLeft() instanceof WorkDoneProgressEnd end
+                    && "Import completed".equals(end.getMessage()));
+        } finally {
+            System.clearProperty(MigrationOutput.CHUNK_SIZE_PROPERTY);
+            TestUtil.shutdownLanguageServer(endpoint);
+        }
+    }
+
+    @Test(description = "Cancelling the request stops the import from the callbacks of the tool")
+    public void testCancellation() throws IOException {
+        JsonObject testConfig = readConfig(getStreamedConfig(), JsonObject.class);
+        ExtendedLanguageClient client = Mockito.mock(ExtendedLanguageClient.class);
+        Endpoint endpoint = TestUtil.newLanguageServer().withLanguageServer(new BallerinaLanguageServer())
+                .withClient(client).build();
+        try {
+            T request = createRequest(testConfig, WORK_DONE_TOKEN, PARTIAL_RESULT_TOKEN);
+            CompletableFuture<CompletableFuture<?>> result = new CompletableFuture<>();
+            Mockito.doAnswer(invocation -> result.join().cancel(true)).when(client).stateCallback(Mockito.any());
+            Mockito.doAnswer(invocation -> result.join().cancel(true)).when(client).logCallback(Mockito.any());
+            result.complete(endpoint.request(getServiceName() + "/" + getApiName(), request));
+            Assert.assertThrows(CancellationException.class, () -> result.join().join());
+
+            Mockito.verify(client, Mockito.timeout(TIMEOUT_MILLIS)).notifyProgress(Mockito.argThat(params ->
+                    params.getValue().isLeft() && params.getValue().getLeft() instanceof WorkDoneProgressEnd end
+                            && "Import cancelled".equals(end.getMessage())));
+            Mockito.verify(client, Mockito.never()).notifyProgress(Mockito.argThat(params ->
+                    PARTIAL_RESULT_TOKEN.equals(params.getToken().getLeft())));
+        } finally {
+            TestUtil.shutdownLanguageServer(endpoint);
+        }
+    }
+
+    protected <C> C readConfig(Path config, Class<C> configClass) throws IOException {
+        try (BufferedReader bufferedReader = Files.newBufferedReader(configDir.resolve(config))) {
+            return gson.fromJson(bufferedReader, configClass);
+        }
+    }
+
+    /**
+     * Returns the test configuration used to run the streamed and the cancelled imports.
+     *
+     * @return path to the configuration, relative to the config directory
+     */
+    protected abstract Path getStreamedConfig();
+
+    /**
+     * Creates an import request that reports its progress and its generated files with the given tokens.
+     *
+     * @param testConfig         the test configuration
+     * @param workDoneToken      token for the work done progress
+     * @param partialResultToken token for the partial results
+     * @return the import request
+     */
+    protected abstract T createRequest(JsonObject testConfig, String workDoneToken, String partialResultToken);
+
+    @Override
+    protected String getServiceName() {
+        return "projectService";
+    }
+
+    /**
+     * Represents the fields shared by the responses of the import tools.
+     *
+     * @param error     Error message, if the import failed
+     * @param textEdits Generated files, keyed by their file names
+     * @param report    Migration report
+     */
+    private record ImportResponse(String error, Map<String, String> textEdits, String report) {
+
+        public Map<String, String> textEdits() {
+            return textEdits == null ? Map.of() : textEdits;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package io.ballerina.designmodelgenerator.extension;
 
 import com.google.gson.JsonObject;
+import io.ballerina.designmodelgenerator.core.DesignModelGenerator;
 import io.ballerina.designmodelgenerator.core.model.Automation;
 import io.ballerina.designmodelgenerator.core.model.Connection;
 import io.ballerina.designmodelgenerator.core.model.DesignModel;
@@ -27,6 +28,13 @@ import io.ballerina.designmodelgenerator.core.model.Service;
 import io.ballerina.designmodelgenerator.extension.request.GetDesignModelRequest;
 import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentConfig;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -62,6 +70,68 @@ public class DesignModelGeneratorTest extends AbstractLSTest {
         }
     }
 
+    @Test(description = "Test that only the changed documents and their dependents are analysed again")
+    public void testIncrementalUpdate() {
+        Project project = ProjectLoader.loadProject(sourceDir.resolve("project_6"));
+        Package initialPackage = project.currentPackage();
+        DesignModel initialModel = new DesignModelGenerator(initialPackage).generate();
+        Assert.assertSame(new DesignModelGenerator(initialPackage).generate(), initialModel);
+        Assert.assertTrue(initialModel.connections().isEmpty());
+
+        // Add a client in one document and a service using it in another
+        Module module = initialPackage.getDefaultModule();
+        DocumentId clientsId = DocumentId.create("clients.bal", module.moduleId());
+        DocumentId backendId = DocumentId.create("backend.bal", module.moduleId());
+        Package updatedPackage = module.modify()
+                .addDocument(DocumentConfig.from(clientsId, "import ballerina/http;\n\n" +
+                        "final http:Client backendClient = check new (\"http://localhost:9090\");\n", "clients.bal"))
+                .addDocument(DocumentConfig.from(backendId, "import ballerina/http;\n\n" +
+                        "service /backend on httpDefaultListener {\n" +
+                        "    resource function get data() returns json|error {\n" +
+                        "        json response = check backendClient->/data;\n" +
+                        "        return response;\n" +
+                        "    }\n" +
+                        "}\n", "backend.bal"))
+                .apply().packageInstance();
+        DesignModel designModel = new DesignModelGenerator(updatedPackage).generate();
+        Assert.assertEquals(designModel.services().size(), 2);
+        Assert.assertEquals(designModel.connections().size(), 1);
+        String clientUuid = designModel.connections().get(0).getUuid();
+        Assert.assertEquals(getService(designModel, "/backend").getConnections(), List.of(clientUuid));
+
+        // A change to an unrelated document keeps the connection found earlier
+        Document mainDocument = updatedPackage.getDefaultModule().documentIds().stream()
+                .map(documentId -> updatedPackage.getDefaultModule().document(documentId))
+                .filter(document -> document.name().equals("main.bal"))
+                .findFirst()
+                .orElseThrow();
+        updatedPackage = mainDocument.modify()
+                .withContent(mainDocument.textDocument().toString() + "\n// Unrelated change\n")
+                .apply().module().packageInstance();
+        designModel = new DesignModelGenerator(updatedPackage).generate();
+        Assert.assertEquals(designModel.connections().get(0).getUuid(), clientUuid);
+        Assert.assertEquals(getService(designModel, "/backend").getConnections(), List.of(clientUuid));
+
+        // A change to the declaring document replaces the connection in the unchanged document using it
+        Document clientsDocument = updatedPackage.getDefaultModule().document(clientsId);
+        updatedPackage = clientsDocument.modify()
+                .withContent("// Clients\n" + clientsDocument.textDocument().toString())
+                .apply().module().packageInstance();
+        designModel = new DesignModelGenerator(updatedPackage).generate();
+        Assert.assertEquals(designModel.connections().size(), 1);
+        String updatedClientUuid = designModel.connections().get(0).getUuid();
+        Assert.assertNotEquals(updatedClientUuid, clientUuid);
+        Assert.assertEquals(designModel.connections().get(0).getLocation().startLine().line(), 3);
+        Assert.assertEquals(getService(designModel, "/backend").getConnections(), List.of(updatedClientUuid));
+    }
+
+    private static Service getService(DesignModel designModel, String absolutePath) {
+        return designModel.services().stream()
+                .filter(service -> service.getAbsolutePath().trim().equals(absolutePath))
+                .findFirst()
+                .orElseThrow();
+    }
+
     private boolean assertDesignModel(DesignModel actual, DesignModel expected) {
         return assertAutomation(actual.automation(), expected.automation()) &&
                 assertConnections(actual.connections(), expected.connections()) &&
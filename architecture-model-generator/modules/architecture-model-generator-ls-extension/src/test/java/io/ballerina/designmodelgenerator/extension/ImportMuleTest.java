@@ -25,9 +25,7 @@ import io.ballerina.projectservice.extension.response.ImportMuleResponse;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -36,15 +34,13 @@ import java.util.Map;
  *
  * @since 1.2.0
  */
-public class ImportMuleTest extends AbstractLSTest {
+public class ImportMuleTest extends AbstractImportTest<ImportMuleRequest> {
 
     @Override
     @Test(dataProvider = "data-provider")
     public void test(Path config) throws IOException {
         Path configJsonPath = configDir.resolve(config);
-        BufferedReader bufferedReader = Files.newBufferedReader(configJsonPath);
-        TestConfig testConfig = gson.fromJson(bufferedReader, TestConfig.class);
-        bufferedReader.close();
+        TestConfig testConfig = readConfig(config, TestConfig.class);
 
         ImportMuleRequest request = new ImportMuleRequest("ballerina", "",
                 sourceDir.resolve(testConfig.projectPath()).toAbsolutePath().toString(), 
@@ -61,6 +57,19 @@ public class ImportMuleTest extends AbstractLSTest {
         }
     }
 
+    @Override
+    protected Path getStreamedConfig() {
+        return Path.of("users_database_query.json");
+    }
+
+    @Override
+    protected ImportMuleRequest createRequest(JsonObject config, String workDoneToken, String partialResultToken) {
+        TestConfig testConfig = gson.fromJson(config, TestConfig.class);
+        return new ImportMuleRequest("ballerina", "",
+                sourceDir.resolve(testConfig.projectPath()).toAbsolutePath().toString(), testConfig.parameters(),
+                null, workDoneToken, partialResultToken);
+    }
+
     @Override
     protected String getResourceDir() {
         return "import-mule";
@@ -71,11 +80,6 @@ public class ImportMuleTest extends AbstractLSTest {
         return ImportMuleTest.class;
     }
 
-    @Override
-    protected String getServiceName() {
-        return "projectService";
-    }
-
     @Override
     protected String getApiName() {
         return "importMule";
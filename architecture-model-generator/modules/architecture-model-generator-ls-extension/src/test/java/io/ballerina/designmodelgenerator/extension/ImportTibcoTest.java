@@ -25,9 +25,7 @@ import io.ballerina.projectservice.extension.response.ImportTibcoResponse;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -35,15 +33,13 @@ import java.nio.file.Path;
  *
  * @since 1.2.0
  */
-public class ImportTibcoTest extends AbstractLSTest {
+public class ImportTibcoTest extends AbstractImportTest<ImportTibcoRequest> {
 
     @Override
     @Test(dataProvider = "data-provider")
     public void test(Path config) throws IOException {
         Path configJsonPath = configDir.resolve(config);
-        BufferedReader bufferedReader = Files.newBufferedReader(configJsonPath);
-        TestConfig testConfig = gson.fromJson(bufferedReader, TestConfig.class);
-        bufferedReader.close();
+        TestConfig testConfig = readConfig(config, TestConfig.class);
 
         ImportTibcoRequest request = new ImportTibcoRequest("ballerina", "tibco_project",
                 sourceDir.resolve(testConfig.projectPath()).toAbsolutePath().toString());
@@ -58,6 +54,19 @@ public class ImportTibcoTest extends AbstractLSTest {
         }
     }
 
+    @Override
+    protected Path getStreamedConfig() {
+        return Path.of("tibco_project.json");
+    }
+
+    @Override
+    protected ImportTibcoRequest createRequest(JsonObject config, String workDoneToken, String partialResultToken) {
+        TestConfig testConfig = gson.fromJson(config, TestConfig.class);
+        return new ImportTibcoRequest("ballerina", "tibco_project",
+                sourceDir.resolve(testConfig.projectPath()).toAbsolutePath().toString(), null, workDoneToken,
+                partialResultToken);
+    }
+
     @Override
     protected String getResourceDir() {
         return "import-tibco";
@@ -68,11 +77,6 @@ public class ImportTibcoTest extends AbstractLSTest {
         return ImportTibcoTest.class;
     }
 
-    @Override
-    protected String getServiceName() {
-        return "projectService";
-    }
-
     @Override
     protected String getApiName() {
         return "importTibco";
@@ -51,6 +51,7 @@ import io.ballerina.flowmodelgenerator.core.model.node.VectorStoreBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
+import io.ballerina.modelgenerator.commons.FunctionDataCache;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Package;
@@ -384,7 +385,8 @@ public class AvailableNodesGenerator {
                     .parentSymbol(classSymbol)
                     .parentSymbolType(className)
                     .project(pkg.project())
-                    .moduleInfo(moduleInfo);
+                    .moduleInfo(moduleInfo)
+                    .cache(FunctionDataCache.getInstance().scope(pkg));
 
             // Obtain methods of the classes
             List<FunctionData> methodFunctionsData = functionDataBuilder.buildChildNodes();
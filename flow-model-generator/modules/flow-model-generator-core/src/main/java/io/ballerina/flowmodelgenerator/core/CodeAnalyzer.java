@@ -153,6 +153,7 @@ import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
+import io.ballerina.modelgenerator.commons.FunctionDataCache;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.ParameterData;
 import io.ballerina.projects.Project;
@@ -205,6 +206,7 @@ public class CodeAnalyzer extends NodeVisitor {
     private final boolean forceAssign;
     private final String connectionScope;
     private final WorkspaceManager workspaceManager;
+    private final FunctionDataCache.Scope functionDataCache;
 
     // State fields
     private NodeBuilder nodeBuilder;
@@ -240,6 +242,8 @@ public class CodeAnalyzer extends NodeVisitor {
         this.flowNodeBuilderStack = new Stack<>();
         this.diagnosticHandler = new DiagnosticHandler(semanticModel);
         this.workspaceManager = workspaceManager;
+        this.functionDataCache = project == null ? null
+                : FunctionDataCache.getInstance().scope(project.currentPackage());
     }
 
     @Override
@@ -636,7 +640,8 @@ public class CodeAnalyzer extends NodeVisitor {
                 .name(functionName)
                 .functionSymbol(functionSymbol)
                 .semanticModel(semanticModel)
-                .userModuleInfo(moduleInfo);
+                .userModuleInfo(moduleInfo)
+                .cache(functionDataCache);
         FunctionData functionData = functionDataBuilder.build();
 
         nodeBuilder
@@ -756,7 +761,8 @@ public class CodeAnalyzer extends NodeVisitor {
                 .semanticModel(semanticModel)
                 .userModuleInfo(moduleInfo)
                 .resourcePath(resourcePathTemplate.resourcePathTemplate())
-                .functionResultKind(FunctionData.Kind.RESOURCE);
+                .functionResultKind(FunctionData.Kind.RESOURCE)
+                .cache(functionDataCache);
         FunctionData functionData = functionDataBuilder.build();
 
         nodeBuilder.symbolInfo(functionSymbol)
@@ -1400,7 +1406,8 @@ public class CodeAnalyzer extends NodeVisitor {
                 .semanticModel(semanticModel)
                 .name(NewConnectionBuilder.INIT_SYMBOL)
                 .functionResultKind(getFunctionResultKind(classSymbol))
-                .userModuleInfo(moduleInfo);
+                .userModuleInfo(moduleInfo)
+                .cache(functionDataCache);
 
         FunctionData functionData;
         if (optMethodSymbol.isPresent()) {
@@ -1726,7 +1733,8 @@ public class CodeAnalyzer extends NodeVisitor {
                         .name(functionName)
                         .functionSymbol(functionSymbol)
                         .semanticModel(semanticModel)
-                        .userModuleInfo(moduleInfo);
+                        .userModuleInfo(moduleInfo)
+                        .cache(functionDataCache);
         FunctionData functionData = functionDataBuilder.build();
 
         nodeBuilder
@@ -1782,7 +1790,8 @@ public class CodeAnalyzer extends NodeVisitor {
                         .name(functionName)
                         .functionSymbol(functionSymbol)
                         .semanticModel(semanticModel)
-                        .userModuleInfo(moduleInfo);
+                        .userModuleInfo(moduleInfo)
+                        .cache(functionDataCache);
         FunctionData functionData = functionDataBuilder.build();
 
         processFunctionSymbol(functionCallExpressionNode, functionCallExpressionNode.arguments(), functionSymbol,
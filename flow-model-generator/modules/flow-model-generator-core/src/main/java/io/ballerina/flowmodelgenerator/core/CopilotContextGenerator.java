@@ -18,12 +18,11 @@
 
 package io.ballerina.flowmodelgenerator.core;
 
-import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
-import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.flowmodelgenerator.core.CopilotDocumentCache.DocumentBody;
 import io.ballerina.projects.Document;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.TextDocument;
@@ -33,18 +32,28 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Generates the context for the copilot service.
+ * <p>
+ * The context is assembled from views over the document texts and is bounded by {@link #MAX_CHARS_PROPERTY}
+ * characters. A quarter of the budget is left for the suffix. The prefix keeps the code closest to the cursor first,
+ * followed by the imports and the module members of {@code types.bal}, {@code connections.bal} and
+ * {@code data_mappings.bal}, in that order.
  *
  * @since 1.0.0
  */
 public class CopilotContextGenerator {
 
+    public static final String MAX_CHARS_PROPERTY = "ls.copilot.contextMaxChars";
+    private static final int DEFAULT_MAX_CHARS = 64_000;
+
     private final WorkspaceManager workspaceManager;
     private final Path filePath;
     private final LinePosition position;
+    private final int maxChars;
 
     private String prefix;
     private String suffix;
@@ -53,9 +62,15 @@ public class CopilotContextGenerator {
     private static final int INDENT_SPACES = 4;
 
     public CopilotContextGenerator(WorkspaceManager workspaceManager, Path filePath, LinePosition position) {
+        this(workspaceManager, filePath, position, Integer.getInteger(MAX_CHARS_PROPERTY, DEFAULT_MAX_CHARS));
+    }
+
+    public CopilotContextGenerator(WorkspaceManager workspaceManager, Path filePath, LinePosition position,
+                                   int maxChars) {
         this.workspaceManager = workspaceManager;
         this.filePath = filePath;
         this.position = position;
+        this.maxChars = maxChars;
         this.imports = new LinkedHashSet<>();
     }
 
@@ -65,45 +80,91 @@ public class CopilotContextGenerator {
             Document document = this.workspaceManager.document(filePath).orElseThrow();
             TextDocument textDocument = document.textDocument();
             int textPosition = textDocument.textPositionFrom(position);
-            char[] charArray = textDocument.toCharArray();
 
             ModulePartNode rootNode = document.syntaxTree().rootNode();
             Token token = rootNode.findToken(textPosition);
 
-            int start = processImports(document);
+            DocumentBody body = CopilotDocumentCache.get(filePath, document);
             Path projectPath = this.workspaceManager.projectRoot(filePath);
-
-            suffix = new String(charArray, textPosition, charArray.length - textPosition);
-            prefix = String.join(System.lineSeparator(), imports) +
-                    getDocumentContent(projectPath, "data_mappings.bal") +
-                    getDocumentContent(projectPath, "types.bal") +
-                    getDocumentContent(projectPath, "connections.bal") +
-                    new String(charArray, start, textPosition - start) +
-                    generatePrefixTrailingSpace(token, textDocument);
+            Optional<DocumentBody> dataMappings = getDocumentBody(projectPath, "data_mappings.bal");
+            Optional<DocumentBody> types = getDocumentBody(projectPath, "types.bal");
+            Optional<DocumentBody> connections = getDocumentBody(projectPath, "connections.bal");
+            this.imports.addAll(body.imports());
+            dataMappings.ifPresent(dataMappingsBody -> this.imports.addAll(dataMappingsBody.imports()));
+            types.ifPresent(typesBody -> this.imports.addAll(typesBody.imports()));
+            connections.ifPresent(connectionsBody -> this.imports.addAll(connectionsBody.imports()));
+
+            CharSequence suffixView = truncateEnd(body.view(textPosition, body.text().length()), maxChars / 4);
+            String importsText = String.join(System.lineSeparator(), imports);
+            String trailingSpace = generatePrefixTrailingSpace(token, textDocument);
+            int budget = Math.max(0, maxChars - suffixView.length() - importsText.length() - trailingSpace.length());
+
+            int start = Math.min(body.start(), textPosition);
+            CharSequence prefixView = truncateStart(body.view(start, textPosition), budget);
+            budget -= prefixView.length();
+            CharSequence typesView = body(types, budget);
+            budget -= typesView.length();
+            CharSequence connectionsView = body(connections, budget);
+            budget -= connectionsView.length();
+            CharSequence dataMappingsView = body(dataMappings, budget);
+
+            suffix = suffixView.toString();
+            int prefixLength = importsText.length() + dataMappingsView.length() + typesView.length() +
+                    connectionsView.length() + prefixView.length() + trailingSpace.length();
+            prefix = new StringBuilder(prefixLength)
+                    .append(importsText)
+                    .append(dataMappingsView)
+                    .append(typesView)
+                    .append(connectionsView)
+                    .append(prefixView)
+                    .append(trailingSpace)
+                    .toString();
         } catch (WorkspaceDocumentException | EventSyncException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private String getDocumentContent(Path projectPath, String fileName) {
+    private Optional<DocumentBody> getDocumentBody(Path projectPath, String fileName) {
         try {
-            Document document = this.workspaceManager.document(projectPath.resolve(fileName)).orElseThrow();
-            TextDocument textDocument = document.textDocument();
-            int start = processImports(document);
-            char[] charArray = textDocument.toCharArray();
-            return new String(charArray, start, charArray.length - start);
+            Path documentPath = projectPath.resolve(fileName);
+            return this.workspaceManager.document(documentPath)
+                    .map(document -> CopilotDocumentCache.get(documentPath, document));
         } catch (Throwable ignored) {
-            return "";
+            return Optional.empty();
         }
     }
 
-    private int processImports(Document document) {
-        ModulePartNode rootNode = document.syntaxTree().rootNode();
-        NodeList<ImportDeclarationNode> imports = rootNode.imports();
-        imports.forEach(importDeclarationNode -> this.imports.add(importDeclarationNode.toSourceCode().strip()));
-        TextDocument textDocument = document.textDocument();
-        return imports.isEmpty() ? 0 :
-                textDocument.textPositionFrom(imports.get(imports.size() - 1).lineRange().endLine());
+    private static CharSequence body(Optional<DocumentBody> documentBody, int budget) {
+        return documentBody.map(body -> body.body(budget)).orElse("");
+    }
+
+    /**
+     * Drops the leading lines that do not fit in the budget.
+     */
+    static CharSequence truncateStart(CharSequence text, int budget) {
+        int length = text.length();
+        if (length <= budget) {
+            return text;
+        }
+        int from = length - budget;
+        while (from < length && text.charAt(from - 1) != '\n') {
+            from++;
+        }
+        return text.subSequence(from, length);
+    }
+
+    /**
+     * Drops the trailing lines that do not fit in the budget.
+     */
+    static CharSequence truncateEnd(CharSequence text, int budget) {
+        if (text.length() <= budget) {
+            return text;
+        }
+        int to = budget;
+        while (to > 0 && text.charAt(to - 1) != '\n') {
+            to--;
+        }
+        return text.subSequence(0, to);
     }
 
     private String generatePrefixTrailingSpace(Token token, TextDocument textDocument) {
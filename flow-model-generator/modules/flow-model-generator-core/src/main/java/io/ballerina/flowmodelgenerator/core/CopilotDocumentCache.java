@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.TextDocument;
+
+import java.lang.ref.WeakReference;
+import java.nio.CharBuffer;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Import-stripped bodies of the documents used as the copilot context.
+ * <p>
+ * A body is computed once per version of a document, which is identified by its text document instance, since the
+ * project API creates a new text document for every change. The bodies are served as {@link CharSequence} views over
+ * the document text, so that assembling the context only copies the characters that end up in it.
+ *
+ * @since 1.3.0
+ */
+final class CopilotDocumentCache {
+
+    private static final int MAX_DOCUMENTS = 64;
+    private static final Map<Path, DocumentBody> bodies = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, DocumentBody> eldest) {
+            return size() > MAX_DOCUMENTS;
+        }
+    };
+
+    private CopilotDocumentCache() {
+    }
+
+    /**
+     * Returns the body of the given document, computing it if the document changed since the last request.
+     *
+     * @param path     path of the document
+     * @param document the document
+     * @return the body of the document
+     */
+    static DocumentBody get(Path path, Document document) {
+        TextDocument textDocument = document.textDocument();
+        synchronized (bodies) {
+            DocumentBody body = bodies.get(path);
+            if (body != null && body.textDocument().get() == textDocument) {
+                return body;
+            }
+        }
+        DocumentBody body = DocumentBody.from(document);
+        synchronized (bodies) {
+            bodies.put(path, body);
+        }
+        return body;
+    }
+
+    /**
+     * A document without its imports.
+     *
+     * @param textDocument text document the body was read from
+     * @param text         text of the document
+     * @param imports      import declarations of the document
+     * @param start        offset of the body, which is the end of the last import
+     * @param memberEnds   end offsets of the module members, in the order they appear
+     */
+    record DocumentBody(WeakReference<TextDocument> textDocument, String text, List<String> imports, int start,
+                        int[] memberEnds) {
+
+        static DocumentBody from(Document document) {
+            TextDocument textDocument = document.textDocument();
+            ModulePartNode rootNode = document.syntaxTree().rootNode();
+            NodeList<ImportDeclarationNode> importNodes = rootNode.imports();
+            List<String> imports = importNodes.stream()
+                    .map(importDeclarationNode -> importDeclarationNode.toSourceCode().strip())
+                    .toList();
+            int start = importNodes.isEmpty() ? 0 :
+                    textDocument.textPositionFrom(importNodes.get(importNodes.size() - 1).lineRange().endLine());
+            NodeList<ModuleMemberDeclarationNode> members = rootNode.members();
+            int[] memberEnds = new int[members.size()];
+            for (int i = 0; i < memberEnds.length; i++) {
+                memberEnds[i] = members.get(i).textRangeWithMinutiae().endOffset();
+            }
+            return new DocumentBody(new WeakReference<>(textDocument), textDocument.toString(), imports, start,
+                    memberEnds);
+        }
+
+        /**
+         * Returns a view of the text between the given offsets.
+         *
+         * @param from start offset, inclusive
+         * @param to   end offset, exclusive
+         * @return view of the text
+         */
+        CharSequence view(int from, int to) {
+            return CharBuffer.wrap(text, from, to);
+        }
+
+        /**
+         * Returns the body, without the module members that do not fit in the budget. Members are only dropped as a
+         * whole, starting from the last one.
+         *
+         * @param budget maximum number of characters
+         * @return view of the body
+         */
+        CharSequence body(int budget) {
+            int end = text.length();
+            if (end - start <= budget) {
+                return view(start, end);
+            }
+            int fittingEnd = start;
+            for (int memberEnd : memberEnds) {
+                if (memberEnd - start > budget) {
+                    break;
+                }
+                fittingEnd = memberEnd;
+            }
+            return view(start, fittingEnd);
+        }
+    }
+}
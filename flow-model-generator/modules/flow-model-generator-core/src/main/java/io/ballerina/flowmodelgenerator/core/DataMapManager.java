@@ -107,6 +107,7 @@ import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.diagramutil.connector.models.connector.ReferenceType;
 import org.ballerinalang.diagramutil.connector.models.connector.Type;
+import org.ballerinalang.diagramutil.connector.models.connector.TypeModelCache;
 import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefArrayType;
 import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefEnumType;
 import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefRecordType;
@@ -155,10 +156,12 @@ public class DataMapManager {
     public static final String PIPE = "|";
     public static final String ZERO = "0";
     private final Document document;
+    private final TypeModelCache.Scope typeScope;
     private final Gson gson = new Gson();
 
     public DataMapManager(Document document) {
         this.document = document;
+        this.typeScope = TypeModelCache.getInstance().scope(document.module());
     }
 
     public JsonElement getTypes(JsonElement node, String propertyKey, SemanticModel semanticModel) {
@@ -225,7 +228,7 @@ public class DataMapManager {
                 targetTypeSymbol =
                         filterErrorOrNil(semanticModel, (UnionTypeSymbol) rawtargetTypeSymbol, new ArrayList<>());
             }
-            refType = ReferenceType.fromSemanticSymbol(targetTypeSymbol, typeDefSymbols);
+            refType = ReferenceType.fromSemanticSymbol(targetTypeSymbol, typeDefSymbols, typeScope);
         } catch (UnsupportedOperationException e) {
             return null;
         }
@@ -270,7 +273,8 @@ public class DataMapManager {
                 if (rawTypeSymbol.typeKind() == TypeDescKind.ARRAY) {
                     TypeSymbol memberTypeSymbol = ((ArrayTypeSymbol) rawTypeSymbol).memberTypeDescriptor();
                     MappingPort mappingPort = getRefMappingPort(fromClauseVar, fromClauseVar,
-                            Objects.requireNonNull(ReferenceType.fromSemanticSymbol(memberTypeSymbol, typeDefSymbols)),
+                            Objects.requireNonNull(
+                                    ReferenceType.fromSemanticSymbol(memberTypeSymbol, typeDefSymbols, typeScope)),
                             new HashMap<>(), references);
                     mappingPort.setFocusExpression(expression.toString().trim());
                     NonTerminalNode parent = matchingNode.queryExpr().parent();
@@ -323,7 +327,7 @@ public class DataMapManager {
                 Symbol symbol = optSymbol.get();
                 String letVarName = symbol.getName().orElseThrow();
                 subMappingPorts.add(getRefMappingPort(letVarName, letVarName,
-                        Objects.requireNonNull(ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols)),
+                        Objects.requireNonNull(ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope)),
                         new HashMap<>(), references));
             }
         } else {
@@ -771,7 +775,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.CONSTANT) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope);
                     if (refType == null) {
                         continue;
                     }
@@ -786,7 +790,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.ENUM) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope);
                     if (refType == null) {
                         continue;
                     }
@@ -819,7 +823,7 @@ public class DataMapManager {
                 .toList();
         RefType refType;
         try {
-            refType = ReferenceType.fromSemanticSymbol(ts, typeDefSymbols);
+            refType = ReferenceType.fromSemanticSymbol(ts, typeDefSymbols, typeScope);
             if (refType == null) {
                 return null;
             }
@@ -864,7 +868,7 @@ public class DataMapManager {
                 }
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope);
                     if (refType == null) {
                         continue;
                     }
@@ -889,7 +893,7 @@ public class DataMapManager {
 
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope);
                     if (refType == null) {
                         continue;
                     }
@@ -905,7 +909,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.CONSTANT) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope);
                     if (refType == null) {
                         continue;
                     }
@@ -920,7 +924,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.ENUM) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeScope);
                     if (refType == null) {
                         continue;
                     }
@@ -0,0 +1,430 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import io.ballerina.compiler.syntax.tree.AnnotationDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumMemberNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.TomlDocument;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Type models of a module and the dependencies between its types.
+ * <p>
+ * The dependencies are taken from the syntax trees of the type definitions, so that a change to a document only
+ * invalidates the types defined in it and the types that refer to them, directly or transitively. Constants,
+ * annotations and enum members are tracked as well, since the types refer to them. A model is recomputed the next
+ * time it is requested, and its version is only bumped if the model actually changed, which is what the delta
+ * responses are built on. Types of other packages are cached as well and only dropped when the package manifest
+ * changes.
+ * <p>
+ * Versions are taken from a counter shared by all the graphs of the process, and each graph has a random epoch. A
+ * delta is only given for a version of the same epoch, so that a graph that was evicted or lost with a restart of the
+ * server never accepts a version handed out by its predecessor.
+ * <p>
+ * The graph is not thread-safe. Callers synchronize on it while syncing and resolving models.
+ *
+ * @since 1.3.0
+ */
+final class TypeDependencyGraph {
+
+    private static final int MAX_MODULES = 16;
+    private static final Gson gson = new Gson();
+    private static final AtomicLong versions = new AtomicLong();
+    private static final Map<ModuleKey, TypeDependencyGraph> graphs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ModuleKey, TypeDependencyGraph> eldest) {
+            return size() > MAX_MODULES;
+        }
+    };
+
+    private final Map<DocumentId, DocumentTypes> documents = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Entry> foreignEntries = new HashMap<>();
+    private final Map<String, Long> removedTypes = new HashMap<>();
+    private final String epoch = UUID.randomUUID().toString();
+    private Set<String> typeNames = Set.of();
+    private Set<String> listedForeignTypes = Set.of();
+    private WeakReference<Package> syncedPackage = new WeakReference<>(null);
+    private byte[] manifestDigest;
+    private long version;
+    private long baseVersion;
+
+    private TypeDependencyGraph() {
+    }
+
+    static TypeDependencyGraph of(Module module) {
+        ModuleKey key = new ModuleKey(module.project().sourceRoot().toString(), module.moduleName().toString());
+        synchronized (graphs) {
+            return graphs.computeIfAbsent(key, k -> new TypeDependencyGraph());
+        }
+    }
+
+    /**
+     * Updates the graph to the current state of the module, invalidating the types defined in the changed documents
+     * and their dependents.
+     *
+     * @param module module of the graph
+     */
+    void sync(Module module) {
+        Package currentPackage = module.packageInstance();
+        if (syncedPackage.get() == currentPackage) {
+            return;
+        }
+        syncedPackage = new WeakReference<>(currentPackage);
+
+        byte[] currentManifestDigest = manifestDigest(currentPackage);
+        if (version == 0 || !Arrays.equals(currentManifestDigest, manifestDigest)) {
+            manifestDigest = currentManifestDigest;
+            documents.clear();
+            entries.clear();
+            foreignEntries.clear();
+            removedTypes.clear();
+            listedForeignTypes = Set.of();
+            version = versions.incrementAndGet();
+            baseVersion = version;
+        }
+
+        Set<String> changedNames = new HashSet<>();
+        Map<DocumentId, DocumentTypes> currentDocuments = new HashMap<>();
+        for (DocumentId documentId : module.documentIds()) {
+            SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+            DocumentTypes previous = documents.get(documentId);
+            if (previous != null && previous.matches(syntaxTree)) {
+                currentDocuments.put(documentId, previous.withSyntaxTree(syntaxTree));
+                continue;
+            }
+            DocumentTypes current = DocumentTypes.from(syntaxTree);
+            currentDocuments.put(documentId, current);
+            changedNames.addAll(current.dependencies().keySet());
+            if (previous != null) {
+                changedNames.addAll(previous.dependencies().keySet());
+            }
+        }
+        documents.forEach((documentId, previous) -> {
+            if (!currentDocuments.containsKey(documentId)) {
+                changedNames.addAll(previous.dependencies().keySet());
+            }
+        });
+        documents.clear();
+        documents.putAll(currentDocuments);
+        if (changedNames.isEmpty()) {
+            return;
+        }
+
+        version = versions.incrementAndGet();
+        typeNames = new HashSet<>();
+        Map<String, Set<String>> dependents = new HashMap<>();
+        for (DocumentTypes documentTypes : documents.values()) {
+            typeNames.addAll(documentTypes.typeNames());
+            documentTypes.dependencies().forEach((name, dependencies) -> {
+                for (String dependency : dependencies) {
+                    dependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(name);
+                }
+            });
+        }
+
+        // Invalidate the changed declarations and every type that refers to them
+        Set<String> invalidated = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>(changedNames);
+        while (!queue.isEmpty()) {
+            String typeName = queue.poll();
+            if (!invalidated.add(typeName)) {
+                continue;
+            }
+            Entry entry = entries.get(typeName);
+            if (entry != null) {
+                entry.data = null;
+            }
+            queue.addAll(dependents.getOrDefault(typeName, Set.of()));
+        }
+
+        for (String typeName : invalidated) {
+            if (typeNames.contains(typeName)) {
+                removedTypes.remove(typeName);
+            } else if (entries.remove(typeName) != null) {
+                removedTypes.put(typeName, version);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the type is defined in a document of the module, and hence invalidated with the document.
+     *
+     * @param name name of the type
+     * @return true if the graph tracks the type
+     */
+    boolean tracks(String name) {
+        return typeNames.contains(name);
+    }
+
+    /**
+     * Returns the model of a type of the module, computing it if it was invalidated.
+     *
+     * @param name     name of the type
+     * @param supplier computes the model of the type
+     * @return the entry of the type
+     */
+    Entry resolve(String name, Supplier<Object> supplier) {
+        return resolve(entries, name, supplier);
+    }
+
+    /**
+     * Returns the model of a type defined in another package, computing it if it is not cached.
+     *
+     * @param typeId   referenced type id of the type
+     * @param supplier computes the model of the type
+     * @return the entry of the type
+     */
+    Entry resolveForeign(String typeId, Supplier<Object> supplier) {
+        return resolve(foreignEntries, typeId, supplier);
+    }
+
+    private Entry resolve(Map<String, Entry> entryMap, String key, Supplier<Object> supplier) {
+        Entry entry = entryMap.computeIfAbsent(key, k -> new Entry());
+        if (entry.data == null) {
+            entry.data = supplier.get();
+            JsonElement json = gson.toJsonTree(entry.data);
+            if (!json.equals(entry.json)) {
+                entry.json = json;
+                entry.version = version;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Records the types of other packages listed along with the module types, and drops the ones that are no longer
+     * referenced by the module.
+     *
+     * @param typeIds referenced type ids of the listed types
+     */
+    void retainForeign(Set<String> typeIds) {
+        for (String typeId : listedForeignTypes) {
+            if (!typeIds.contains(typeId)) {
+                foreignEntries.remove(typeId);
+                removedTypes.put(typeId, version);
+            }
+        }
+        typeIds.forEach(removedTypes::remove);
+        listedForeignTypes = new HashSet<>(typeIds);
+    }
+
+    /**
+     * Checks whether the changes since the given version can be described as a delta. Deltas are not available
+     * across a full rebuild of the graph, nor for a version of another epoch.
+     *
+     * @param sinceEpoch   epoch of the version the client has
+     * @param sinceVersion version the client has
+     * @return true if a delta can be computed
+     */
+    boolean hasChangesSince(String sinceEpoch, long sinceVersion) {
+        return epoch.equals(sinceEpoch) && sinceVersion >= baseVersion && sinceVersion <= version;
+    }
+
+    List<String> removedSince(long sinceVersion) {
+        return removedTypes.entrySet().stream()
+                .filter(entry -> entry.getValue() > sinceVersion)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    long version() {
+        return version;
+    }
+
+    String epoch() {
+        return epoch;
+    }
+
+    private static byte[] manifestDigest(Package currentPackage) {
+        MessageDigest digest = sha256();
+        currentPackage.ballerinaToml().ifPresent(toml -> update(digest, toml.tomlDocument()));
+        // Separates the manifests, so that the content of one cannot be mistaken for the other
+        digest.update((byte) 0);
+        currentPackage.dependenciesToml().ifPresent(toml -> update(digest, toml.tomlDocument()));
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, TomlDocument tomlDocument) {
+        digest.update(tomlDocument.textDocument().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] contentDigest(String content) {
+        return sha256().digest(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * The model of a type and the version it last changed in.
+     *
+     * @since 1.3.0
+     */
+    static final class Entry {
+
+        private Object data;
+        private JsonElement json;
+        private long version;
+
+        Object data() {
+            return data;
+        }
+
+        JsonElement json() {
+            return json;
+        }
+
+        boolean changedSince(long sinceVersion) {
+            return version > sinceVersion;
+        }
+    }
+
+    private record ModuleKey(String project, String module) {
+    }
+
+    /**
+     * Types defined in a document, with the names each of them refers to.
+     *
+     * @param syntaxTree    syntax tree the types were read from
+     * @param contentDigest SHA-256 digest of the document content
+     * @param typeNames     names of the types defined in the document
+     * @param dependencies  names referred to by each declaration in the document the types can depend on, which are
+     *                      the types, constants, annotations and enum members
+     */
+    private record DocumentTypes(WeakReference<SyntaxTree> syntaxTree, byte[] contentDigest, Set<String> typeNames,
+                                 Map<String, Set<String>> dependencies) {
+
+        static DocumentTypes from(SyntaxTree syntaxTree) {
+            Set<String> typeNames = new HashSet<>();
+            Map<String, Set<String>> dependencies = new HashMap<>();
+            if (syntaxTree.containsModulePart()) {
+                ModulePartNode modulePartNode = syntaxTree.rootNode();
+                for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                    String typeName = switch (member.kind()) {
+                        case TYPE_DEFINITION -> ((TypeDefinitionNode) member).typeName().text();
+                        case CLASS_DEFINITION -> ((ClassDefinitionNode) member).className().text();
+                        case ENUM_DECLARATION -> ((EnumDeclarationNode) member).identifier().text();
+                        default -> null;
+                    };
+                    if (typeName != null) {
+                        typeNames.add(typeName);
+                        addDependencies(typeName, member, dependencies);
+                    }
+                    switch (member.kind()) {
+                        case CONST_DECLARATION -> addDependencies(
+                                ((ConstantDeclarationNode) member).variableName().text(), member, dependencies);
+                        case ANNOTATION_DECLARATION -> addDependencies(
+                                ((AnnotationDeclarationNode) member).annotationTag().text(), member, dependencies);
+                        case ENUM_DECLARATION -> {
+                            // The members are constants of the enum, hence they change along with it
+                            for (Node enumMember : ((EnumDeclarationNode) member).enumMemberList()) {
+                                if (enumMember instanceof EnumMemberNode enumMemberNode) {
+                                    dependencies.put(enumMemberNode.identifier().text(), Set.of(typeName));
+                                }
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+            return new DocumentTypes(new WeakReference<>(syntaxTree), contentDigest(syntaxTree), typeNames,
+                    dependencies);
+        }
+
+        private static void addDependencies(String name, ModuleMemberDeclarationNode member,
+                                            Map<String, Set<String>> dependencies) {
+            NameReferenceCollector collector = new NameReferenceCollector(name);
+            member.accept(collector);
+            dependencies.put(name, collector.names);
+        }
+
+        boolean matches(SyntaxTree other) {
+            return syntaxTree.get() == other || Arrays.equals(contentDigest, contentDigest(other));
+        }
+
+        DocumentTypes withSyntaxTree(SyntaxTree other) {
+            return syntaxTree.get() == other ? this : new DocumentTypes(new WeakReference<>(other), contentDigest,
+                    typeNames, dependencies);
+        }
+
+        private static byte[] contentDigest(SyntaxTree syntaxTree) {
+            return TypeDependencyGraph.contentDigest(syntaxTree.textDocument().toString());
+        }
+    }
+
+    /**
+     * Collects the unqualified names referred to within a type definition.
+     */
+    private static class NameReferenceCollector extends NodeVisitor {
+
+        private final String typeName;
+        private final Set<String> names = new HashSet<>();
+
+        NameReferenceCollector(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            String name = simpleNameReferenceNode.name().text();
+            if (!name.equals(typeName)) {
+                names.add(name);
+            }
+        }
+    }
+}
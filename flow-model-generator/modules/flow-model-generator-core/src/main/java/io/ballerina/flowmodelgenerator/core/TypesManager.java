@@ -19,6 +19,7 @@
 package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
@@ -64,9 +65,11 @@ import org.eclipse.lsp4j.TextEdit;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
@@ -87,15 +90,66 @@ public class TypesManager {
     private static final List<SymbolKind> supportedGraphqlSymbolKinds = List.of(SymbolKind.TYPE_DEFINITION,
             SymbolKind.ENUM, SymbolKind.SERVICE_DECLARATION, SymbolKind.CLASS, SymbolKind.TYPE);
 
+    // Set while a request is served from the type dependency graph of the module. Module types are only taken from
+    // the graph if it was synced with the module the symbols of the request belong to.
+    private TypeDependencyGraph typeGraph;
+    private boolean typeGraphSynced;
+
     public TypesManager(Document typeDocument) {
         this.typeDocument = typeDocument;
         this.module = typeDocument.module();
     }
 
     public JsonElement getAllTypes(SemanticModel semanticModel) {
+        return getTypes(semanticModel, null, null).types();
+    }
+
+    /**
+     * Returns the types of the module. If the version of a previous response is given and the types changed since
+     * then can be described as a delta, only the types changed since that version are returned, along with the ones
+     * that were removed. A version of another epoch, such as one handed out before the server restarted, always
+     * results in all the types.
+     *
+     * @param semanticModel semantic model of the module
+     * @param sinceEpoch    epoch of a previous response, or null to get all the types
+     * @param sinceVersion  version of a previous response, or null to get all the types
+     * @return the types of the module
+     */
+    public TypeList getTypes(SemanticModel semanticModel, String sinceEpoch, Long sinceVersion) {
+        TypeDependencyGraph graph = TypeDependencyGraph.of(this.module);
+        synchronized (graph) {
+            graph.sync(this.module);
+            Set<String> foreignTypeIds = new HashSet<>();
+            Map<String, Symbol> symbolMap = getTypeSymbols(semanticModel, foreignTypeIds);
+
+            boolean delta = sinceVersion != null && graph.hasChangesSince(sinceEpoch, sinceVersion);
+            JsonArray types = new JsonArray();
+            symbolMap.forEach((key, symbol) -> {
+                TypeDependencyGraph.Entry entry;
+                if (foreignTypeIds.contains(key)) {
+                    entry = graph.resolveForeign(key, () -> getTypeData(symbol));
+                } else if (graph.tracks(key)) {
+                    entry = graph.resolve(key, () -> getTypeData(symbol));
+                } else {
+                    types.add(gson.toJsonTree(getTypeData(symbol)));
+                    return;
+                }
+                if (!delta || entry.changedSince(sinceVersion)) {
+                    types.add(entry.json());
+                }
+            });
+            graph.retainForeign(foreignTypeIds);
+
+            List<String> removedTypes = delta ? graph.removedSince(sinceVersion) : List.of();
+            return new TypeList(types, removedTypes, graph.epoch(), graph.version(), delta);
+        }
+    }
+
+    private Map<String, Symbol> getTypeSymbols(SemanticModel semanticModel, Set<String> foreignTypeIds) {
         Map<String, Symbol> symbolMap = semanticModel.moduleSymbols().stream()
                 .filter(s -> supportedSymbolKinds.contains(s.kind()))
                 .collect(Collectors.toMap(symbol -> symbol.getName().orElse(""), symbol -> symbol));
+        Set<String> moduleTypeNames = new HashSet<>(symbolMap.keySet());
 
         // Now we have all the defined types in the module scope
         // Now we need to get foreign types that we have defined members of the types
@@ -107,10 +161,10 @@ public class TypesManager {
             TypeSymbol typeSymbol = ((TypeDefinitionSymbol) element).typeDescriptor();
             addMemberTypes(typeSymbol, symbolMap);
         });
-
-        List<Object> allTypes = symbolMap.values().stream().map(this::getTypeData).toList();
-
-        return gson.toJsonTree(allTypes);
+        symbolMap.keySet().stream()
+                .filter(key -> !moduleTypeNames.contains(key))
+                .forEach(foreignTypeIds::add);
+        return symbolMap;
     }
 
     public JsonElement getGraphqlType(SemanticModel semanticModel, Document document, LinePosition linePosition) {
@@ -159,12 +213,26 @@ public class TypesManager {
     }
 
     public JsonElement getType(SemanticModel semanticModel, Document document, LinePosition linePosition) {
-        Optional<Symbol> symbol = semanticModel.symbol(document, linePosition);
+        TypeDependencyGraph graph = TypeDependencyGraph.of(this.module);
+        synchronized (graph) {
+            graph.sync(this.module);
+            this.typeGraph = graph;
+            this.typeGraphSynced = true;
+            try {
+                return getType(semanticModel.symbol(document, linePosition));
+            } finally {
+                this.typeGraph = null;
+                this.typeGraphSynced = false;
+            }
+        }
+    }
+
+    private JsonElement getType(Optional<Symbol> symbol) {
         if (symbol.isEmpty() || !supportedGraphqlSymbolKinds.contains(symbol.get().kind())) {
             return null;
         }
 
-        Object type = getTypeData(symbol.get());
+        Object type = getTypeData(symbol.get(), null);
 
         Map<String, Object> refs = new HashMap<>();
         if (symbol.get().kind() == SymbolKind.SERVICE_DECLARATION) {
@@ -180,13 +248,22 @@ public class TypesManager {
     }
 
     public TypeDataWithRefs getTypeDataWithRefs(TypeDefinitionSymbol typeDefSymbol) {
-        Object type = getTypeData(typeDefSymbol);
-        Map<String, Object> refs = new HashMap<>();
-        TypeSymbol typeDescriptor = getTypeDescriptor(typeDefSymbol);
-        if (typeDescriptor != null) {
-            addDependencyTypes(typeDescriptor, refs, false);
+        // The symbol may come from a modified copy of the module, so only the types of other packages are reused
+        TypeDependencyGraph graph = TypeDependencyGraph.of(this.module);
+        synchronized (graph) {
+            this.typeGraph = graph;
+            try {
+                Object type = getTypeData(typeDefSymbol);
+                Map<String, Object> refs = new HashMap<>();
+                TypeSymbol typeDescriptor = getTypeDescriptor(typeDefSymbol);
+                if (typeDescriptor != null) {
+                    addDependencyTypes(typeDescriptor, refs, false);
+                }
+                return genTypeDataRefWithoutPosition(type, refs.values().stream().toList());
+            } finally {
+                this.typeGraph = null;
+            }
         }
-        return genTypeDataRefWithoutPosition(type, refs.values().stream().toList());
     }
 
     public JsonElement updateType(Path filePath, TypeData typeData) {
@@ -322,6 +399,25 @@ public class TypesManager {
         };
     }
 
+    // Get the type data through the type dependency graph of the module, if the request is served from it
+    private Object getTypeData(Symbol symbol, String typeId) {
+        if (typeGraph == null || symbol.getModule().isEmpty() || symbol.getName().isEmpty()) {
+            return getTypeData(symbol);
+        }
+        ModuleInfo moduleInfo = ModuleInfo.from(this.module.descriptor());
+        if (!CommonUtils.isWithinPackage(symbol, moduleInfo)) {
+            return typeId == null ? getTypeData(symbol) : typeGraph.resolveForeign(typeId, () -> getTypeData(symbol))
+                    .data();
+        }
+        String name = symbol.getName().get();
+        boolean moduleType = supportedSymbolKinds.contains(symbol.kind()) &&
+                symbol.getModule().get().id().moduleName().equals(moduleInfo.moduleName());
+        if (typeGraphSynced && moduleType && typeGraph.tracks(name)) {
+            return typeGraph.resolve(name, () -> getTypeData(symbol)).data();
+        }
+        return getTypeData(symbol);
+    }
+
     // Get type descriptor from the symbol
     private TypeSymbol getTypeDescriptor(Symbol symbol) {
         return switch (symbol.kind()) {
@@ -487,7 +583,7 @@ public class TypesManager {
                 if (references.containsKey(typeName)) {
                     return;
                 }
-                references.putIfAbsent(typeName, getTypeData(definition));
+                references.putIfAbsent(typeName, getTypeData(definition, typeName));
                 if (CommonUtils.isWithinPackage(definition, moduleInfo)) {
                     addDependencyTypes(
                             ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor(),
@@ -581,4 +677,17 @@ public class TypesManager {
     public record TypeDataWithRefs(Object type, List<Object> refs) {
 
     }
+
+    /**
+     * Types of a module.
+     *
+     * @param types        models of the types, or of the changed types if this is a delta
+     * @param removedTypes names of the types removed since the requested version, if this is a delta
+     * @param epoch        epoch the version belongs to
+     * @param version      version of the types
+     * @param delta        whether only the changes since the requested version are included
+     */
+    public record TypeList(JsonArray types, List<String> removedTypes, String epoch, long version, boolean delta) {
+
+    }
 }
@@ -75,8 +75,10 @@ import io.ballerina.flowmodelgenerator.core.model.node.WaitBuilder;
 import io.ballerina.flowmodelgenerator.core.model.node.WhileBuilder;
 import io.ballerina.flowmodelgenerator.core.model.node.XmlPayloadBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
+import io.ballerina.modelgenerator.commons.FunctionDataCache;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.TextEdit;
@@ -314,5 +316,19 @@ public abstract class NodeBuilder implements DiagnosticHandler.DiagnosticCapable
                 return new HashSet<>();
             }
         }
+
+        /**
+         * Returns the function data cache of the current compilation of the user's package.
+         *
+         * @return the cache scope, or null if the project cannot be loaded
+         */
+        public FunctionDataCache.Scope functionDataCache() {
+            try {
+                Project project = workspaceManager.loadProject(filePath);
+                return FunctionDataCache.getInstance().scope(project.currentPackage());
+            } catch (Throwable e) {
+                return null;
+            }
+        }
     }
 }
@@ -67,7 +67,8 @@ public abstract class CallBuilder extends NodeBuilder {
                         codedata.version()))
                 .lsClientLogger(context.lsClientLogger())
                 .functionResultKind(getFunctionResultKind())
-                .userModuleInfo(moduleInfo);
+                .userModuleInfo(moduleInfo)
+                .cache(context.functionDataCache());
 
         NodeKind functionNodeKind = getFunctionNodeKind();
         if (functionNodeKind != NodeKind.FUNCTION_CALL) {
@@ -129,7 +129,8 @@ public class NewConnectionBuilder extends CallBuilder {
                         codedata.version()))
                 .lsClientLogger(context.lsClientLogger())
                 .functionResultKind(FunctionData.Kind.CONNECTOR)
-                .userModuleInfo(moduleInfo);
+                .userModuleInfo(moduleInfo)
+                .cache(context.functionDataCache());
 
         // TODO: If we set the module info properly this logic can be removed.
         if (Boolean.TRUE.equals(codedata.isGenerated())) {
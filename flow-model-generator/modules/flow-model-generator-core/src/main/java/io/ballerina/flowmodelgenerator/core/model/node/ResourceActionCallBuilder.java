@@ -72,7 +72,8 @@ public class ResourceActionCallBuilder extends CallBuilder {
                 .parentSymbolType(codedata.object())
                 .resourcePath(codedata.resourcePath())
                 .project(PackageUtil.loadProject(context.workspaceManager(), context.filePath()))
-                .functionResultKind(FunctionData.Kind.RESOURCE);
+                .functionResultKind(FunctionData.Kind.RESOURCE)
+                .cache(context.functionDataCache());
 
         FunctionData functionData = functionDataBuilder.build();
 
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the truncation of the document views that make up the copilot context.
+ *
+ * @since 1.3.0
+ */
+public class CopilotContextGeneratorTest {
+
+    private static final String TEXT = "line1\nline2\nline3";
+
+    @Test(dataProvider = "truncate-start-data-provider")
+    public void testTruncateStart(int budget, String expected) {
+        Assert.assertEquals(CopilotContextGenerator.truncateStart(TEXT, budget).toString(), expected);
+    }
+
+    @DataProvider(name = "truncate-start-data-provider")
+    public Object[][] truncateStartDataProvider() {
+        return new Object[][]{
+                {0, ""},
+                {TEXT.length(), TEXT},
+                {TEXT.length() + 1, TEXT},
+                // A cut inside a line drops the rest of that line
+                {TEXT.length() - 1, "line2\nline3"},
+                {"line2\nline3".length(), "line2\nline3"},
+                {"line3".length(), "line3"},
+                {"line3".length() - 1, ""}
+        };
+    }
+
+    @Test(dataProvider = "truncate-end-data-provider")
+    public void testTruncateEnd(int budget, String expected) {
+        Assert.assertEquals(CopilotContextGenerator.truncateEnd(TEXT, budget).toString(), expected);
+    }
+
+    @DataProvider(name = "truncate-end-data-provider")
+    public Object[][] truncateEndDataProvider() {
+        return new Object[][]{
+                {0, ""},
+                {TEXT.length(), TEXT},
+                {TEXT.length() + 1, TEXT},
+                // A cut inside a line drops the start of that line
+                {TEXT.length() - 1, "line1\nline2\n"},
+                {"line1\nline2\n".length(), "line1\nline2\n"},
+                {"line1\n".length(), "line1\n"},
+                {"line1".length(), ""}
+        };
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.flowmodelgenerator.core.CopilotDocumentCache.DocumentBody;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * Tests the budgeted views of the document bodies cached for the copilot context.
+ *
+ * @since 1.3.0
+ */
+public class CopilotDocumentCacheTest {
+
+    private static final String IMPORT = "import ballerina/io;";
+    private static final String FIRST_MEMBER = "\nfunction first() {}\n";
+    private static final String SECOND_MEMBER = "function second() {\n    io:println(\"second\");\n}\n";
+    private static final String TEXT = IMPORT + FIRST_MEMBER + SECOND_MEMBER;
+
+    @Test(dataProvider = "body-data-provider")
+    public void testBody(int budget, String expected) {
+        int start = IMPORT.length();
+        int firstEnd = start + FIRST_MEMBER.length();
+        DocumentBody body = new DocumentBody(new WeakReference<>(null), TEXT, List.of(IMPORT), start,
+                new int[]{firstEnd, TEXT.length()});
+        Assert.assertEquals(body.body(budget).toString(), expected);
+    }
+
+    @DataProvider(name = "body-data-provider")
+    public Object[][] bodyDataProvider() {
+        String body = FIRST_MEMBER + SECOND_MEMBER;
+        return new Object[][]{
+                {0, ""},
+                {body.length(), body},
+                {body.length() + 1, body},
+                // A member that does not fit is dropped as a whole, even if the budget ends within it
+                {body.length() - 1, FIRST_MEMBER},
+                {FIRST_MEMBER.length(), FIRST_MEMBER},
+                {FIRST_MEMBER.length() - 1, ""}
+        };
+    }
+}
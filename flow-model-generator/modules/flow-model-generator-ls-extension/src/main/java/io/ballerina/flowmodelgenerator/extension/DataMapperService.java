@@ -48,8 +48,10 @@ import io.ballerina.flowmodelgenerator.extension.response.DataMapperVisualizeRes
 import io.ballerina.flowmodelgenerator.extension.response.DataMappingDeleteResponse;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
-import org.ballerinalang.diagramutil.connector.models.connector.ReferenceType;
+import org.ballerinalang.diagramutil.connector.models.connector.TypeModelCache;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -119,10 +121,12 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
                 Optional<Document> dataMappingDoc = getDocumentFromFile(projectPath, "data_mappings.bal");
 
-                DataMapManager dataMapManager = new DataMapManager(document.get());
-                response.setMappingsModel(dataMapManager.getMappings(semanticModel.get(), request.codedata(),
-                        request.position(), request.targetField(), functionsDoc.orElse(null),
-                        dataMappingDoc.orElse(null)));
+                try (OperationSpan ignored = OperationTracer.getInstance().startSpan("dataMapper/generate")) {
+                    DataMapManager dataMapManager = new DataMapManager(document.get());
+                    response.setMappingsModel(dataMapManager.getMappings(semanticModel.get(), request.codedata(),
+                            request.position(), request.targetField(), functionsDoc.orElse(null),
+                            dataMappingDoc.orElse(null)));
+                }
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -445,8 +449,8 @@ public class DataMapperService implements ExtendedLanguageServerService {
     }
 
     /**
-     * Clears the visited type map cache in ReferenceType.
-     * This API can be used to reset the type cache when needed.
+     * Clears the cached reference type models of all the projects. The models are otherwise dropped when the module
+     * they belong to is recompiled, so this API is only needed to force a rebuild of the type models.
      *
      * @return Response indicating whether the cache was successfully cleared
      * @since 1.2.0
@@ -456,7 +460,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
         return CompletableFuture.supplyAsync(() -> {
             DataMapperClearCacheResponse response = new DataMapperClearCacheResponse();
             try {
-                ReferenceType.clearVisitedTypeMap();
+                TypeModelCache.getInstance().invalidateAll();
                 response.setSuccess(true);
             } catch (Throwable e) {
                 response.setError(e);
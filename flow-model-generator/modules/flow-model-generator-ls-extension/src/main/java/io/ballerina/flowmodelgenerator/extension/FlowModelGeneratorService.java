@@ -82,6 +82,8 @@ import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -144,12 +146,14 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
 
                 // Generate the flow design model
-                ModelGenerator modelGenerator =
-                        new ModelGenerator(project, semanticModel.get(), filePath, workspaceManager);
-                response.setFlowDesignModel(
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(),
-                                dataMappingsDoc.orElse(null),
-                                functionsDoc.orElse(null)));
+                try (OperationSpan ignored = OperationTracer.getInstance().startSpan("flowModel/generate")) {
+                    ModelGenerator modelGenerator =
+                            new ModelGenerator(project, semanticModel.get(), filePath, workspaceManager);
+                    response.setFlowDesignModel(
+                            modelGenerator.getFlowModel(document.get(), request.lineRange(),
+                                    dataMappingsDoc.orElse(null),
+                                    functionsDoc.orElse(null)));
+                }
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -38,13 +38,13 @@ import io.ballerina.flowmodelgenerator.core.type.RecordValueGenerator;
 import io.ballerina.flowmodelgenerator.core.type.TypeSymbolAnalyzerFromTypeModel;
 import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
 import io.ballerina.flowmodelgenerator.extension.request.DeleteTypeRequest;
-import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FindTypeRequest;
 import io.ballerina.flowmodelgenerator.extension.request.GetTypeRequest;
 import io.ballerina.flowmodelgenerator.extension.request.JsonToTypeRequest;
 import io.ballerina.flowmodelgenerator.extension.request.MultipleTypeUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.request.RecordConfigRequest;
 import io.ballerina.flowmodelgenerator.extension.request.RecordValueGenerateRequest;
+import io.ballerina.flowmodelgenerator.extension.request.TypeListRequest;
 import io.ballerina.flowmodelgenerator.extension.request.TypeUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.request.UpdatedRecordConfigRequest;
 import io.ballerina.flowmodelgenerator.extension.request.VerifyTypeDeleteRequest;
@@ -106,13 +106,15 @@ public class TypesManagerService implements ExtendedLanguageServerService {
     }
 
     /**
-     * Get all the types in the project with references.
+     * Get all the types in the project with references. If the version of a previous response is given, only the types
+     * changed since then are returned when possible, which is indicated by the delta flag of the response. The epoch of
+     * the previous response has to be given along with its version, since versions are not comparable across epochs.
      *
-     * @param request {@link FindTypeRequest}
+     * @param request {@link TypeListRequest}
      * @return {@link TypeListResponse} all the types found in the project with references
      */
     @JsonRequest
-    public CompletableFuture<TypeListResponse> getTypes(FilePathRequest request) {
+    public CompletableFuture<TypeListResponse> getTypes(TypeListRequest request) {
         return CompletableFuture.supplyAsync(() -> {
             TypeListResponse response = new TypeListResponse();
             try {
@@ -124,8 +126,15 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                     return response;
                 }
                 TypesManager typesManager = new TypesManager(document.get());
-                JsonElement allTypes = typesManager.getAllTypes(semanticModel.get());
-                response.setTypes(allTypes);
+                TypesManager.TypeList typeList = typesManager.getTypes(semanticModel.get(),
+                        request.sinceEpoch(), request.sinceVersion());
+                response.setTypes(typeList.types());
+                response.setEpoch(typeList.epoch());
+                response.setVersion(typeList.version());
+                response.setDelta(typeList.delta());
+                if (typeList.delta()) {
+                    response.setRemovedTypes(typeList.removedTypes());
+                }
             } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
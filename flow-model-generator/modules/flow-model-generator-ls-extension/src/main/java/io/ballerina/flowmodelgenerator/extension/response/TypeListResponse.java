@@ -20,6 +20,8 @@ package io.ballerina.flowmodelgenerator.extension.response;
 
 import com.google.gson.JsonElement;
 
+import java.util.List;
+
 /**
  * Represents the response for the list of types.
  *
@@ -28,6 +30,10 @@ import com.google.gson.JsonElement;
 public class TypeListResponse extends AbstractFlowModelResponse {
 
     private JsonElement types;
+    private String epoch;
+    private long version;
+    private boolean delta;
+    private List<String> removedTypes;
 
     public TypeListResponse() {
     }
@@ -39,4 +45,36 @@ public class TypeListResponse extends AbstractFlowModelResponse {
     public void setTypes(JsonElement types) {
         this.types = types;
     }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public void setEpoch(String epoch) {
+        this.epoch = epoch;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean delta() {
+        return delta;
+    }
+
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+
+    public List<String> removedTypes() {
+        return removedTypes;
+    }
+
+    public void setRemovedTypes(List<String> removedTypes) {
+        this.removedTypes = removedTypes;
+    }
 }
@@ -20,14 +20,26 @@ package io.ballerina.flowmodelgenerator.extension.typesmanager;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
+import io.ballerina.flowmodelgenerator.extension.request.TypeListRequest;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Test cases for retrieving types.
@@ -52,6 +64,91 @@ public class GetAllTypesTest extends AbstractLSTest {
         }
     }
 
+    @Test(description = "Test that only the changes since the given version are returned")
+    public void testDelta() throws IOException {
+        String filePath = sourceDir.resolve("test_pack1/types.bal").toAbsolutePath().toString();
+        JsonObject fullResponse = getResponse(new TypeListRequest(filePath, null, null));
+        Assert.assertFalse(fullResponse.get("delta").getAsBoolean());
+        long version = fullResponse.get("version").getAsLong();
+        String epoch = fullResponse.get("epoch").getAsString();
+
+        JsonObject deltaResponse = getResponse(new TypeListRequest(filePath, version, epoch));
+        Assert.assertTrue(deltaResponse.get("delta").getAsBoolean());
+        Assert.assertEquals(deltaResponse.get("version").getAsLong(), version);
+        Assert.assertEquals(deltaResponse.get("epoch").getAsString(), epoch);
+        Assert.assertTrue(deltaResponse.getAsJsonArray("types").isEmpty());
+        Assert.assertTrue(deltaResponse.getAsJsonArray("removedTypes").isEmpty());
+
+        // A version the server does not know of results in all the types
+        JsonObject unknownVersionResponse = getResponse(new TypeListRequest(filePath, version + 1, epoch));
+        Assert.assertFalse(unknownVersionResponse.get("delta").getAsBoolean());
+        Assert.assertEquals(unknownVersionResponse.getAsJsonArray("types"), fullResponse.getAsJsonArray("types"));
+
+        // So does a version of another epoch, such as one handed out before the server restarted
+        JsonObject unknownEpochResponse = getResponse(new TypeListRequest(filePath, version, epoch + "-stale"));
+        Assert.assertFalse(unknownEpochResponse.get("delta").getAsBoolean());
+        Assert.assertEquals(unknownEpochResponse.getAsJsonArray("types"), fullResponse.getAsJsonArray("types"));
+    }
+
+    @Test(description = "Test that an edit results in a delta of the changed, dependent and removed types")
+    public void testDeltaAfterEdit() throws IOException {
+        // The project is copied, since the edit must not be seen by the other tests
+        Path projectDir = Files.createTempDirectory("get-types-delta");
+        Path sourcePackage = sourceDir.resolve("test_pack1");
+        for (String fileName : List.of("Ballerina.toml", "main.bal", "types.bal")) {
+            Files.copy(sourcePackage.resolve(fileName), projectDir.resolve(fileName));
+        }
+        Path typesFile = projectDir.resolve("types.bal");
+        String fileUri = typesFile.toUri().toString();
+        String filePath = typesFile.toAbsolutePath().toString();
+        try {
+            String text = Files.readString(typesFile);
+            sendNotification("textDocument/didOpen",
+                    new DidOpenTextDocumentParams(getDocumentIdentifier(filePath, fileUri)));
+            JsonObject fullResponse = getResponse(new TypeListRequest(filePath, null, null));
+            long version = fullResponse.get("version").getAsLong();
+            String epoch = fullResponse.get("epoch").getAsString();
+
+            // Change a field of Address, add a type and remove one
+            String editedText = text
+                    .replace("    string country;\n|};", "    string country;\n    string postalCode;\n|};")
+                    .replace("type PersonError error<Person>;", "type Phone record {|\n    string number;\n|};");
+            Assert.assertNotEquals(editedText, text);
+            sendNotification("textDocument/didChange", new DidChangeTextDocumentParams(
+                    new VersionedTextDocumentIdentifier(fileUri, 2),
+                    List.of(new TextDocumentContentChangeEvent(editedText))));
+
+            JsonObject deltaResponse = getResponse(new TypeListRequest(filePath, version, epoch));
+            Assert.assertTrue(deltaResponse.get("delta").getAsBoolean());
+            Assert.assertEquals(deltaResponse.get("epoch").getAsString(), epoch);
+            Assert.assertTrue(deltaResponse.get("version").getAsLong() > version);
+
+            Set<String> changedTypes = new HashSet<>();
+            for (JsonElement type : deltaResponse.getAsJsonArray("types")) {
+                changedTypes.add(type.getAsJsonObject().get("name").getAsString());
+            }
+            // The edited type, the types referring to it and the added type are sent, the untouched ones are not
+            Assert.assertTrue(changedTypes.containsAll(Set.of("Address", "Person", "MixRecord", "Student", "Phone")),
+                    changedTypes.toString());
+            Assert.assertFalse(changedTypes.contains("Names"), changedTypes.toString());
+            Assert.assertFalse(changedTypes.contains("Color"), changedTypes.toString());
+
+            List<String> removedTypes = deltaResponse.getAsJsonArray("removedTypes").asList().stream()
+                    .map(JsonElement::getAsString)
+                    .toList();
+            Assert.assertEquals(removedTypes, List.of("PersonError"));
+        } finally {
+            sendNotification("textDocument/didClose", new DidCloseTextDocumentParams(
+                    new TextDocumentIdentifier(fileUri)));
+            try (Stream<Path> paths = Files.list(projectDir)) {
+                for (Path path : paths.toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            Files.deleteIfExists(projectDir);
+        }
+    }
+
     @Override
     protected String getResourceDir() {
         return "types_manager/get_types";
@@ -18,6 +18,14 @@
 
 package io.ballerina.indexgenerator;
 
+import io.ballerina.indexgenerator.IndexGenerator.FunctionEntry;
+import io.ballerina.indexgenerator.IndexGenerator.ModuleEntry;
+import io.ballerina.indexgenerator.IndexGenerator.PackageEntry;
+import io.ballerina.modelgenerator.commons.FunctionData;
+import io.ballerina.modelgenerator.commons.IndexUpdate;
+import io.ballerina.modelgenerator.commons.ParameterData;
+import io.ballerina.modelgenerator.commons.ParameterMemberTypeData;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,16 +35,61 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
-class DatabaseManager {
+/**
+ * Manages the SQLite database of the central index.
+ * <p>
+ * The packages are written through a single connection, with one transaction per package. The statements are
+ * prepared once and reused, and the rows that are not referred to by other rows are batched until the package is
+ * committed. The rows of the previous version of a package are replaced through the {@link IndexUpdate} of the run.
+ *
+ * @since 1.0.0
+ */
+class DatabaseManager implements AutoCloseable {
 
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final String CENTRAL_INDEX_SQL = "central-index.sql";
     private static final String dbPath = getDatabasePath();
 
+    private final IndexUpdate update;
+    private final Connection connection;
+    private final PreparedStatement packageStmt;
+    private final PreparedStatement functionStmt;
+    private final PreparedStatement parameterStmt;
+    private final PreparedStatement memberTypeStmt;
+    private final PreparedStatement connectorActionStmt;
+
+    DatabaseManager(IndexUpdate update) throws SQLException {
+        this.update = update;
+        connection = DriverManager.getConnection(dbPath);
+        try {
+            connection.setAutoCommit(false);
+            packageStmt = connection.prepareStatement("INSERT INTO Package (org, package_name, module_name, " +
+                    "version, keywords, content_hash) VALUES (?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            functionStmt = connection.prepareStatement("INSERT INTO Function (package_id, name, description, " +
+                    "return_type, kind, resource_path, return_error, inferred_return_type, import_statements) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            parameterStmt = connection.prepareStatement("INSERT INTO Parameter (function_id, name, description, " +
+                    "type, placeholder, default_value, kind, optional, import_statements, label) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            memberTypeStmt = connection.prepareStatement("INSERT INTO ParameterMemberType (parameter_id, type, " +
+                    "kind, package_identifier, package_name) VALUES (?, ?, ?, ?, ?)");
+            connectorActionStmt = connection.prepareStatement(
+                    "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    static IndexUpdate indexUpdate() throws SQLException {
+        return new IndexUpdate(dbPath, "package_name");
+    }
+
     private static String getDatabasePath() {
         String destinationPath =
                 Path.of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
@@ -45,26 +98,6 @@ class DatabaseManager {
         return "jdbc:sqlite:" + destinationPath;
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
-        }
-    }
-
     public static void createDatabase() {
         Path destinationPath =
                 Path.of("flow-model-generator/modules/flow-model-index-generator/src/main/resources")
@@ -87,48 +120,107 @@ class DatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String packageName, String moduleName, String version,
-                                    List<String> keywords) {
-        String sql = "INSERT INTO Package (org, package_name, module_name, version, keywords) VALUES (?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, packageName, moduleName, version,
-                keywords == null ? "" : String.join(",", keywords)});
+    /**
+     * Writes the modules of a package in a single transaction, replacing the previous version of the package. A
+     * module that cannot be written is skipped along with the rest of the package.
+     *
+     * @param packageEntry the package and its modules
+     */
+    public void insertPackage(PackageEntry packageEntry) {
+        List<Integer> packageIds = new ArrayList<>();
+        try {
+            List<Integer> replacedIds = update.replace(connection, packageEntry.org(), packageEntry.name());
+            for (ModuleEntry module : packageEntry.modules()) {
+                packageStmt.setString(1, module.org());
+                packageStmt.setString(2, module.packageName());
+                packageStmt.setString(3, module.moduleName());
+                packageStmt.setString(4, module.version());
+                packageStmt.setString(5, module.keywords() == null ? "" : String.join(",", module.keywords()));
+                packageStmt.setString(6, packageEntry.contentHash());
+                int packageId = executeInsert(packageStmt);
+                packageIds.add(packageId);
+                for (FunctionEntry function : module.functions()) {
+                    int functionId = insertFunction(packageId, function.data());
+                    for (FunctionEntry action : function.actions()) {
+                        connectorActionStmt.setInt(1, insertFunction(packageId, action.data()));
+                        connectorActionStmt.setInt(2, functionId);
+                        connectorActionStmt.addBatch();
+                    }
+                }
+            }
+            memberTypeStmt.executeBatch();
+            connectorActionStmt.executeBatch();
+            connection.commit();
+            update.removed(packageEntry.org(), packageEntry.name(), replacedIds);
+            packageIds.forEach(update::added);
+        } catch (SQLException e) {
+            LOGGER.severe("Error inserting package to database: " + e.getMessage());
+            rollback();
+        }
     }
 
-    public static int insertFunction(int packageId, String name, String description, String returnType, String kind,
-                                     String resourcePath, int returnError, boolean inferredReturnType,
-                                     String importStatements) {
-        String sql = "INSERT INTO Function (package_id, name, description, " +
-                "return_type, kind, resource_path, return_error, inferred_return_type, import_statements) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, name, description,
-                returnType, kind, resourcePath, returnError, inferredReturnType ? 1 : 0, importStatements});
+    private int insertFunction(int packageId, FunctionData functionData) throws SQLException {
+        functionStmt.setInt(1, packageId);
+        functionStmt.setString(2, functionData.name());
+        functionStmt.setString(3, functionData.description());
+        functionStmt.setString(4, functionData.returnType());
+        functionStmt.setString(5, functionData.kind().name());
+        functionStmt.setString(6, functionData.resourcePath() != null ? functionData.resourcePath() : "");
+        functionStmt.setInt(7, functionData.returnError() ? 1 : 0);
+        functionStmt.setInt(8, functionData.inferredReturnType() ? 1 : 0);
+        functionStmt.setString(9, functionData.importStatements());
+        int functionId = executeInsert(functionStmt);
+
+        for (ParameterData parameterData : functionData.parameters().values()) {
+            parameterStmt.setInt(1, functionId);
+            parameterStmt.setString(2, parameterData.name());
+            parameterStmt.setString(3, parameterData.description());
+            parameterStmt.setObject(4, parameterData.type());
+            parameterStmt.setString(5, parameterData.placeholder());
+            parameterStmt.setString(6, parameterData.defaultValue());
+            parameterStmt.setString(7,
+                    IndexGenerator.FunctionParameterKind.fromString(parameterData.kind().name()).name());
+            parameterStmt.setInt(8, parameterData.optional() ? 1 : 0);
+            parameterStmt.setString(9, parameterData.importStatements());
+            parameterStmt.setString(10, parameterData.label());
+            int parameterId = executeInsert(parameterStmt);
+
+            // The member types are not referred to by other rows, and hence batched until the package is committed
+            for (ParameterMemberTypeData memberType : parameterData.typeMembers()) {
+                memberTypeStmt.setInt(1, parameterId);
+                memberTypeStmt.setString(2, memberType.type());
+                memberTypeStmt.setString(3, memberType.kind());
+                memberTypeStmt.setString(4, memberType.packageInfo());
+                memberTypeStmt.setString(5, memberType.packageName());
+                memberTypeStmt.addBatch();
+            }
+        }
+        return functionId;
     }
 
-    public static int insertFunctionParameter(int functionId, String paramName, String paramDescription,
-                                              Object paramType, String placeholder, String defaultValue,
-                                              IndexGenerator.FunctionParameterKind parameterKind,
-                                              int optional, String importStatements, String label) {
-
-        String sql =
-                "INSERT INTO Parameter (function_id, name, description, type, placeholder, default_value, kind, " +
-                        "optional, " +
-                        "import_statements, label) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql,
-                new Object[]{functionId, paramName, paramDescription, paramType, placeholder, defaultValue,
-                        parameterKind.name(), optional, importStatements, label});
+    private static int executeInsert(PreparedStatement stmt) throws SQLException {
+        stmt.executeUpdate();
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            if (generatedKeys.next()) {
+                return generatedKeys.getInt(1);
+            }
+            throw new SQLException("Creating entry failed, no ID obtained.");
+        }
     }
 
-    public static void insertParameterMemberType(int parameterId, String type, String kind,
-                                                 String packageIdentifier, String packageName) {
-        String sql = "INSERT INTO ParameterMemberType (parameter_id, type, kind, package_identifier, package_name) " +
-                "VALUES (?, ?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{parameterId, type, kind, packageIdentifier, packageName});
+    private void rollback() {
+        try {
+            memberTypeStmt.clearBatch();
+            connectorActionStmt.clearBatch();
+            connection.rollback();
+        } catch (SQLException e) {
+            LOGGER.severe("Error rolling back the package: " + e.getMessage());
+        }
     }
 
-    public static void mapConnectorAction(int actionId, int connectorId) {
-        String sql = "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
-        insertEntry(sql, new Object[]{actionId, connectorId});
+    @Override
+    public void close() throws SQLException {
+        connection.close();
     }
 
     public static void updateTypeParameter(String moduleName, String oldType, String newType) {
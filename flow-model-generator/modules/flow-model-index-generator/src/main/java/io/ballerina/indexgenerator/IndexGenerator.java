@@ -28,13 +28,11 @@ import io.ballerina.compiler.api.symbols.MethodSymbol;
 import io.ballerina.compiler.api.symbols.Qualifier;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
+import io.ballerina.modelgenerator.commons.IndexUpdate;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.PackageUtil;
-import io.ballerina.modelgenerator.commons.ParameterData;
-import io.ballerina.modelgenerator.commons.ParameterMemberTypeData;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.projects.Package;
@@ -44,12 +42,13 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 /**
@@ -65,21 +64,48 @@ class IndexGenerator {
     private static final Logger LOGGER = Logger.getLogger(IndexGenerator.class.getName());
 
     public static void main(String[] args) {
-        DatabaseManager.createDatabase();
+        if (!IndexUpdate.isIncremental()) {
+            DatabaseManager.createDatabase();
+        }
+        try (IndexUpdate update = DatabaseManager.indexUpdate()) {
+            generateIndex(update);
+            applyFixes();
+            update.finish();
+        } catch (SQLException e) {
+            LOGGER.severe("Error reading the central index: " + e.getMessage());
+        }
+    }
+
+    private static void generateIndex(IndexUpdate update) {
         BuildProject buildProject = PackageUtil.getSampleProject();
 
         Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(PackageListGenerator.PACKAGE_JSON_FILE);
-        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
+        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8);
+             DatabaseManager database = new DatabaseManager(update)) {
             Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
-            ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.forEach(
-                    packageMetadataInfo -> resolvePackage(buildProject, key, packageMetadataInfo)))).join();
+
+            // Resolve and compile the new and changed packages in parallel, while a single writer stores them
+            List<IndexPipeline.Task<PackageEntry>> tasks = new ArrayList<>();
+            packagesMap.forEach((key, value) -> value.forEach(packageMetadataInfo -> {
+                String contentHash = IndexUpdate.contentHash(key, gson.toJson(packageMetadataInfo));
+                if (update.isIndexed(key, packageMetadataInfo.name(), contentHash)) {
+                    return;
+                }
+                tasks.add(new IndexPipeline.Task<>(packageMetadataInfo.name(),
+                        () -> resolvePackage(buildProject, key, packageMetadataInfo, contentHash)));
+            }));
+            LOGGER.info("Indexing " + tasks.size() + " new or changed package(s)");
+            new IndexPipeline<PackageEntry>().run(tasks, database::insertPackage);
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
+        } catch (SQLException e) {
+            LOGGER.severe("Error writing to the central index: " + e.getMessage());
         }
+    }
 
+    private static void applyFixes() {
         // TODO: Remove this once thw raw parameter property type is introduced
         DatabaseManager.executeQuery(
                 "UPDATE Parameter SET default_value = '``', placeholder='``' WHERE type = 'sql:ParameterizedQuery'");
@@ -117,36 +143,32 @@ class IndexGenerator {
         DatabaseManager.updateTypeParameter("lang.value", "value:Type", "(any|error)");
     }
 
-    private static void resolvePackage(BuildProject buildProject, String org,
-                                       PackageListGenerator.PackageMetadataInfo packageMetadataInfo) {
+    private static PackageEntry resolvePackage(BuildProject buildProject, String org,
+                                               PackageListGenerator.PackageMetadataInfo packageMetadataInfo,
+                                               String contentHash) {
         Package resolvedPackage;
         try {
             resolvedPackage = Objects.requireNonNull(PackageUtil.getModulePackage(buildProject, org,
                     packageMetadataInfo.name(), packageMetadataInfo.version())).orElseThrow();
         } catch (Throwable e) {
             LOGGER.severe("Error resolving package: " + packageMetadataInfo.name() + e.getMessage());
-            return;
+            return null;
         }
 
+        List<ModuleEntry> modules = new ArrayList<>();
         List<String> exportedModules = resolvedPackage.manifest().exportedModules();
         for (Module module : resolvedPackage.modules()) {
             if (exportedModules.contains(module.descriptor().name().toString())) {
-                processModule(resolvedPackage, module);
+                processModule(resolvedPackage, module).ifPresent(modules::add);
             }
         }
+        return new PackageEntry(org, packageMetadataInfo.name(), contentHash, modules);
     }
 
-    private static void processModule(Package resolvedPackage, Module module) {
+    private static Optional<ModuleEntry> processModule(Package resolvedPackage, Module module) {
         ModuleDescriptor descriptor = module.descriptor();
         String moduleName = descriptor.name().toString();
         LOGGER.info("Processing package: " + moduleName);
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(),
-                module.packageInstance().packageName().value(), moduleName,
-                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + moduleName);
-            return;
-        }
 
         SemanticModel semanticModel;
         try {
@@ -154,11 +176,10 @@ class IndexGenerator {
                     .getSemanticModel(module.moduleId());
         } catch (Exception e) {
             LOGGER.severe("Error reading semantic model: " + e.getMessage());
-            return;
+            return Optional.empty();
         }
 
-        TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
-
+        List<FunctionEntry> functions = new ArrayList<>();
         for (Symbol symbol : semanticModel.moduleSymbols()) {
             if (symbol.kind() == SymbolKind.FUNCTION) {
                 FunctionSymbol functionSymbol = (FunctionSymbol) symbol;
@@ -166,8 +187,8 @@ class IndexGenerator {
                     continue;
                 }
 
-                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, packageId, FunctionType.FUNCTION,
-                        moduleName, errorTypeSymbol, module);
+                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, FunctionType.FUNCTION, module)
+                        .ifPresent(functionData -> functions.add(new FunctionEntry(functionData, List.of())));
                 continue;
             }
             if (symbol.kind() == SymbolKind.CLASS) {
@@ -183,14 +204,14 @@ class IndexGenerator {
                 if (!classSymbol.nameEquals("Client")) {
                     continue;
                 }
-                int connectorId = processFunctionSymbol(semanticModel, initMethodSymbol.get(), classSymbol, packageId,
-                        FunctionType.CONNECTOR,
-                        moduleName, errorTypeSymbol, module);
-                if (connectorId == -1) {
+                Optional<FunctionData> connector = processFunctionSymbol(semanticModel, initMethodSymbol.get(),
+                        classSymbol, FunctionType.CONNECTOR, module);
+                if (connector.isEmpty()) {
                     continue;
                 }
 
                 // Process the actions of the client
+                List<FunctionEntry> actions = new ArrayList<>();
                 Map<String, MethodSymbol> methods = classSymbol.methods();
                 for (Map.Entry<String, MethodSymbol> entry : methods.entrySet()) {
                     MethodSymbol methodSymbol = entry.getValue();
@@ -206,29 +227,29 @@ class IndexGenerator {
                     } else {
                         continue;
                     }
-                    int functionId = processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, packageId,
-                            functionType, moduleName, errorTypeSymbol, module);
-                    if (functionId == -1) {
-                        continue;
-                    }
-                    DatabaseManager.mapConnectorAction(functionId, connectorId);
+                    processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, functionType, module)
+                            .ifPresent(functionData -> actions.add(new FunctionEntry(functionData, List.of())));
                 }
+                functions.add(new FunctionEntry(connector.get(), actions));
             }
         }
+        return Optional.of(new ModuleEntry(descriptor.org().value(), module.packageInstance().packageName().value(),
+                moduleName, descriptor.version().value().toString(), resolvedPackage.manifest().keywords(),
+                functions));
     }
 
     private static boolean hasAllQualifiers(List<Qualifier> actualQualifiers, List<Qualifier> expectedQualifiers) {
         return !new HashSet<>(actualQualifiers).containsAll(expectedQualifiers);
     }
 
-    private static int processFunctionSymbol(SemanticModel semanticModel, FunctionSymbol functionSymbol,
-                                             Documentable documentable, int packageId,
-                                             FunctionType functionType, String packageName,
-                                             TypeSymbol errorTypeSymbol, Module module) {
+    private static Optional<FunctionData> processFunctionSymbol(SemanticModel semanticModel,
+                                                                FunctionSymbol functionSymbol,
+                                                                Documentable documentable, FunctionType functionType,
+                                                                Module module) {
         // Capture the name of the function
         Optional<String> name = functionSymbol.getName();
         if (name.isEmpty()) {
-            return packageId;
+            return Optional.empty();
         }
 
         // Create ModuleInfo for the function
@@ -257,31 +278,8 @@ class IndexGenerator {
             functionDataBuilder.name(name.get());
         }
 
-        // Build the function data
-        FunctionData functionData = functionDataBuilder.build();
-
-        // Insert function into database
-        String resourcePath = functionData.resourcePath() != null ? functionData.resourcePath() : "";
-        int functionId = DatabaseManager.insertFunction(packageId, functionData.name(),
-                functionData.description(), functionData.returnType(),
-                functionData.kind().name(), resourcePath,
-                functionData.returnError() ? 1 : 0, functionData.inferredReturnType(),
-                functionData.importStatements());
-
-        // Insert parameters into database
-        for (Map.Entry<String, ParameterData> entry : functionData.parameters().entrySet()) {
-            ParameterData parameterData = entry.getValue();
-            int paramId = DatabaseManager.insertFunctionParameter(functionId, parameterData.name(),
-                    parameterData.description(), parameterData.type(), parameterData.placeholder(),
-                    parameterData.defaultValue(),
-                    FunctionParameterKind.fromString(parameterData.kind().name()),
-                    parameterData.optional() ? 1 : 0, parameterData.importStatements(), parameterData.label());
-
-            // Insert parameter member types
-            insertParameterMemberTypesFromParameterData(paramId, parameterData);
-        }
-
-        return functionId;
+        // Build the function data, which is written to the database along with its parameters
+        return Optional.of(functionDataBuilder.build());
     }
 
     private static FunctionData.Kind mapFunctionTypeToKind(FunctionType functionType) {
@@ -293,13 +291,6 @@ class IndexGenerator {
         };
     }
 
-    private static void insertParameterMemberTypesFromParameterData(int parameterId, ParameterData parameterData) {
-        for (ParameterMemberTypeData memberType : parameterData.typeMembers()) {
-            DatabaseManager.insertParameterMemberType(parameterId, memberType.type(), memberType.kind(),
-                    memberType.packageInfo(), memberType.packageName());
-        }
-    }
-
     enum FunctionType {
         FUNCTION,
         REMOTE,
@@ -326,4 +317,41 @@ class IndexGenerator {
             return FunctionParameterKind.valueOf(value);
         }
     }
+
+    /**
+     * A package to be written to the central index.
+     *
+     * @param org         organization of the package
+     * @param name        name of the package
+     * @param contentHash content hash of the package
+     * @param modules     exported modules of the package
+     * @since 1.3.0
+     */
+    record PackageEntry(String org, String name, String contentHash, List<ModuleEntry> modules) {
+    }
+
+    /**
+     * Entries of a module to be written to the central index.
+     *
+     * @param org         organization of the package
+     * @param packageName name of the package
+     * @param moduleName  name of the module
+     * @param version     version of the package
+     * @param keywords    keywords of the package
+     * @param functions   functions and connectors of the module
+     * @since 1.3.0
+     */
+    record ModuleEntry(String org, String packageName, String moduleName, String version, List<String> keywords,
+                       List<FunctionEntry> functions) {
+    }
+
+    /**
+     * A function to be written to the central index.
+     *
+     * @param data    data of the function
+     * @param actions actions of the function if it is a connector
+     * @since 1.3.0
+     */
+    record FunctionEntry(FunctionData data, List<FunctionEntry> actions) {
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Producer-consumer pipeline used to generate the indexes.
+ * <p>
+ * The packages are resolved and compiled by a bounded pool of producers, which hand the extracted entries over to a
+ * single writer through a bounded queue. The writer runs on the calling thread, so that the database is written
+ * through one connection while the next packages are being compiled, and the producers are held back when the writer
+ * falls behind. A package that takes longer than the timeout is skipped and its producer is interrupted, and a package
+ * that fails to be written is skipped without stopping the others.
+ *
+ * @param <T> type of the entries extracted from a package
+ * @since 1.3.0
+ */
+final class IndexPipeline<T> {
+
+    public static final String PARALLELISM_PROPERTY = "index.parallelism";
+    private static final long TIMEOUT_MINUTES = 3;
+    private static final Logger LOGGER = Logger.getLogger(IndexPipeline.class.getName());
+
+    private final int parallelism;
+    private final BlockingQueue<Outcome<T>> queue;
+
+    IndexPipeline() {
+        this.parallelism = Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY,
+                Runtime.getRuntime().availableProcessors()));
+        this.queue = new ArrayBlockingQueue<>(parallelism * 2);
+    }
+
+    /**
+     * Runs the tasks on the producers and passes their results to the writer in the order they complete. Returns once
+     * every task has either been written, failed or timed out.
+     *
+     * @param tasks  tasks extracting the entries of a package, which return null if the package is to be skipped
+     * @param writer writes the entries of a package
+     */
+    void run(List<Task<T>> tasks, Consumer<T> writer) {
+        ExecutorService producers = Executors.newFixedThreadPool(parallelism);
+        ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor();
+        // The timeouts are queued on their own thread, so that a full queue does not hold back the watchdog
+        ExecutorService timeouts = Executors.newSingleThreadExecutor();
+        try {
+            for (Task<T> task : tasks) {
+                producers.execute(() -> produce(task, watchdog, timeouts));
+            }
+            for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                write(queue.take(), writer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Index generation interrupted");
+        } finally {
+            producers.shutdownNow();
+            watchdog.shutdownNow();
+            timeouts.shutdownNow();
+        }
+    }
+
+    private void write(Outcome<T> outcome, Consumer<T> writer) {
+        if (outcome.entries() == null) {
+            return;
+        }
+        try {
+            writer.accept(outcome.entries());
+        } catch (RuntimeException e) {
+            LOGGER.severe("Error writing package: " + outcome.name() + " " + e.getMessage());
+        }
+    }
+
+    private void produce(Task<T> task, ScheduledExecutorService watchdog, ExecutorService timeouts) {
+        Thread thread = Thread.currentThread();
+        TaskState state = new TaskState();
+        ScheduledFuture<?> timeout = watchdog.schedule(() -> {
+            synchronized (state) {
+                if (!state.settle()) {
+                    return;
+                }
+                thread.interrupt();
+            }
+            LOGGER.severe("Processing timeout for package: " + task.name());
+            timeouts.execute(() -> offer(new Outcome<>(task.name(), null)));
+        }, TIMEOUT_MINUTES, TimeUnit.MINUTES);
+
+        T result = null;
+        try {
+            result = task.producer().call();
+        } catch (Throwable e) {
+            LOGGER.severe("Error processing package: " + task.name() + " " + e.getMessage());
+        } finally {
+            timeout.cancel(false);
+        }
+
+        synchronized (state) {
+            if (!state.settle()) {
+                // The watchdog has already given up on the task. Clear its interrupt before taking the next one.
+                Thread.interrupted();
+                return;
+            }
+        }
+        offer(new Outcome<>(task.name(), result));
+    }
+
+    private void offer(Outcome<T> result) {
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A unit of work of the pipeline, which extracts the entries of a package.
+     *
+     * @param name     name of the package, used for logging
+     * @param producer extracts the entries of the package
+     * @param <T>      type of the entries
+     */
+    record Task<T>(String name, Callable<T> producer) {
+    }
+
+    /**
+     * The outcome of a task handed over to the writer.
+     *
+     * @param name    name of the package
+     * @param entries entries of the package, or null if the package is skipped
+     * @param <T>     type of the entries
+     */
+    private record Outcome<T>(String name, T entries) {
+    }
+
+    /**
+     * Ensures that exactly one of the producer and the watchdog reports the outcome of a task.
+     */
+    private static final class TaskState {
+
+        private boolean settled;
+
+        boolean settle() {
+            if (settled) {
+                return false;
+            }
+            settled = true;
+            return true;
+        }
+    }
+}
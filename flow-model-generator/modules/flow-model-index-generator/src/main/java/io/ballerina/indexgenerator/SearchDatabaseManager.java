@@ -18,6 +18,8 @@
 
 package io.ballerina.indexgenerator;
 
+import io.ballerina.modelgenerator.commons.IndexUpdate;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,22 +29,62 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
  * Manages SQLite database operations for storing and indexing Ballerina package information.
  * This class provides functionality to create and populate a search index database with
  * package-related data including functions, connectors, and types.
+ * <p>
+ * The database is written through a single connection, with one transaction per package and batched inserts. The
+ * triggers that keep the FTS tables in sync on insert are dropped while the packages are written, and the FTS tables
+ * are populated in bulk by {@link #rebuildSearchIndex()}, which restores the triggers. The rows of the previous
+ * version of a package are replaced through the {@link IndexUpdate} of the run.
  * 
  * @since 1.0.0
  */
-class SearchDatabaseManager {
+class SearchDatabaseManager implements AutoCloseable {
 
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
     private static final String INDEX_FILE_NAME = "search-index.sqlite";
     private static final String CENTRAL_INDEX_SQL = "search-index.sql";
     private static final String dbPath = getDatabasePath();
+    private static final String INSERT_TRIGGERS_QUERY =
+            "SELECT name, sql FROM sqlite_master WHERE type = 'trigger' AND name LIKE '%\\_ai' ESCAPE '\\'";
+    private static final String[] FTS_TABLES = {"Connector", "Function", "Type"};
+
+    private final IndexUpdate update;
+    private final Connection connection;
+    private final PreparedStatement packageStmt;
+    private final PreparedStatement functionStmt;
+    private final PreparedStatement connectorStmt;
+    private final PreparedStatement typeStmt;
+    private final Map<String, String> deferredTriggers = new LinkedHashMap<>();
+
+    SearchDatabaseManager(IndexUpdate update) throws SQLException {
+        this.update = update;
+        connection = DriverManager.getConnection(dbPath);
+        try {
+            deferSearchIndex();
+            connection.setAutoCommit(false);
+            packageStmt = connection.prepareStatement("INSERT INTO Package (org, name, package_name, version, " +
+                            "pull_count, keywords, content_hash) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            functionStmt = connection.prepareStatement(
+                    "INSERT INTO Function (name, description, package_id) VALUES (?, ?, ?)");
+            connectorStmt = connection.prepareStatement(
+                    "INSERT INTO Connector (name, description, category, package_id) VALUES (?, ?, ?, ?)");
+            typeStmt = connection.prepareStatement(
+                    "INSERT INTO Type (name, description, kind, package_id) VALUES (?, ?, ?, ?)");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
 
     private static String getDatabasePath() {
         String destinationPath = Path
@@ -62,26 +104,6 @@ class SearchDatabaseManager {
         }
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
-        }
-    }
-
     public static void createDatabase() {
         Path destinationPath = Path.of("flow-model-generator/modules/flow-model-index-generator/src/main/resources")
                 .resolve(CENTRAL_INDEX_SQL);
@@ -93,41 +115,180 @@ class SearchDatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String name, String packageName, String version,
-                                    int pullCount, List<String> keywords) {
-        String sql = "INSERT INTO Package (org, name, package_name, version, pull_count, keywords) " +
-                "VALUES (?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql,
-                new Object[]{org, name, packageName, version, pullCount, keywords == null ? "" :
-                        String.join(",", keywords)});
+    static IndexUpdate indexUpdate() throws SQLException {
+        return new IndexUpdate(dbPath, "package_name");
     }
 
-    public static void insertFunction(String name, String description, int packageId) {
-        String sql = "INSERT INTO Function (name, description, package_id) VALUES (?, ?, ?)";
-        insertEntry(sql, new Object[]{name, description, packageId});
+    /**
+     * Writes the modules of a package in a single transaction, replacing the previous version of the package. A
+     * module that cannot be written is skipped along with the rest of the package.
+     *
+     * @param packageEntry the package and its modules
+     */
+    public void insertPackage(PackageEntry packageEntry) {
+        List<Integer> packageIds = new ArrayList<>();
+        try {
+            List<Integer> replacedIds = update.replace(connection, packageEntry.org(), packageEntry.name());
+            for (ModuleEntry module : packageEntry.modules()) {
+                int packageId = insertModule(module, packageEntry.contentHash());
+                packageIds.add(packageId);
+                addSymbols(functionStmt, module.functions(), packageId, false);
+                addSymbols(connectorStmt, module.connectors(), packageId, true);
+                addSymbols(typeStmt, module.types(), packageId, true);
+            }
+            functionStmt.executeBatch();
+            connectorStmt.executeBatch();
+            typeStmt.executeBatch();
+            connection.commit();
+            update.removed(packageEntry.org(), packageEntry.name(), replacedIds);
+            packageIds.forEach(update::added);
+        } catch (SQLException e) {
+            LOGGER.severe("Error inserting package to database: " + e.getMessage());
+            rollback();
+        }
     }
 
-    public static void insertConnector(String name, String description, String category, int packageId) {
-        String sql = "INSERT INTO Connector (name, description, category, package_id) VALUES (?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{name, description, category, packageId});
+    private int insertModule(ModuleEntry module, String contentHash) throws SQLException {
+        packageStmt.setString(1, module.org());
+        packageStmt.setString(2, module.name());
+        packageStmt.setString(3, module.packageName());
+        packageStmt.setString(4, module.version());
+        packageStmt.setInt(5, module.pullCount());
+        packageStmt.setString(6, module.keywords() == null ? "" : String.join(",", module.keywords()));
+        packageStmt.setString(7, contentHash);
+        packageStmt.executeUpdate();
+        try (ResultSet generatedKeys = packageStmt.getGeneratedKeys()) {
+            if (generatedKeys.next()) {
+                return generatedKeys.getInt(1);
+            }
+            throw new SQLException("Creating package failed, no ID obtained.");
+        }
     }
 
-    public static void insertType(String name, String description, String kind, int packageId) {
-        String sql = "INSERT INTO Type (name, description, kind, package_id) VALUES (?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{name, description, kind, packageId});
+    private static void addSymbols(PreparedStatement stmt, List<SymbolEntry> symbols, int packageId,
+                                   boolean hasKind) throws SQLException {
+        for (SymbolEntry symbol : symbols) {
+            int index = 1;
+            stmt.setString(index++, symbol.name());
+            stmt.setString(index++, symbol.description());
+            if (hasKind) {
+                stmt.setString(index++, symbol.kind());
+            }
+            stmt.setInt(index, packageId);
+            stmt.addBatch();
+        }
     }
 
-    public static void deleteConnector(String packageName, List<String> connectors) {
+    private void rollback() {
+        try {
+            functionStmt.clearBatch();
+            connectorStmt.clearBatch();
+            typeStmt.clearBatch();
+            connection.rollback();
+        } catch (SQLException e) {
+            LOGGER.severe("Error rolling back the package: " + e.getMessage());
+        }
+    }
+
+    private void deferSearchIndex() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            try (ResultSet triggers = stmt.executeQuery(INSERT_TRIGGERS_QUERY)) {
+                while (triggers.next()) {
+                    deferredTriggers.put(triggers.getString(1), triggers.getString(2));
+                }
+            }
+            for (String trigger : deferredTriggers.keySet()) {
+                stmt.executeUpdate("DROP TRIGGER " + trigger);
+            }
+        }
+    }
+
+    /**
+     * Populates the FTS tables from the written rows and restores the triggers that keep them in sync.
+     */
+    public void rebuildSearchIndex() {
+        try (Statement stmt = connection.createStatement()) {
+            for (String table : FTS_TABLES) {
+                stmt.executeUpdate("INSERT INTO " + table + "FTS(" + table + "FTS) VALUES('delete-all')");
+                stmt.executeUpdate("INSERT INTO " + table + "FTS(rowid, name, description, package_name) " +
+                        "SELECT t.id, t.name, t.description, p.name FROM " + table + " t " +
+                        "JOIN Package p ON p.id = t.package_id");
+            }
+            for (String trigger : deferredTriggers.values()) {
+                stmt.executeUpdate(trigger);
+            }
+            connection.commit();
+            deferredTriggers.clear();
+            LOGGER.info("Search index rebuilt successfully");
+        } catch (SQLException e) {
+            LOGGER.severe("Error rebuilding the search index: " + e.getMessage());
+            rollback();
+        }
+    }
+
+    public void deleteConnector(String packageName, List<String> connectors) {
         String sql = "DELETE FROM Connector WHERE package_id = (SELECT id FROM Package WHERE name = ?) AND name = ?";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             for (String connector : connectors) {
                 stmt.setString(1, packageName);
                 stmt.setString(2, connector);
-                stmt.executeUpdate();
+                stmt.addBatch();
             }
+            stmt.executeBatch();
+            connection.commit();
         } catch (SQLException e) {
             LOGGER.severe("Error deleting connector: " + e.getMessage());
+            rollback();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!deferredTriggers.isEmpty()) {
+            rebuildSearchIndex();
         }
+        connection.close();
+    }
+
+    /**
+     * A package to be written to the search index.
+     *
+     * @param org         organization of the package
+     * @param name        name of the package
+     * @param contentHash content hash of the package
+     * @param modules     exported modules of the package
+     * @since 1.3.0
+     */
+    record PackageEntry(String org, String name, String contentHash, List<ModuleEntry> modules) {
+    }
+
+    /**
+     * Entries of a module to be written to the search index.
+     *
+     * @param org         organization of the package
+     * @param name        name of the module
+     * @param packageName name of the package
+     * @param version     version of the package
+     * @param pullCount   pull count of the package
+     * @param keywords    keywords of the package
+     * @param functions   public functions of the module
+     * @param connectors  connectors of the module
+     * @param types       public types of the module
+     * @since 1.3.0
+     */
+    record ModuleEntry(String org, String name, String packageName, String version, int pullCount,
+                       List<String> keywords, List<SymbolEntry> functions, List<SymbolEntry> connectors,
+                       List<SymbolEntry> types) {
+    }
+
+    /**
+     * A symbol to be written to the search index.
+     *
+     * @param name        name of the symbol
+     * @param description description of the symbol
+     * @param kind        category of a connector or kind of a type
+     * @since 1.3.0
+     */
+    record SymbolEntry(String name, String description, String kind) {
     }
 }
@@ -28,7 +28,11 @@ import io.ballerina.compiler.api.symbols.Qualifiable;
 import io.ballerina.compiler.api.symbols.Qualifier;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.indexgenerator.SearchDatabaseManager.ModuleEntry;
+import io.ballerina.indexgenerator.SearchDatabaseManager.PackageEntry;
+import io.ballerina.indexgenerator.SearchDatabaseManager.SymbolEntry;
 import io.ballerina.modelgenerator.commons.CommonUtils;
+import io.ballerina.modelgenerator.commons.IndexUpdate;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleDescriptor;
@@ -42,21 +46,19 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 /**
  * A utility class that generates search indexes for Ballerina packages, types, functions, and connectors. This class
  * reads package metadata from a JSON file and processes each package to extract public symbols (functions, classes,
  * type definitions, and enums) along with their documentation. The extracted information is then stored in a search
- * database.
+ * database by a single writer, while the remaining packages are being compiled.
  *
  * @since 1.0.0
  */
@@ -68,90 +70,93 @@ public class SearchIndexGenerator {
     private static final String CONNECTOR_EXCLUDE_JSON = "connector_exclude.json";
 
     public static void main(String[] args) {
-        SearchDatabaseManager.createDatabase();
+        if (!IndexUpdate.isIncremental()) {
+            SearchDatabaseManager.createDatabase();
+        }
         BuildProject buildProject = PackageUtil.getSampleProject();
 
         Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(SearchListGenerator.PACKAGE_JSON_FILE);
-        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
+        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8);
+             IndexUpdate update = SearchDatabaseManager.indexUpdate()) {
             Map<String, List<SearchListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
             int totalPackages = packagesMap.values().stream().mapToInt(List::size).sum();
             SearchIndexLogger logger = new SearchIndexLogger(totalPackages);
-            packagesMap.forEach((key, packages) ->
-                    packages.parallelStream().forEach(packageMetadataInfo -> {
-                        try {
-                            // Create separate thread with timeout for each package
-                            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                                try {
-                                    resolvePackage(buildProject, key, packageMetadataInfo, logger);
-                                } catch (Throwable e) {
-                                    logger.error("Error processing package: " + packageMetadataInfo.name() + " " +
-                                            e.getMessage());
-                                }
-                            });
-
-                            // Apply 5-minute timeout
-                            future.get(3, TimeUnit.MINUTES);
-                        } catch (InterruptedException | ExecutionException e) {
-                            logger.error(
-                                    "Error processing package: " + packageMetadataInfo.name() + " " + e.getMessage());
-                        } catch (TimeoutException e) {
-                            logger.error("Processing timeout for package: " + packageMetadataInfo.name());
-                        }
-                    })
-            );
+
+            try (SearchDatabaseManager database = new SearchDatabaseManager(update)) {
+                // Resolve and compile the new and changed packages in parallel, while a single writer stores them.
+                // The pull count is left out of the content hash, as it changes without the package changing.
+                List<IndexPipeline.Task<PackageEntry>> tasks = new ArrayList<>();
+                packagesMap.forEach((key, packages) -> packages.forEach(packageMetadataInfo -> {
+                    String contentHash = IndexUpdate.contentHash(key, packageMetadataInfo.name(),
+                            packageMetadataInfo.version(), gson.toJson(packageMetadataInfo.keywords()));
+                    if (update.isIndexed(key, packageMetadataInfo.name(), contentHash)) {
+                        logger.completion(packageMetadataInfo.name());
+                        return;
+                    }
+                    tasks.add(new IndexPipeline.Task<>(packageMetadataInfo.name(),
+                            () -> resolvePackage(buildProject, key, packageMetadataInfo, contentHash, logger)));
+                }));
+                new IndexPipeline<PackageEntry>().run(tasks, database::insertPackage);
+                database.rebuildSearchIndex();
+
+                // Delete irrelevant connectors from the index
+                deleteExcludedConnectors(gson, database);
+            }
+            update.finish();
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
+        } catch (SQLException e) {
+            LOGGER.severe("Error writing to the search index: " + e.getMessage());
         }
+    }
 
-        // Delete irrelevant connectors from the index
+    private static void deleteExcludedConnectors(Gson gson, SearchDatabaseManager database) {
         try {
-            resource = SearchIndexGenerator.class.getClassLoader().getResource(CONNECTOR_EXCLUDE_JSON);
+            URL resource = SearchIndexGenerator.class.getClassLoader().getResource(CONNECTOR_EXCLUDE_JSON);
             if (resource != null) {
                 String jsonContent = Files.readString(Path.of(resource.toURI()), StandardCharsets.UTF_8);
                 Map<String, List<String>> excludeMap =
                         gson.fromJson(jsonContent, new TypeToken<Map<String, List<String>>>() { }.getType());
-                excludeMap.forEach(SearchDatabaseManager::deleteConnector);
+                excludeMap.forEach(database::deleteConnector);
             }
         } catch (URISyntaxException | IOException e) {
             LOGGER.severe("Error reading connector_exclude.json file: " + e.getMessage());
         }
     }
 
-    private static void resolvePackage(BuildProject buildProject, String org,
-                                       SearchListGenerator.PackageMetadataInfo packageMetadataInfo,
-                                       SearchIndexLogger logger) throws Exception {
+    private static PackageEntry resolvePackage(BuildProject buildProject, String org,
+                                               SearchListGenerator.PackageMetadataInfo packageMetadataInfo,
+                                               String contentHash, SearchIndexLogger logger) {
         Package resolvedPackage;
         try {
             resolvedPackage = Objects.requireNonNull(PackageUtil.getModulePackage(buildProject, org,
                     packageMetadataInfo.name(), packageMetadataInfo.version())).orElseThrow();
         } catch (Throwable e) {
             logger.error("Error resolving package: " + packageMetadataInfo.name() + " " + e.getMessage());
-            return;
+            return null;
         }
 
+        List<ModuleEntry> modules = new ArrayList<>();
         List<String> exportedModules = resolvedPackage.manifest().exportedModules();
         for (Module module: resolvedPackage.modules()) {
             if (exportedModules.contains(module.descriptor().name().toString())) {
-                processModule(packageMetadataInfo, resolvedPackage, module);
+                modules.add(processModule(packageMetadataInfo, resolvedPackage, module));
             }
         }
         logger.completion(packageMetadataInfo.name());
+        return new PackageEntry(org, packageMetadataInfo.name(), contentHash, modules);
     }
 
-    private static void processModule(SearchListGenerator.PackageMetadataInfo packageMetadataInfo,
-                                      Package resolvedPackage, Module module) throws Exception {
+    private static ModuleEntry processModule(SearchListGenerator.PackageMetadataInfo packageMetadataInfo,
+                                             Package resolvedPackage, Module module) {
         ModuleDescriptor descriptor = module.descriptor();
 
         String moduleName = module.moduleName().toString();
-        int packageId = SearchDatabaseManager.insertPackage(descriptor.org().value(), moduleName,
-                module.packageInstance().packageName().value(), descriptor.version().value().toString(),
-                packageMetadataInfo.pullCount(), resolvedPackage.manifest().keywords());
-
-        if (packageId == -1) {
-            throw new Exception("Error inserting package to database: " + module);
-        }
+        List<SymbolEntry> functions = new ArrayList<>();
+        List<SymbolEntry> connectors = new ArrayList<>();
+        List<SymbolEntry> types = new ArrayList<>();
 
         SemanticModel semanticModel = PackageUtil.getCompilation(resolvedPackage)
                 .getSemanticModel(module.moduleId());
@@ -163,7 +168,7 @@ public class SearchIndexGenerator {
                     if (info.isEmpty()) {
                         continue;
                     }
-                    SearchDatabaseManager.insertFunction(info.get().name(), info.get().description(), packageId);
+                    functions.add(new SymbolEntry(info.get().name(), info.get().description(), null));
                 }
                 case CLASS -> {
                     ClassSymbol classSymbol = (ClassSymbol) symbol;
@@ -173,11 +178,9 @@ public class SearchIndexGenerator {
                     }
 
                     if (classSymbol.qualifiers().contains(Qualifier.CLIENT)) {
-                        SearchDatabaseManager.insertConnector(info.get().name(), info.get().description(), "Connector",
-                                packageId);
+                        connectors.add(new SymbolEntry(info.get().name(), info.get().description(), "Connector"));
                     } else {
-                        SearchDatabaseManager.insertType(info.get().name(), info.get().description(), "class",
-                                packageId);
+                        types.add(new SymbolEntry(info.get().name(), info.get().description(), "class"));
                     }
                 }
                 case TYPE_DEFINITION -> {
@@ -187,20 +190,23 @@ public class SearchIndexGenerator {
                         continue;
                     }
                     String kind = CommonUtils.getRawType(typeDefinitionSymbol.typeDescriptor()).typeKind().getName();
-                    SearchDatabaseManager.insertType(info.get().name(), info.get().description(), kind, packageId);
+                    types.add(new SymbolEntry(info.get().name(), info.get().description(), kind));
                 }
                 case ENUM -> {
                     Optional<Info> info = getName(symbol);
                     if (info.isEmpty()) {
                         continue;
                     }
-                    SearchDatabaseManager.insertType(info.get().name(), info.get().description(), "enum", packageId);
+                    types.add(new SymbolEntry(info.get().name(), info.get().description(), "enum"));
                 }
                 default -> {
                     // Do nothing
                 }
             }
         }
+        return new ModuleEntry(descriptor.org().value(), moduleName, module.packageInstance().packageName().value(),
+                descriptor.version().value().toString(), packageMetadataInfo.pullCount(),
+                resolvedPackage.manifest().keywords(), functions, connectors, types);
     }
 
     private static Optional<Info> getName(Symbol symbol) {
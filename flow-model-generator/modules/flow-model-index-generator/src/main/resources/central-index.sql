@@ -13,7 +13,8 @@ CREATE TABLE Package (
     module_name TEXT NOT NULL,
     org TEXT NOT NULL,
     version TEXT,
-    keywords TEXT
+    keywords TEXT,
+    content_hash TEXT -- Hash of the package list entry, used by the incremental updates
 );
 
 -- Create Function table
@@ -16,7 +16,8 @@ CREATE TABLE Package (
     package_name TEXT NOT NULL,
     version TEXT,
     pull_count INTEGER,
-    keywords TEXT
+    keywords TEXT,
+    content_hash TEXT -- Hash of the package list entry, used by the incremental updates
 );
 
 CREATE TABLE Connector (
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks;
+
+import io.ballerina.tools.text.LinePosition;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a Ballerina package used as the workload of the benchmarks.
+ * <p>
+ * The package consists of a hand written {@code main.bal} that the benchmarks operate on and a set of generated files
+ * that replicate a unit of records, a data mapping function and a few control-flow heavy functions. The number of
+ * units controls the size of the package.
+ *
+ * @since 1.3.0
+ */
+public final class FixtureProject {
+
+    private static final String RESOURCE_ROOT = "/fixture/";
+    private static final String MAIN_FILE = "main.bal";
+    private static final String UNIT_TEMPLATE = "unit.bal.template";
+    private static final String ID_PLACEHOLDER = "{{id}}";
+    private static final int UNITS_PER_FILE = 50;
+
+    private final Path root;
+    private final List<Path> generatedFiles;
+    private final String mainSource;
+
+    private FixtureProject(Path root, List<Path> generatedFiles, String mainSource) {
+        this.root = root;
+        this.generatedFiles = generatedFiles;
+        this.mainSource = mainSource;
+    }
+
+    /**
+     * Writes a fixture project of the given size into a new temporary directory.
+     *
+     * @param size size of the project
+     * @return the created fixture project
+     * @throws IOException if the project cannot be written
+     */
+    public static FixtureProject create(Size size) throws IOException {
+        Path root = Files.createTempDirectory("ls-benchmark-" + size.name().toLowerCase() + "-");
+        Files.writeString(root.resolve("Ballerina.toml"), readResource("Ballerina.toml"));
+        String mainSource = readResource(MAIN_FILE);
+        Files.writeString(root.resolve(MAIN_FILE), mainSource);
+
+        String template = readResource(UNIT_TEMPLATE);
+        List<Path> generatedFiles = new ArrayList<>();
+        for (int fileIndex = 0; fileIndex * UNITS_PER_FILE < size.units(); fileIndex++) {
+            StringBuilder content = new StringBuilder();
+            int lastUnit = Math.min(size.units(), (fileIndex + 1) * UNITS_PER_FILE);
+            for (int unit = fileIndex * UNITS_PER_FILE; unit < lastUnit; unit++) {
+                content.append(template.replace(ID_PLACEHOLDER, Integer.toString(unit)));
+            }
+            Path file = root.resolve("units_" + fileIndex + ".bal");
+            Files.writeString(file, content);
+            generatedFiles.add(file);
+        }
+        return new FixtureProject(root, generatedFiles, mainSource);
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public Path mainFile() {
+        return root.resolve(MAIN_FILE);
+    }
+
+    /**
+     * Returns the largest generated source file, which contains the first units of the package.
+     *
+     * @return path of the generated file
+     */
+    public Path firstGeneratedFile() {
+        return generatedFiles.get(0);
+    }
+
+    /**
+     * Returns the zero-based position of the given marker in {@code main.bal}.
+     *
+     * @param marker text to search for
+     * @param offset character offset to add to the start of the marker
+     * @return position of the marker
+     */
+    public LinePosition positionOf(String marker, int offset) {
+        int index = mainSource.indexOf(marker);
+        if (index < 0) {
+            throw new IllegalArgumentException("Marker '" + marker + "' not found in " + MAIN_FILE);
+        }
+        index += offset;
+        int line = 0;
+        int lineStart = 0;
+        for (int i = 0; i < index; i++) {
+            if (mainSource.charAt(i) == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        return LinePosition.from(line, index - lineStart);
+    }
+
+    /**
+     * Deletes the fixture project from the file system.
+     */
+    public void delete() {
+        FileUtils.deleteQuietly(root.toFile());
+    }
+
+    private static String readResource(String name) {
+        try (InputStream inputStream = FixtureProject.class.getResourceAsStream(RESOURCE_ROOT + name)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Fixture resource not found: " + name);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Represents the size of a fixture project. Each unit of the template is roughly 50 lines.
+     */
+    public enum Size {
+        SMALL(4),
+        MEDIUM(100),
+        LARGE(1000);
+
+        private final int units;
+
+        Size(int units) {
+            this.units = units;
+        }
+
+        public int units() {
+            return units;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.extension.request.DataMapperModelRequest;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
+import io.ballerina.flowmodelgenerator.extension.request.SearchRequest;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the flow model generator extension: flow model generation, data mapper model generation and search.
+ *
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FlowModelBenchmark {
+
+    private static final Gson GSON = new Gson();
+    private static final String PERSON_VARIABLE =
+            "Person0 person = {fullName: \"\", location: \"\", adult: false};";
+
+    @Benchmark
+    public void flowModelOfMainFunction(LanguageServerState state, Blackhole blackhole) {
+        FlowModelGeneratorRequest request = new FlowModelGeneratorRequest(state.mainFile,
+                state.linePosition("public function main()", 0), state.linePosition("\n}", 2));
+        blackhole.consume(TestUtil.getResponseString(
+                state.endpoint.request("flowDesignService/getFlowModel", request)));
+    }
+
+    @Benchmark
+    public void dataMapperModelOfVariable(LanguageServerState state, Blackhole blackhole) {
+        LinePosition start = state.linePosition(PERSON_VARIABLE, 0);
+        LinePosition end = state.linePosition(PERSON_VARIABLE, PERSON_VARIABLE.length());
+        JsonObject codedata = new JsonObject();
+        codedata.addProperty("node", "VARIABLE");
+        codedata.add("lineRange", GSON.toJsonTree(LineRange.from("main.bal", start, end)));
+        codedata.addProperty("sourceCode", PERSON_VARIABLE);
+
+        DataMapperModelRequest request = new DataMapperModelRequest(state.mainFile, codedata,
+                state.linePosition(PERSON_VARIABLE, "Person0 person = ".length()), "expression", "person");
+        blackhole.consume(TestUtil.getResponseString(state.endpoint.request("dataMapper/mappings", request)));
+    }
+
+    @Benchmark
+    public void searchFunctions(LanguageServerState state, Blackhole blackhole) {
+        LinePosition position = state.linePosition("    io:println(total)", 4);
+        SearchRequest request = new SearchRequest("FUNCTION", state.mainFile,
+                LineRange.from("main.bal", position, position), Map.of("q", "transform"));
+        blackhole.consume(TestUtil.getResponseString(state.endpoint.request("flowDesignService/search", request)));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks;
+
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the standard LSP features: completion, hover, semantic tokens and code actions.
+ *
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LanguageFeatureBenchmark {
+
+    @Benchmark
+    public void completionAfterModulePrefix(LanguageServerState state, Blackhole blackhole) {
+        Position position = state.position("io:println(total)", 3);
+        blackhole.consume(TestUtil.getCompletionResponse(state.mainFile, position, state.endpoint, ":"));
+    }
+
+    @Benchmark
+    public void completionInFunctionBody(LanguageServerState state, Blackhole blackhole) {
+        Position position = state.position("    io:println(total)", 4);
+        blackhole.consume(TestUtil.getCompletionResponse(state.mainFile, position, state.endpoint, ""));
+    }
+
+    @Benchmark
+    public void hoverOnFunctionCall(LanguageServerState state, Blackhole blackhole) {
+        Position position = state.position("process0(customers)", 2);
+        blackhole.consume(TestUtil.getHoverResponse(state.mainFile, position, state.endpoint));
+    }
+
+    @Benchmark
+    public void semanticTokensOfGeneratedFile(LanguageServerState state, Blackhole blackhole) {
+        blackhole.consume(TestUtil.getSemanticTokensResponse(state.endpoint, state.generatedFile));
+    }
+
+    @Benchmark
+    public void codeActionsOnVariable(LanguageServerState state, Blackhole blackhole) {
+        Position start = state.position("Person0 person", 0);
+        Position end = state.position("Person0 person", 14);
+        CodeActionContext context = new CodeActionContext(List.of());
+        blackhole.consume(TestUtil.getCodeActionResponse(state.endpoint, state.mainFile, new Range(start, end),
+                context));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks;
+
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+
+/**
+ * Holds an initialized language server with a fixture project opened in it. The project is compiled once during the
+ * setup so that the benchmarks measure the request handling rather than the initial compilation.
+ *
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+public class LanguageServerState {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public FixtureProject.Size size;
+
+    FixtureProject project;
+    Endpoint endpoint;
+    String mainFile;
+    String generatedFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        project = FixtureProject.create(size);
+        endpoint = TestUtil.newLanguageServer().withLanguageServer(new BallerinaLanguageServer()).build();
+        mainFile = project.mainFile().toString();
+        generatedFile = project.firstGeneratedFile().toString();
+        TestUtil.openDocument(endpoint, project.mainFile());
+        TestUtil.openDocument(endpoint, project.firstGeneratedFile());
+
+        // Trigger the initial compilation of the package
+        TestUtil.getSemanticTokensResponse(endpoint, mainFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestUtil.closeDocument(endpoint, project.firstGeneratedFile());
+        TestUtil.closeDocument(endpoint, project.mainFile());
+        TestUtil.shutdownLanguageServer(endpoint);
+        project.delete();
+    }
+
+    LinePosition linePosition(String marker, int offset) {
+        return project.positionOf(marker, offset);
+    }
+
+    Position position(String marker, int offset) {
+        LinePosition linePosition = project.positionOf(marker, offset);
+        return new Position(linePosition.line(), linePosition.offset());
+    }
+}
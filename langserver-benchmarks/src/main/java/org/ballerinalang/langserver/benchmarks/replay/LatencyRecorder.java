@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the latencies of the replayed requests grouped by the JSON-RPC method.
+ *
+ * @since 1.3.0
+ */
+public class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+    public void record(String method, long latencyNanos) {
+        latencies.computeIfAbsent(method, key -> new ConcurrentLinkedQueue<>()).add(latencyNanos);
+    }
+
+    public void recordFailure(String method) {
+        failures.computeIfAbsent(method, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Computes the latency statistics of each method.
+     *
+     * @return statistics keyed by method, sorted by the method name
+     */
+    public Map<String, MethodStats> stats() {
+        Map<String, MethodStats> stats = new TreeMap<>();
+        latencies.forEach((method, values) -> {
+            long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+            stats.put(method, MethodStats.from(sorted, failureCount(method)));
+        });
+        failures.keySet().stream()
+                .filter(method -> !stats.containsKey(method))
+                .forEach(method -> stats.put(method, MethodStats.from(new long[0], failureCount(method))));
+        return stats;
+    }
+
+    private int failureCount(String method) {
+        AtomicInteger count = failures.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Latency statistics of a single method in milliseconds.
+     *
+     * @param count    number of successful requests
+     * @param failures number of failed requests
+     * @param p50      median latency
+     * @param p95      95th percentile latency
+     * @param p99      99th percentile latency
+     * @param max      maximum latency
+     */
+    public record MethodStats(int count, int failures, double p50, double p95, double p99, double max) {
+
+        static MethodStats from(long[] sortedNanos, int failures) {
+            if (sortedNanos.length == 0) {
+                return new MethodStats(0, failures, 0, 0, 0, 0);
+            }
+            return new MethodStats(sortedNanos.length, failures, percentile(sortedNanos, 50),
+                    percentile(sortedNanos, 95), percentile(sortedNanos, 99),
+                    toMillis(sortedNanos[sortedNanos.length - 1]));
+        }
+
+        /**
+         * Returns the given percentile using the nearest-rank method.
+         */
+        static double percentile(long[] sortedNanos, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+            return toMillis(sortedNanos[Math.max(0, Math.min(rank, sortedNanos.length) - 1)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import com.google.gson.Gson;
+import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.benchmarks.FixtureProject;
+import org.ballerinalang.langserver.commons.capability.InitializationOptions;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializedParams;
+import org.eclipse.lsp4j.SemanticTokensCapabilities;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+/**
+ * Replays a recorded JSON-RPC session against an in-process {@link BallerinaLanguageServer} and reports the latency
+ * percentiles of each method, the sampled lock wait time and the heap growth.
+ * <p>
+ * The server and the replay client communicate over a loopback socket using the same JSON-RPC transport as the stdio
+ * launcher, so the measured latencies include message serialization. Remote calls to Ballerina Central are rejected
+ * by a {@link StubCentral}, which allows the harness to run without network access.
+ * <pre>
+ * Usage: ReplayHarness [--session &lt;file&gt;] [--workspace &lt;dir&gt; | --fixture SMALL|MEDIUM|LARGE]
+ *                      [--speed &lt;factor&gt;] [--timeout &lt;seconds&gt;] [--report &lt;file&gt;]
+ * </pre>
+ * A speed of {@code 2} replays the session twice as fast as it was recorded, while {@code 0} sends the messages
+ * back-to-back. When no session is given, the built-in editing session is replayed against a generated fixture
+ * project.
+ *
+ * @since 1.3.0
+ */
+public final class ReplayHarness {
+
+    private static final String DEFAULT_SESSION = "/replay/editing-session.jsonl";
+    private static final PrintStream OUT = System.out;
+
+    private final ReplaySession session;
+    private final double speed;
+    private final long timeoutSeconds;
+
+    public ReplayHarness(ReplaySession session, double speed, long timeoutSeconds) {
+        this.session = session;
+        this.speed = speed;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LogManager.getLogManager().reset();
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.OFF);
+        if (System.getProperty("ls.compilation.online") == null) {
+            System.setProperty("ls.compilation.online", "false");
+        }
+
+        Map<String, String> options = parseOptions(args);
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1"));
+        long timeoutSeconds = Long.parseLong(options.getOrDefault("timeout", "300"));
+
+        FixtureProject fixture = null;
+        Path workspace;
+        if (options.containsKey("workspace")) {
+            workspace = Path.of(options.get("workspace")).toAbsolutePath();
+        } else {
+            fixture = FixtureProject.create(FixtureProject.Size.valueOf(options.getOrDefault("fixture", "MEDIUM")));
+            workspace = fixture.root();
+        }
+
+        try {
+            ReplaySession session;
+            if (options.containsKey("session")) {
+                session = ReplaySession.load(Path.of(options.get("session")), workspace);
+            } else {
+                try (InputStream inputStream = ReplayHarness.class.getResourceAsStream(DEFAULT_SESSION)) {
+                    if (inputStream == null) {
+                        throw new IllegalStateException("Default session not found: " + DEFAULT_SESSION);
+                    }
+                    session = ReplaySession.load("editing-session.jsonl", inputStream, workspace);
+                }
+            }
+
+            ReplayReport report = new ReplayHarness(session, speed, timeoutSeconds).run(workspace);
+            report.print(OUT);
+            if (options.containsKey("report")) {
+                Files.writeString(Path.of(options.get("report")), report.toJson());
+            }
+        } finally {
+            if (fixture != null) {
+                fixture.delete();
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Starts a language server, replays the session against it and shuts the server down.
+     *
+     * @param workspace root of the workspace the session operates on
+     * @return the replay report
+     * @throws IOException          if the server cannot be started
+     * @throws InterruptedException if the replay is interrupted
+     */
+    public ReplayReport run(Path workspace) throws IOException, InterruptedException {
+        try (StubCentral stubCentral = StubCentral.start();
+             ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket clientSocket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+             Socket serverSideSocket = serverSocket.accept();
+             RuntimeProbe probe = new RuntimeProbe()) {
+
+            BallerinaLanguageServer server = new BallerinaLanguageServer();
+            Launcher<ExtendedLanguageClient> serverLauncher = Launcher.createLauncher(server,
+                    ExtendedLanguageClient.class, serverSideSocket.getInputStream(),
+                    serverSideSocket.getOutputStream());
+            server.connect(serverLauncher.getRemoteProxy());
+            serverLauncher.startListening();
+
+            Launcher<LanguageServer> clientLauncher = new Launcher.Builder<LanguageServer>()
+                    .setLocalService(new ReplayLanguageClient())
+                    .setRemoteInterface(LanguageServer.class)
+                    .setInput(clientSocket.getInputStream())
+                    .setOutput(clientSocket.getOutputStream())
+                    .create();
+            clientLauncher.startListening();
+            RemoteEndpoint endpoint = clientLauncher.getRemoteEndpoint();
+            initialize(endpoint, workspace);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            probe.start();
+            long start = System.nanoTime();
+            List<CompletableFuture<?>> pending = replay(endpoint, recorder, start);
+            awaitAll(pending);
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            probe.stop();
+
+            awaitQuietly(endpoint.request("shutdown", null));
+            return new ReplayReport(session.name(), speed, durationMillis, recorder.stats(), probe.lockWaitMillis(),
+                    probe.initialHeapBytes(), probe.finalHeapBytes(), probe.peakHeapBytes(),
+                    stubCentral.attemptedCalls());
+        }
+    }
+
+    private List<CompletableFuture<?>> replay(RemoteEndpoint endpoint, LatencyRecorder recorder, long start)
+            throws InterruptedException {
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (ReplaySession.Entry entry : session.entries()) {
+            if (speed > 0) {
+                long dueNanos = start + (long) (TimeUnit.MILLISECONDS.toNanos(entry.offsetMillis()) / speed);
+                long waitNanos = dueNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            }
+
+            if (!entry.request()) {
+                endpoint.notify(entry.method(), entry.params());
+                continue;
+            }
+            long sentAt = System.nanoTime();
+            pending.add(endpoint.request(entry.method(), entry.params()).whenComplete((result, error) -> {
+                if (error != null) {
+                    recorder.recordFailure(entry.method());
+                } else {
+                    recorder.record(entry.method(), System.nanoTime() - sentAt);
+                }
+            }));
+        }
+        return pending;
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> pending) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // Failures are recorded per request
+        } catch (TimeoutException e) {
+            OUT.println("Timed out waiting for " + pending.stream().filter(future -> !future.isDone()).count() +
+                    " pending requests");
+        }
+    }
+
+    private static void initialize(RemoteEndpoint endpoint, Path workspace) throws InterruptedException {
+        TextDocumentClientCapabilities textDocumentCapabilities = new TextDocumentClientCapabilities();
+        CompletionCapabilities completionCapabilities = new CompletionCapabilities();
+        completionCapabilities.setCompletionItem(new CompletionItemCapabilities(true));
+        completionCapabilities.setContextSupport(true);
+        textDocumentCapabilities.setCompletion(completionCapabilities);
+        textDocumentCapabilities.setSemanticTokens(new SemanticTokensCapabilities(true));
+        ClientCapabilities capabilities = new ClientCapabilities();
+        capabilities.setTextDocument(textDocumentCapabilities);
+
+        Map<String, Object> initializationOptions = new HashMap<>();
+        initializationOptions.put(InitializationOptions.KEY_ENABLE_SEMANTIC_TOKENS, true);
+        initializationOptions.put(InitializationOptions.KEY_ENABLE_INLAY_HINTS, true);
+        initializationOptions.put(InitializationOptions.KEY_ENABLE_INDEX_PACKAGES, false);
+
+        InitializeParams initializeParams = new InitializeParams();
+        initializeParams.setCapabilities(capabilities);
+        initializeParams.setWorkspaceFolders(List.of(
+                new WorkspaceFolder(workspace.toUri().toString(), "workspace")));
+        initializeParams.setInitializationOptions(new Gson().toJsonTree(initializationOptions));
+
+        awaitQuietly(endpoint.request("initialize", initializeParams));
+        endpoint.notify("initialized", new InitializedParams());
+    }
+
+    private static void awaitQuietly(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get(1, TimeUnit.MINUTES);
+        } catch (ExecutionException | TimeoutException e) {
+            OUT.println("Request failed: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Invalid argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
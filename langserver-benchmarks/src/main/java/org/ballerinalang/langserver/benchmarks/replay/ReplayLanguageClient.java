@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.trace.TraceRecord;
+import org.eclipse.lsp4j.ConfigurationParams;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.MessageActionItem;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.RegistrationParams;
+import org.eclipse.lsp4j.ShowMessageRequestParams;
+import org.eclipse.lsp4j.UnregistrationParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The client side of a replay. Acknowledges the requests sent by the server and counts the published diagnostics.
+ *
+ * @since 1.3.0
+ */
+public class ReplayLanguageClient implements ExtendedLanguageClient {
+
+    private final AtomicInteger publishedDiagnostics = new AtomicInteger();
+
+    public int publishedDiagnostics() {
+        return publishedDiagnostics.get();
+    }
+
+    @Override
+    public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+        publishedDiagnostics.incrementAndGet();
+    }
+
+    @Override
+    public CompletableFuture<Void> registerCapability(RegistrationParams params) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> unregisterCapability(UnregistrationParams params) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<List<Object>> configuration(ConfigurationParams configurationParams) {
+        List<Object> configurations = new ArrayList<>();
+        configurationParams.getItems().forEach(item -> configurations.add(null));
+        return CompletableFuture.completedFuture(configurations);
+    }
+
+    @Override
+    public CompletableFuture<MessageActionItem> showMessageRequest(ShowMessageRequestParams requestParams) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void telemetryEvent(Object object) {
+    }
+
+    @Override
+    public void showMessage(MessageParams messageParams) {
+    }
+
+    @Override
+    public void logMessage(MessageParams message) {
+    }
+
+    @Override
+    public void traceLogs(TraceRecord rawTrace) {
+    }
+
+    @Override
+    public void showTextDocument(Location location) {
+    }
+
+    @Override
+    public void publishArtifacts(Object artifacts) {
+    }
+
+    @Override
+    public void stateCallback(Object artifacts) {
+    }
+
+    @Override
+    public void logCallback(Object artifacts) {
+    }
+}
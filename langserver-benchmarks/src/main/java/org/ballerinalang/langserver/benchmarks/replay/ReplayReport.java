@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import com.google.gson.GsonBuilder;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * Result of replaying a session.
+ *
+ * @param session          name of the replayed session
+ * @param speed            speed factor the session was replayed at
+ * @param durationMillis   wall clock duration of the replay
+ * @param methods          latency statistics per JSON-RPC method
+ * @param lockWaitMillis   sampled time threads spent waiting on locks
+ * @param initialHeapBytes heap usage before the replay, after a GC
+ * @param finalHeapBytes   heap usage after the replay, after a GC
+ * @param peakHeapBytes    highest sampled heap usage during the replay
+ * @param centralCalls     remote calls attempted during the replay, keyed by host
+ * @since 1.3.0
+ */
+public record ReplayReport(String session, double speed, long durationMillis,
+                           Map<String, LatencyRecorder.MethodStats> methods, long lockWaitMillis,
+                           long initialHeapBytes, long finalHeapBytes, long peakHeapBytes,
+                           Map<String, Integer> centralCalls) {
+
+    private static final long MB = 1024 * 1024;
+
+    public long heapGrowthBytes() {
+        return finalHeapBytes - initialHeapBytes;
+    }
+
+    public String toJson() {
+        return new GsonBuilder().setPrettyPrinting().create().toJson(this);
+    }
+
+    /**
+     * Prints a human readable summary of the report.
+     *
+     * @param out stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf("Session '%s' replayed at %.2fx in %d ms%n%n", session, speed, durationMillis);
+        out.printf("%-48s %7s %7s %10s %10s %10s %10s%n", "method", "count", "failed", "p50 (ms)", "p95 (ms)",
+                "p99 (ms)", "max (ms)");
+        methods.forEach((method, stats) -> out.printf("%-48s %7d %7d %10.2f %10.2f %10.2f %10.2f%n", method,
+                stats.count(), stats.failures(), stats.p50(), stats.p95(), stats.p99(), stats.max()));
+        out.println();
+        out.printf("Lock wait (sampled): %d ms%n", lockWaitMillis);
+        out.printf("Heap: %d MB -> %d MB (growth %d MB, peak %d MB)%n", initialHeapBytes / MB, finalHeapBytes / MB,
+                heapGrowthBytes() / MB, peakHeapBytes / MB);
+        out.printf("Attempted Central calls: %s%n", centralCalls.isEmpty() ? "none" : centralCalls);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A recorded JSON-RPC session to be replayed against the language server.
+ * <p>
+ * A session is a JSON lines file where each line is a JSON-RPC message with an additional {@code at} field holding the
+ * offset in milliseconds from the start of the recording. Messages with an {@code id} are sent as requests and the
+ * others as notifications. The {@code ${workspace}} placeholder is replaced with the URI of the workspace root and
+ * {@code ${workspacePath}} with its file system path.
+ * <pre>
+ * {"at": 0, "method": "textDocument/didOpen", "params": {...}}
+ * {"at": 120, "id": 1, "method": "textDocument/completion", "params": {...}}
+ * </pre>
+ *
+ * @param name    name of the session
+ * @param entries messages of the session ordered by their offset
+ * @since 1.3.0
+ */
+public record ReplaySession(String name, List<Entry> entries) {
+
+    public static final String WORKSPACE_PLACEHOLDER = "${workspace}";
+    public static final String WORKSPACE_PATH_PLACEHOLDER = "${workspacePath}";
+
+    /**
+     * Loads a session from the file system.
+     *
+     * @param sessionFile   path of the session file
+     * @param workspaceRoot root of the workspace the session was recorded against
+     * @return the loaded session
+     * @throws IOException if the session cannot be read
+     */
+    public static ReplaySession load(Path sessionFile, Path workspaceRoot) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(sessionFile)) {
+            return load(String.valueOf(sessionFile.getFileName()), inputStream, workspaceRoot);
+        }
+    }
+
+    /**
+     * Loads a session from the given stream.
+     *
+     * @param name          name of the session
+     * @param inputStream   stream to read the session from
+     * @param workspaceRoot root of the workspace the session was recorded against
+     * @return the loaded session
+     * @throws IOException if the session cannot be read
+     */
+    public static ReplaySession load(String name, InputStream inputStream, Path workspaceRoot) throws IOException {
+        String workspaceUri = workspaceRoot.toAbsolutePath().toUri().toString();
+        if (workspaceUri.endsWith("/")) {
+            workspaceUri = workspaceUri.substring(0, workspaceUri.length() - 1);
+        }
+        // Escape the path since it is substituted into JSON strings
+        String quotedPath = new Gson().toJson(workspaceRoot.toAbsolutePath().toString());
+        String workspacePath = quotedPath.substring(1, quotedPath.length() - 1);
+
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String resolvedLine = line.replace(WORKSPACE_PLACEHOLDER, workspaceUri)
+                        .replace(WORKSPACE_PATH_PLACEHOLDER, workspacePath);
+                JsonObject message = JsonParser.parseString(resolvedLine).getAsJsonObject();
+                if (!message.has("method")) {
+                    throw new IOException("Missing 'method' in line " + lineNumber + " of session '" + name + "'");
+                }
+                long offset = message.has("at") ? message.get("at").getAsLong() : 0;
+                entries.add(new Entry(offset, message.get("method").getAsString(), message.get("params"),
+                        message.has("id")));
+            }
+        }
+        entries.sort((e1, e2) -> Long.compare(e1.offsetMillis(), e2.offsetMillis()));
+        return new ReplaySession(name, Collections.unmodifiableList(entries));
+    }
+
+    /**
+     * Represents a single message of the session.
+     *
+     * @param offsetMillis offset from the start of the session in milliseconds
+     * @param method       JSON-RPC method
+     * @param params       parameters of the message
+     * @param request      whether the message is a request that expects a response
+     */
+    public record Entry(long offsetMillis, String method, JsonElement params, boolean request) {
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples the JVM while a session is replayed to estimate the time threads spend waiting on locks and the growth of
+ * the heap.
+ * <p>
+ * Lock wait time is estimated by periodically sampling all threads and accounting the sampling interval to every
+ * thread that is either blocked on a monitor or parked on a {@code java.util.concurrent.locks} lock. Threads parked
+ * for other reasons, such as idle pool workers, are ignored.
+ *
+ * @since 1.3.0
+ */
+public class RuntimeProbe implements AutoCloseable {
+
+    private static final long SAMPLING_INTERVAL_MILLIS = 5;
+    private static final String LOCKS_PACKAGE = "java.util.concurrent.locks.";
+    private static final String CONDITION_OBJECT = "$ConditionObject";
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-runtime-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong lockWaitMillis = new AtomicLong();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private long initialHeapBytes;
+    private long finalHeapBytes;
+
+    /**
+     * Records the baseline heap usage and starts sampling.
+     */
+    public void start() {
+        initialHeapBytes = settledHeapUsage();
+        peakHeapBytes.set(initialHeapBytes);
+        sampler.scheduleAtFixedRate(this::sample, SAMPLING_INTERVAL_MILLIS, SAMPLING_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling and records the final heap usage.
+     */
+    public void stop() {
+        sampler.shutdownNow();
+        finalHeapBytes = settledHeapUsage();
+    }
+
+    public long lockWaitMillis() {
+        return lockWaitMillis.get();
+    }
+
+    public long initialHeapBytes() {
+        return initialHeapBytes;
+    }
+
+    public long finalHeapBytes() {
+        return finalHeapBytes;
+    }
+
+    public long peakHeapBytes() {
+        return peakHeapBytes.get();
+    }
+
+    private void sample() {
+        long waitingThreads = 0;
+        for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds())) {
+            if (threadInfo != null && isWaitingOnLock(threadInfo)) {
+                waitingThreads++;
+            }
+        }
+        lockWaitMillis.addAndGet(waitingThreads * SAMPLING_INTERVAL_MILLIS);
+        peakHeapBytes.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private static boolean isWaitingOnLock(ThreadInfo threadInfo) {
+        switch (threadInfo.getThreadState()) {
+            case BLOCKED:
+                return true;
+            case WAITING:
+            case TIMED_WAITING:
+                LockInfo lockInfo = threadInfo.getLockInfo();
+                // Condition waits are used by idle pool workers, hence they are not accounted as lock contention
+                return lockInfo != null && lockInfo.getClassName().startsWith(LOCKS_PACKAGE)
+                        && !lockInfo.getClassName().endsWith(CONDITION_OBJECT);
+            default:
+                return false;
+        }
+    }
+
+    private long settledHeapUsage() {
+        System.gc();
+        return memoryMXBean.getHeapMemoryUsage().getUsed();
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.benchmarks.replay;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stand-in for Ballerina Central that lets a session be replayed without network access.
+ * <p>
+ * The stub installs itself as the default HTTP(S) proxy of the JVM and answers every request, including
+ * {@code CONNECT} tunnels, with {@code 503 Service Unavailable}. Remote calls therefore fail immediately instead of
+ * waiting for DNS or connection timeouts, and the number of attempted calls per host is reported.
+ *
+ * @since 1.3.0
+ */
+public class StubCentral implements AutoCloseable {
+
+    private static final byte[] RESPONSE = ("HTTP/1.1 503 Service Unavailable\r\n" +
+            "Content-Length: 0\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+
+    private final ServerSocket serverSocket;
+    private final ProxySelector previousProxySelector;
+    private final Map<String, AtomicInteger> attemptedCalls = new ConcurrentHashMap<>();
+    private final Thread acceptor;
+
+    private StubCentral(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+        this.previousProxySelector = ProxySelector.getDefault();
+        this.acceptor = Thread.ofVirtual().name("stub-central").unstarted(this::accept);
+    }
+
+    /**
+     * Starts the stub and routes the HTTP(S) traffic of the JVM through it.
+     *
+     * @return the started stub
+     * @throws IOException if the stub cannot bind to a local port
+     */
+    public static StubCentral start() throws IOException {
+        StubCentral stubCentral = new StubCentral(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+        Proxy proxy = new Proxy(Proxy.Type.HTTP, stubCentral.serverSocket.getLocalSocketAddress());
+        ProxySelector.setDefault(new ProxySelector() {
+            @Override
+            public List<Proxy> select(URI uri) {
+                return List.of(proxy);
+            }
+
+            @Override
+            public void connectFailed(URI uri, SocketAddress address, IOException e) {
+                // Failures are expected as every call is rejected
+            }
+        });
+        stubCentral.acceptor.start();
+        return stubCentral;
+    }
+
+    public InetSocketAddress address() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Returns the number of remote calls attempted during the replay grouped by the target host.
+     *
+     * @return attempted calls keyed by host
+     */
+    public Map<String, Integer> attemptedCalls() {
+        Map<String, Integer> calls = new TreeMap<>();
+        attemptedCalls.forEach((host, count) -> calls.put(host, count.get()));
+        return calls;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().start(() -> reject(socket));
+            } catch (IOException e) {
+                // The server socket is closed
+                return;
+            }
+        }
+    }
+
+    private void reject(Socket socket) {
+        try (socket) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String requestLine = reader.readLine();
+            if (requestLine != null) {
+                attemptedCalls.computeIfAbsent(host(requestLine), key -> new AtomicInteger()).incrementAndGet();
+            }
+            String header;
+            while ((header = reader.readLine()) != null && !header.isEmpty()) {
+                // Drain the request headers
+            }
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(RESPONSE);
+            outputStream.flush();
+        } catch (IOException e) {
+            // Ignore, the client may have already given up on the call
+        }
+    }
+
+    private static String host(String requestLine) {
+        String[] parts = requestLine.split(" ");
+        if (parts.length < 2) {
+            return requestLine;
+        }
+        String target = parts[1];
+        if (target.contains("://")) {
+            try {
+                return URI.create(target).getHost();
+            } catch (IllegalArgumentException e) {
+                return target;
+            }
+        }
+        int portSeparator = target.lastIndexOf(':');
+        return portSeparator > 0 ? target.substring(0, portSeparator) : target;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ProxySelector.setDefault(previousProxySelector);
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,13 @@
+import ballerina/io;
+
+public function main() {
+    Customer0[] customers = [
+        {id: "1", name: "Alice", address: {street: "Main St", city: "Colombo", country: "LK"}, age: 30},
+        {id: "2", name: "Bob", address: {street: "Lake Rd", city: "Kandy", country: "LK"}, age: 15}
+    ];
+    Person0[] people = process0(customers);
+    Person0 person = {fullName: "", location: "", adult: false};
+    int total = people.length() + summarize0(people).length();
+    io:println(total);
+    io:println(person);
+}
@@ -8,6 +8,7 @@ module io.ballerina.language.server.commons {
     requires com.google.gson;
     requires io.ballerina.toml;
     requires java.semver;
+    requires jdk.jfr;
     exports org.ballerinalang.langserver.commons;
     exports org.ballerinalang.langserver.commons.client;
     exports org.ballerinalang.langserver.commons.service.spi;
@@ -30,4 +31,7 @@ module io.ballerina.language.server.commons {
     exports org.ballerinalang.langserver.commons.eventsync.spi;
     exports org.ballerinalang.langserver.commons.eventsync;
     exports org.ballerinalang.langserver.commons.eventsync.exceptions;
+    exports org.ballerinalang.langserver.commons.metrics;
+    exports org.ballerinalang.langserver.commons.memory;
+    exports org.ballerinalang.langserver.commons.notebook;
 }
@@ -15,10 +15,19 @@
  */
 package org.ballerinalang.langserver.commons;
 
+import org.eclipse.lsp4j.Range;
+
 /**
  * Represents the inlay hint context.
  *
  * @since 1.0.0
  */
 public interface InlayHintContext extends DocumentServiceContext {
+
+    /**
+     * Returns the range of the document for which the inlay hints are requested.
+     *
+     * @return {@link Range} requested range, or null if the hints are requested for the whole document
+     */
+    Range range();
 }
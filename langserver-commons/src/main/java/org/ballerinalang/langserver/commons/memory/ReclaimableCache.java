@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.memory;
+
+import java.util.Collection;
+
+/**
+ * A cache whose entries can be trimmed or dropped by the language server when the heap is running low. Caches are
+ * registered with the memory pressure manager of the server, which reclaims the entries that have not been accessed
+ * for the longest time first.
+ *
+ * @since 1.3.0
+ */
+public interface ReclaimableCache {
+
+    /**
+     * Returns the name of the cache, used when logging the reclaimed entries.
+     *
+     * @return name of the cache
+     */
+    String name();
+
+    /**
+     * Returns a snapshot of the current entries of the cache. Called from a background thread, so implementations
+     * should not block on the locks held by the language server operations.
+     *
+     * @return entries of the cache
+     */
+    Collection<? extends Entry> entries();
+
+    /**
+     * An entry of a {@link ReclaimableCache}.
+     */
+    interface Entry {
+
+        /**
+         * Returns an identifier of the entry, such as the source root of a project.
+         *
+         * @return identifier of the entry
+         */
+        String id();
+
+        /**
+         * Returns the time the entry was last accessed, in milliseconds since the epoch.
+         *
+         * @return last access time
+         */
+        long lastAccessTime();
+
+        /**
+         * Returns an estimate of the heap retained by the entry in bytes. Entries that have already been trimmed
+         * since their last access should return zero so that they are not trimmed again.
+         *
+         * @return estimated size in bytes
+         */
+        long estimatedSize();
+
+        /**
+         * Returns whether the entry is in use, for example a project with open documents. Active entries are only
+         * trimmed, never closed.
+         *
+         * @return whether the entry is active
+         */
+        boolean isActive();
+
+        /**
+         * Drops the derived data of the entry, such as compilations and semantic models, while keeping the entry
+         * usable. The data is recomputed on the next access.
+         *
+         * @return whether the entry was trimmed
+         */
+        boolean trim();
+
+        /**
+         * Removes the entry from the cache.
+         *
+         * @return whether the entry was removed
+         */
+        boolean close();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets.
+ * <p>
+ * Latencies are recorded in microseconds. Each power of two is split into four sub-buckets, which bounds the relative
+ * error of a reported percentile to 25% while keeping the whole histogram at a fixed 252 counters. Recording never
+ * blocks and is safe to be called from any number of threads.
+ *
+ * @since 1.3.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos  latency in nanoseconds
+     * @param failed whether the operation failed
+     */
+    public void record(long nanos, boolean failed) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets.incrementAndGet(bucketOf(micros));
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Returns a point in time view of the histogram. The snapshot is not atomic with respect to concurrent recordings,
+     * which may cause the count and the percentiles to be off by the in-flight recordings.
+     *
+     * @param name name of the operation the histogram belongs to
+     * @return snapshot of the histogram
+     */
+    public Snapshot snapshot(String name) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long sum = totalMicros.sum();
+        return new Snapshot(name, total, failures.sum(), toMillis(sum),
+                total == 0 ? 0 : toMillis(sum) / total,
+                toMillis(percentile(counts, total, 0.50)),
+                toMillis(percentile(counts, total, 0.95)),
+                toMillis(percentile(counts, total, 0.99)),
+                toMillis(maxMicros.get()));
+    }
+
+    /**
+     * Clears all the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        failures.reset();
+        totalMicros.reset();
+        maxMicros.reset();
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        // Nearest rank, reported as the upper bound of the bucket it falls into and capped by the observed max
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Point in time view of a histogram. All durations are in milliseconds.
+     *
+     * @param name     name of the operation
+     * @param count    number of recorded operations
+     * @param failures number of failed operations
+     * @param total    total time spent in the operation
+     * @param mean     mean latency
+     * @param p50      median latency
+     * @param p95      95th percentile latency
+     * @param p99      99th percentile latency
+     * @param max      highest recorded latency
+     */
+    public record Snapshot(String name, long count, long failures, double total, double mean, double p50,
+                           double p95, double p99, double max) {
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Message wrapper for the JSON-RPC launcher that records the end-to-end latency of every incoming request, including
+ * the extension requests, and the time taken to serialize and write its response.
+ * <pre>
+ * new Launcher.Builder&lt;ExtendedLanguageClient&gt;()
+ *         ...
+ *         .wrapMessages(new MessageTimingWrapper())
+ *         .create();
+ * </pre>
+ * Request latencies are recorded as {@code jsonrpc/<method>} and the response writes as
+ * {@code jsonrpc.write/<method>}.
+ *
+ * @since 1.3.0
+ */
+public class MessageTimingWrapper implements Function<MessageConsumer, MessageConsumer> {
+
+    private static final String REQUEST_PREFIX = "jsonrpc/";
+    private static final String WRITE_PREFIX = "jsonrpc.write/";
+
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final OperationTracer tracer = OperationTracer.getInstance();
+
+    @Override
+    public MessageConsumer apply(MessageConsumer consumer) {
+        // The launcher wraps both the consumer writing to the output stream and the one dispatching incoming messages
+        if (consumer instanceof StreamMessageConsumer) {
+            return message -> {
+                if (message instanceof ResponseMessage response) {
+                    PendingRequest request = pendingRequests.remove(response.getId());
+                    if (request != null) {
+                        long writeStart = System.nanoTime();
+                        consumer.consume(message);
+                        long end = System.nanoTime();
+                        boolean failed = response.getError() != null;
+                        tracer.record(WRITE_PREFIX + request.method(), end - writeStart, failed);
+                        tracer.record(REQUEST_PREFIX + request.method(), end - request.startNanos(), failed);
+                        return;
+                    }
+                }
+                consumer.consume(message);
+            };
+        }
+        return message -> {
+            if (message instanceof RequestMessage request && tracer.isEnabled()) {
+                pendingRequests.put(request.getId(), new PendingRequest(request.getMethod(), System.nanoTime()));
+            }
+            consumer.consume(message);
+        };
+    }
+
+    private record PendingRequest(String method, long startNanos) {
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the recorded operation metrics to local files.
+ * <p>
+ * The OTLP export follows the JSON lines layout of the OpenTelemetry collector file exporter: the first line holds
+ * the recent spans as an {@code ExportTraceServiceRequest} and the second the operation histograms as summaries of an
+ * {@code ExportMetricsServiceRequest}. The JFR export dumps the running flight recordings, which include the
+ * operation events.
+ *
+ * @since 1.3.0
+ */
+public final class MetricsExporter {
+
+    private static final String SERVICE_NAME = "ballerina-language-server";
+    private static final String SCOPE_NAME = "org.ballerinalang.langserver";
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int STATUS_CODE_OK = 1;
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Writes the spans and the histograms in the OTLP JSON format.
+     *
+     * @param path       file to write to
+     * @param spans      spans to export
+     * @param histograms histograms to export
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeOtlpJson(Path path, List<SpanRecord> spans, List<LatencyHistogram.Snapshot> histograms)
+            throws IOException {
+        Gson gson = new Gson();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(gson.toJson(traces(spans)));
+            writer.newLine();
+            writer.write(gson.toJson(metrics(histograms)));
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Dumps the data of the running flight recordings.
+     *
+     * @param path file to write to
+     * @throws IOException if no recording is running or the file cannot be written
+     */
+    public static void writeJfr(Path path) throws IOException {
+        if (!FlightRecorder.isAvailable() || FlightRecorder.getFlightRecorder().getRecordings().isEmpty()) {
+            throw new IOException("No flight recording is running. Start the server with -D" +
+                    OperationTracer.JFR_PROPERTY + "=true or -XX:StartFlightRecording to record operations");
+        }
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.dump(path);
+        }
+    }
+
+    private static JsonObject traces(List<SpanRecord> spans) {
+        JsonArray spanArray = new JsonArray();
+        for (SpanRecord span : spans) {
+            JsonObject spanObject = new JsonObject();
+            spanObject.addProperty("traceId", span.traceId());
+            spanObject.addProperty("spanId", span.spanId());
+            if (span.parentSpanId() != null) {
+                spanObject.addProperty("parentSpanId", span.parentSpanId());
+            }
+            spanObject.addProperty("name", span.name());
+            spanObject.addProperty("kind", SPAN_KIND_INTERNAL);
+            spanObject.addProperty("startTimeUnixNano", String.valueOf(span.startEpochNanos()));
+            spanObject.addProperty("endTimeUnixNano", String.valueOf(span.startEpochNanos() + span.durationNanos()));
+            JsonArray attributes = new JsonArray();
+            attributes.add(attribute("thread.name", span.thread()));
+            spanObject.add("attributes", attributes);
+            JsonObject status = new JsonObject();
+            status.addProperty("code", span.failed() ? STATUS_CODE_ERROR : STATUS_CODE_OK);
+            spanObject.add("status", status);
+            spanArray.add(spanObject);
+        }
+
+        JsonObject scopeSpans = new JsonObject();
+        scopeSpans.add("scope", scope());
+        scopeSpans.add("spans", spanArray);
+        JsonArray scopeSpansArray = new JsonArray();
+        scopeSpansArray.add(scopeSpans);
+
+        JsonObject resourceSpans = new JsonObject();
+        resourceSpans.add("resource", resource());
+        resourceSpans.add("scopeSpans", scopeSpansArray);
+        JsonArray resourceSpansArray = new JsonArray();
+        resourceSpansArray.add(resourceSpans);
+
+        JsonObject traces = new JsonObject();
+        traces.add("resourceSpans", resourceSpansArray);
+        return traces;
+    }
+
+    private static JsonObject metrics(List<LatencyHistogram.Snapshot> histograms) {
+        String now = String.valueOf(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()));
+        JsonArray dataPoints = new JsonArray();
+        for (LatencyHistogram.Snapshot histogram : histograms) {
+            JsonObject dataPoint = new JsonObject();
+            JsonArray attributes = new JsonArray();
+            attributes.add(attribute("operation", histogram.name()));
+            dataPoint.add("attributes", attributes);
+            dataPoint.addProperty("timeUnixNano", now);
+            dataPoint.addProperty("count", String.valueOf(histogram.count()));
+            dataPoint.addProperty("sum", histogram.total());
+            JsonArray quantiles = new JsonArray();
+            quantiles.add(quantile(0.5, histogram.p50()));
+            quantiles.add(quantile(0.95, histogram.p95()));
+            quantiles.add(quantile(0.99, histogram.p99()));
+            quantiles.add(quantile(1.0, histogram.max()));
+            dataPoint.add("quantileValues", quantiles);
+            dataPoints.add(dataPoint);
+        }
+
+        JsonObject summary = new JsonObject();
+        summary.add("dataPoints", dataPoints);
+        JsonObject metric = new JsonObject();
+        metric.addProperty("name", "langserver.operation.duration");
+        metric.addProperty("unit", "ms");
+        metric.add("summary", summary);
+        JsonArray metricArray = new JsonArray();
+        metricArray.add(metric);
+
+        JsonObject scopeMetrics = new JsonObject();
+        scopeMetrics.add("scope", scope());
+        scopeMetrics.add("metrics", metricArray);
+        JsonArray scopeMetricsArray = new JsonArray();
+        scopeMetricsArray.add(scopeMetrics);
+
+        JsonObject resourceMetrics = new JsonObject();
+        resourceMetrics.add("resource", resource());
+        resourceMetrics.add("scopeMetrics", scopeMetricsArray);
+        JsonArray resourceMetricsArray = new JsonArray();
+        resourceMetricsArray.add(resourceMetrics);
+
+        JsonObject metrics = new JsonObject();
+        metrics.add("resourceMetrics", resourceMetricsArray);
+        return metrics;
+    }
+
+    private static JsonObject resource() {
+        JsonArray attributes = new JsonArray();
+        attributes.add(attribute("service.name", SERVICE_NAME));
+        JsonObject resource = new JsonObject();
+        resource.add("attributes", attributes);
+        return resource;
+    }
+
+    private static JsonObject scope() {
+        JsonObject scope = new JsonObject();
+        scope.addProperty("name", SCOPE_NAME);
+        return scope;
+    }
+
+    private static JsonObject attribute(String key, String value) {
+        JsonObject stringValue = new JsonObject();
+        stringValue.addProperty("stringValue", value);
+        JsonObject attribute = new JsonObject();
+        attribute.addProperty("key", key);
+        attribute.add("value", stringValue);
+        return attribute;
+    }
+
+    private static JsonObject quantile(double quantile, double value) {
+        JsonObject quantileValue = new JsonObject();
+        quantileValue.addProperty("quantile", quantile);
+        quantileValue.addProperty("value", value);
+        return quantileValue;
+    }
+}
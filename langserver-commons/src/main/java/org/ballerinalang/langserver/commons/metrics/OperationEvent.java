@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for each language server operation span. The event is only committed while a recording with the
+ * {@value #NAME} event enabled is running, so it costs next to nothing otherwise.
+ *
+ * @since 1.3.0
+ */
+@Name(OperationEvent.NAME)
+@Label("Language Server Operation")
+@Category({"Ballerina", "Language Server"})
+@Description("An operation performed by the Ballerina language server")
+@StackTrace(false)
+class OperationEvent extends Event {
+
+    static final String NAME = "io.ballerina.langserver.Operation";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("Span Id")
+    String spanId;
+
+    @Label("Parent Span Id")
+    String parentSpanId;
+
+    @Label("Failed")
+    boolean failed;
+}
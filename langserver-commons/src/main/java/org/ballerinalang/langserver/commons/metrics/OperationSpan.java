@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+/**
+ * A timed operation. A span is started with {@link OperationTracer#startSpan(String)} and is meant to be used in a
+ * try-with-resources block on the thread that started it. A span closed on another thread is not the parent of the
+ * spans started afterwards on the thread that started it.
+ * <pre>
+ * try (OperationSpan span = OperationTracer.getInstance().startSpan("workspace/compilation")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+public final class OperationSpan implements AutoCloseable {
+
+    static final OperationSpan NOOP = new OperationSpan(null, null, null, null, null, null);
+
+    private final OperationTracer tracer;
+    private final String name;
+    private final String traceId;
+    private final String spanId;
+    private final OperationSpan parent;
+    private final OperationEvent event;
+    private final long startNanos;
+    private boolean failed;
+    private volatile boolean closed;
+
+    OperationSpan(OperationTracer tracer, String name, String traceId, String spanId, OperationSpan parent,
+                  OperationEvent event) {
+        this.tracer = tracer;
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parent = parent;
+        this.event = event;
+        this.startNanos = System.nanoTime();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    public String spanId() {
+        return spanId;
+    }
+
+    OperationSpan parent() {
+        return parent;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    OperationEvent event() {
+        return event;
+    }
+
+    boolean failed() {
+        return failed;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Marks the operation as failed. Failed operations are counted separately in the histogram of the operation.
+     */
+    public void markFailed() {
+        this.failed = true;
+    }
+
+    @Override
+    public void close() {
+        if (tracer == null || closed) {
+            return;
+        }
+        closed = true;
+        tracer.end(this, System.nanoTime());
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.ballerinalang.langserver.commons.LSOperation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Records the latency of language server operations.
+ * <p>
+ * Each span updates the histogram of its operation and is kept in a bounded ring buffer of recent spans, both of
+ * which are lock-free. Spans are also emitted as JFR events. Tracing can be turned off with the
+ * {@value #ENABLED_PROPERTY} system property, and a JFR recording of the operation events can be started at launch
+ * with the {@value #JFR_PROPERTY} system property.
+ *
+ * @since 1.3.0
+ */
+public final class OperationTracer {
+
+    public static final String ENABLED_PROPERTY = "ls.metrics.enabled";
+    public static final String JFR_PROPERTY = "ls.metrics.jfr";
+    private static final int RECENT_SPANS = 4096;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SpanRecord> recentSpans = new AtomicReferenceArray<>(RECENT_SPANS);
+    private final AtomicLong completedSpans = new AtomicLong();
+    private final ThreadLocal<OperationSpan> currentSpan = new ThreadLocal<>();
+    private final long epochOffsetNanos;
+    private volatile boolean enabled;
+
+    private static class Holder {
+
+        private static final OperationTracer INSTANCE = new OperationTracer();
+    }
+
+    public static OperationTracer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private OperationTracer() {
+        this.epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - System.nanoTime();
+        this.enabled = !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+        if (Boolean.getBoolean(JFR_PROPERTY) && FlightRecorder.isAvailable()) {
+            Recording recording = new Recording();
+            recording.setName("ballerina-language-server");
+            recording.enable(OperationEvent.NAME);
+            recording.setMaxAge(Duration.ofMinutes(30));
+            recording.setToDisk(true);
+            recording.start();
+        }
+    }
+
+    /**
+     * Starts a span for the given operation.
+     *
+     * @param operation language server operation
+     * @return the started span
+     */
+    public OperationSpan startSpan(LSOperation operation) {
+        return startSpan(operation.getName());
+    }
+
+    /**
+     * Starts a span named by the given prefix and name. The name is not built when tracing is disabled.
+     *
+     * @param prefix prefix of the operation name
+     * @param name   rest of the operation name
+     * @return the started span
+     */
+    public OperationSpan startSpan(String prefix, String name) {
+        if (!enabled) {
+            return OperationSpan.NOOP;
+        }
+        return startSpan(prefix + name);
+    }
+
+    /**
+     * Starts a span with the given name. If another span is open on the current thread, the new span becomes its
+     * child. When tracing is disabled, a shared span which records nothing is returned.
+     *
+     * @param name name of the operation
+     * @return the started span
+     */
+    public OperationSpan startSpan(String name) {
+        if (!enabled) {
+            return OperationSpan.NOOP;
+        }
+        OperationSpan parent = openSpan(currentSpan.get());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = parent != null ? parent.traceId() :
+                HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong());
+        OperationEvent event = new OperationEvent();
+        event.begin();
+        OperationSpan span = new OperationSpan(this, name, traceId, HEX.toHexDigits(random.nextLong()), parent,
+                event);
+        currentSpan.set(span);
+        return span;
+    }
+
+    /**
+     * Wraps a function so that each invocation is recorded as a span of the given operation. Meant to wrap the
+     * function passed to {@code CompletableFutures.computeAsync}, so the span is opened on the thread doing the work.
+     *
+     * @param operation language server operation
+     * @param function  function to wrap
+     * @param <T>       input type of the function
+     * @param <R>       result type of the function
+     * @return the wrapped function
+     */
+    public static <T, R> Function<T, R> traced(LSOperation operation, Function<T, R> function) {
+        return input -> {
+            OperationSpan span = getInstance().startSpan(operation);
+            try {
+                return function.apply(input);
+            } catch (Throwable e) {
+                span.markFailed();
+                throw e;
+            } finally {
+                span.close();
+            }
+        };
+    }
+
+    /**
+     * Records a latency measured outside a span.
+     *
+     * @param name   name of the operation
+     * @param nanos  latency in nanoseconds
+     * @param failed whether the operation failed
+     */
+    public void record(String name, long nanos, boolean failed) {
+        if (enabled) {
+            histogram(name).record(nanos, failed);
+        }
+    }
+
+    void end(OperationSpan span, long endNanos) {
+        long durationNanos = endNanos - span.startNanos();
+        histogram(span.name()).record(durationNanos, span.failed());
+
+        // Only restore the parent if the span is closed on the thread it was started on. Otherwise, the span stays
+        // current on the thread it was started on until the next span started there skips it.
+        if (currentSpan.get() == span) {
+            OperationSpan parent = openSpan(span.parent());
+            if (parent == null) {
+                currentSpan.remove();
+            } else {
+                currentSpan.set(parent);
+            }
+        }
+
+        String parentSpanId = span.parent() == null ? null : span.parent().spanId();
+        int slot = (int) (completedSpans.getAndIncrement() % RECENT_SPANS);
+        recentSpans.set(slot, new SpanRecord(span.traceId(), span.spanId(), parentSpanId, span.name(),
+                epochOffsetNanos + span.startNanos(), durationNanos, span.failed(),
+                Thread.currentThread().getName()));
+
+        OperationEvent event = span.event();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = span.name();
+            event.traceId = span.traceId();
+            event.spanId = span.spanId();
+            event.parentSpanId = parentSpanId;
+            event.failed = span.failed();
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the innermost span of the given span and its ancestors which is still open, skipping the spans that
+     * were closed on another thread.
+     */
+    private static OperationSpan openSpan(OperationSpan span) {
+        while (span != null && span.isClosed()) {
+            span = span.parent();
+        }
+        return span;
+    }
+
+    private LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the latency statistics of all the recorded operations, ordered by the total time spent in them.
+     *
+     * @return latency statistics per operation
+     */
+    public List<LatencyHistogram.Snapshot> histograms() {
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>();
+        histograms.forEach((name, histogram) -> snapshots.add(histogram.snapshot(name)));
+        snapshots.sort(Comparator.comparingDouble(LatencyHistogram.Snapshot::total).reversed());
+        return snapshots;
+    }
+
+    /**
+     * Returns the most recently completed spans, oldest first.
+     *
+     * @return recent spans
+     */
+    public List<SpanRecord> recentSpans() {
+        long completed = completedSpans.get();
+        long from = Math.max(0, completed - RECENT_SPANS);
+        List<SpanRecord> spans = new ArrayList<>((int) (completed - from));
+        for (long i = from; i < completed; i++) {
+            SpanRecord span = recentSpans.get((int) (i % RECENT_SPANS));
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Clears the recorded histograms and spans.
+     */
+    public void reset() {
+        histograms.clear();
+        for (int i = 0; i < RECENT_SPANS; i++) {
+            recentSpans.set(i, null);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
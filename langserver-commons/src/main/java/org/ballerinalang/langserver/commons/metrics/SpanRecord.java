@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.metrics;
+
+/**
+ * A completed span. Spans started while another span is open on the same thread share its trace id and refer to it
+ * as their parent, which allows a slow request to be broken down into parse, compilation, lock wait and query time.
+ *
+ * @param traceId         id of the trace the span belongs to
+ * @param spanId          id of the span
+ * @param parentSpanId    id of the enclosing span, or {@code null} for a root span
+ * @param name            name of the operation
+ * @param startEpochNanos start time of the span since the epoch
+ * @param durationNanos   duration of the span
+ * @param failed          whether the operation failed
+ * @param thread          name of the thread the span was started on
+ * @since 1.3.0
+ */
+public record SpanRecord(String traceId, String spanId, String parentSpanId, String name, long startEpochNanos,
+                         long durationNanos, boolean failed, String thread) {
+}
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.notebook;
+
+import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Names declared and referred to by the source of a notebook cell.
+ * <p>
+ * A cell holds either module level declarations, statements or a single expression, as accepted by the shell. The
+ * source is parsed in that order and the first form that parses without errors is used. The referred names are an
+ * over-approximation, since local names of the cell are not excluded.
+ *
+ * @param declaredNames   names the cell adds to the module of the notebook
+ * @param referencedNames unqualified names and module prefixes the cell refers to
+ * @since 1.3.0
+ */
+public record CellDeclarations(Set<String> declaredNames, Set<String> referencedNames) {
+
+    public static final CellDeclarations EMPTY = new CellDeclarations(Set.of(), Set.of());
+
+    /**
+     * Parses the given cell source.
+     *
+     * @param source source of the cell
+     * @return the declarations of the cell
+     */
+    public static CellDeclarations of(String source) {
+        if (source == null || source.isBlank()) {
+            return EMPTY;
+        }
+
+        Set<String> declaredNames = new HashSet<>();
+        ReferenceCollector references = new ReferenceCollector();
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(source));
+        if (!syntaxTree.hasDiagnostics()) {
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+                declaredNames.add(importNode.prefix()
+                        .map(prefix -> prefix.prefix().text())
+                        .orElse(importNode.moduleName().get(importNode.moduleName().size() - 1).text()));
+            }
+            for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                addDeclaredName(member, declaredNames);
+                member.accept(references);
+            }
+            return new CellDeclarations(Collections.unmodifiableSet(declaredNames), references.names());
+        }
+
+        NodeList<StatementNode> statements = NodeParser.parseStatements(source);
+        if (!statements.isEmpty() && statements.stream().noneMatch(Node::hasDiagnostics)) {
+            for (StatementNode statement : statements) {
+                if (statement.kind() == SyntaxKind.LOCAL_VAR_DECL) {
+                    ((VariableDeclarationNode) statement).typedBindingPattern().bindingPattern()
+                            .accept(new BindingNameCollector(declaredNames));
+                }
+                statement.accept(references);
+            }
+            return new CellDeclarations(Collections.unmodifiableSet(declaredNames), references.names());
+        }
+
+        ExpressionNode expression = NodeParser.parseExpression(source);
+        expression.accept(references);
+        return new CellDeclarations(Set.of(), references.names());
+    }
+
+    /**
+     * Finds the cells that depend on the given names, directly or through the declarations of other dependent cells.
+     *
+     * @param cells  declarations of the cells, by cell id
+     * @param cellId id of the cell declaring the names, which is excluded from the result
+     * @param names  names declared by the cell
+     * @return ids of the dependent cells
+     */
+    public static Set<String> dependents(Map<String, CellDeclarations> cells, String cellId, Set<String> names) {
+        Set<String> dependents = new LinkedHashSet<>();
+        Set<String> visitedNames = new HashSet<>(names);
+        Deque<String> queue = new ArrayDeque<>(names);
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            cells.forEach((id, declarations) -> {
+                if (id.equals(cellId) || dependents.contains(id) || !declarations.referencedNames().contains(name)) {
+                    return;
+                }
+                dependents.add(id);
+                for (String declaredName : declarations.declaredNames()) {
+                    if (visitedNames.add(declaredName)) {
+                        queue.add(declaredName);
+                    }
+                }
+            });
+        }
+        return Collections.unmodifiableSet(dependents);
+    }
+
+    private static void addDeclaredName(ModuleMemberDeclarationNode member, Set<String> declaredNames) {
+        switch (member.kind()) {
+            case FUNCTION_DEFINITION -> declaredNames.add(((FunctionDefinitionNode) member).functionName().text());
+            case TYPE_DEFINITION -> declaredNames.add(((TypeDefinitionNode) member).typeName().text());
+            case CLASS_DEFINITION -> declaredNames.add(((ClassDefinitionNode) member).className().text());
+            case ENUM_DECLARATION -> declaredNames.add(((EnumDeclarationNode) member).identifier().text());
+            case CONST_DECLARATION -> declaredNames.add(((ConstantDeclarationNode) member).variableName().text());
+            case LISTENER_DECLARATION -> declaredNames.add(((ListenerDeclarationNode) member).variableName().text());
+            case MODULE_VAR_DECL -> ((ModuleVariableDeclarationNode) member).typedBindingPattern().bindingPattern()
+                    .accept(new BindingNameCollector(declaredNames));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Collects the names referred to within a node.
+     */
+    private static class ReferenceCollector extends NodeVisitor {
+
+        private final Set<String> names = new HashSet<>();
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            names.add(simpleNameReferenceNode.name().text());
+        }
+
+        @Override
+        public void visit(QualifiedNameReferenceNode qualifiedNameReferenceNode) {
+            names.add(qualifiedNameReferenceNode.modulePrefix().text());
+        }
+
+        Set<String> names() {
+            return Collections.unmodifiableSet(names);
+        }
+    }
+
+    /**
+     * Collects the variable names bound by a binding pattern.
+     */
+    private static class BindingNameCollector extends NodeVisitor {
+
+        private final Set<String> names;
+
+        BindingNameCollector(Set<String> names) {
+            this.names = names;
+        }
+
+        @Override
+        public void visit(CaptureBindingPatternNode captureBindingPatternNode) {
+            names.add(captureBindingPatternNode.variableName().text());
+        }
+    }
+}
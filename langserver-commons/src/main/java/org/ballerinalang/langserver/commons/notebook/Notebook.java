@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.notebook;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An open notebook and its cells, in the order they appear in the notebook.
+ * <p>
+ * The cells of a notebook together make up a single synthetic module, which is what the shell of the notebook
+ * evaluates the cells in. Each cell caches the declarations of its current source, so that an edit only re-parses the
+ * edited cell, and the cells affected by the edit can be found without compiling the others.
+ *
+ * @since 1.3.0
+ */
+public class Notebook {
+
+    private final String uri;
+    private final List<Cell> cells;
+    private int version;
+
+    public Notebook(String uri, int version, List<Cell> cells) {
+        this.uri = uri;
+        this.version = version;
+        this.cells = new ArrayList<>(cells);
+    }
+
+    public String uri() {
+        return uri;
+    }
+
+    public synchronized int version() {
+        return version;
+    }
+
+    public synchronized void setVersion(int version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns a snapshot of the cells of the notebook.
+     *
+     * @return cells of the notebook
+     */
+    public synchronized List<Cell> cells() {
+        return List.copyOf(cells);
+    }
+
+    public synchronized Optional<Cell> cell(String cellUri) {
+        return cells.stream().filter(cell -> cell.uri().equals(cellUri)).findFirst();
+    }
+
+    /**
+     * Replaces a range of cells, as described by a structural change of the notebook.
+     *
+     * @param start       index of the first cell to replace
+     * @param deleteCount number of cells to remove
+     * @param newCells    cells to insert at the start index
+     */
+    public synchronized void replaceCells(int start, int deleteCount, List<Cell> newCells) {
+        int from = Math.min(start, cells.size());
+        int to = Math.min(from + deleteCount, cells.size());
+        cells.subList(from, to).clear();
+        cells.addAll(from, newCells);
+    }
+
+    /**
+     * Updates the source of a cell. The declarations of the cell are re-computed on the next access.
+     *
+     * @param cellUri uri of the cell
+     * @param source  new source of the cell
+     * @return true if the cell is part of the notebook
+     */
+    public synchronized boolean updateCell(String cellUri, String source) {
+        for (int i = 0; i < cells.size(); i++) {
+            Cell cell = cells.get(i);
+            if (cell.uri().equals(cellUri)) {
+                cells.set(i, new Cell(cellUri, cell.code(), source));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the code cells that refer to the declarations of the given cell, directly or transitively. These are the
+     * cells to re-evaluate once the given cell changes.
+     *
+     * @param cellUri uri of the cell
+     * @param names   names declared by the cell, including the ones of its previous source
+     * @return uris of the dependent cells, in the order they appear in the notebook
+     */
+    public Set<String> dependentsOf(String cellUri, Set<String> names) {
+        Map<String, CellDeclarations> declarations = new LinkedHashMap<>();
+        for (Cell cell : cells()) {
+            declarations.put(cell.uri(), cell.declarations());
+        }
+        return CellDeclarations.dependents(declarations, cellUri, names);
+    }
+
+    /**
+     * A cell of a notebook. Markup cells are tracked to keep the order of the cells, but do not declare or refer to
+     * any names.
+     *
+     * @since 1.3.0
+     */
+    public static final class Cell {
+
+        private final String uri;
+        private final boolean code;
+        private final String source;
+        private volatile CellDeclarations declarations;
+
+        public Cell(String uri, boolean code, String source) {
+            this.uri = uri;
+            this.code = code;
+            this.source = source;
+        }
+
+        public String uri() {
+            return uri;
+        }
+
+        public boolean code() {
+            return code;
+        }
+
+        public String source() {
+            return source;
+        }
+
+        /**
+         * Returns the declarations of the cell, parsing the source on the first access.
+         *
+         * @return declarations of the cell
+         */
+        public CellDeclarations declarations() {
+            CellDeclarations cellDeclarations = declarations;
+            if (cellDeclarations == null) {
+                cellDeclarations = code ? CellDeclarations.of(source) : CellDeclarations.EMPTY;
+                declarations = cellDeclarations;
+            }
+            return cellDeclarations;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.commons.notebook;
+
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps track of the notebooks open in the client. The notebook document service updates the notebooks, and the
+ * services evaluating notebook cells read them and listen for the notebooks being closed to release their state.
+ *
+ * @since 1.3.0
+ */
+public class NotebookDocumentManager {
+
+    public static final LanguageServerContext.Key<NotebookDocumentManager> NOTEBOOK_DOCUMENT_MANAGER_KEY =
+            new LanguageServerContext.Key<>();
+
+    private final Map<String, Notebook> notebooks = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> closeListeners = new CopyOnWriteArrayList<>();
+
+    private NotebookDocumentManager() {
+    }
+
+    public static NotebookDocumentManager getInstance(LanguageServerContext context) {
+        NotebookDocumentManager manager = context.get(NOTEBOOK_DOCUMENT_MANAGER_KEY);
+        if (manager == null) {
+            synchronized (NotebookDocumentManager.class) {
+                manager = context.get(NOTEBOOK_DOCUMENT_MANAGER_KEY);
+                if (manager == null) {
+                    manager = new NotebookDocumentManager();
+                    context.put(NOTEBOOK_DOCUMENT_MANAGER_KEY, manager);
+                }
+            }
+        }
+        return manager;
+    }
+
+    public void open(Notebook notebook) {
+        notebooks.put(notebook.uri(), notebook);
+    }
+
+    public Optional<Notebook> notebook(String uri) {
+        return Optional.ofNullable(notebooks.get(uri));
+    }
+
+    /**
+     * Removes the notebook and notifies the close listeners.
+     *
+     * @param uri uri of the notebook
+     */
+    public void close(String uri) {
+        if (notebooks.remove(uri) != null) {
+            closeListeners.forEach(listener -> listener.accept(uri));
+        }
+    }
+
+    /**
+     * Registers a listener called with the uri of every notebook that is closed.
+     *
+     * @param listener close listener
+     */
+    public void addCloseListener(Consumer<String> listener) {
+        closeListeners.add(listener);
+    }
+}
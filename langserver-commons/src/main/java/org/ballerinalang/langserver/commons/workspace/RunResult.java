@@ -21,14 +21,25 @@ package org.ballerinalang.langserver.commons.workspace;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Represents the result of {@link WorkspaceManager#run(RunContext)} operation.
  *
- * @param process     {@link Process} instance representing the run operation
- * @param diagnostics diagnostics generated during the compilation
+ * @param process        {@link Process} instance representing the run operation
+ * @param diagnostics    diagnostics generated during the compilation
+ * @param phaseDurations durations of the phases executed for the run, in milliseconds, in the order of execution.
+ *                       The compilation and code generation phases are absent if the artifacts of a previous run are
+ *                       reused.
  * @since 1.0.0
  */
-public record RunResult(Process process, Collection<Diagnostic> diagnostics) {
+public record RunResult(Process process, Collection<Diagnostic> diagnostics, Map<String, Long> phaseDurations) {
 
+    public static final String PHASE_COMPILATION = "compilation";
+    public static final String PHASE_CODEGEN = "codegen";
+    public static final String PHASE_LAUNCH = "launch";
+
+    public RunResult(Process process, Collection<Diagnostic> diagnostics) {
+        this(process, diagnostics, Map.of());
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerina.langserver.commons.metrics;
+
+import org.ballerinalang.langserver.commons.metrics.LatencyHistogram;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
+import org.ballerinalang.langserver.commons.metrics.SpanRecord;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Tests the operation tracer and the latency histogram.
+ *
+ * @since 1.3.0
+ */
+public class OperationTracerTest {
+
+    private final OperationTracer tracer = OperationTracer.getInstance();
+
+    @AfterMethod
+    public void reset() {
+        tracer.reset();
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i), i % 10 == 0);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot("test");
+        Assert.assertEquals(snapshot.count(), 100);
+        Assert.assertEquals(snapshot.failures(), 10);
+        Assert.assertEquals(snapshot.total(), 5050.0, 0.001);
+        Assert.assertEquals(snapshot.mean(), 50.5, 0.001);
+        Assert.assertEquals(snapshot.max(), 100.0, 0.001);
+        // Percentiles are reported as bucket upper bounds, which are within 25% of the actual value
+        assertWithin(snapshot.p50(), 50);
+        assertWithin(snapshot.p95(), 95);
+        assertWithin(snapshot.p99(), 99);
+        Assert.assertTrue(snapshot.p99() <= snapshot.max());
+
+        histogram.reset();
+        Assert.assertEquals(histogram.snapshot("test").count(), 0);
+        Assert.assertEquals(histogram.snapshot("test").p99(), 0.0);
+    }
+
+    @Test
+    public void testNestedSpans() {
+        try (OperationSpan parent = tracer.startSpan("test/parent")) {
+            try (OperationSpan child = tracer.startSpan("test/child")) {
+                Assert.assertEquals(child.traceId(), parent.traceId());
+            }
+            try (OperationSpan sibling = tracer.startSpan("test/sibling")) {
+                Assert.assertEquals(sibling.traceId(), parent.traceId());
+            }
+        }
+
+        List<SpanRecord> spans = tracer.recentSpans();
+        Assert.assertEquals(spans.size(), 3);
+        SpanRecord child = spans.get(0);
+        SpanRecord sibling = spans.get(1);
+        SpanRecord parent = spans.get(2);
+        Assert.assertEquals(parent.name(), "test/parent");
+        Assert.assertNull(parent.parentSpanId());
+        Assert.assertEquals(child.parentSpanId(), parent.spanId());
+        Assert.assertEquals(sibling.parentSpanId(), parent.spanId());
+        Assert.assertTrue(parent.durationNanos() >= child.durationNanos());
+
+        // A new root span starts a new trace
+        try (OperationSpan root = tracer.startSpan("test/root")) {
+            Assert.assertNotEquals(root.traceId(), parent.traceId());
+        }
+    }
+
+    @Test
+    public void testSpanClosedOnAnotherThread() throws InterruptedException {
+        OperationSpan span = tracer.startSpan("test/async");
+        Thread thread = new Thread(span::close);
+        thread.start();
+        thread.join();
+
+        // The span closed on the other thread is not the parent of the next span of this thread
+        try (OperationSpan next = tracer.startSpan("test/next")) {
+            Assert.assertNotEquals(next.traceId(), span.traceId());
+        }
+        List<SpanRecord> spans = tracer.recentSpans();
+        Assert.assertEquals(spans.size(), 2);
+        Assert.assertNull(spans.get(1).parentSpanId());
+    }
+
+    @Test
+    public void testTracedFunctionFailure() {
+        Function<String, String> function = OperationTracer.traced(() -> "test/traced", input -> {
+            throw new IllegalStateException(input);
+        });
+        Assert.assertThrows(IllegalStateException.class, () -> function.apply("failure"));
+
+        LatencyHistogram.Snapshot snapshot = tracer.histograms().stream()
+                .filter(operation -> operation.name().equals("test/traced"))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(snapshot.count(), 1);
+        Assert.assertEquals(snapshot.failures(), 1);
+        Assert.assertTrue(tracer.recentSpans().get(0).failed());
+    }
+
+    @Test
+    public void testDisabledTracer() {
+        tracer.setEnabled(false);
+        try {
+            try (OperationSpan ignored = tracer.startSpan("test/disabled")) {
+                tracer.record("test/disabled", 1000, false);
+            }
+            Assert.assertSame(tracer.startSpan("test/", "first"), tracer.startSpan("test/second"));
+            Assert.assertTrue(tracer.histograms().isEmpty());
+            Assert.assertTrue(tracer.recentSpans().isEmpty());
+        } finally {
+            tracer.setEnabled(true);
+        }
+    }
+
+    private static void assertWithin(double actual, double expected) {
+        Assert.assertTrue(actual >= expected && actual <= expected * 1.25,
+                "Expected " + actual + " to be within 25% above " + expected);
+    }
+}
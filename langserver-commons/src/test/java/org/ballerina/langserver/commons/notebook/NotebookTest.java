@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerina.langserver.commons.notebook;
+
+import org.ballerinalang.langserver.commons.notebook.CellDeclarations;
+import org.ballerinalang.langserver.commons.notebook.Notebook;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests the declarations of notebook cells and the dependencies between the cells.
+ *
+ * @since 1.3.0
+ */
+public class NotebookTest {
+
+    @Test
+    public void testCellDeclarations() {
+        CellDeclarations module = CellDeclarations.of("""
+                import ballerina/io;
+
+                type Person record {| string name; |};
+
+                function greet(Person p) {
+                    io:println(p.name);
+                }
+                """);
+        Assert.assertEquals(module.declaredNames(), Set.of("io", "Person", "greet"));
+        Assert.assertTrue(module.referencedNames().containsAll(Set.of("io", "Person")));
+
+        CellDeclarations statements = CellDeclarations.of("int x = 1;\nint y = x + 1;");
+        Assert.assertEquals(statements.declaredNames(), Set.of("x", "y"));
+        Assert.assertTrue(statements.referencedNames().contains("x"));
+
+        CellDeclarations expression = CellDeclarations.of("greet(person)");
+        Assert.assertEquals(expression.declaredNames(), Set.of());
+        Assert.assertEquals(expression.referencedNames(), Set.of("greet", "person"));
+    }
+
+    @Test
+    public void testDependentCells() {
+        Notebook notebook = new Notebook("file:///notebook.balnb", 1, List.of(
+                new Notebook.Cell("cell1", true, "int x = 1;"),
+                new Notebook.Cell("cell2", true, "int y = x + 1;"),
+                new Notebook.Cell("cell3", false, "Uses `x` and `y`"),
+                new Notebook.Cell("cell4", true, "y * 2"),
+                new Notebook.Cell("cell5", true, "int z = 3;")));
+        Assert.assertEquals(notebook.dependentsOf("cell1", Set.of("x")), Set.of("cell2", "cell4"));
+        Assert.assertEquals(notebook.dependentsOf("cell5", Set.of("z")), Set.of());
+
+        // Only the edited cell is re-parsed
+        Notebook.Cell unchanged = notebook.cell("cell2").orElseThrow();
+        CellDeclarations declarations = unchanged.declarations();
+        Assert.assertTrue(notebook.updateCell("cell1", "int x = 2;"));
+        Assert.assertSame(notebook.cell("cell2").orElseThrow().declarations(), declarations);
+
+        notebook.replaceCells(1, 1, List.of(new Notebook.Cell("cell6", true, "int w = z;")));
+        Assert.assertEquals(notebook.cells().size(), 5);
+        Assert.assertEquals(notebook.dependentsOf("cell1", Set.of("x")), Set.of());
+        Assert.assertEquals(notebook.dependentsOf("cell5", Set.of("z")), Set.of("cell6"));
+    }
+}
@@ -53,6 +53,10 @@ import org.eclipse.lsp4j.HoverRegistrationOptions;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.InitializedParams;
+import org.eclipse.lsp4j.InlayHintRegistrationOptions;
+import org.eclipse.lsp4j.NotebookDocumentSyncRegistrationOptions;
+import org.eclipse.lsp4j.NotebookSelector;
+import org.eclipse.lsp4j.NotebookSelectorCell;
 import org.eclipse.lsp4j.ReferenceRegistrationOptions;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
@@ -113,10 +117,24 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
         return this.client;
     }
 
+    /**
+     * Returns the notebook synchronization options, which select the Ballerina cells of any notebook type so that the
+     * client sends the notebook notifications to the {@link BallerinaNotebookDocumentService}.
+     *
+     * @return notebook document sync options
+     */
+    private static NotebookDocumentSyncRegistrationOptions getNotebookDocumentSyncOptions() {
+        NotebookSelector notebookSelector = new NotebookSelector();
+        notebookSelector.setNotebook(Either.forLeft("*"));
+        notebookSelector.setCells(List.of(new NotebookSelectorCell(CommonUtil.LANGUAGE_ID_BALLERINA)));
+        return new NotebookDocumentSyncRegistrationOptions(List.of(notebookSelector));
+    }
+
     @Override
     public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
         final InitializeResult res = new InitializeResult(new ServerCapabilities());
         res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Full);
+        res.getCapabilities().setNotebookDocumentSync(getNotebookDocumentSyncOptions());
 
         Map<String, Object> experimentalClientCapabilities = null;
         if (params.getCapabilities().getExperimental() != null) {
@@ -166,7 +184,9 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
         res.getCapabilities().setImplementationProvider(false);
         res.getCapabilities().setFoldingRangeProvider(true);
         res.getCapabilities().setCodeLensProvider(new CodeLensOptions());
-        res.getCapabilities().setInlayHintProvider(true);
+        InlayHintRegistrationOptions inlayHintOptions = new InlayHintRegistrationOptions();
+        inlayHintOptions.setResolveProvider(true);
+        res.getCapabilities().setInlayHintProvider(Either.forRight(inlayHintOptions));
 
         CodeActionOptions codeActionOptions = new CodeActionOptions(List.of(CodeActionKind.Refactor,
                 CodeActionKind.QuickFix, CodeActionKind.Source));
@@ -237,7 +257,7 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
             LSPackageLoader.getInstance(this.serverContext).loadModules(this.serverContext);
         }
         if (lsClientCapabilities.getInitializationOptions().isEnableMemoryUsageMonitor()) {
-            MemoryUsageMonitor.getInstance(this.serverContext).start(client);
+            MemoryPressureManager.getInstance(this.serverContext).start(client);
         }
     }
 
@@ -374,6 +394,11 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
         for (ExtendedLanguageServerService service : extendedServices) {
             service.shutdown();
         }
+        MemoryPressureManager memoryPressureManager =
+                this.serverContext.get(MemoryPressureManager.MEMORY_PRESSURE_MANAGER_KEY);
+        if (memoryPressureManager != null) {
+            memoryPressureManager.stop();
+        }
         return CompletableFuture.supplyAsync(Object::new);
     }
 
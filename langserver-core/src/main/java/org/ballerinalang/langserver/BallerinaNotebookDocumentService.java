@@ -16,14 +16,38 @@
 package org.ballerinalang.langserver;
 
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
+import org.ballerinalang.langserver.commons.notebook.Notebook;
+import org.ballerinalang.langserver.commons.notebook.NotebookDocumentManager;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.workspace.DocumentBuffer;
 import org.eclipse.lsp4j.DidChangeNotebookDocumentParams;
 import org.eclipse.lsp4j.DidCloseNotebookDocumentParams;
 import org.eclipse.lsp4j.DidOpenNotebookDocumentParams;
 import org.eclipse.lsp4j.DidSaveNotebookDocumentParams;
+import org.eclipse.lsp4j.NotebookCell;
+import org.eclipse.lsp4j.NotebookCellArrayChange;
+import org.eclipse.lsp4j.NotebookCellKind;
+import org.eclipse.lsp4j.NotebookDocumentChangeEventCellStructure;
+import org.eclipse.lsp4j.NotebookDocumentChangeEventCellTextContent;
+import org.eclipse.lsp4j.NotebookDocumentChangeEventCells;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.services.NotebookDocumentService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Notebook document service implementation for ballerina.
+ * <p>
+ * The cells of the open notebooks are kept in the {@link NotebookDocumentManager}. Content changes are applied to the
+ * changed cells only, so the declarations cached for the other cells stay valid.
  *
  * @since 1.0.0
  */
@@ -31,29 +55,117 @@ public class BallerinaNotebookDocumentService implements NotebookDocumentService
 
     private final LanguageServerContext serverContext;
     private final LSClientLogger clientLogger;
+    private final NotebookDocumentManager notebookManager;
 
     BallerinaNotebookDocumentService(LanguageServerContext serverContext) {
         this.serverContext = serverContext;
         this.clientLogger = LSClientLogger.getInstance(this.serverContext);
+        this.notebookManager = NotebookDocumentManager.getInstance(this.serverContext);
     }
 
     @Override
     public void didOpen(DidOpenNotebookDocumentParams params) {
-        this.clientLogger.logMessage("Not supported yet");
+        String notebookUri = params.getNotebookDocument().getUri();
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(LSContextOperation.NB_DID_OPEN)) {
+            List<Notebook.Cell> cells = toCells(params.getNotebookDocument().getCells(),
+                    sources(params.getCellTextDocuments()));
+            this.notebookManager.open(new Notebook(notebookUri, params.getNotebookDocument().getVersion(), cells));
+            this.clientLogger.logTrace("Operation '" + LSContextOperation.NB_DID_OPEN.getName() +
+                    "' {notebookUri: '" + notebookUri + "'} opened");
+        } catch (Throwable e) {
+            String msg = "Operation 'notebook/didOpen' failed!";
+            this.clientLogger.logError(LSContextOperation.NB_DID_OPEN, msg, e, new TextDocumentIdentifier(notebookUri),
+                    (Position) null);
+        }
     }
 
     @Override
     public void didChange(DidChangeNotebookDocumentParams params) {
-        this.clientLogger.logMessage("Not supported yet");
+        String notebookUri = params.getNotebookDocument().getUri();
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(LSContextOperation.NB_DID_CHANGE)) {
+            Optional<Notebook> notebook = this.notebookManager.notebook(notebookUri);
+            if (notebook.isEmpty()) {
+                this.clientLogger.logTrace("Operation '" + LSContextOperation.NB_DID_CHANGE.getName() +
+                        "' {notebookUri: '" + notebookUri + "'} ignored, the notebook is not open");
+                return;
+            }
+            notebook.get().setVersion(params.getNotebookDocument().getVersion());
+            NotebookDocumentChangeEventCells cellChanges = params.getChange().getCells();
+            if (cellChanges != null) {
+                applyStructureChange(notebook.get(), cellChanges.getStructure());
+                applyTextChanges(notebook.get(), cellChanges.getTextContent());
+            }
+            this.clientLogger.logTrace("Operation '" + LSContextOperation.NB_DID_CHANGE.getName() +
+                    "' {notebookUri: '" + notebookUri + "'} updated");
+        } catch (Throwable e) {
+            String msg = "Operation 'notebook/didChange' failed!";
+            this.clientLogger.logError(LSContextOperation.NB_DID_CHANGE, msg, e,
+                    new TextDocumentIdentifier(notebookUri), (Position) null);
+        }
     }
 
     @Override
     public void didSave(DidSaveNotebookDocumentParams params) {
-        this.clientLogger.logMessage("Not supported yet");
+        // The cells are evaluated from their in-memory content, hence nothing to do on save
     }
 
     @Override
     public void didClose(DidCloseNotebookDocumentParams params) {
-        this.clientLogger.logMessage("Not supported yet");
+        String notebookUri = params.getNotebookDocument().getUri();
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(LSContextOperation.NB_DID_CLOSE)) {
+            this.notebookManager.close(notebookUri);
+            this.clientLogger.logTrace("Operation '" + LSContextOperation.NB_DID_CLOSE.getName() +
+                    "' {notebookUri: '" + notebookUri + "'} closed");
+        } catch (Throwable e) {
+            String msg = "Operation 'notebook/didClose' failed!";
+            this.clientLogger.logError(LSContextOperation.NB_DID_CLOSE, msg, e,
+                    new TextDocumentIdentifier(notebookUri), (Position) null);
+        }
+    }
+
+    private static void applyStructureChange(Notebook notebook, NotebookDocumentChangeEventCellStructure structure) {
+        if (structure == null || structure.getArray() == null) {
+            return;
+        }
+        NotebookCellArrayChange arrayChange = structure.getArray();
+        List<NotebookCell> newCells = arrayChange.getCells() == null ? List.of() : arrayChange.getCells();
+        notebook.replaceCells(arrayChange.getStart(), arrayChange.getDeleteCount(),
+                toCells(newCells, sources(structure.getDidOpen())));
+    }
+
+    private static void applyTextChanges(Notebook notebook, List<NotebookDocumentChangeEventCellTextContent> changes)
+            throws WorkspaceDocumentException {
+        if (changes == null) {
+            return;
+        }
+        for (NotebookDocumentChangeEventCellTextContent change : changes) {
+            String cellUri = change.getDocument().getUri();
+            Optional<Notebook.Cell> cell = notebook.cell(cellUri);
+            if (cell.isEmpty()) {
+                continue;
+            }
+            String source = new DocumentBuffer(cell.get().source()).apply(change.getChanges());
+            notebook.updateCell(cellUri, source);
+        }
+    }
+
+    private static List<Notebook.Cell> toCells(List<NotebookCell> notebookCells, Map<String, String> sources) {
+        List<Notebook.Cell> cells = new ArrayList<>(notebookCells.size());
+        for (NotebookCell notebookCell : notebookCells) {
+            String cellUri = notebookCell.getDocument();
+            cells.add(new Notebook.Cell(cellUri, notebookCell.getKind() == NotebookCellKind.Code,
+                    sources.getOrDefault(cellUri, "")));
+        }
+        return cells;
+    }
+
+    private static Map<String, String> sources(List<TextDocumentItem> textDocuments) {
+        Map<String, String> sources = new HashMap<>();
+        if (textDocuments != null) {
+            for (TextDocumentItem textDocument : textDocuments) {
+                sources.put(textDocument.getUri(), textDocument.getText());
+            }
+        }
+        return sources;
     }
 }
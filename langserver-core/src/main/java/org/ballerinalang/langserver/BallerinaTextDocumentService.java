@@ -46,11 +46,14 @@ import org.ballerinalang.langserver.commons.SignatureContext;
 import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
 import org.ballerinalang.langserver.commons.codeaction.ResolvableCodeAction;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.definition.DefinitionUtil;
 import org.ballerinalang.langserver.documentsymbol.DocumentSymbolUtil;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
+import org.ballerinalang.langserver.extensions.ballerina.document.SyntaxTreeDeltas;
 import org.ballerinalang.langserver.foldingrange.FoldingRangeProvider;
 import org.ballerinalang.langserver.hover.HoverUtil;
 import org.ballerinalang.langserver.inlayhint.InlayHintProvider;
@@ -116,6 +119,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static org.ballerinalang.formatter.core.FormatterUtils.buildFormattingOptions;
+import static org.ballerinalang.langserver.commons.metrics.OperationTracer.traced;
 
 /**
  * Text document service implementation for ballerina.
@@ -148,7 +152,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_COMPLETION, (cancelChecker) -> {
             String fileUri = position.getTextDocument().getUri();
             CompletionContext context = ContextBuilder.buildCompletionContext(fileUri,
                     this.workspaceManagerProxy.get(fileUri),
@@ -168,12 +172,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Either.forLeft(Collections.emptyList());
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<Hover> hover(HoverParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_HOVER, (cancelChecker) -> {
             try {
                 HoverContext context = ContextBuilder.buildHoverContext(
                         PathUtil.convertUriSchemeFromBala(params.getTextDocument().getUri()),
@@ -191,12 +195,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return null;
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<SignatureHelp> signatureHelp(SignatureHelpParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_SIGNATURE, (cancelChecker) -> {
             String uri = params.getTextDocument().getUri();
             Optional<Path> sigFilePath = PathUtil.getPathFromURI(uri);
 
@@ -225,13 +229,13 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return null;
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> definition
             (DefinitionParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_DEFINITION, (cancelChecker) -> {
             try {
                 BallerinaDefinitionContext defContext = ContextBuilder.buildDefinitionContext(
                         PathUtil.convertUriSchemeFromBala(params.getTextDocument().getUri()),
@@ -251,12 +255,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Either.forLeft(Collections.emptyList());
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_REFERENCES, (cancelChecker) -> {
             try {
                 String fileUri = params.getTextDocument().getUri();
                 ReferencesContext context = ContextBuilder.buildReferencesContext(
@@ -300,13 +304,13 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Collections.emptyList();
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>>
     documentSymbol(DocumentSymbolParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_DOC_SYMBOL, (cancelChecker) -> {
             String fileUri = params.getTextDocument().getUri();
             Optional<Path> docSymbolFilePath = PathUtil.getPathFromURI(fileUri);
 
@@ -329,12 +333,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
                         (Position) null);
                 return new ArrayList<>();
             }
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_CODE_ACTION, (cancelChecker) -> {
             String fileUri = params.getTextDocument().getUri();
             try {
                 CodeActionContext context = ContextBuilder.buildCodeActionContext(fileUri,
@@ -356,12 +360,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
                         range.getStart(), range.getEnd());
             }
             return Collections.emptyList();
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_RESOLVE_CODE_ACTION, (cancelChecker) -> {
             try {
                 ResolvableCodeAction resolvableCodeAction = ResolvableCodeAction.from(codeAction);
                 if (resolvableCodeAction.getData() == null || resolvableCodeAction.getData().getFileUri() == null) {
@@ -388,12 +392,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return codeAction;
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_CODE_LENS, (cancelChecker) -> {
             if (!LSCodeLensesProviderHolder.getInstance(this.serverContext).isEnabled()) {
                 // Disabled ballerina codeLens feature
                 clientCapabilities.getTextDocCapabilities().setCodeLens(null);
@@ -427,12 +431,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Collections.emptyList();
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_FORMATTING, (cancelChecker) -> {
             String fileUri = params.getTextDocument().getUri();
             DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(fileUri,
                     this.workspaceManagerProxy.get(),
@@ -469,7 +473,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Collections.emptyList();
-        });
+        }));
     }
 
     /**
@@ -480,7 +484,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
      */
     @Override
     public CompletableFuture<List<? extends TextEdit>> rangeFormatting(DocumentRangeFormattingParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_RANGE_FORMATTING, (cancelChecker) -> {
             String fileUri = params.getTextDocument().getUri();
             DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(fileUri,
                     this.workspaceManagerProxy.get(),
@@ -515,13 +519,13 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Collections.emptyList();
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<Either3<Range, PrepareRenameResult, PrepareRenameDefaultBehavior>>
     prepareRename(PrepareRenameParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_PREPARE_RENAME, (cancelChecker) -> {
             try {
                 String fileUri = params.getTextDocument().getUri();
                 PrepareRenameContext context = ContextBuilder.buildPrepareRenameContext(
@@ -545,12 +549,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return null;
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<WorkspaceEdit> rename(RenameParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_RENAME, (cancelChecker) -> {
             try {
                 RenameContext context = ContextBuilder.buildRenameContext(params,
                         this.workspaceManagerProxy.get(),
@@ -569,13 +573,13 @@ class BallerinaTextDocumentService implements TextDocumentService {
                         params.getPosition());
             }
             return null;
-        });
+        }));
     }
 
     @Override
     public void didOpen(DidOpenTextDocumentParams params) {
         String fileUri = params.getTextDocument().getUri();
-        try {
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(LSContextOperation.TXT_DID_OPEN)) {
             DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(
                     PathUtil.convertUriSchemeFromBala(fileUri),
                     this.workspaceManagerProxy.get(fileUri),
@@ -596,7 +600,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
         String fileUri = params.getTextDocument().getUri();
-        try {
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(LSContextOperation.TXT_DID_CHANGE)) {
             // Update content
             DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(
                     PathUtil.convertUriSchemeFromBala(fileUri),
@@ -619,13 +623,14 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
         String fileUri = params.getTextDocument().getUri();
-        try {
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(LSContextOperation.TXT_DID_CLOSE)) {
             DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(
                     PathUtil.convertUriSchemeFromBala(fileUri),
                     this.workspaceManagerProxy.get(fileUri),
                     LSContextOperation.TXT_DID_CLOSE,
                     this.serverContext);
             this.workspaceManagerProxy.didClose(params);
+            SyntaxTreeDeltas.getInstance(this.serverContext).evict(fileUri);
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {fileUri: '" + fileUri + "'} closed");
         } catch (Throwable e) {
@@ -641,7 +646,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_FOLDING_RANGE, (cancelChecker) -> {
             try {
                 boolean lineFoldingOnly = this.clientCapabilities.getTextDocCapabilities().getFoldingRange() != null &&
                         Boolean.TRUE.equals(this.clientCapabilities.getTextDocCapabilities()
@@ -663,12 +668,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Collections.emptyList();
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_SEMANTIC_TOKENS_FULL, (cancelChecker) -> {
             try {
                 SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
                         params.getTextDocument().getUri(),
@@ -687,16 +692,17 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return new SemanticTokens(new ArrayList<>());
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return CompletableFutures.computeAsync(traced(LSContextOperation.TXT_INLAY_HINT, (cancelChecker) -> {
             try {
                 InlayHintContext context = ContextBuilder.buildInlayHintContext(
                         params.getTextDocument().getUri(),
                         this.workspaceManagerProxy.get(),
+                        params.getRange(),
                         this.serverContext,
                         cancelChecker);
 
@@ -711,6 +717,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
             }
 
             return Collections.emptyList();
-        });
+        }));
+    }
+
+    @Override
+    public CompletableFuture<InlayHint> resolveInlayHint(InlayHint unresolved) {
+        return CompletableFuture.supplyAsync(() -> InlayHintProvider.resolveInlayHint(this.serverContext,
+                this.workspaceManagerProxy, unresolved));
     }
 }
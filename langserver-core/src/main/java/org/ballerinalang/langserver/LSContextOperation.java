@@ -44,6 +44,9 @@ public enum LSContextOperation implements LSOperation {
     TXT_IMPL("text/implementation"),
     TXT_FOLDING_RANGE("text/foldingRange"),
     TXT_SEMANTIC_TOKENS_FULL("text/semanticTokens/full"),
+    NB_DID_OPEN("notebook/didOpen"),
+    NB_DID_CHANGE("notebook/didChange"),
+    NB_DID_CLOSE("notebook/didClose"),
     WS_SYMBOL("workspace/symbol"),
     WS_EXEC_CMD("workspace/executeCommand"),
     WS_WF_CHANGED("workspace/didChangeWatchedFiles"),
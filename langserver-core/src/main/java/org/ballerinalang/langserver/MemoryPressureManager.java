@@ -0,0 +1,287 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.memory.ReclaimableCache;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.MessageType;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Keeps the heap usage of the language server under control by reclaiming the registered caches.
+ * <p>
+ * The heap usage is checked after every garbage collection, with a periodic check as a fallback. When the usage goes
+ * above {@link #MODERATE_THRESHOLD}, the cold entries of the registered {@link ReclaimableCache}s are trimmed in the
+ * least recently used order until the estimated usage drops to {@link #TARGET_USAGE}. Above
+ * {@link #CRITICAL_THRESHOLD}, the entries that are not in use are closed as well and the user is notified. Entries
+ * accessed within the last {@link #HOT_ENTRY_MILLIS} milliseconds are never reclaimed.
+ * <p>
+ * The caches are held weakly, so that registering a cache does not keep its owner, such as a workspace manager,
+ * reachable. The owner is expected to hold the cache for as long as it should be reclaimed.
+ *
+ * @since 1.3.0
+ */
+public class MemoryPressureManager {
+
+    public static final LanguageServerContext.Key<MemoryPressureManager> MEMORY_PRESSURE_MANAGER_KEY =
+            new LanguageServerContext.Key<>();
+
+    static final double MODERATE_THRESHOLD = 0.7;
+    static final double CRITICAL_THRESHOLD = 0.9;
+    static final double TARGET_USAGE = 0.6;
+    static final long HOT_ENTRY_MILLIS = 30_000;
+    static final long RECLAIM_COOLDOWN_MILLIS = 10_000;
+    private static final long POLL_INTERVAL_MILLIS = 60_000;
+    private static final long NOTIFICATION_INTERVAL_MILLIS = 60_000;
+    private static final String SPAN_RECLAIM = "memory/reclaim";
+    private static final String HIGH_MEMORY_MESSAGE = "Memory usage is high. Some features may become unresponsive. " +
+            "Please reload the window or increase the memory allocated for Ballerina";
+    private static final Object LOCK = new Object();
+
+    private final MemoryMXBean memoryMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+    private final Set<String> heapPoolNames;
+    private final List<WeakReference<ReclaimableCache>> caches = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean reclaiming = new AtomicBoolean(false);
+    private final NotificationListener gcListener = this::handleGcNotification;
+    private volatile LanguageClient client;
+    private volatile Thread pollingThread;
+    private volatile long lastReclaimTime;
+    private volatile long lastNotificationTime;
+
+    public MemoryPressureManager(MemoryMXBean memoryMXBean, List<GarbageCollectorMXBean> garbageCollectorMXBeans) {
+        this.memoryMXBean = memoryMXBean;
+        this.garbageCollectorMXBeans = garbageCollectorMXBeans;
+        this.heapPoolNames = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getName)
+                .collect(Collectors.toSet());
+        this.lastReclaimTime = Long.MIN_VALUE / 2;
+        this.lastNotificationTime = Long.MIN_VALUE / 2;
+    }
+
+    public MemoryPressureManager(MemoryMXBean memoryMXBean) {
+        this(memoryMXBean, ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    public MemoryPressureManager() {
+        this(ManagementFactory.getMemoryMXBean());
+    }
+
+    public static MemoryPressureManager getInstance(LanguageServerContext context) {
+        MemoryPressureManager memoryPressureManager = context.get(MEMORY_PRESSURE_MANAGER_KEY);
+        if (memoryPressureManager == null) {
+            synchronized (LOCK) {
+                memoryPressureManager = context.get(MEMORY_PRESSURE_MANAGER_KEY);
+                if (memoryPressureManager == null) {
+                    memoryPressureManager = new MemoryPressureManager();
+                    context.put(MEMORY_PRESSURE_MANAGER_KEY, memoryPressureManager);
+                }
+            }
+        }
+        return memoryPressureManager;
+    }
+
+    /**
+     * Registers a cache to be reclaimed under memory pressure. The cache is held weakly and is unregistered once it is
+     * no longer referenced by its owner.
+     *
+     * @param cache cache to register
+     */
+    public void register(ReclaimableCache cache) {
+        this.caches.add(new WeakReference<>(cache));
+    }
+
+    /**
+     * Stops reclaiming the given cache.
+     *
+     * @param cache cache to unregister
+     */
+    public void unregister(ReclaimableCache cache) {
+        this.caches.removeIf(reference -> reference.get() == null || reference.get() == cache);
+    }
+
+    /**
+     * Starts monitoring the heap usage. The usage is checked immediately, after every garbage collection and once a
+     * minute.
+     *
+     * @param client language client to notify when the memory usage is critical
+     */
+    public void start(LanguageClient client) {
+        this.client = client;
+        for (GarbageCollectorMXBean gcBean : garbageCollectorMXBeans) {
+            if (gcBean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(gcListener, null, null);
+            }
+        }
+        this.pollingThread = Thread.startVirtualThread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                MemoryUsage heapMemoryUsage = memoryMXBean.getHeapMemoryUsage();
+                if (heapMemoryUsage == null) {
+                    return;
+                }
+                checkUsage(heapMemoryUsage.getUsed(), heapMemoryUsage.getMax());
+                try {
+                    Thread.sleep(POLL_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops monitoring the heap usage.
+     */
+    public void stop() {
+        for (GarbageCollectorMXBean gcBean : garbageCollectorMXBeans) {
+            if (gcBean instanceof NotificationEmitter emitter) {
+                try {
+                    emitter.removeNotificationListener(gcListener);
+                } catch (ListenerNotFoundException e) {
+                    // ignore, the manager was not started
+                }
+            }
+        }
+        Thread thread = this.pollingThread;
+        if (thread != null) {
+            thread.interrupt();
+            this.pollingThread = null;
+        }
+    }
+
+    private void handleGcNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long used = 0;
+        for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+            if (heapPoolNames.contains(pool.getKey())) {
+                used += pool.getValue().getUsed();
+            }
+        }
+        MemoryUsage heapMemoryUsage = memoryMXBean.getHeapMemoryUsage();
+        if (heapMemoryUsage != null) {
+            checkUsage(used, heapMemoryUsage.getMax());
+        }
+    }
+
+    /**
+     * Checks the given heap usage against the thresholds and starts reclaiming the caches if required. This is called
+     * on the GC notification thread, hence the reclamation is done on a separate thread.
+     *
+     * @param used bytes used in the heap
+     * @param max  maximum size of the heap
+     */
+    private void checkUsage(long used, long max) {
+        if (max <= 0 || used < max * MODERATE_THRESHOLD) {
+            return;
+        }
+        boolean critical = used >= max * CRITICAL_THRESHOLD;
+        long now = System.currentTimeMillis();
+        if (critical && now - lastNotificationTime >= NOTIFICATION_INTERVAL_MILLIS) {
+            lastNotificationTime = now;
+            LanguageClient languageClient = this.client;
+            if (languageClient != null) {
+                languageClient.showMessage(new MessageParams(MessageType.Error, HIGH_MEMORY_MESSAGE));
+            }
+        }
+        if (now - lastReclaimTime < RECLAIM_COOLDOWN_MILLIS || !reclaiming.compareAndSet(false, true)) {
+            return;
+        }
+        lastReclaimTime = now;
+        long bytesToFree = used - (long) (max * TARGET_USAGE);
+        Thread.startVirtualThread(() -> {
+            try {
+                reclaim(bytesToFree, critical);
+            } finally {
+                reclaiming.set(false);
+            }
+        });
+    }
+
+    /**
+     * Reclaims the cold entries of the registered caches, least recently used first, until the given number of bytes
+     * is estimated to be freed.
+     *
+     * @param bytesToFree number of bytes to free
+     * @param critical    whether the inactive entries should be closed rather than trimmed
+     * @return estimated number of bytes freed
+     */
+    long reclaim(long bytesToFree, boolean critical) {
+        long hotSince = System.currentTimeMillis() - HOT_ENTRY_MILLIS;
+        List<ReclaimableCache.Entry> candidates = new ArrayList<>();
+        for (WeakReference<ReclaimableCache> reference : caches) {
+            ReclaimableCache cache = reference.get();
+            if (cache == null) {
+                caches.remove(reference);
+                continue;
+            }
+            for (ReclaimableCache.Entry entry : cache.entries()) {
+                if (entry.lastAccessTime() < hotSince && entry.estimatedSize() > 0) {
+                    candidates.add(entry);
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong(ReclaimableCache.Entry::lastAccessTime));
+
+        long freed = 0;
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(SPAN_RECLAIM)) {
+            for (ReclaimableCache.Entry entry : candidates) {
+                if (freed >= bytesToFree) {
+                    break;
+                }
+                long size = entry.estimatedSize();
+                boolean reclaimed = critical && !entry.isActive() ? entry.close() : entry.trim();
+                if (reclaimed) {
+                    freed += size;
+                }
+            }
+        }
+        return freed;
+    }
+}
@@ -43,6 +43,7 @@ import org.eclipse.lsp4j.CodeActionParams;
 import org.eclipse.lsp4j.CompletionCapabilities;
 import org.eclipse.lsp4j.DocumentSymbolParams;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SignatureHelpCapabilities;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -398,9 +399,10 @@ public final class ContextBuilder {
 
     public static InlayHintContext buildInlayHintContext(String uri,
                                                          WorkspaceManager workspaceManager,
+                                                         Range range,
                                                          LanguageServerContext serverContext,
                                                          CancelChecker cancelChecker) {
-        return new InlayHintContextImpl.InlayHintContextBuilder(serverContext)
+        return new InlayHintContextImpl.InlayHintContextBuilder(range, serverContext)
                 .withFileUri(uri)
                 .withWorkspaceManager(workspaceManager)
                 .withCancelChecker(cancelChecker)
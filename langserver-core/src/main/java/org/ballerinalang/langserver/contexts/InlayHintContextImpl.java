@@ -20,6 +20,7 @@ import org.ballerinalang.langserver.commons.InlayHintContext;
 import org.ballerinalang.langserver.commons.LSOperation;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 /**
@@ -28,20 +29,34 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
  * @since 1.0.0
  */
 public class InlayHintContextImpl extends AbstractDocumentServiceContext implements InlayHintContext {
+
+    private final Range range;
+
     InlayHintContextImpl(LSOperation operation,
                          String fileUri,
                          WorkspaceManager wsManager,
+                         Range range,
                          LanguageServerContext serverContext,
                          CancelChecker cancelChecker) {
         super(operation, fileUri, wsManager, serverContext, cancelChecker);
+        this.range = range;
+    }
+
+    @Override
+    public Range range() {
+        return this.range;
     }
 
     /**
      * Represents the inlay hint context Builder.
      */
     public static class InlayHintContextBuilder extends AbstractContextBuilder<InlayHintContextBuilder> {
-        public InlayHintContextBuilder(LanguageServerContext serverContext) {
+
+        private final Range range;
+
+        public InlayHintContextBuilder(Range range, LanguageServerContext serverContext) {
             super(LSContextOperation.TXT_INLAY_HINT, serverContext);
+            this.range = range;
         }
 
         @Override
@@ -50,6 +65,7 @@ public class InlayHintContextImpl extends AbstractDocumentServiceContext impleme
                     this.operation,
                     this.fileUri,
                     this.wsManager,
+                    this.range,
                     this.serverContext,
                     this.cancelChecker);
         }
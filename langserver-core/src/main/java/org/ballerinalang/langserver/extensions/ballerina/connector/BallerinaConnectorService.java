@@ -49,6 +49,7 @@ import org.ballerinalang.diagramutil.DiagramUtil;
 import org.ballerinalang.diagramutil.connector.generator.ConnectorGenerator;
 import org.ballerinalang.diagramutil.connector.models.connector.Connector;
 import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.MemoryPressureManager;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -93,6 +94,7 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.connectorExtContext = new ConnectorExtContext();
+        MemoryPressureManager.getInstance(serverContext).register(LSConnectorCache.getInstance(connectorExtContext));
         connectorConfig = System.getenv(DEFAULT_CONNECTOR_FILE_KEY);
         this.clientLogger = LSClientLogger.getInstance(serverContext);
         if (connectorConfig == null) {
@@ -177,18 +179,36 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<JsonObject> connector(BallerinaConnectorRequest request) {
         return CompletableFuture.supplyAsync(() -> {
-            Optional<JsonObject> connector = getConnectorFromCentral(request);
-            if (connector.isPresent()) {
-                return connector.get();
-            }
-            connector = generateFromLocalFiles(request);
-            if (connector.isPresent()) {
-                return connector.get();
+            if (request.getConnectorId() == null && request.getTargetFile() == null && request.getVersion() != null
+                    && !request.getVersion().isEmpty()) {
+                // Connectors resolved by FQN belong to a released package version, hence can be cached. A request
+                // without a version resolves the latest release, which may change, hence is not cached.
+                ConnectorCacheKey cacheKey = ConnectorCacheKey.connector(request.getOrgName(),
+                        request.getPackageName(), request.getModuleName(), request.getVersion(), request.getName());
+                try {
+                    Optional<JsonElement> connector = LSConnectorCache.getInstance(connectorExtContext)
+                            .get(cacheKey, () -> resolveConnector(request).orElse(null));
+                    if (connector.isPresent() && connector.get().isJsonObject()) {
+                        return connector.get().getAsJsonObject();
+                    }
+                } catch (LSConnectorException e) {
+                    String msg = "Operation 'ballerinaConnector/connector' for " + cacheKey + " failed!";
+                    this.clientLogger.logError(this.connectorExtContext, msg, e, null, (Position) null);
+                }
+                return new JsonObject();
             }
-            return new JsonObject();
+            return resolveConnector(request).orElseGet(JsonObject::new);
         });
     }
 
+    private Optional<JsonObject> resolveConnector(BallerinaConnectorRequest request) {
+        Optional<JsonObject> connector = getConnectorFromCentral(request);
+        if (connector.isPresent()) {
+            return connector;
+        }
+        return generateFromLocalFiles(request);
+    }
+
     private Optional<JsonObject> getConnectorFromCentral(BallerinaConnectorRequest request) {
         JsonObject connector;
         try {
@@ -252,71 +272,75 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<BallerinaRecordResponse> record(BallerinaRecordRequest request) {
         String cacheableKey = getCacheableKey(request.getOrg(), request.getModule(), request.getVersion());
-        LSRecordCache recordCache = LSRecordCache.getInstance(connectorExtContext);
-
-        JsonElement ast = recordCache.getRecordAST(request.getOrg(), request.getModule(),
+        LSConnectorCache connectorCache = LSConnectorCache.getInstance(connectorExtContext);
+        ConnectorCacheKey cacheKey = ConnectorCacheKey.record(request.getOrg(), request.getModule(),
                 request.getVersion(), request.getName());
-        String error = "";
-        if (ast == null) {
-            try {
-                Path balaPath = resolveBalaPath(request.getOrg(), request.getModule(), request.getVersion());
-                ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-                defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
-                Project balaProject = ProjectLoader.loadProject(balaPath, defaultBuilder);
-                ModuleId moduleId = balaProject.currentPackage().moduleIds().stream().findFirst().get();
-                Module module = balaProject.currentPackage().module(moduleId);
-                PackageCompilation packageCompilation = balaProject.currentPackage().getCompilation();
-                SemanticModel semanticModel = packageCompilation.getSemanticModel(moduleId);
-
-                Map<String, JsonElement> recordDefJsonMap = new HashMap<>();
-                ConnectorNodeVisitor connectorNodeVisitor = new ConnectorNodeVisitor(request.getName(), semanticModel);
-                module.documentIds().forEach(documentId ->
-                    module.document(documentId).syntaxTree().rootNode().accept(connectorNodeVisitor));
-
-
-                TypeDefinitionNode recordNode = null;
-                JsonElement recordJson = null;
-
-                for (Map.Entry<String, TypeDefinitionNode> recordEntry
-                        : connectorNodeVisitor.getRecords().entrySet()) {
-                    String key = recordEntry.getKey();
-                    TypeDefinitionNode record = recordEntry.getValue();
-
-                    JsonElement jsonST = DiagramUtil.getTypeDefinitionSyntaxJson(record, semanticModel);
-
-                    if (record.typeName().text().equals(request.getName())) {
-                        recordNode = record;
-                        recordJson = jsonST;
-                    } else {
-                        recordDefJsonMap.put(key, jsonST);
-                    }
-                }
-
-                Gson gson = new Gson();
-                if (recordNode != null) {
-                    if (recordJson instanceof JsonObject jsonObject) {
-                        JsonElement recordsJson = gson.toJsonTree(recordDefJsonMap);
-                        jsonObject.add("records", recordsJson);
-                    }
-                    recordCache.addRecordAST(request.getOrg(), request.getModule(),
-                            request.getVersion(), request.getName(), recordJson);
-                }
-
-                ast = recordCache.getRecordAST(request.getOrg(), request.getModule(),
-                        request.getVersion(), request.getName());
-            } catch (Exception e) {
-                String msg = "Operation 'ballerinaConnector/record' for " + cacheableKey + ":" +
-                        request.getName() + " failed!";
-                error = e.getMessage();
-                this.clientLogger.logError(this.connectorExtContext, msg, e, null, (Position) null);
-            }
 
+        JsonElement ast = null;
+        String error = "";
+        try {
+            ast = connectorCache.get(cacheKey, () -> generateRecordAST(request)).orElse(null);
+        } catch (LSConnectorException e) {
+            String msg = "Operation 'ballerinaConnector/record' for " + cacheableKey + ":" +
+                    request.getName() + " failed!";
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            error = cause.getMessage();
+            this.clientLogger.logError(this.connectorExtContext, msg, cause, null, (Position) null);
         }
         BallerinaRecordResponse response = new BallerinaRecordResponse(request.getOrg(), request.getModule(),
                 request.getVersion(), request.getName(), ast, error, request.getBeta());
         return CompletableFuture.supplyAsync(() -> response);
     }
 
+    /**
+     * Generates the syntax tree JSON of the requested record along with the other records of its module.
+     *
+     * @param request record request
+     * @return record syntax tree JSON, or null if the record is not found
+     * @throws LSConnectorException if the bala of the package cannot be resolved
+     */
+    private JsonElement generateRecordAST(BallerinaRecordRequest request) throws LSConnectorException {
+        Path balaPath = resolveBalaPath(request.getOrg(), request.getModule(), request.getVersion());
+        ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        Project balaProject = ProjectLoader.loadProject(balaPath, defaultBuilder);
+        ModuleId moduleId = balaProject.currentPackage().moduleIds().stream().findFirst().get();
+        Module module = balaProject.currentPackage().module(moduleId);
+        PackageCompilation packageCompilation = balaProject.currentPackage().getCompilation();
+        SemanticModel semanticModel = packageCompilation.getSemanticModel(moduleId);
+
+        Map<String, JsonElement> recordDefJsonMap = new HashMap<>();
+        ConnectorNodeVisitor connectorNodeVisitor = new ConnectorNodeVisitor(request.getName(), semanticModel);
+        module.documentIds().forEach(documentId ->
+                module.document(documentId).syntaxTree().rootNode().accept(connectorNodeVisitor));
+
+        TypeDefinitionNode recordNode = null;
+        JsonElement recordJson = null;
+
+        for (Map.Entry<String, TypeDefinitionNode> recordEntry : connectorNodeVisitor.getRecords().entrySet()) {
+            String key = recordEntry.getKey();
+            TypeDefinitionNode record = recordEntry.getValue();
+
+            JsonElement jsonST = DiagramUtil.getTypeDefinitionSyntaxJson(record, semanticModel);
+
+            if (record.typeName().text().equals(request.getName())) {
+                recordNode = record;
+                recordJson = jsonST;
+            } else {
+                recordDefJsonMap.put(key, jsonST);
+            }
+        }
+
+        if (recordNode == null) {
+            return null;
+        }
+        if (recordJson instanceof JsonObject jsonObject) {
+            JsonElement recordsJson = new Gson().toJsonTree(recordDefJsonMap);
+            jsonObject.add("records", recordsJson);
+        }
+        return recordJson;
+    }
+
     private String getCacheableKey(String orgName, String moduleName, String version) {
         return orgName + "_" + moduleName + "_" +
                 (version.isEmpty() ? ProjectDirConstants.BLANG_PKG_DEFAULT_VERSION : version);
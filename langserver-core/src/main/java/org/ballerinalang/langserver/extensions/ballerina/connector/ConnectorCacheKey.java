@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.connector;
+
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+/**
+ * Identifies a connector or record entry in the {@link LSConnectorCache} by its package coordinate.
+ *
+ * @param kind        kind of the cached entry
+ * @param org         organization of the package
+ * @param packageName package name
+ * @param module      module name
+ * @param version     package version
+ * @param name        name of the connector or record
+ * @since 1.3.0
+ */
+public record ConnectorCacheKey(Kind kind, String org, String packageName, String module, String version,
+                                String name) {
+
+    public ConnectorCacheKey {
+        version = (version == null || version.isEmpty()) ? ProjectDirConstants.BLANG_PKG_DEFAULT_VERSION : version;
+    }
+
+    public static ConnectorCacheKey connector(String org, String packageName, String module, String version,
+                                              String name) {
+        return new ConnectorCacheKey(Kind.CONNECTOR, org, packageName, module, version, name);
+    }
+
+    public static ConnectorCacheKey record(String org, String module, String version, String name) {
+        // Records are resolved from the package named after the module
+        return new ConnectorCacheKey(Kind.RECORD, org, module, module, version, name);
+    }
+
+    @Override
+    public String toString() {
+        return org + "/" + packageName + ":" + version + ":" + module + ":" + name;
+    }
+
+    /**
+     * Represents the kind of the cached entry.
+     */
+    public enum Kind {
+        CONNECTOR,
+        RECORD
+    }
+}
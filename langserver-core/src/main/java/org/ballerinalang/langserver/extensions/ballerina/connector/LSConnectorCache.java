@@ -18,21 +18,46 @@
 
 package org.ballerinalang.langserver.extensions.ballerina.connector;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.gson.JsonElement;
+import org.ballerinalang.langserver.commons.memory.ReclaimableCache;
+import org.ballerinalang.langserver.exception.LSConnectorException;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
- * Cache to contain connector information.
+ * Cache to contain connector and record information.
+ * <p>
+ * Entries are weighted by the length of their serialized JSON and the cache is bounded by {@link #MAX_WEIGHT}. The
+ * weight is computed once, when the entry is created, and kept with the value. The values are softly referenced so
+ * that the GC can reclaim them under memory pressure. Concurrent requests for the same key are collapsed into a single
+ * load. The cache is also cleared by the memory pressure manager when it has not been used for a while.
+ *
+ * @since 1.0.0
  */
-public class LSConnectorCache {
+public class LSConnectorCache implements ReclaimableCache {
 
     private static final ConnectorExtContext.Key<LSConnectorCache> LS_CONNECTOR_CACHE_KEY =
             new ConnectorExtContext.Key<>();
 
     private static final Object LOCK = new Object();
 
-    HashMap<String, JsonElement> connectorConfigs;
+    /**
+     * Maximum total weight of the cache, measured in characters of serialized JSON.
+     */
+    static final long MAX_WEIGHT = 32L * 1024 * 1024;
+
+    private final Cache<ConnectorCacheKey, WeightedValue> entries;
+    private volatile long lastAccessTime = System.currentTimeMillis();
 
     public static LSConnectorCache getInstance(ConnectorExtContext context) {
         LSConnectorCache lsConnectorCache = context.get(LS_CONNECTOR_CACHE_KEY);
@@ -40,7 +65,7 @@ public class LSConnectorCache {
             synchronized (LOCK) {
                 lsConnectorCache = context.get(LS_CONNECTOR_CACHE_KEY);
                 if (lsConnectorCache == null) {
-                    lsConnectorCache = new LSConnectorCache();
+                    lsConnectorCache = new LSConnectorCache(MAX_WEIGHT);
                     context.put(LS_CONNECTOR_CACHE_KEY, lsConnectorCache);
                 }
             }
@@ -48,20 +73,125 @@ public class LSConnectorCache {
         return lsConnectorCache;
     }
 
-    private LSConnectorCache() {
-        connectorConfigs = new HashMap<>();
+    LSConnectorCache(long maxWeight) {
+        this.entries = CacheBuilder.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((ConnectorCacheKey key, WeightedValue value) -> value.weight())
+                .softValues()
+                .recordStats()
+                .build();
+    }
+
+    public void put(ConnectorCacheKey key, JsonElement value) {
+        this.lastAccessTime = System.currentTimeMillis();
+        this.entries.put(key, WeightedValue.of(value));
+    }
+
+    public Optional<JsonElement> get(ConnectorCacheKey key) {
+        this.lastAccessTime = System.currentTimeMillis();
+        return Optional.ofNullable(this.entries.getIfPresent(key)).map(WeightedValue::value);
+    }
+
+    /**
+     * Returns the cached value for the given key, loading it with the provided loader if absent. Only one loader runs
+     * for a given key at a time; other callers wait for its result. A loader may return {@code null} to indicate that
+     * there is nothing to cache, in which case an empty result is returned.
+     *
+     * @param key    cache key
+     * @param loader loader used to compute the value
+     * @return the cached or loaded value
+     * @throws LSConnectorException if the loader fails
+     */
+    public Optional<JsonElement> get(ConnectorCacheKey key, Callable<JsonElement> loader)
+            throws LSConnectorException {
+        this.lastAccessTime = System.currentTimeMillis();
+        try {
+            return Optional.of(this.entries.get(key, () -> {
+                JsonElement value = loader.call();
+                return value == null ? null : WeightedValue.of(value);
+            }).value());
+        } catch (CacheLoader.InvalidCacheLoadException e) {
+            return Optional.empty();
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new LSConnectorException("Failed to load '" + key + "': " + cause.getMessage(), cause);
+        }
+    }
+
+    public void invalidate(ConnectorCacheKey key) {
+        this.entries.invalidate(key);
+    }
+
+    public void clear() {
+        this.entries.invalidateAll();
+    }
+
+    public long size() {
+        return this.entries.size();
     }
 
-    public void addConnectorConfig(String org, String module, String version, String connector,
-                                   JsonElement connectorConfig) {
-        this.connectorConfigs.put(createKey(org, module, version, connector), connectorConfig);
+    /**
+     * Returns the hit, miss, load and eviction counters of the cache.
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return this.entries.stats();
     }
 
-    public JsonElement getConnectorConfig(String org, String module, String version, String connector) {
-        return this.connectorConfigs.get(createKey(org, module, version, connector));
+    @Override
+    public String name() {
+        return "connectors";
     }
 
-    private String createKey(String org, String module, String version, String connector) {
-        return org + "-" + module + "-" + version + "-" + connector;
+    @Override
+    public Collection<? extends Entry> entries() {
+        return List.of(new Entry() {
+            @Override
+            public String id() {
+                return name();
+            }
+
+            @Override
+            public long lastAccessTime() {
+                return lastAccessTime;
+            }
+
+            @Override
+            public long estimatedSize() {
+                // The weight is measured in characters
+                return entries.asMap().values().stream().mapToLong(WeightedValue::weight).sum() * Character.BYTES;
+            }
+
+            @Override
+            public boolean isActive() {
+                return false;
+            }
+
+            @Override
+            public boolean trim() {
+                clear();
+                return true;
+            }
+
+            @Override
+            public boolean close() {
+                clear();
+                return true;
+            }
+        });
+    }
+
+    /**
+     * A cached value along with its weight, so that the value is serialized only once to be weighed.
+     *
+     * @param value  cached value
+     * @param weight length of the serialized value
+     */
+    private record WeightedValue(JsonElement value, int weight) {
+
+        static WeightedValue of(JsonElement value) {
+            return new WeightedValue(value, Math.max(1, value.toString().length()));
+        }
     }
 }
@@ -21,6 +21,7 @@ import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.PackageCompilation;
@@ -31,6 +32,7 @@ import io.ballerina.syntaxapicallsgen.config.SyntaxApiCallsGenConfig;
 import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.diagramutil.DiagramUtil;
+import org.ballerinalang.diagramutil.EnrichmentLevel;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.command.executors.PullModuleExecutor;
@@ -85,6 +87,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LSClientLogger clientLogger;
     private LanguageServerContext serverContext;
+    private SyntaxTreeDeltas syntaxTreeDeltas;
 
     @Override
     public void init(LanguageServer langServer,
@@ -92,6 +95,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                      LanguageServerContext serverContext) {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.serverContext = serverContext;
+        this.syntaxTreeDeltas = SyntaxTreeDeltas.getInstance(serverContext);
         this.clientLogger = LSClientLogger.getInstance(serverContext);
     }
 
@@ -152,13 +156,10 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
             // Get the semantic model.
             Optional<SemanticModel> semanticModel = this.workspaceManagerProxy.get().semanticModel(filePath.get());
 
-            // Get the generated syntax tree JSON with type info.
-            JsonElement jsonSyntaxTree = DiagramUtil.getSyntaxTreeJSON(srcFile.get(), semanticModel.get());
-
-            // Preparing the response.
+            // Preparing the response with the generated syntax tree JSON with type info.
             reply.setSource(srcFile.get().syntaxTree().toSourceCode());
-            reply.setSyntaxTree(jsonSyntaxTree);
-            reply.setParseSuccess(reply.getSyntaxTree() != null);
+            reply.setParseSuccess(respondDocument(fileUri, request.getPreviousVersion(), srcFile.get(),
+                    semanticModel.get(), request.getEnrichmentLevel(), request.includeMinutiae(), reply));
         } catch (Throwable e) {
             reply.setParseSuccess(false);
             String msg = "Operation 'ballerinaDocument/syntaxTree' failed!";
@@ -191,13 +192,14 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                 SyntaxTree syntaxTree = srcFile.get().syntaxTree();
                 NonTerminalNode node = CommonUtil.findNode(request.getLineRange(), syntaxTree);
 
-                // Get the generated syntax tree JSON with type info.
-                JsonElement subSyntaxTreeJSON = DiagramUtil.getSyntaxTreeJSON(node, semanticModel.get());
-
-                // Preparing the response.
+                // Preparing the response with the generated syntax tree JSON with type info.
                 reply.setSource(node.toSourceCode());
-                reply.setSyntaxTree(subSyntaxTreeJSON);
-                reply.setParseSuccess(reply.getSyntaxTree() != null);
+                boolean includeMinutiae = request.includeMinutiae();
+                reply.setParseSuccess(syntaxTreeDeltas.respond(rangeView(fileUri, "range", request.getLineRange()),
+                        request.getPreviousVersion(), node.kind() == SyntaxKind.LIST ? node.parent() : node,
+                        request.getEnrichmentLevel(), includeMinutiae, (mapped, enrichmentLevel) ->
+                                DiagramUtil.getSyntaxTreeJSON(mapped, semanticModel.get(), enrichmentLevel,
+                                        includeMinutiae), reply));
                 return reply;
             } catch (Throwable e) {
                 reply.setParseSuccess(false);
@@ -265,13 +267,19 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
 
         try {
             // Apply modifications.
-            JsonElement syntaxTreeWithSource = BallerinaTreeModifyUtil.modifyTree(request.getAstModifications(),
-                    filePath.get(), this.workspaceManagerProxy.get());
+            WorkspaceManager workspaceManager = this.workspaceManagerProxy.get();
+            SemanticModel semanticModel = BallerinaTreeModifyUtil.modifyDocument(request.getAstModifications(),
+                    filePath.get(), workspaceManager);
+            Optional<Document> modifiedFile = workspaceManager.document(filePath.get());
+            if (modifiedFile.isEmpty()) {
+                reply.setParseSuccess(false);
+                return CompletableFuture.supplyAsync(() -> reply);
+            }
 
-            // Preparing the response.
-            reply.setSource(syntaxTreeWithSource.getAsJsonObject().get("source").getAsString());
-            reply.setSyntaxTree(syntaxTreeWithSource.getAsJsonObject().get("tree"));
-            reply.setParseSuccess(reply.getSyntaxTree() != null);
+            // Preparing the response. The modified tree replaces the document tree the client holds.
+            reply.setSource(modifiedFile.get().syntaxTree().toSourceCode());
+            reply.setParseSuccess(respondDocument(fileUri, request.getPreviousVersion(), modifiedFile.get(),
+                    semanticModel, EnrichmentLevel.FULL, true, reply));
         } catch (Throwable e) {
             reply.setParseSuccess(false);
             String msg = "Operation 'ballerinaDocument/syntaxTreeModify' failed!";
@@ -372,8 +380,11 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
 
                                     // Set the node syntax tree JSON with type info and source code.
                                     reply.setSource(node.toSourceCode());
-                                    reply.setSyntaxTree(DiagramUtil.getSyntaxTreeJSON(node, semanticModelNew));
-                                    reply.setParseSuccess(reply.getSyntaxTree() != null);
+                                    reply.setParseSuccess(syntaxTreeDeltas.respond(
+                                            rangeView(fileUri, "name", request.getLineRange()),
+                                            request.getPreviousVersion(), node, EnrichmentLevel.FULL, true,
+                                            (mapped, enrichmentLevel) -> DiagramUtil.getSyntaxTreeJSON(mapped,
+                                                    semanticModelNew, enrichmentLevel, true), reply));
                                     reply.setDefFilePath(defFilePathLocation.toUri().toString());
                                 }
                             });
@@ -573,6 +584,27 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
         });
     }
 
+    private static String documentView(String fileUri) {
+        return fileUri;
+    }
+
+    private boolean respondDocument(String fileUri, Long previousVersion, Document document,
+                                    SemanticModel semanticModel, EnrichmentLevel enrichmentLevel,
+                                    boolean includeMinutiae, BallerinaSyntaxTreeResponse reply) {
+        ModulePartNode root = document.syntaxTree().rootNode();
+        // The document variant collects the module level endpoints, which the subtrees are mapped without
+        return syntaxTreeDeltas.respond(documentView(fileUri), previousVersion, root, enrichmentLevel,
+                includeMinutiae, (node, level) -> node == root
+                        ? DiagramUtil.getSyntaxTreeJSON(document, semanticModel, level, includeMinutiae)
+                        : DiagramUtil.getSyntaxTreeJSON(node, semanticModel, level, includeMinutiae), reply);
+    }
+
+    private static String rangeView(String fileUri, String kind, Range range) {
+        return SyntaxTreeDeltas.partView(fileUri, kind + ":" + range.getStart().getLine() + ":"
+                + range.getStart().getCharacter() + "-" + range.getEnd().getLine() + ":"
+                + range.getEnd().getCharacter());
+    }
+
     @Override
     public Class<?> getRemoteInterface() {
         return getClass();
@@ -28,6 +28,7 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 public class BallerinaSyntaxTreeByNameRequest {
 
     private TextDocumentIdentifier documentIdentifier;
+    private Long previousVersion;
     private Range lineRange;
 
     public BallerinaSyntaxTreeByNameRequest() {
@@ -49,4 +50,17 @@ public class BallerinaSyntaxTreeByNameRequest {
         this.lineRange = lineRange;
     }
 
+    /**
+     * Returns the version of the syntax tree the client received last for the same request, if any. When it is the
+     * latest version sent, the response only carries the changes since then.
+     *
+     * @return the previous version, or null
+     */
+    public Long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public void setPreviousVersion(Long previousVersion) {
+        this.previousVersion = previousVersion;
+    }
 }
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.langserver.extensions.ballerina.document;
 
+import org.ballerinalang.diagramutil.EnrichmentLevel;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 
@@ -28,6 +29,9 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 public class BallerinaSyntaxTreeByRangeRequest {
 
     private TextDocumentIdentifier documentIdentifier;
+    private Long previousVersion;
+    private EnrichmentLevel enrichmentLevel;
+    private Boolean includeMinutiae;
     private Range lineRange;
 
     public BallerinaSyntaxTreeByRangeRequest() {
@@ -54,4 +58,43 @@ public class BallerinaSyntaxTreeByRangeRequest {
         this.lineRange = lineRange;
     }
 
+    /**
+     * Returns the version of the syntax tree the client received last for the same request, if any. When it is the
+     * latest version sent, the response only carries the changes since then.
+     *
+     * @return the previous version, or null
+     */
+    public Long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public void setPreviousVersion(Long previousVersion) {
+        this.previousVersion = previousVersion;
+    }
+
+    /**
+     * Returns the type info to add to the syntax tree nodes. Defaults to {@link EnrichmentLevel#FULL}.
+     *
+     * @return the enrichment level
+     */
+    public EnrichmentLevel getEnrichmentLevel() {
+        return enrichmentLevel == null ? EnrichmentLevel.FULL : enrichmentLevel;
+    }
+
+    public void setEnrichmentLevel(EnrichmentLevel enrichmentLevel) {
+        this.enrichmentLevel = enrichmentLevel;
+    }
+
+    /**
+     * Returns whether the minutiae of the syntax tree nodes are included. Defaults to true.
+     *
+     * @return true if the minutiae are included
+     */
+    public boolean includeMinutiae() {
+        return includeMinutiae == null || includeMinutiae;
+    }
+
+    public void setIncludeMinutiae(Boolean includeMinutiae) {
+        this.includeMinutiae = includeMinutiae;
+    }
 }
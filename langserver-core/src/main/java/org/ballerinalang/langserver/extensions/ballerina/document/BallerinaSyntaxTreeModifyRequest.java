@@ -25,6 +25,7 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 public class BallerinaSyntaxTreeModifyRequest {
 
     private TextDocumentIdentifier documentIdentifier;
+    private Long previousVersion;
     private ASTModification[] astModifications;
 
     public BallerinaSyntaxTreeModifyRequest() {
@@ -52,4 +53,17 @@ public class BallerinaSyntaxTreeModifyRequest {
         this.documentIdentifier = documentIdentifier;
     }
 
+    /**
+     * Returns the version of the syntax tree the client received last for the same request, if any. When it is the
+     * latest version sent, the response only carries the changes since then.
+     *
+     * @return the previous version, or null
+     */
+    public Long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public void setPreviousVersion(Long previousVersion) {
+        this.previousVersion = previousVersion;
+    }
 }
@@ -17,6 +17,8 @@ package org.ballerinalang.langserver.extensions.ballerina.document;
 
 import com.google.gson.JsonElement;
 
+import java.util.List;
+
 /**
  * Represents a Ballerina Syntax Tree response.
  *
@@ -32,6 +34,10 @@ public class BallerinaSyntaxTreeResponse {
 
     private boolean parseSuccess;
 
+    private Long version;
+
+    private List<SyntaxTreePatch> patches;
+
     public JsonElement getSyntaxTree() {
         return syntaxTree;
     }
@@ -64,4 +70,24 @@ public class BallerinaSyntaxTreeResponse {
         return defFilePath;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns the changes to the previous syntax tree of the client, in which case the syntax tree is not set.
+     *
+     * @return the patches, or null if the whole syntax tree is sent
+     */
+    public List<SyntaxTreePatch> getPatches() {
+        return patches;
+    }
+
+    public void setPatches(List<SyntaxTreePatch> patches) {
+        this.patches = patches;
+    }
 }
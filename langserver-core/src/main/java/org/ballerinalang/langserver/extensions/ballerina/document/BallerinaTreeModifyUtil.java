@@ -140,6 +140,32 @@ public final class BallerinaTreeModifyUtil {
     public static JsonElement modifyTree(ASTModification[] astModifications, Path compilationPath,
                                          WorkspaceManager workspaceManager)
             throws Exception {
+        SemanticModel newSemanticModel = modifyDocument(astModifications, compilationPath, workspaceManager);
+        Optional<Document> formattedSrcFile = workspaceManager.document(compilationPath);
+        if (formattedSrcFile.isEmpty()) {
+            throw new JSONGenerationException("Modification error");
+        }
+
+        JsonElement syntaxTreeJson = DiagramUtil.getSyntaxTreeJSON(formattedSrcFile.get(), newSemanticModel);
+        JsonObject jsonTreeWithSource = new JsonObject();
+        jsonTreeWithSource.add("tree", syntaxTreeJson);
+        jsonTreeWithSource.addProperty("source", formattedSrcFile.get().syntaxTree().toSourceCode());
+
+        return jsonTreeWithSource;
+    }
+
+    /**
+     * Applies the modifications to the document and formats it, without mapping the modified syntax tree.
+     *
+     * @param astModifications modifications to apply
+     * @param compilationPath  path of the document
+     * @param workspaceManager workspace manager of the document
+     * @return the semantic model of the modified document
+     * @throws Exception if the document cannot be modified
+     */
+    public static SemanticModel modifyDocument(ASTModification[] astModifications, Path compilationPath,
+                                               WorkspaceManager workspaceManager)
+            throws Exception {
         Optional<SyntaxTree> oldSyntaxTree = workspaceManager.syntaxTree(compilationPath);
         if (oldSyntaxTree.isEmpty()) {
             throw new JSONGenerationException("Modification error");
@@ -202,20 +228,7 @@ public final class BallerinaTreeModifyUtil {
         SyntaxTree newSyntaxTree = SyntaxTree.from(newTextDocument);
         newSyntaxTree = Formatter.format(newSyntaxTree);
 
-        SemanticModel newSemanticModel = updateWorkspaceDocument(compilationPath, newSyntaxTree.toSourceCode(),
-                workspaceManager);
-
-        Optional<Document> formattedSrcFile = workspaceManager.document(compilationPath);
-        if (formattedSrcFile.isEmpty()) {
-            throw new JSONGenerationException("Modification error");
-        }
-
-        JsonElement syntaxTreeJson = DiagramUtil.getSyntaxTreeJSON(formattedSrcFile.get(), newSemanticModel);
-        JsonObject jsonTreeWithSource = new JsonObject();
-        jsonTreeWithSource.add("tree", syntaxTreeJson);
-        jsonTreeWithSource.addProperty("source", formattedSrcFile.get().syntaxTree().toSourceCode());
-
-        return jsonTreeWithSource;
+        return updateWorkspaceDocument(compilationPath, newSyntaxTree.toSourceCode(), workspaceManager);
     }
 
     private static SemanticModel updateWorkspaceDocument(Path compilationPath, String content,
@@ -0,0 +1,365 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.document;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.ballerinalang.diagramutil.EnrichmentLevel;
+import org.ballerinalang.langserver.MemoryPressureManager;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.memory.ReclaimableCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the last syntax tree sent for each document and view, so that the next tree can be sent as the subtrees that
+ * changed since the version the client holds.
+ * <p>
+ * Each tree sent is given a new version. When a client sends back the version it holds and that version is still the
+ * last one sent for the view, the response carries the {@link SyntaxTreePatch}es that turn the previous tree into the
+ * new one instead of the whole tree. Otherwise, the whole tree is sent. The patches are found by comparing the trees
+ * without semantic information, and only the subtrees they carry are enriched with it. The semantic information of
+ * the nodes that did not change, including the parents of the changed ones, is left as it was sent before. Only the
+ * syntax nodes of a sent tree are kept, and its JSON is mapped again when it is compared. The trees of a document are
+ * dropped when the document is closed, and the trees of the least recently used views are evicted first, either
+ * beyond {@link #MAX_VIEWS} or when the memory pressure manager reclaims them.
+ *
+ * @since 1.3.0
+ */
+public final class SyntaxTreeDeltas implements ReclaimableCache {
+
+    private static final LanguageServerContext.Key<SyntaxTreeDeltas> SYNTAX_TREE_DELTAS_KEY =
+            new LanguageServerContext.Key<>();
+    private static final Object LOCK = new Object();
+    private static final int MAX_VIEWS = 64;
+    // Above this count, the patches no longer pay for themselves compared to the whole tree
+    private static final int MAX_PATCHES = 512;
+    private static final char VIEW_SEPARATOR = '#';
+
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<String, SentTree> sentTrees = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SentTree> eldest) {
+            return size() > MAX_VIEWS;
+        }
+    };
+
+    SyntaxTreeDeltas() {
+    }
+
+    public static SyntaxTreeDeltas getInstance(LanguageServerContext context) {
+        SyntaxTreeDeltas syntaxTreeDeltas = context.get(SYNTAX_TREE_DELTAS_KEY);
+        if (syntaxTreeDeltas == null) {
+            synchronized (LOCK) {
+                syntaxTreeDeltas = context.get(SYNTAX_TREE_DELTAS_KEY);
+                if (syntaxTreeDeltas == null) {
+                    syntaxTreeDeltas = new SyntaxTreeDeltas();
+                    context.put(SYNTAX_TREE_DELTAS_KEY, syntaxTreeDeltas);
+                    MemoryPressureManager.getInstance(context).register(syntaxTreeDeltas);
+                }
+            }
+        }
+        return syntaxTreeDeltas;
+    }
+
+    /**
+     * Returns the view of a part of a document, which is dropped along with the document.
+     *
+     * @param fileUri uri of the document
+     * @param part    identifies the part of the document
+     * @return the view of the part
+     */
+    static String partView(String fileUri, String part) {
+        return fileUri + VIEW_SEPARATOR + part;
+    }
+
+    /**
+     * Sets the tree of the response, as patches if the client holds the previous tree of the view.
+     *
+     * @param view            identifies the document and the part of it the tree is generated for
+     * @param previousVersion version of the tree the client holds, or null
+     * @param root            root node of the tree to send
+     * @param enrichmentLevel semantic information requested for the nodes
+     * @param includeMinutiae whether the minutiae of the nodes are requested
+     * @param mapper          maps the root node or a node under it to its JSON, with the given semantic information
+     * @param reply           response to update
+     * @return whether the tree or the patches were set
+     */
+    boolean respond(String view, Long previousVersion, NonTerminalNode root, EnrichmentLevel enrichmentLevel,
+                    boolean includeMinutiae, TreeMapper mapper, BallerinaSyntaxTreeResponse reply) {
+        long version = versions.incrementAndGet();
+        SentTree previous;
+        synchronized (sentTrees) {
+            previous = sentTrees.put(view, new SentTree(view, version, root, enrichmentLevel, includeMinutiae));
+        }
+        reply.setVersion(version);
+        if (previousVersion != null && previous != null && previous.version == previousVersion
+                && previous.enrichmentLevel == enrichmentLevel && previous.includeMinutiae == includeMinutiae) {
+            List<SyntaxTreePatch> patches = new ArrayList<>();
+            if (diff(mapper.map(previous.root, EnrichmentLevel.SYNTAX), mapper.map(root, EnrichmentLevel.SYNTAX),
+                    "", patches)) {
+                reply.setPatches(enrich(patches, root, enrichmentLevel, mapper));
+                return true;
+            }
+        }
+        JsonElement syntaxTree = mapper.map(root, enrichmentLevel);
+        reply.setSyntaxTree(syntaxTree);
+        return syntaxTree != null;
+    }
+
+    /**
+     * Adds the requested semantic information to the subtrees carried by the patches.
+     */
+    private static List<SyntaxTreePatch> enrich(List<SyntaxTreePatch> patches, NonTerminalNode root,
+                                                EnrichmentLevel enrichmentLevel, TreeMapper mapper) {
+        if (enrichmentLevel == EnrichmentLevel.SYNTAX) {
+            return patches;
+        }
+        List<SyntaxTreePatch> enriched = new ArrayList<>(patches.size());
+        for (SyntaxTreePatch patch : patches) {
+            Optional<NonTerminalNode> node = patch.getTree() instanceof JsonObject ? nodeAt(root, patch.getPath())
+                    : Optional.empty();
+            if (node.isEmpty()) {
+                enriched.add(patch);
+                continue;
+            }
+            JsonElement subtree = mapper.map(node.get(), enrichmentLevel);
+            enriched.add(SyntaxTreePatch.ADD.equals(patch.getOp()) ? SyntaxTreePatch.add(patch.getPath(), subtree)
+                    : SyntaxTreePatch.replace(patch.getPath(), subtree));
+        }
+        return enriched;
+    }
+
+    /**
+     * Returns the non-terminal node of the tree JSON at the given path, if the path leads to a node rather than to a
+     * token or to a property of a node.
+     */
+    private static Optional<NonTerminalNode> nodeAt(NonTerminalNode root, String path) {
+        Node node = root;
+        String[] segments = path.split("/");
+        for (int i = 1; i < segments.length; i++) {
+            if (!(node instanceof NonTerminalNode nonTerminalNode)) {
+                return Optional.empty();
+            }
+            String name = unescape(segments[i]);
+            Node child = null;
+            for (ChildNodeEntry entry : nonTerminalNode.childEntries()) {
+                if (!entry.name().equals(name)) {
+                    continue;
+                }
+                if (entry.isList()) {
+                    NodeList<Node> nodes = entry.nodeList();
+                    int index = ++i < segments.length ? parseIndex(segments[i]) : -1;
+                    child = index >= 0 && index < nodes.size() ? nodes.get(index) : null;
+                } else {
+                    child = entry.node().orElse(null);
+                }
+                break;
+            }
+            if (child == null) {
+                return Optional.empty();
+            }
+            node = child;
+        }
+        return node instanceof NonTerminalNode nonTerminalNode && node.kind() != SyntaxKind.LIST
+                ? Optional.of(nonTerminalNode) : Optional.empty();
+    }
+
+    private static int parseIndex(String segment) {
+        try {
+            return Integer.parseInt(segment);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Drops the trees of all the views of a closed document.
+     *
+     * @param fileUri uri of the document
+     */
+    public void evict(String fileUri) {
+        String partPrefix = partView(fileUri, "");
+        synchronized (sentTrees) {
+            sentTrees.keySet().removeIf(view -> view.equals(fileUri) || view.startsWith(partPrefix));
+        }
+    }
+
+    /**
+     * Collects the patches that turn the old element into the new one. Objects with the same keys are compared
+     * member by member. Arrays are compared element by element after skipping the equal elements at both ends, and
+     * the elements added or removed in between are sent as such, so that inserting into a long list does not resend
+     * the whole list. Any other difference replaces the element as a whole.
+     *
+     * @return false if the elements differ in too many places to be sent as patches
+     */
+    private static boolean diff(JsonElement oldElement, JsonElement newElement, String path,
+                                List<SyntaxTreePatch> patches) {
+        if (oldElement instanceof JsonObject oldObject && newElement instanceof JsonObject newObject
+                && oldObject.keySet().equals(newObject.keySet())
+                && Objects.equals(oldObject.get("kind"), newObject.get("kind"))) {
+            for (Map.Entry<String, JsonElement> entry : newObject.entrySet()) {
+                if (!diff(oldObject.get(entry.getKey()), entry.getValue(), path + "/" + escape(entry.getKey()),
+                        patches)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (oldElement instanceof JsonArray oldArray && newElement instanceof JsonArray newArray) {
+            return diffArray(oldArray, newArray, path, patches);
+        }
+        if (Objects.equals(oldElement, newElement)) {
+            return true;
+        }
+        patches.add(SyntaxTreePatch.replace(path, newElement));
+        return patches.size() <= MAX_PATCHES;
+    }
+
+    private static boolean diffArray(JsonArray oldArray, JsonArray newArray, String path,
+                                     List<SyntaxTreePatch> patches) {
+        int oldSize = oldArray.size();
+        int newSize = newArray.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && oldArray.get(prefix).equals(newArray.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && oldArray.get(oldSize - 1 - suffix).equals(newArray.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        // The patches are applied in order, hence the indices of the elements added or removed after the changed
+        // elements are not affected by them
+        int changed = Math.min(oldSize, newSize) - prefix - suffix;
+        for (int i = prefix; i < prefix + changed; i++) {
+            if (!diff(oldArray.get(i), newArray.get(i), path + "/" + i, patches)) {
+                return false;
+            }
+        }
+        int index = prefix + changed;
+        for (int i = index; i < newSize - suffix; i++) {
+            patches.add(SyntaxTreePatch.add(path + "/" + i, newArray.get(i)));
+        }
+        for (int i = index; i < oldSize - suffix; i++) {
+            patches.add(SyntaxTreePatch.remove(path + "/" + index));
+        }
+        return patches.size() <= MAX_PATCHES;
+    }
+
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    @Override
+    public String name() {
+        return "syntax trees";
+    }
+
+    @Override
+    public Collection<? extends Entry> entries() {
+        synchronized (sentTrees) {
+            return new ArrayList<>(sentTrees.values());
+        }
+    }
+
+    /**
+     * Maps a syntax node to its tree JSON.
+     */
+    @FunctionalInterface
+    interface TreeMapper {
+
+        JsonElement map(NonTerminalNode node, EnrichmentLevel enrichmentLevel);
+    }
+
+    /**
+     * The last tree sent for a view, which can be dropped at any time since the client then gets the whole tree.
+     */
+    private final class SentTree implements Entry {
+
+        private final String view;
+        private final long version;
+        private final NonTerminalNode root;
+        private final EnrichmentLevel enrichmentLevel;
+        private final boolean includeMinutiae;
+        private final long sentTime = System.currentTimeMillis();
+        private final long size;
+
+        SentTree(String view, long version, NonTerminalNode root, EnrichmentLevel enrichmentLevel,
+                 boolean includeMinutiae) {
+            this.view = view;
+            this.version = version;
+            this.root = root;
+            this.enrichmentLevel = enrichmentLevel;
+            this.includeMinutiae = includeMinutiae;
+            // The syntax nodes retained are in the order of the source text they span
+            this.size = (long) root.textRangeWithMinutiae().length() * Character.BYTES;
+        }
+
+        @Override
+        public String id() {
+            return view;
+        }
+
+        @Override
+        public long lastAccessTime() {
+            return sentTime;
+        }
+
+        @Override
+        public long estimatedSize() {
+            return size;
+        }
+
+        @Override
+        public boolean isActive() {
+            return false;
+        }
+
+        @Override
+        public boolean trim() {
+            return close();
+        }
+
+        @Override
+        public boolean close() {
+            synchronized (sentTrees) {
+                return sentTrees.remove(view, this);
+            }
+        }
+    }
+}
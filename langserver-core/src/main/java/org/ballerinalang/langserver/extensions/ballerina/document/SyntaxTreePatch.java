@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.document;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Changes an element of a syntax tree JSON previously sent to the client. The patches of a response are applied in
+ * order, each to the tree left by the previous ones, as the operations of the same name in a JSON patch (RFC 6902).
+ *
+ * @since 1.3.0
+ */
+public class SyntaxTreePatch {
+
+    public static final String REPLACE = "replace";
+    public static final String ADD = "add";
+    public static final String REMOVE = "remove";
+
+    private final String op;
+    private final String path;
+    private final JsonElement tree;
+
+    public SyntaxTreePatch(String path, JsonElement tree) {
+        this(REPLACE, path, tree);
+    }
+
+    private SyntaxTreePatch(String op, String path, JsonElement tree) {
+        this.op = op;
+        this.path = path;
+        this.tree = tree;
+    }
+
+    static SyntaxTreePatch replace(String path, JsonElement tree) {
+        return new SyntaxTreePatch(REPLACE, path, tree);
+    }
+
+    static SyntaxTreePatch add(String path, JsonElement tree) {
+        return new SyntaxTreePatch(ADD, path, tree);
+    }
+
+    static SyntaxTreePatch remove(String path) {
+        return new SyntaxTreePatch(REMOVE, path, null);
+    }
+
+    /**
+     * Returns the operation of the patch: {@link #REPLACE} an element, {@link #ADD} an element to an array, shifting
+     * the following elements, or {@link #REMOVE} an element from an array.
+     *
+     * @return operation of the patch
+     */
+    public String getOp() {
+        return op;
+    }
+
+    /**
+     * Returns the location of the changed element as a JSON pointer (RFC 6901), relative to the root of the tree.
+     *
+     * @return path of the changed element
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the new value of the element, or null if the element was removed.
+     *
+     * @return the new element
+     */
+    public JsonElement getTree() {
+        return tree;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.metrics;
+
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.metrics.LatencyHistogram;
+import org.ballerinalang.langserver.commons.metrics.MetricsExporter;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
+import org.ballerinalang.langserver.commons.metrics.SpanRecord;
+import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Exposes the latency of the language server operations recorded by the {@link OperationTracer}.
+ * <p>
+ * {@code ballerina/metrics} returns the per operation latency percentiles along with the recent spans, which break a
+ * slow request down into parse, compilation, lock wait, semantic model, query and model generation time.
+ * {@code ballerina/exportMetrics} writes them to a local OTLP JSON or JFR file for offline analysis.
+ *
+ * @since 1.3.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
+@JsonSegment("ballerina")
+public class BallerinaMetricsService implements ExtendedLanguageServerService {
+
+    private static final String FORMAT_OTLP = "otlp";
+    private static final String FORMAT_JFR = "jfr";
+
+    private final OperationTracer tracer = OperationTracer.getInstance();
+    private LSClientLogger clientLogger;
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+    }
+
+    @JsonRequest
+    public CompletableFuture<MetricsResponse> metrics(MetricsRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            MetricsResponse response = new MetricsResponse();
+            String filter = request.getFilter();
+            List<LatencyHistogram.Snapshot> operations = tracer.histograms();
+            if (filter != null && !filter.isEmpty()) {
+                operations = operations.stream().filter(operation -> operation.name().startsWith(filter)).toList();
+            }
+            response.setEnabled(tracer.isEnabled());
+            response.setOperations(operations);
+
+            if (request.isIncludeSpans()) {
+                String traceId = request.getTraceId();
+                List<SpanRecord> spans = tracer.recentSpans();
+                if (traceId != null) {
+                    spans = spans.stream().filter(span -> traceId.equals(span.traceId())).toList();
+                } else if (filter != null && !filter.isEmpty()) {
+                    spans = spans.stream().filter(span -> span.name().startsWith(filter)).toList();
+                }
+                response.setSpans(spans);
+            }
+
+            if (request.isReset()) {
+                tracer.reset();
+            }
+            return response;
+        });
+    }
+
+    @JsonRequest
+    public CompletableFuture<MetricsExportResponse> exportMetrics(MetricsExportRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            MetricsExportResponse response = new MetricsExportResponse();
+            String format = request.getFormat() == null ? FORMAT_OTLP : request.getFormat().toLowerCase(Locale.ROOT);
+            Path filePath = null;
+            try {
+                if (!FORMAT_OTLP.equals(format) && !FORMAT_JFR.equals(format)) {
+                    response.setErrorMsg("Unsupported format '" + request.getFormat() + "', expected '" +
+                            FORMAT_OTLP + "' or '" + FORMAT_JFR + "'");
+                    return response;
+                }
+                filePath = request.getFilePath() != null ? Path.of(request.getFilePath()) :
+                        Files.createTempFile("ballerina-ls-metrics-", FORMAT_OTLP.equals(format) ? ".jsonl" : ".jfr");
+                if (FORMAT_OTLP.equals(format)) {
+                    MetricsExporter.writeOtlpJson(filePath, tracer.recentSpans(), tracer.histograms());
+                } else {
+                    MetricsExporter.writeJfr(filePath);
+                }
+                response.setFilePath(filePath.toAbsolutePath().toString());
+            } catch (Throwable e) {
+                String msg = "Operation 'ballerina/exportMetrics' failed!";
+                this.clientLogger.logError(MetricsContext.METRICS_EXPORT, msg, e,
+                        filePath == null ? null : new TextDocumentIdentifier(filePath.toUri().toString()),
+                        (Position) null);
+                response.setErrorMsg(e.getMessage());
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public Class<?> getRemoteInterface() {
+        return getClass();
+    }
+}
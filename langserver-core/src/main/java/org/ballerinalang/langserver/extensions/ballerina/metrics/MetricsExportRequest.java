@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.metrics;
+
+/**
+ * Represents a request to export the recorded operation metrics to a local file.
+ *
+ * @since 1.3.0
+ */
+public class MetricsExportRequest {
+
+    /**
+     * Either {@code otlp} for OTLP JSON lines or {@code jfr} for a flight recording. Defaults to {@code otlp}.
+     */
+    private String format;
+    /**
+     * Path of the file to write. Defaults to a file in the temporary directory.
+     */
+    private String filePath;
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.metrics;
+
+/**
+ * Represents a request to query the recorded operation metrics.
+ *
+ * @since 1.3.0
+ */
+public class MetricsRequest {
+
+    /**
+     * Only the operations whose names start with the filter are returned, e.g. {@code text/} or {@code db/}.
+     */
+    private String filter;
+    /**
+     * Includes the recent spans in the response. Set {@link #traceId} to only get the spans of a single request.
+     */
+    private boolean includeSpans;
+    private String traceId;
+    /**
+     * Clears the recorded metrics after the response is built.
+     */
+    private boolean reset;
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    public boolean isIncludeSpans() {
+        return includeSpans;
+    }
+
+    public void setIncludeSpans(boolean includeSpans) {
+        this.includeSpans = includeSpans;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.ballerina.metrics;
+
+import org.ballerinalang.langserver.commons.metrics.LatencyHistogram;
+import org.ballerinalang.langserver.commons.metrics.SpanRecord;
+
+import java.util.List;
+
+/**
+ * Represents the recorded operation metrics.
+ *
+ * @since 1.3.0
+ */
+public class MetricsResponse {
+
+    private boolean enabled;
+    private List<LatencyHistogram.Snapshot> operations;
+    private List<SpanRecord> spans;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<LatencyHistogram.Snapshot> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<LatencyHistogram.Snapshot> operations) {
+        this.operations = operations;
+    }
+
+    public List<SpanRecord> getSpans() {
+        return spans;
+    }
+
+    public void setSpans(List<SpanRecord> spans) {
+        this.spans = spans;
+    }
+}
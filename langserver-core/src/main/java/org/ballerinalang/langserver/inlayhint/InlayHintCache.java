@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.inlayhint;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Package;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.eclipse.lsp4j.InlayHint;
+import org.eclipse.lsp4j.Position;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the inlay hints resolved for the invocations of a document.
+ * <p>
+ * The hints of a document are valid as long as its package is not modified, since a change in any document of the
+ * package may change the parameters of an invocation. Within a package instance, the invocations are identified by
+ * their kind and text range, and the hints by their position. Only the text of the parameter tooltips is held, so
+ * that the cache does not keep the symbols and the semantic model of an old compilation alive.
+ *
+ * @since 1.3.0
+ */
+final class InlayHintCache {
+
+    private static final LanguageServerContext.Key<InlayHintCache> INLAY_HINT_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+    private static final int MAX_DOCUMENTS = 32;
+    private static final Object LOCK = new Object();
+
+    private final Cache<String, DocumentHints> documents = CacheBuilder.newBuilder()
+            .maximumSize(MAX_DOCUMENTS)
+            .build();
+
+    static InlayHintCache getInstance(LanguageServerContext context) {
+        InlayHintCache inlayHintCache = context.get(INLAY_HINT_CACHE_KEY);
+        if (inlayHintCache == null) {
+            synchronized (LOCK) {
+                inlayHintCache = context.get(INLAY_HINT_CACHE_KEY);
+                if (inlayHintCache == null) {
+                    inlayHintCache = new InlayHintCache();
+                    context.put(INLAY_HINT_CACHE_KEY, inlayHintCache);
+                }
+            }
+        }
+        return inlayHintCache;
+    }
+
+    private InlayHintCache() {
+    }
+
+    /**
+     * Returns the cached hints of the document, discarding them if the package has been modified since.
+     *
+     * @param uri            URI of the document
+     * @param currentPackage current package of the document
+     * @return cached hints of the document
+     */
+    DocumentHints documentHints(String uri, Package currentPackage) {
+        DocumentHints documentHints = documents.getIfPresent(uri);
+        if (documentHints == null || documentHints.packageRef.get() != currentPackage) {
+            documentHints = new DocumentHints(currentPackage);
+            documents.put(uri, documentHints);
+        }
+        return documentHints;
+    }
+
+    /**
+     * Returns the cached hints of the document, if they were computed for the current package of the document.
+     *
+     * @param uri            URI of the document
+     * @param currentPackage current package of the document
+     * @return cached hints of the document, if they are still valid
+     */
+    Optional<DocumentHints> cachedDocumentHints(String uri, Package currentPackage) {
+        return Optional.ofNullable(documents.getIfPresent(uri))
+                .filter(documentHints -> documentHints.packageRef.get() == currentPackage);
+    }
+
+    /**
+     * Inlay hints of a single package version of a document.
+     */
+    static final class DocumentHints {
+
+        // The package is weakly referenced so that the cache does not keep evicted projects alive
+        private final WeakReference<Package> packageRef;
+        private final Map<InvocationKey, List<InlayHint>> invocations = new ConcurrentHashMap<>();
+        private final Map<Position, String> parameterSignatures = new ConcurrentHashMap<>();
+
+        private DocumentHints(Package currentPackage) {
+            this.packageRef = new WeakReference<>(currentPackage);
+        }
+
+        List<InlayHint> invocationHints(NonTerminalNode invokableNode,
+                                        Function<NonTerminalNode, List<InlayHint>> resolver) {
+            InvocationKey key = new InvocationKey(invokableNode.kind(), invokableNode.textRange().startOffset(),
+                    invokableNode.textRange().endOffset());
+            return invocations.computeIfAbsent(key, ignored -> resolver.apply(invokableNode));
+        }
+
+        void addParameterSignature(Position position, String signature) {
+            parameterSignatures.put(position, signature);
+        }
+
+        Optional<String> parameterSignature(Position position) {
+            return Optional.ofNullable(parameterSignatures.get(position));
+        }
+    }
+
+    private record InvocationKey(SyntaxKind kind, int startOffset, int endOffset) {
+    }
+}
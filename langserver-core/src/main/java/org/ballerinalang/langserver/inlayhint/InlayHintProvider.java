@@ -15,6 +15,7 @@
  */
 package org.ballerinalang.langserver.inlayhint;
 
+import com.google.gson.JsonPrimitive;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
 import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
@@ -44,16 +45,27 @@ import io.ballerina.compiler.syntax.tree.RestArgumentNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
+import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.common.utils.SymbolUtil;
 import org.ballerinalang.langserver.common.utils.TypeResolverUtil;
 import org.ballerinalang.langserver.commons.InlayHintContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
 import org.eclipse.lsp4j.InlayHint;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.util.ArrayList;
@@ -79,73 +91,144 @@ public final class InlayHintProvider {
                 context.currentDocument().isEmpty()) {
             return Collections.emptyList();
         }
-        InvokableNodeFinder invokableNodeFinder = new InvokableNodeFinder();
-        Node rootNode = context.currentDocument().get().syntaxTree().rootNode();
-        rootNode.accept(invokableNodeFinder);
+        Document document = context.currentDocument().get();
+        SyntaxTree syntaxTree = document.syntaxTree();
+        InvokableNodeFinder invokableNodeFinder = new InvokableNodeFinder(textRange(syntaxTree, context.range()));
+        syntaxTree.rootNode().accept(invokableNodeFinder);
 
         // Get the method name list
         List<NonTerminalNode> invokableNodeList = invokableNodeFinder.getInvokableNodeList();
+        InlayHintCache.DocumentHints documentHints = InlayHintCache.getInstance(context.languageServercontext())
+                .documentHints(context.fileUri(), document.module().packageInstance());
         List<InlayHint> inlayHints = new ArrayList<>();
-
         for (NonTerminalNode invokableNode : invokableNodeList) {
-            InlayHintArgumentTypeFinder argumentTypeFinder = new InlayHintArgumentTypeFinder();
-            invokableNode.accept(argumentTypeFinder);
+            context.checkCancelled();
+            inlayHints.addAll(documentHints.invocationHints(invokableNode,
+                    node -> getInlayHintsForInvokableNode(context, node, documentHints)));
+        }
+        return inlayHints;
+    }
+
+    /**
+     * Resolves the tooltip of an inlay hint, which shows the signature of the parameter.
+     *
+     * @param serverContext         language server context
+     * @param workspaceManagerProxy workspace manager proxy
+     * @param inlayHint             inlay hint to resolve
+     * @return the resolved inlay hint
+     */
+    public static InlayHint resolveInlayHint(LanguageServerContext serverContext,
+                                             WorkspaceManagerProxy workspaceManagerProxy, InlayHint inlayHint) {
+        Object data = inlayHint.getData();
+        String uri = data instanceof JsonPrimitive primitive ? primitive.getAsString() :
+                data instanceof String value ? value : null;
+        if (uri == null) {
+            return inlayHint;
+        }
+        // The hints of a package which has been modified since may point to other arguments
+        InlayHintCache inlayHintCache = InlayHintCache.getInstance(serverContext);
+        PathUtil.getPathFromURI(uri)
+                .flatMap(path -> workspaceManagerProxy.get(uri).document(path))
+                .flatMap(document -> inlayHintCache.cachedDocumentHints(uri, document.module().packageInstance()))
+                .flatMap(documentHints -> documentHints.parameterSignature(inlayHint.getPosition()))
+                .ifPresent(signature -> inlayHint.setTooltip(new MarkupContent(MarkupKind.MARKDOWN,
+                        "```ballerina\n" + signature + "\n```")));
+        return inlayHint;
+    }
+
+    private static TextRange textRange(SyntaxTree syntaxTree, Range range) {
+        if (range == null) {
+            return syntaxTree.rootNode().textRange();
+        }
+        TextDocument textDocument = syntaxTree.textDocument();
+        LinePosition documentEnd = syntaxTree.rootNode().lineRange().endLine();
+        int startOffset = textDocument.textPositionFrom(clamp(textDocument, documentEnd, range.getStart()));
+        int endOffset = textDocument.textPositionFrom(clamp(textDocument, documentEnd, range.getEnd()));
+        return TextRange.from(startOffset, Math.max(0, endOffset - startOffset));
+    }
+
+    /**
+     * Moves a position of the client into the document, since clients may request the hints of a range past the
+     * end of the lines or of the document, such as their whole viewport.
+     */
+    private static LinePosition clamp(TextDocument textDocument, LinePosition documentEnd, Position position) {
+        if (position.getLine() > documentEnd.line()) {
+            return documentEnd;
+        }
+        int line = Math.max(0, position.getLine());
+        int lineLength = textDocument.line(line).length();
+        return LinePosition.from(line, Math.max(0, Math.min(position.getCharacter(), lineLength)));
+    }
+
+    private static List<InlayHint> getInlayHintsForInvokableNode(InlayHintContext context,
+                                                                 NonTerminalNode invokableNode,
+                                                                 InlayHintCache.DocumentHints documentHints) {
+        InlayHintArgumentTypeFinder argumentTypeFinder = new InlayHintArgumentTypeFinder();
+        invokableNode.accept(argumentTypeFinder);
+
+        // Get the argument list
+        List<NonTerminalNode> argList = argumentTypeFinder.getArgumentList();
+        if (argList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<NonTerminalNode, LineRange> inlayHintLocations = argumentTypeFinder.getInlayHintLocations();
+        Pair<List<ParameterSymbol>, Optional<ParameterSymbol>> parameterSymbols =
+                getParameterSymbolsForInvokableNode(context, invokableNode);
 
-            // Get the argument list
-            List<NonTerminalNode> argList = argumentTypeFinder.getArgumentList();
-            if (argList.isEmpty()) {
-                continue;
+        List<InlayHint> inlayHints = new ArrayList<>();
+        for (int argumentIndex = 0; argumentIndex < argList.size(); argumentIndex++) {
+            //Find the inlay-hint location for the argument
+            NonTerminalNode argument = argList.get(argumentIndex);
+            if (argument.kind() == SyntaxKind.NAMED_ARG) {
+                break;
             }
-            Map<NonTerminalNode, LineRange> inlayHintLocations = argumentTypeFinder.getInlayHintLocations();
-            Pair<List<ParameterSymbol>, Optional<ParameterSymbol>> parameterSymbols =
-                    getParameterSymbolsForInvokableNode(context, invokableNode);
-
-            for (int argumentIndex = 0; argumentIndex < argList.size(); argumentIndex++) {
-                //Find the inlay-hint location for the argument
-                NonTerminalNode argument = argList.get(argumentIndex);
-                if (argument.kind() == SyntaxKind.NAMED_ARG) {
-                    break;
-                }
-                LineRange lineRange = inlayHintLocations.get(argument);
-                if (lineRange == null) {
-                    return Collections.emptyList();
-                }
-                int startLine = lineRange.endLine().line();
-                int startChar = lineRange.endLine().offset();
-                Position position = new Position(startLine, startChar);
-
-                if (argument.kind() == SyntaxKind.REST_ARG) {
-                    if (parameterSymbols.getRight().isEmpty() ||
-                            parameterSymbols.getRight().get().getName().get().startsWith("$")) {
-                        break;
-                    }
-                    String label = "..." + parameterSymbols.getRight().get().getName().get();
-                    InlayHint inlayHint = new InlayHint(position, Either.forLeft(label + ": "));
-                    inlayHints.add(inlayHint);
+            LineRange lineRange = inlayHintLocations.get(argument);
+            if (lineRange == null) {
+                return Collections.emptyList();
+            }
+            int startLine = lineRange.endLine().line();
+            int startChar = lineRange.endLine().offset();
+            Position position = new Position(startLine, startChar);
+
+            if (argument.kind() == SyntaxKind.REST_ARG) {
+                if (parameterSymbols.getRight().isEmpty() ||
+                        parameterSymbols.getRight().get().getName().get().startsWith("$")) {
                     break;
                 }
+                inlayHints.add(createInlayHint(context, position, parameterSymbols.getRight().get(), true,
+                        documentHints));
+                break;
+            }
 
-                //Find the corresponding parameter symbol for the argument and create inlay-hint
-                if (parameterSymbols.getLeft().size() <= argumentIndex) {
-                    if (parameterSymbols.getRight().isPresent()
-                            && parameterSymbols.getRight().get().getName().isPresent()) {
-                        String label = "..." + parameterSymbols.getRight().get().getName().get();
-                        InlayHint inlayHint = new InlayHint(position, Either.forLeft(label + ": "));
-                        inlayHints.add(inlayHint);
-                    }
-                    break;
-                } else if (parameterSymbols.getLeft().get(argumentIndex).getName().isEmpty()
-                        || parameterSymbols.getLeft().get(argumentIndex).getName().get().startsWith("$")) {
-                    break;
+            //Find the corresponding parameter symbol for the argument and create inlay-hint
+            if (parameterSymbols.getLeft().size() <= argumentIndex) {
+                if (parameterSymbols.getRight().isPresent()
+                        && parameterSymbols.getRight().get().getName().isPresent()) {
+                    inlayHints.add(createInlayHint(context, position, parameterSymbols.getRight().get(), true,
+                            documentHints));
                 }
-                String label = parameterSymbols.getLeft().get(argumentIndex).getName().get();
-                InlayHint inlayHint = new InlayHint(position, Either.forLeft(label + ": "));
-                inlayHints.add(inlayHint);
+                break;
+            } else if (parameterSymbols.getLeft().get(argumentIndex).getName().isEmpty()
+                    || parameterSymbols.getLeft().get(argumentIndex).getName().get().startsWith("$")) {
+                break;
             }
+            inlayHints.add(createInlayHint(context, position, parameterSymbols.getLeft().get(argumentIndex), false,
+                    documentHints));
         }
         return inlayHints;
     }
 
+    private static InlayHint createInlayHint(InlayHintContext context, Position position,
+                                             ParameterSymbol parameterSymbol, boolean restParam,
+                                             InlayHintCache.DocumentHints documentHints) {
+        String label = (restParam ? "..." : "") + parameterSymbol.getName().get();
+        InlayHint inlayHint = new InlayHint(position, Either.forLeft(label + ": "));
+        // The tooltip is attached when the client resolves the hint
+        inlayHint.setData(context.fileUri());
+        documentHints.addParameterSignature(position, parameterSymbol.signature());
+        return inlayHint;
+    }
+
     private static Pair<List<ParameterSymbol>, Optional<ParameterSymbol>> getParameterSymbolsForInvokableNode(
             InlayHintContext context,
             NonTerminalNode invokableNode) {
@@ -260,8 +343,10 @@ public final class InlayHintProvider {
      */
     private static class InvokableNodeFinder extends NodeVisitor {
         List<NonTerminalNode> invokableNodeList = new ArrayList<>();
+        private final TextRange range;
 
-        public InvokableNodeFinder() {
+        public InvokableNodeFinder(TextRange range) {
+            this.range = range;
         }
 
         public List<NonTerminalNode> getInvokableNodeList() {
@@ -270,32 +355,51 @@ public final class InlayHintProvider {
 
         @Override
         public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
-            invokableNodeList.add(functionCallExpressionNode);
+            addInvokableNode(functionCallExpressionNode);
         }
 
         @Override
         public void visit(MethodCallExpressionNode methodCallExpressionNode) {
-            invokableNodeList.add(methodCallExpressionNode);
+            addInvokableNode(methodCallExpressionNode);
         }
 
         @Override
         public void visit(ClientResourceAccessActionNode clientResourceAccessActionNode) {
-            invokableNodeList.add(clientResourceAccessActionNode);
+            addInvokableNode(clientResourceAccessActionNode);
         }
 
         @Override
         public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
-            invokableNodeList.add(remoteMethodCallActionNode);
+            addInvokableNode(remoteMethodCallActionNode);
         }
 
         @Override
         public void visit(ImplicitNewExpressionNode implicitNewExpressionNode) {
-            invokableNodeList.add(implicitNewExpressionNode);
+            addInvokableNode(implicitNewExpressionNode);
         }
 
         @Override
         public void visit(ExplicitNewExpressionNode explicitNewExpressionNode) {
-            invokableNodeList.add(explicitNewExpressionNode);
+            addInvokableNode(explicitNewExpressionNode);
+        }
+
+        @Override
+        protected void visitSyntaxNode(Node node) {
+            // Skip the subtrees outside the requested range
+            if (overlapsRange(node)) {
+                super.visitSyntaxNode(node);
+            }
+        }
+
+        private void addInvokableNode(NonTerminalNode node) {
+            if (overlapsRange(node)) {
+                invokableNodeList.add(node);
+            }
+        }
+
+        private boolean overlapsRange(Node node) {
+            TextRange textRange = node.textRange();
+            return textRange.startOffset() <= range.endOffset() && textRange.endOffset() >= range.startOffset();
         }
     }
 
@@ -52,6 +52,7 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.MemoryPressureManager;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.BallerinaCompilerApi;
@@ -60,6 +61,9 @@ import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
+import org.ballerinalang.langserver.commons.memory.ReclaimableCache;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
 import org.ballerinalang.langserver.commons.workspace.RunContext;
 import org.ballerinalang.langserver.commons.workspace.RunResult;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -85,14 +89,19 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -125,6 +134,25 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     private static final String HEAP_DUMP_FLAG = "-XX:+HeapDumpOnOutOfMemoryError";
     private static final String HEAP_DUMP_PATH_FLAG = "-XX:HeapDumpPath=";
     private static final String DEBUG_ARGS = "-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=*:";
+    private static final String SHARED_ARCHIVE_FILE_FLAG = "-XX:SharedArchiveFile=";
+    private static final String AUTO_CREATE_SHARED_ARCHIVE_FLAG = "-XX:+AutoCreateSharedArchive";
+    private static final String APP_CDS_PROPERTY = "ls.run.appCds";
+    private static final String APP_CDS_DIR = "app-cds";
+    private static final String APP_CDS_EXTENSION = ".jsa";
+    private static final String SOURCE_DIGEST_ALGORITHM = "SHA-256";
+    private static final String SPAN_RUN_PREFIX = "workspace/run/";
+
+    // span names of the workspace operations
+    private static final String SPAN_PARSE = "workspace/parse";
+    private static final String SPAN_COMPILATION = "workspace/compilation";
+    private static final String SPAN_LOCK_WAIT = "workspace/lockWait";
+    private static final String SPAN_SEMANTIC_MODEL = "workspace/semanticModel";
+
+    /**
+     * Rough estimate of the heap retained per document of a project by its syntax trees, compilation and semantic
+     * model. Used to decide how many projects to reclaim under memory pressure.
+     */
+    private static final long ESTIMATED_DOCUMENT_FOOTPRINT = 1024 * 1024;
 
     /**
      * Cache mapping of document path to source root.
@@ -147,7 +175,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
     protected final LSClientLogger clientLogger;
     private final LanguageServerContext serverContext;
-    private final Set<Path> openedDocuments = new HashSet<>();
+    private final Set<Path> openedDocuments = ConcurrentHashMap.newKeySet();
+    private final ReclaimableProjects reclaimableProjects = new ReclaimableProjects();
 
     public BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         this.serverContext = serverContext;
@@ -179,6 +208,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 .setOffline(CommonUtil.COMPILE_OFFLINE)
                 .setSticky(true)
                 .build();
+
+        // The memory pressure manager holds the cache weakly, hence it is unregistered along with this workspace
+        MemoryPressureManager.getInstance(serverContext).register(reclaimableProjects);
     }
 
     @Override
@@ -324,7 +356,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (document.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(document.get().syntaxTree());
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(SPAN_PARSE)) {
+            return Optional.ofNullable(document.get().syntaxTree());
+        }
     }
 
     @Override
@@ -333,7 +367,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (document.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(document.get().syntaxTree());
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(SPAN_PARSE)) {
+            return Optional.ofNullable(document.get().syntaxTree());
+        }
     }
 
     /**
@@ -351,7 +387,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 || projectPair.get().compilationCrashed()) {
             return Optional.empty();
         }
-        return Optional.of(packageCompilation.get().getSemanticModel(module.get().moduleId()));
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(SPAN_SEMANTIC_MODEL)) {
+            return Optional.of(packageCompilation.get().getSemanticModel(module.get().moduleId()));
+        }
     }
 
     @Override
@@ -363,7 +401,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 || projectPair.get().compilationCrashed()) {
             return Optional.empty();
         }
-        return Optional.of(packageCompilation.get().getSemanticModel(module.get().moduleId()));
+        try (OperationSpan ignored = OperationTracer.getInstance().startSpan(SPAN_SEMANTIC_MODEL)) {
+            return Optional.of(packageCompilation.get().getSemanticModel(module.get().moduleId()));
+        }
     }
 
     /**
@@ -380,25 +420,32 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             return Optional.empty();
         }
 
-        // Lock Project Instance
-        Lock lock = projectPair.get().lockAndGet();
-        try {
-            PackageCompilation compilation = projectPair.get().project().currentPackage().getCompilation();
-            if (projectPair.get().compilationCrashed()) {
-                projectPair.get().setCompilationCrashed(false);
+        OperationTracer tracer = OperationTracer.getInstance();
+        try (OperationSpan compilationSpan = tracer.startSpan(SPAN_COMPILATION)) {
+            // Lock Project Instance
+            Lock lock;
+            try (OperationSpan ignored = tracer.startSpan(SPAN_LOCK_WAIT)) {
+                lock = projectPair.get().lockAndGet();
             }
-            if (compilation.diagnosticResult().diagnostics().stream()
-                    .anyMatch(diagnostic ->
-                            Arrays.asList(DiagnosticErrorCode.BAD_SAD_FROM_COMPILER.diagnosticId(),
-                                            DiagnosticErrorCode.CYCLIC_MODULE_IMPORTS_DETECTED.diagnosticId())
-                                    .contains(diagnostic.diagnosticInfo().code()))) {
-                projectPair.get().setCompilationCrashed(true);
-                projectPair.get().project().clearCaches();
+            try {
+                PackageCompilation compilation = projectPair.get().project().currentPackage().getCompilation();
+                if (projectPair.get().compilationCrashed()) {
+                    projectPair.get().setCompilationCrashed(false);
+                }
+                if (compilation.diagnosticResult().diagnostics().stream()
+                        .anyMatch(diagnostic ->
+                                Arrays.asList(DiagnosticErrorCode.BAD_SAD_FROM_COMPILER.diagnosticId(),
+                                                DiagnosticErrorCode.CYCLIC_MODULE_IMPORTS_DETECTED.diagnosticId())
+                                        .contains(diagnostic.diagnosticInfo().code()))) {
+                    projectPair.get().setCompilationCrashed(true);
+                    projectPair.get().project().clearCaches();
+                    compilationSpan.markFailed();
+                }
+                return Optional.of(compilation);
+            } finally {
+                // Unlock Project Instance
+                lock.unlock();
             }
-            return Optional.of(compilation);
-        } finally {
-            // Unlock Project Instance
-            lock.unlock();
         }
     }
 
@@ -640,26 +687,106 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
 
         Project project = projectContext.get().project();
-        Optional<PackageCompilation> packageCompilation = waitAndGetPackageCompilation(project.sourceRoot(), true);
-        if (packageCompilation.isEmpty()) {
-            logError("Run command execution aborted because package compilation failed");
-            return new RunResult(null, Collections.emptyList());
-        }
+        Map<String, Long> phaseDurations = new LinkedHashMap<>();
+        // The digest is taken before compiling, so that a change made in the meantime is never masked
+        byte[] sourceDigest = sourceDigest(projectContext.get());
+        RunArtifacts runArtifacts = reusableRunArtifacts(projectContext.get(), sourceDigest);
+        if (runArtifacts == null) {
+            long startTime = System.nanoTime();
+            Optional<PackageCompilation> packageCompilation =
+                    waitAndGetPackageCompilation(project.sourceRoot(), true);
+            recordRunPhase(phaseDurations, RunResult.PHASE_COMPILATION, startTime);
+            if (packageCompilation.isEmpty()) {
+                logError("Run command execution aborted because package compilation failed");
+                return new RunResult(null, Collections.emptyList(), phaseDurations);
+            }
 
-        JBallerinaBackend jBallerinaBackend = execBackend(projectContext.get(), packageCompilation.get());
-        Collection<Diagnostic> diagnostics = new LinkedList<>();
-        // check for compilation errors
-        diagnostics.addAll(jBallerinaBackend.diagnosticResult().diagnostics(false));
-        // Add tool resolution diagnostics to diagnostics
-        diagnostics.addAll(project.currentPackage().getBuildToolResolution().getDiagnosticList());
+            startTime = System.nanoTime();
+            JBallerinaBackend jBallerinaBackend = execBackend(projectContext.get(), packageCompilation.get());
+            recordRunPhase(phaseDurations, RunResult.PHASE_CODEGEN, startTime);
+            Collection<Diagnostic> diagnostics = new LinkedList<>();
+            // check for compilation errors
+            diagnostics.addAll(jBallerinaBackend.diagnosticResult().diagnostics(false));
+            // Add tool resolution diagnostics to diagnostics
+            diagnostics.addAll(project.currentPackage().getBuildToolResolution().getDiagnosticList());
+            runArtifacts = new RunArtifacts(sourceDigest, jBallerinaBackend, diagnostics);
+            projectContext.get().runArtifacts = runArtifacts;
+        }
 
+        Collection<Diagnostic> diagnostics = runArtifacts.diagnostics();
         if (diagnostics.stream().anyMatch(d -> d.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
-            return new RunResult(null, diagnostics);
+            return new RunResult(null, diagnostics, phaseDurations);
         }
 
-        Optional<Process> process = executeProject(projectContext.get(), executionContext);
-        return process.map(value -> new RunResult(value, diagnostics))
-                .orElseGet(() -> new RunResult(null, diagnostics));
+        long startTime = System.nanoTime();
+        Optional<Process> process = executeProject(projectContext.get(), executionContext, runArtifacts.backend());
+        recordRunPhase(phaseDurations, RunResult.PHASE_LAUNCH, startTime);
+        return new RunResult(process.orElse(null), diagnostics, phaseDurations);
+    }
+
+    /**
+     * Returns the artifacts of the previous run of the project, if the sources have not changed since and the
+     * generated jars are still in place.
+     *
+     * @param projectContext project context
+     * @param sourceDigest   digest of the current sources of the project
+     * @return the reusable run artifacts, or null if the project needs to be compiled again
+     */
+    private static RunArtifacts reusableRunArtifacts(ProjectContext projectContext, byte[] sourceDigest) {
+        RunArtifacts runArtifacts = projectContext.runArtifacts;
+        if (runArtifacts == null || !Arrays.equals(runArtifacts.sourceDigest(), sourceDigest)) {
+            return null;
+        }
+        // The jars could have been removed by a clean build in the meantime
+        for (JarLibrary lib : runArtifacts.backend().jarResolver().getJarFilePathsRequiredForExecution()) {
+            if (!Files.exists(lib.path())) {
+                return null;
+            }
+        }
+        return runArtifacts;
+    }
+
+    private static byte[] sourceDigest(ProjectContext projectContext) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(SOURCE_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        Lock lock = projectContext.lockAndGet();
+        try {
+            Package pkg = projectContext.project().currentPackage();
+            pkg.ballerinaToml().ifPresent(toml -> updateDigest(digest, toml.tomlDocument().textDocument().toString()));
+            pkg.dependenciesToml()
+                    .ifPresent(toml -> updateDigest(digest, toml.tomlDocument().textDocument().toString()));
+            for (Module module : pkg.modules()) {
+                updateDigest(digest, module.moduleName().toString());
+                for (DocumentId documentId : module.documentIds()) {
+                    Document document = module.document(documentId);
+                    updateDigest(digest, document.name());
+                    updateDigest(digest, document.textDocument().toString());
+                }
+                for (DocumentId resourceId : module.resourceIds()) {
+                    digest.update(module.resource(resourceId).content());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return digest.digest();
+    }
+
+    private static void updateDigest(MessageDigest digest, String content) {
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        // Separates the consecutive entries
+        digest.update((byte) 0);
+    }
+
+    private static void recordRunPhase(Map<String, Long> phaseDurations, String phase, long startTime) {
+        long duration = System.nanoTime() - startTime;
+        phaseDurations.put(phase, TimeUnit.NANOSECONDS.toMillis(duration));
+        OperationTracer.getInstance().record(SPAN_RUN_PREFIX + phase, duration, false);
     }
 
     private Optional<ProjectContext> validateProjectContext(Path projectRoot) {
@@ -672,11 +799,11 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         return projectContextOpt;
     }
 
-    private Optional<Process> executeProject(ProjectContext projectContext, RunContext context) throws IOException {
+    private Optional<Process> executeProject(ProjectContext projectContext, RunContext context,
+                                             JBallerinaBackend jBallerinaBackend) throws IOException {
         Project project = projectContext.project();
         Package pkg = project.currentPackage();
         Module executableModule = pkg.getDefaultModule();
-        JBallerinaBackend jBallerinaBackend = execBackend(projectContext, pkg.getCompilation());
         JarResolver jarResolver = jBallerinaBackend.jarResolver();
 
         List<String> commands = prepareExecutionCommands(context, executableModule, jarResolver);
@@ -708,8 +835,14 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             commands.add(DEBUG_ARGS + context.debugPort());
         }
 
+        String classPath = getAllClassPaths(jarResolver);
+        appCdsArchive(module.project(), classPath).ifPresent(archive -> {
+            commands.add(SHARED_ARCHIVE_FILE_FLAG + archive);
+            commands.add(AUTO_CREATE_SHARED_ARCHIVE_FLAG);
+        });
+
         commands.add("-cp");
-        commands.add(getAllClassPaths(jarResolver));
+        commands.add(classPath);
 
         String initClassName = JarResolver.getQualifiedClassName(
                 module.packageInstance().packageOrg().toString(),
@@ -722,6 +855,34 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         return commands;
     }
 
+    /**
+     * Returns the class data sharing archive to start the program with. The archives are kept per classpath, hence a
+     * new one is created once the dependencies change. The JVM creates the archive on the first run and regenerates it
+     * whenever a jar in the classpath was modified after the archive was created.
+     * <p>
+     * Class data sharing is enabled with the {@value #APP_CDS_PROPERTY} property. The Java runtime of the client
+     * must be JDK 19 or later, as the older ones do not start with {@value #AUTO_CREATE_SHARED_ARCHIVE_FLAG}.
+     *
+     * @param project   project to be run
+     * @param classPath classpath of the program
+     * @return the archive path, or empty if class data sharing is not enabled or the archive directory is not
+     * available
+     */
+    private static Optional<Path> appCdsArchive(Project project, String classPath) {
+        if (!Boolean.getBoolean(APP_CDS_PROPERTY)) {
+            return Optional.empty();
+        }
+        try {
+            Path archiveDir = project.targetDir().resolve(ProjectConstants.CACHES_DIR_NAME).resolve(APP_CDS_DIR);
+            Files.createDirectories(archiveDir);
+            byte[] classPathDigest = MessageDigest.getInstance(SOURCE_DIGEST_ALGORITHM)
+                    .digest(classPath.getBytes(StandardCharsets.UTF_8));
+            return Optional.of(archiveDir.resolve(HexFormat.of().formatHex(classPathDigest) + APP_CDS_EXTENSION));
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
     private static JBallerinaBackend execBackend(ProjectContext projectContext,
                                                  PackageCompilation packageCompilation) {
         Lock lock = projectContext.lockAndGet();
@@ -1447,7 +1608,24 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     }
 
     private Optional<ProjectContext> projectContext(Path projectRoot) {
-        return Optional.ofNullable(sourceRootToProject.get(projectRoot));
+        if (projectRoot == null) {
+            return Optional.empty();
+        }
+        ProjectContext projectContext = sourceRootToProject.get(projectRoot);
+        if (projectContext != null) {
+            projectContext.touch();
+        }
+        return Optional.ofNullable(projectContext);
+    }
+
+    /**
+     * Checks whether the project is in use, in which case it is only trimmed and never closed under memory pressure.
+     *
+     * @param projectRoot source root of the project
+     * @return whether the project is in use
+     */
+    protected boolean isProjectActive(Path projectRoot) {
+        return this.openedDocuments.stream().anyMatch(path -> path.startsWith(projectRoot));
     }
 
     private Optional<ProjectContext> createProjectContext(Path filePath, String operationName) {
@@ -1555,6 +1733,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         ProjectContext projectContext = sourceRootToProject.get(projectRoot);
         //Check if the project is crashed and create a new project if there is a change in the source files.
         if (projectContext != null && !(projectContext.isProjectCrashed() && isSourceChange)) {
+            projectContext.touch();
             return projectContext;
         }
         //Try to create the project again.
@@ -1586,10 +1765,17 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
         private boolean projectCrashed;
 
+        private volatile long lastAccessTime;
+
+        private volatile boolean trimmed;
+
+        private volatile RunArtifacts runArtifacts;
+
         private ProjectContext(Project project, Lock lock) {
             this.project = project;
             this.lock = lock;
             this.compilationCrashed = false;
+            this.lastAccessTime = System.currentTimeMillis();
         }
 
         public static ProjectContext from(Project project) {
@@ -1635,6 +1821,24 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
          */
         public void setProject(Project project) {
             this.project = project;
+            this.trimmed = false;
+        }
+
+        /**
+         * Marks the project as accessed.
+         */
+        public void touch() {
+            this.lastAccessTime = System.currentTimeMillis();
+            this.trimmed = false;
+        }
+
+        /**
+         * Returns the time the project was last accessed, in milliseconds since the epoch.
+         *
+         * @return last access time
+         */
+        public long lastAccessTime() {
+            return this.lastAccessTime;
         }
 
         /**
@@ -1694,6 +1898,114 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    /**
+     * Backend of the last run of a project, along with the digest of the sources it was generated from.
+     *
+     * @param sourceDigest digest of the package sources and manifests
+     * @param backend      backend holding the generated jars
+     * @param diagnostics  diagnostics of the compilation and code generation
+     */
+    private record RunArtifacts(byte[] sourceDigest, JBallerinaBackend backend, Collection<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * Exposes the projects of the workspace to the {@link MemoryPressureManager}. Cold projects are trimmed by
+     * clearing their caches, and closed if none of their documents are open.
+     */
+    private class ReclaimableProjects implements ReclaimableCache {
+
+        @Override
+        public String name() {
+            return "projects:" + uriScheme();
+        }
+
+        @Override
+        public Collection<ProjectEntry> entries() {
+            List<ProjectEntry> entries = new ArrayList<>();
+            // The map is concurrent, hence it can be iterated while the projects are being opened or closed
+            for (Map.Entry<Path, ProjectContext> entry : sourceRootToProject.entrySet()) {
+                entries.add(new ProjectEntry(entry.getKey(), entry.getValue()));
+            }
+            return entries;
+        }
+    }
+
+    private class ProjectEntry implements ReclaimableCache.Entry {
+
+        private final Path projectRoot;
+        private final ProjectContext projectContext;
+
+        ProjectEntry(Path projectRoot, ProjectContext projectContext) {
+            this.projectRoot = projectRoot;
+            this.projectContext = projectContext;
+        }
+
+        @Override
+        public String id() {
+            return projectRoot.toUri().toString();
+        }
+
+        @Override
+        public long lastAccessTime() {
+            return projectContext.lastAccessTime();
+        }
+
+        @Override
+        public long estimatedSize() {
+            if (projectContext.trimmed) {
+                return 0;
+            }
+            long documents = 0;
+            for (Module module : projectContext.project().currentPackage().modules()) {
+                documents += module.documentIds().size() + module.testDocumentIds().size();
+            }
+            return Math.max(1, documents) * ESTIMATED_DOCUMENT_FOOTPRINT;
+        }
+
+        @Override
+        public boolean isActive() {
+            return projectContext.process().isPresent() || isProjectActive(projectRoot);
+        }
+
+        @Override
+        public boolean trim() {
+            Lock lock = projectContext.locker();
+            // Skip the projects being compiled, they are in use anyway
+            if (!lock.tryLock()) {
+                return false;
+            }
+            try {
+                if (projectContext.process().isPresent()) {
+                    return false;
+                }
+                projectContext.project().clearCaches();
+                projectContext.runArtifacts = null;
+                projectContext.trimmed = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean close() {
+            Lock lock = projectContext.locker();
+            if (!lock.tryLock()) {
+                return false;
+            }
+            try {
+                if (isActive() || sourceRootToProject.get(projectRoot) != projectContext) {
+                    return false;
+                }
+                sourceRootToProject.remove(projectRoot);
+                clientLogger.logTrace("Operation 'memory/reclaim' {project: '" + id() + "'} removed");
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     /**
      * Represents a map of Path to ProjectContext.
      *
@@ -1701,7 +2013,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
      * @param <V> cache value Clear out front-faced cache implementation whenever a modification operation triggered for
      *            this map.
      */
-    private static class SourceRootToProjectMap<K, V> extends HashMap<K, V> {
+    private static class SourceRootToProjectMap<K, V> extends ConcurrentHashMap<K, V> {
 
         private static final long serialVersionUID = 19900410L;
         private final transient Map<Path, Path> cache;
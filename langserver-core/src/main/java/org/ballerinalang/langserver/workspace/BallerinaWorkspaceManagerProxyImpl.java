@@ -127,6 +127,13 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         public String uriScheme() {
             return CommonUtil.EXPR_SCHEME;
         }
+
+        @Override
+        protected boolean isProjectActive(Path projectRoot) {
+            // Documents of the expression scheme are not tracked as opened documents, hence the cloned projects are
+            // only trimmed under memory pressure and removed when the client closes them.
+            return true;
+        }
     }
 
     /**
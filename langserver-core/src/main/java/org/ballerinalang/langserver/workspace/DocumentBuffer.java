@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+
+import java.util.List;
+
+/**
+ * Applies the content changes sent by the client to the content of a document, such as a cell of an open notebook.
+ * A change with a range is applied to the content, while a change without a range replaces it.
+ *
+ * @since 1.3.0
+ */
+public class DocumentBuffer {
+
+    private TextDocument textDocument;
+
+    public DocumentBuffer(String content) {
+        this.textDocument = TextDocuments.from(content);
+    }
+
+    /**
+     * Applies the changes in the order they were sent. A change without a range replaces the whole content. The
+     * changes are applied as a whole, hence the content is left unchanged if any of them fails.
+     *
+     * @param changes content changes of a {@code textDocument/didChange} notification
+     * @return the updated content
+     * @throws WorkspaceDocumentException if a change does not fit the current content
+     */
+    public synchronized String apply(List<TextDocumentContentChangeEvent> changes) throws WorkspaceDocumentException {
+        TextDocument updatedDocument = textDocument;
+        for (TextDocumentContentChangeEvent change : changes) {
+            Range range = change.getRange();
+            if (range == null) {
+                updatedDocument = TextDocuments.from(change.getText());
+                continue;
+            }
+            int start = offset(updatedDocument, range.getStart());
+            int end = offset(updatedDocument, range.getEnd());
+            if (end < start) {
+                throw new WorkspaceDocumentException("Invalid range in the document change: " + range);
+            }
+            TextEdit edit = TextEdit.from(TextRange.from(start, end - start), change.getText());
+            updatedDocument = updatedDocument.apply(TextDocumentChange.from(new TextEdit[]{edit}));
+        }
+        textDocument = updatedDocument;
+        return textDocument.toString();
+    }
+
+    synchronized String content() {
+        return textDocument.toString();
+    }
+
+    private static int offset(TextDocument textDocument, Position position) throws WorkspaceDocumentException {
+        try {
+            // A character past the end of the line defaults back to the line length
+            int lineLength = textDocument.line(position.getLine()).length();
+            return textDocument.textPositionFrom(LinePosition.from(position.getLine(),
+                    Math.min(position.getCharacter(), lineLength)));
+        } catch (RuntimeException e) {
+            throw new WorkspaceDocumentException("Position " + position.getLine() + ":" + position.getCharacter() +
+                    " is outside the document", e);
+        }
+    }
+}
@@ -91,8 +91,25 @@ public final class LSExtensionTestUtil {
     public static BallerinaSyntaxTreeResponse modifyAndGetBallerinaSyntaxTree(String filePath,
                                                                               ASTModification[] astModifications,
                                                                               Endpoint serviceEndpoint) {
+        return modifyAndGetBallerinaSyntaxTree(filePath, astModifications, null, serviceEndpoint);
+    }
+
+    /**
+     * Get the ballerinaDocument/syntaxTree modification response relative to a previously received syntax tree.
+     *
+     * @param filePath         Path of the Bal file
+     * @param astModifications modification to the ast
+     * @param previousVersion  version of the syntax tree received last
+     * @param serviceEndpoint  Service Endpoint to Language Server
+     * @return {@link BallerinaSyntaxTreeResponse}   Response
+     */
+    public static BallerinaSyntaxTreeResponse modifyAndGetBallerinaSyntaxTree(String filePath,
+                                                                              ASTModification[] astModifications,
+                                                                              Long previousVersion,
+                                                                              Endpoint serviceEndpoint) {
         BallerinaSyntaxTreeModifyRequest astModifyRequest = new BallerinaSyntaxTreeModifyRequest(
                 TestUtil.getTextDocumentIdentifier(filePath), astModifications);
+        astModifyRequest.setPreviousVersion(previousVersion);
         CompletableFuture<?> result = serviceEndpoint.request(SYNTAX_TREE_MODIFY, astModifyRequest);
         return GSON.fromJson(getResult(result), BallerinaSyntaxTreeResponse.class);
     }
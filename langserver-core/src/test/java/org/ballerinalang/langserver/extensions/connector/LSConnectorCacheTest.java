@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.extensions.connector;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import org.ballerinalang.langserver.exception.LSConnectorException;
+import org.ballerinalang.langserver.extensions.ballerina.connector.ConnectorCacheKey;
+import org.ballerinalang.langserver.extensions.ballerina.connector.ConnectorExtContext;
+import org.ballerinalang.langserver.extensions.ballerina.connector.LSConnectorCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link LSConnectorCache}.
+ */
+public class LSConnectorCacheTest {
+
+    @Test(description = "Test that connector and record entries of the same coordinate do not collide")
+    public void testKeyKinds() {
+        LSConnectorCache cache = LSConnectorCache.getInstance(new ConnectorExtContext());
+        cache.put(ConnectorCacheKey.connector("ballerina", "http", "http", "2.0.0", "Client"), new JsonPrimitive("c"));
+        cache.put(ConnectorCacheKey.record("ballerina", "http", "2.0.0", "Client"), new JsonPrimitive("r"));
+
+        Assert.assertEquals(cache.get(ConnectorCacheKey.connector("ballerina", "http", "http", "2.0.0", "Client"))
+                .orElseThrow().getAsString(), "c");
+        Assert.assertEquals(cache.get(ConnectorCacheKey.record("ballerina", "http", "2.0.0", "Client"))
+                .orElseThrow().getAsString(), "r");
+        Assert.assertEquals(ConnectorCacheKey.record("ballerina", "http", "", "Client").version(), "0.0.0");
+    }
+
+    @Test(description = "Test that connectors of packages with the same module do not collide")
+    public void testPackageNames() {
+        LSConnectorCache cache = LSConnectorCache.getInstance(new ConnectorExtContext());
+        cache.put(ConnectorCacheKey.connector("ballerinax", "aws.s3", "s3", "1.0.0", "Client"),
+                new JsonPrimitive("aws"));
+
+        Assert.assertTrue(cache.get(ConnectorCacheKey.connector("ballerinax", "s3", "s3", "1.0.0", "Client"))
+                .isEmpty());
+    }
+
+    @Test(description = "Test that a loader returning null does not populate the cache")
+    public void testEmptyLoad() throws LSConnectorException {
+        LSConnectorCache cache = LSConnectorCache.getInstance(new ConnectorExtContext());
+        ConnectorCacheKey key = ConnectorCacheKey.record("ballerina", "http", "2.0.0", "Missing");
+
+        Assert.assertTrue(cache.get(key, () -> null).isEmpty());
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test(description = "Test that a failing loader surfaces as a connector exception")
+    public void testFailedLoad() {
+        LSConnectorCache cache = LSConnectorCache.getInstance(new ConnectorExtContext());
+        ConnectorCacheKey key = ConnectorCacheKey.record("ballerina", "http", "2.0.0", "Broken");
+
+        Assert.assertThrows(LSConnectorException.class, () -> cache.get(key, () -> {
+            throw new LSConnectorException("No bala project found");
+        }));
+        Assert.assertTrue(cache.get(key).isEmpty());
+    }
+
+    @Test(description = "Test that concurrent requests for the same key are loaded only once")
+    public void testSingleFlightLoad() throws Exception {
+        LSConnectorCache cache = LSConnectorCache.getInstance(new ConnectorExtContext());
+        ConnectorCacheKey key = ConnectorCacheKey.connector("ballerinax", "github", "github", "4.0.0", "Client");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Optional<JsonElement>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(key, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(50);
+                        return new JsonPrimitive("connector");
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Optional<JsonElement>> result : results) {
+                Assert.assertEquals(result.get(10, TimeUnit.SECONDS).orElseThrow().getAsString(), "connector");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertEquals(cache.stats().loadCount(), 1);
+        Assert.assertEquals(cache.stats().hitCount() + cache.stats().missCount(), threads);
+    }
+}
@@ -16,10 +16,13 @@
 package org.ballerinalang.langserver.extensions.document;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.ballerinalang.langserver.extensions.LSExtensionTestUtil;
 import org.ballerinalang.langserver.extensions.ballerina.document.ASTModification;
 import org.ballerinalang.langserver.extensions.ballerina.document.BallerinaSyntaxTreeResponse;
+import org.ballerinalang.langserver.extensions.ballerina.document.SyntaxTreePatch;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
@@ -31,6 +34,7 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Test visible endpoint detection.
@@ -147,6 +151,106 @@ public class SyntaxTreeModifyTest {
         TestUtil.closeDocument(this.serviceEndpoint, expectedFile);
     }
 
+    @Test(description = "Remove content and receive the changes to the previous tree.")
+    public void testDeleteAsPatches() throws IOException {
+        skipOnWindows();
+        Path inputFile = LSExtensionTestUtil.createTempFile(mainFile);
+        Path expectedFile = LSExtensionTestUtil.createTempFile(mainEmptyFile);
+        TestUtil.openDocument(serviceEndpoint, inputFile);
+        TestUtil.openDocument(serviceEndpoint, expectedFile);
+        BallerinaSyntaxTreeResponse previousResponse = LSExtensionTestUtil.getBallerinaSyntaxTree(
+                inputFile.toString(), this.serviceEndpoint);
+        Assert.assertNotNull(previousResponse.getVersion());
+
+        ASTModification modification = new ASTModification(3, 4, 3, 32, false, "delete", null);
+        BallerinaSyntaxTreeResponse astModifyResponse = LSExtensionTestUtil.modifyAndGetBallerinaSyntaxTree(
+                inputFile.toString(), new ASTModification[]{modification}, previousResponse.getVersion(),
+                this.serviceEndpoint);
+        Assert.assertTrue(astModifyResponse.isParseSuccess());
+        Assert.assertNull(astModifyResponse.getSyntaxTree());
+        Assert.assertNotNull(astModifyResponse.getPatches());
+
+        JsonElement tree = previousResponse.getSyntaxTree();
+        for (SyntaxTreePatch patch : astModifyResponse.getPatches()) {
+            tree = applyPatch(tree, patch);
+        }
+        BallerinaSyntaxTreeResponse astResponse = LSExtensionTestUtil.getBallerinaSyntaxTree(
+                expectedFile.toString(), this.serviceEndpoint);
+        // Only the changed subtrees carry new type data
+        Assert.assertEquals(withoutTypeData(tree), withoutTypeData(astResponse.getSyntaxTree()));
+
+        // An outdated version falls back to the whole tree
+        BallerinaSyntaxTreeResponse staleResponse = LSExtensionTestUtil.modifyAndGetBallerinaSyntaxTree(
+                inputFile.toString(), new ASTModification[0], previousResponse.getVersion(), this.serviceEndpoint);
+        Assert.assertNull(staleResponse.getPatches());
+        Assert.assertEquals(staleResponse.getSyntaxTree(), astResponse.getSyntaxTree());
+        TestUtil.closeDocument(this.serviceEndpoint, inputFile);
+        TestUtil.closeDocument(this.serviceEndpoint, expectedFile);
+    }
+
+    @Test(description = "Insert content as patches to the previous tree.")
+    public void testInsertAsPatches() throws IOException {
+        skipOnWindows();
+        Path inputFile = LSExtensionTestUtil.createTempFile(mainEmptyFile);
+        Path expectedFile = LSExtensionTestUtil.createTempFile(mainHttpCallFile);
+        TestUtil.openDocument(serviceEndpoint, inputFile);
+        TestUtil.openDocument(serviceEndpoint, expectedFile);
+        BallerinaSyntaxTreeResponse previousResponse = LSExtensionTestUtil.getBallerinaSyntaxTree(
+                inputFile.toString(), this.serviceEndpoint);
+
+        Gson gson = new Gson();
+        ASTModification modification1 = new ASTModification(0, 0, 0, 0, true, "INSERT",
+                gson.fromJson("{\"TYPE\":\"ballerina/http\", \"STATEMENT\":\"import ballerina/http;\"}",
+                        JsonObject.class));
+        ASTModification modification2 = new ASTModification(2, 0, 2, 0, false, "INSERT", gson
+                .fromJson("{\"STATEMENT\":\"http:Client clientEndpoint = new (\\\"http://postman-echo.com\\\");\"}",
+                        JsonObject.class));
+        ASTModification modification3 = new ASTModification(2, 0, 2, 0, false, "INSERT",
+                gson.fromJson("{\"STATEMENT\":\"http:Response response = check clientEndpoint->get(\\\"\\\");\"}",
+                        JsonObject.class));
+        BallerinaSyntaxTreeResponse astModifyResponse = LSExtensionTestUtil.modifyAndGetBallerinaSyntaxTree(
+                inputFile.toString(), new ASTModification[]{modification1, modification2, modification3},
+                previousResponse.getVersion(), this.serviceEndpoint);
+        Assert.assertNull(astModifyResponse.getSyntaxTree());
+        Assert.assertNotNull(astModifyResponse.getPatches());
+        // The added import and statements are sent as such, rather than as their whole lists
+        Assert.assertTrue(astModifyResponse.getPatches().stream()
+                .anyMatch(patch -> SyntaxTreePatch.ADD.equals(patch.getOp())));
+        // The added nodes are enriched with their type data
+        astModifyResponse.getPatches().stream()
+                .filter(patch -> SyntaxTreePatch.ADD.equals(patch.getOp()))
+                .forEach(patch -> Assert.assertTrue(
+                        patch.getTree().getAsJsonObject().getAsJsonObject("typeData").size() > 0));
+
+        JsonElement tree = previousResponse.getSyntaxTree();
+        for (SyntaxTreePatch patch : astModifyResponse.getPatches()) {
+            tree = applyPatch(tree, patch);
+        }
+        BallerinaSyntaxTreeResponse astResponse = LSExtensionTestUtil.getBallerinaSyntaxTree(
+                expectedFile.toString(), this.serviceEndpoint);
+        // Only the changed subtrees carry new type data
+        Assert.assertEquals(withoutTypeData(tree), withoutTypeData(astResponse.getSyntaxTree()));
+        TestUtil.closeDocument(this.serviceEndpoint, inputFile);
+        TestUtil.closeDocument(this.serviceEndpoint, expectedFile);
+    }
+
+    @Test(description = "Closing a document drops the trees sent for it.")
+    public void testCloseDropsPreviousTree() throws IOException {
+        skipOnWindows();
+        Path inputFile = LSExtensionTestUtil.createTempFile(mainFile);
+        TestUtil.openDocument(serviceEndpoint, inputFile);
+        BallerinaSyntaxTreeResponse previousResponse = LSExtensionTestUtil.getBallerinaSyntaxTree(
+                inputFile.toString(), this.serviceEndpoint);
+        TestUtil.closeDocument(this.serviceEndpoint, inputFile);
+
+        TestUtil.openDocument(serviceEndpoint, inputFile);
+        BallerinaSyntaxTreeResponse astModifyResponse = LSExtensionTestUtil.modifyAndGetBallerinaSyntaxTree(
+                inputFile.toString(), new ASTModification[0], previousResponse.getVersion(), this.serviceEndpoint);
+        Assert.assertNull(astModifyResponse.getPatches());
+        Assert.assertEquals(astModifyResponse.getSyntaxTree(), previousResponse.getSyntaxTree());
+        TestUtil.closeDocument(this.serviceEndpoint, inputFile);
+    }
+
     @Test(description = "Insert content.")
     public void testInsert() throws IOException {
         skipOnWindows();
@@ -356,6 +460,51 @@ public class SyntaxTreeModifyTest {
 //        TestUtil.closeDocument(this.serviceEndpoint, tempFile);
 //    }
 
+    private static JsonElement applyPatch(JsonElement tree, SyntaxTreePatch patch) {
+        if (patch.getPath().isEmpty()) {
+            return patch.getTree();
+        }
+        String[] segments = patch.getPath().substring(1).split("/");
+        JsonElement parent = tree;
+        for (int i = 0; i < segments.length - 1; i++) {
+            parent = parent.isJsonArray() ? parent.getAsJsonArray().get(Integer.parseInt(segments[i]))
+                    : parent.getAsJsonObject().get(unescape(segments[i]));
+        }
+        String last = segments[segments.length - 1];
+        if (parent.isJsonArray()) {
+            List<JsonElement> elements = parent.getAsJsonArray().asList();
+            int index = Integer.parseInt(last);
+            switch (patch.getOp()) {
+                case SyntaxTreePatch.ADD -> elements.add(index, patch.getTree());
+                case SyntaxTreePatch.REMOVE -> elements.remove(index);
+                default -> elements.set(index, patch.getTree());
+            }
+        } else {
+            parent.getAsJsonObject().add(unescape(last), patch.getTree());
+        }
+        return tree;
+    }
+
+    private static JsonElement withoutTypeData(JsonElement element) {
+        if (element.isJsonObject()) {
+            JsonObject object = new JsonObject();
+            element.getAsJsonObject().entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals("typeData") && !entry.getKey().equals("VisibleEndpoints"))
+                    .forEach(entry -> object.add(entry.getKey(), withoutTypeData(entry.getValue())));
+            return object;
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = new JsonArray();
+            element.getAsJsonArray().forEach(member -> array.add(withoutTypeData(member)));
+            return array;
+        }
+        return element;
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
     @AfterClass
     public void stopLangServer() {
         TestUtil.shutdownLanguageServer(this.serviceEndpoint);
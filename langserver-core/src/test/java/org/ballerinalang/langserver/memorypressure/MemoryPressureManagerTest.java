@@ -0,0 +1,221 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.memorypressure;
+
+import org.ballerinalang.langserver.AbstractLSTest;
+import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.MemoryPressureManager;
+import org.ballerinalang.langserver.commons.capability.InitializationOptions;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.memory.ReclaimableCache;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.MessageType;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests {@link MemoryPressureManager}.
+ *
+ * @since 1.3.0
+ */
+public class MemoryPressureManagerTest extends AbstractLSTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final long HEAP_SIZE = 1000 * MB;
+
+    private ExtendedLanguageClient mockClient;
+    private MemoryMXBean mockMemoryMXBean;
+    private BallerinaLanguageServer languageServer;
+    private Endpoint serviceEndpoint;
+
+    @BeforeClass
+    @Override
+    public void init() {
+        MemoryPressureManager memoryPressureManager = new MemoryPressureManager(createMockMemoryMXBean(900 * MB),
+                Collections.emptyList());
+        this.languageServer = new BallerinaLanguageServer();
+        languageServer.getServerContext().put(MemoryPressureManager.MEMORY_PRESSURE_MANAGER_KEY,
+                memoryPressureManager);
+        mockClient = Mockito.mock(ExtendedLanguageClient.class);
+    }
+
+    @Test
+    public void test() {
+        TestUtil.LanguageServerBuilder builder = TestUtil.newLanguageServer()
+                .withLanguageServer(languageServer)
+                .withClient(mockClient)
+                .withInitOption(InitializationOptions.KEY_ENABLE_MEMORY_USAGE_MONITOR, true);
+        this.serviceEndpoint = builder.build();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                Mockito.verify(mockClient).showMessage(new MessageParams(MessageType.Error,
+                        "Memory usage is high. Some features may become unresponsive. " +
+                                "Please reload the window or increase the memory allocated for Ballerina")));
+    }
+
+    @Test
+    public void testTrimColdEntriesInLruOrder() {
+        long now = System.currentTimeMillis();
+        TestEntry oldest = new TestEntry("oldest", now - TimeUnit.MINUTES.toMillis(10), 200 * MB, false);
+        TestEntry older = new TestEntry("older", now - TimeUnit.MINUTES.toMillis(5), 200 * MB, false);
+        TestEntry hot = new TestEntry("hot", now, 200 * MB, false);
+
+        // 750MB used, hence 150MB should be freed to reach the target usage
+        MemoryPressureManager manager = new MemoryPressureManager(createMockMemoryMXBean(750 * MB),
+                Collections.emptyList());
+        TestCache cache = new TestCache(List.of(hot, older, oldest));
+        manager.register(cache);
+        ExtendedLanguageClient client = Mockito.mock(ExtendedLanguageClient.class);
+        manager.start(client);
+        try {
+            await().atMost(2, TimeUnit.SECONDS).until(() -> oldest.trimmed);
+            Assert.assertFalse(oldest.closed, "Entries should not be closed under moderate pressure");
+            Assert.assertFalse(older.trimmed, "Entries should not be trimmed once the target is reached");
+            Assert.assertFalse(hot.trimmed, "Recently accessed entries should not be trimmed");
+            Mockito.verify(client, Mockito.never()).showMessage(Mockito.any());
+        } finally {
+            manager.unregister(cache);
+            manager.stop();
+        }
+    }
+
+    @Test
+    public void testCloseInactiveEntriesUnderCriticalPressure() {
+        long now = System.currentTimeMillis();
+        TestEntry inactive = new TestEntry("inactive", now - TimeUnit.MINUTES.toMillis(10), 100 * MB, false);
+        TestEntry active = new TestEntry("active", now - TimeUnit.MINUTES.toMillis(5), 100 * MB, true);
+        TestEntry hot = new TestEntry("hot", now, 100 * MB, false);
+
+        MemoryPressureManager manager = new MemoryPressureManager(createMockMemoryMXBean(950 * MB),
+                Collections.emptyList());
+        TestCache cache = new TestCache(List.of(inactive, active, hot));
+        manager.register(cache);
+        manager.start(Mockito.mock(ExtendedLanguageClient.class));
+        try {
+            await().atMost(2, TimeUnit.SECONDS).until(() -> inactive.closed && active.trimmed);
+            Assert.assertFalse(active.closed, "Active entries should never be closed");
+            Assert.assertFalse(hot.trimmed || hot.closed, "Recently accessed entries should not be reclaimed");
+        } finally {
+            manager.unregister(cache);
+            manager.stop();
+        }
+    }
+
+    private MemoryMXBean createMockMemoryMXBean(long used) {
+        MemoryMXBean memoryMXBean = Mockito.mock(MemoryMXBean.class, Mockito.withSettings().stubOnly());
+        MemoryUsage mockHeapMemoryUsage = new MemoryUsage(HEAP_SIZE, used, used, HEAP_SIZE);
+        Mockito.when(memoryMXBean.getHeapMemoryUsage()).thenReturn(mockHeapMemoryUsage);
+        if (mockMemoryMXBean == null) {
+            mockMemoryMXBean = memoryMXBean;
+        }
+        return memoryMXBean;
+    }
+
+    @AfterClass
+    @Override
+    public void cleanMocks() {
+        super.cleanMocks();
+        if (this.mockClient != null) {
+            Mockito.reset(this.mockClient);
+            this.mockClient = null;
+        }
+        if (this.mockMemoryMXBean != null) {
+            Mockito.reset(this.mockMemoryMXBean);
+            this.mockMemoryMXBean = null;
+        }
+    }
+
+    @AfterClass
+    @Override
+    public void shutDownLanguageServer() {
+        TestUtil.shutdownLanguageServer(this.serviceEndpoint);
+        this.languageServer = null;
+        this.serviceEndpoint = null;
+    }
+
+    private record TestCache(List<TestEntry> entries) implements ReclaimableCache {
+
+        @Override
+        public String name() {
+            return "test";
+        }
+    }
+
+    private static class TestEntry implements ReclaimableCache.Entry {
+
+        private final String id;
+        private final long lastAccessTime;
+        private final long size;
+        private final boolean active;
+        private volatile boolean trimmed;
+        private volatile boolean closed;
+
+        TestEntry(String id, long lastAccessTime, long size, boolean active) {
+            this.id = id;
+            this.lastAccessTime = lastAccessTime;
+            this.size = size;
+            this.active = active;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public long lastAccessTime() {
+            return lastAccessTime;
+        }
+
+        @Override
+        public long estimatedSize() {
+            return trimmed || closed ? 0 : size;
+        }
+
+        @Override
+        public boolean isActive() {
+            return active;
+        }
+
+        @Override
+        public boolean trim() {
+            trimmed = true;
+            return true;
+        }
+
+        @Override
+        public boolean close() {
+            closed = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langserver.workspace;
+
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests applying the incremental document changes of the client.
+ *
+ * @since 1.3.0
+ */
+public class DocumentBufferTest {
+
+    private static final String CONTENT = """
+            import ballerina/io;
+
+            public function main() {
+                io:println("Hello");
+            }
+            """;
+
+    @Test
+    public void testRangedChanges() throws WorkspaceDocumentException {
+        DocumentBuffer buffer = new DocumentBuffer(CONTENT);
+        String content = buffer.apply(List.of(
+                // Replace the greeting
+                change(3, 16, 3, 21, "World"),
+                // Insert a statement, relative to the content after the first change
+                change(4, 0, 4, 0, "    int x = 1;\n"),
+                // Delete the import
+                change(0, 0, 2, 0, "")));
+        Assert.assertEquals(content, """
+                public function main() {
+                    io:println("World");
+                    int x = 1;
+                }
+                """);
+        Assert.assertEquals(buffer.content(), content);
+    }
+
+    @Test
+    public void testFullContentChange() throws WorkspaceDocumentException {
+        DocumentBuffer buffer = new DocumentBuffer(CONTENT);
+        String content = buffer.apply(List.of(new TextDocumentContentChangeEvent("function foo() {}\n"),
+                change(0, 9, 0, 12, "bar")));
+        Assert.assertEquals(content, "function bar() {}\n");
+    }
+
+    @Test(expectedExceptions = WorkspaceDocumentException.class)
+    public void testChangeOutsideDocument() throws WorkspaceDocumentException {
+        new DocumentBuffer(CONTENT).apply(List.of(change(20, 0, 20, 0, "x")));
+    }
+
+    @Test
+    public void testCharacterPastLineEnd() throws WorkspaceDocumentException {
+        String content = new DocumentBuffer(CONTENT).apply(List.of(change(0, 20, 0, 99, " // io")));
+        Assert.assertTrue(content.startsWith("import ballerina/io; // io\n"));
+    }
+
+    @Test
+    public void testFailedChangesLeaveContent() {
+        DocumentBuffer buffer = new DocumentBuffer(CONTENT);
+        Assert.assertThrows(WorkspaceDocumentException.class,
+                () -> buffer.apply(List.of(change(3, 16, 3, 21, "World"), change(20, 0, 20, 0, "x"))));
+        Assert.assertEquals(buffer.content(), CONTENT);
+    }
+
+    private static TextDocumentContentChangeEvent change(int startLine, int startChar, int endLine, int endChar,
+                                                         String text) {
+        return new TextDocumentContentChangeEvent(
+                new Range(new Position(startLine, startChar), new Position(endLine, endChar)), text);
+    }
+}
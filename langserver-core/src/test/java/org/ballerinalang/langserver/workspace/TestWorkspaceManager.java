@@ -40,6 +40,8 @@ import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.command.CommandArgument;
 import org.ballerinalang.langserver.commons.command.LSCommandExecutorException;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
+import org.ballerinalang.langserver.commons.workspace.RunContext;
+import org.ballerinalang.langserver.commons.workspace.RunResult;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
 import org.ballerinalang.langserver.extensions.ballerina.document.ExecutorPositionsUtil;
@@ -71,6 +73,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -564,18 +567,38 @@ public class TestWorkspaceManager {
             throws WorkspaceDocumentException, EventSyncException, LSCommandExecutorException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("long_running");
         Path filePath = projectPath.resolve("main.bal");
-        RunResult runResult = executeRunCommand(filePath);
+        RunOutput runResult = executeRunCommand(filePath);
         Assert.assertTrue(runResult.success());
         Assert.assertEquals(runResult.programOutput[0].trim(), "Hello, World!");
         executeStopCommand(projectPath);
     }
 
+    @Test
+    public void testWSRunReusesUnchangedArtifacts() throws WorkspaceDocumentException, EventSyncException,
+            IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("long_running");
+        Path filePath = projectPath.resolve("main.bal");
+        workspaceManager.loadProject(filePath);
+        RunContext runContext = new RunContext.Builder(guessJavaPath(), filePath).build();
+
+        RunResult firstRun = workspaceManager.run(runContext);
+        Assert.assertNotNull(firstRun.process());
+        Assert.assertTrue(firstRun.phaseDurations().containsKey(RunResult.PHASE_COMPILATION));
+        Assert.assertTrue(firstRun.phaseDurations().containsKey(RunResult.PHASE_CODEGEN));
+
+        // The sources are unchanged, hence the second run starts from the generated jars of the first one
+        RunResult secondRun = workspaceManager.run(runContext);
+        Assert.assertNotNull(secondRun.process());
+        Assert.assertEquals(secondRun.phaseDurations().keySet(), Set.of(RunResult.PHASE_LAUNCH));
+        executeStopCommand(projectPath);
+    }
+
     @Test
     public void testWSRunProjectWithCompilationErrors()
             throws WorkspaceDocumentException, EventSyncException, LSCommandExecutorException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("pkg_with_compilation_errors");
         Path filePath = projectPath.resolve("main.bal");
-        RunResult runResult = executeRunCommand(filePath);
+        RunOutput runResult = executeRunCommand(filePath);
         Assert.assertFalse(runResult.success());
         Assert.assertTrue(runResult.errorOutput().length > 0);
         Assert.assertEquals(runResult.errorOutput()[0], "ERROR [main.bal:(5:1,5:1)] missing semicolon token");
@@ -588,7 +611,7 @@ public class TestWorkspaceManager {
             throws WorkspaceDocumentException, EventSyncException, LSCommandExecutorException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("hello_service");
         Path filePath = projectPath.resolve("main.bal");
-        RunResult runResult = executeRunCommand(filePath);
+        RunOutput runResult = executeRunCommand(filePath);
         Assert.assertTrue(runResult.success());
 
         // Test syntax tree api
@@ -624,7 +647,7 @@ public class TestWorkspaceManager {
                 workspaceManager.document(filePath).orElseThrow(),
                 semanticModelPreExec);
 
-        RunResult runResult = executeRunCommand(filePath);
+        RunOutput runResult = executeRunCommand(filePath);
         Assert.assertTrue(runResult.success());
 
         SemanticModel semanticModelPostExec = workspaceManager.semanticModel(filePath).orElseThrow();
@@ -638,7 +661,7 @@ public class TestWorkspaceManager {
         executeStopCommand(projectPath);
     }
 
-    private RunResult executeRunCommand(Path filePath)
+    private RunOutput executeRunCommand(Path filePath)
             throws WorkspaceDocumentException, EventSyncException, LSCommandExecutorException {
         workspaceManager.loadProject(filePath);
         RunExecutor runExecutor = new RunExecutor();
@@ -651,7 +674,7 @@ public class TestWorkspaceManager {
         Mockito.when(execContext.getLanguageClient()).thenReturn(languageClient);
         Boolean didRan = runExecutor.execute(execContext);
 
-        return new RunResult(didRan, extractLogs(logCaptor, "out"), extractLogs(logCaptor, "err"));
+        return new RunOutput(didRan, extractLogs(logCaptor, "out"), extractLogs(logCaptor, "err"));
     }
 
     private void executeStopCommand(Path projectPath) {
@@ -771,7 +794,7 @@ public class TestWorkspaceManager {
         };
     }
 
-    private record RunResult(boolean success, String[] programOutput, String[] errorOutput) {
+    private record RunOutput(boolean success, String[] programOutput, String[] errorOutput) {
 
     }
 }
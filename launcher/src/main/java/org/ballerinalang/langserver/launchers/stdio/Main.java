@@ -20,6 +20,7 @@ package org.ballerinalang.langserver.launchers.stdio;
 
 import org.ballerinalang.langserver.BallerinaLanguageServer;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.metrics.MessageTimingWrapper;
 import org.eclipse.lsp4j.jsonrpc.Launcher;
 
 import java.io.InputStream;
@@ -52,8 +53,13 @@ public final class Main {
         System.getProperty("enableOutputStream", "false");
 
         BallerinaLanguageServer server = new BallerinaLanguageServer();
-        Launcher<ExtendedLanguageClient> launcher = Launcher.createLauncher(server,
-                ExtendedLanguageClient.class, in, out);
+        Launcher<ExtendedLanguageClient> launcher = new Launcher.Builder<ExtendedLanguageClient>()
+                .setLocalService(server)
+                .setRemoteInterface(ExtendedLanguageClient.class)
+                .setInput(in)
+                .setOutput(out)
+                .wrapMessages(new MessageTimingWrapper())
+                .create();
         ExtendedLanguageClient client = launcher.getRemoteProxy();
         server.connect(client);
         Future<?> startListening = launcher.startListening();
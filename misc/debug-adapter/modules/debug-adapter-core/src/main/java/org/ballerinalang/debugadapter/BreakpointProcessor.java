@@ -21,7 +21,10 @@ import com.sun.jdi.Location;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.event.BreakpointEvent;
+import com.sun.jdi.event.ClassPrepareEvent;
 import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.EventRequestManager;
 import org.ballerinalang.debugadapter.breakpoint.BalBreakpoint;
 import org.ballerinalang.debugadapter.breakpoint.LogMessage;
 import org.ballerinalang.debugadapter.breakpoint.TemplateLogMessage;
@@ -33,6 +36,7 @@ import org.ballerinalang.debugadapter.jdi.JDIUtils;
 import org.ballerinalang.debugadapter.jdi.JdiProxyException;
 import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
 import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
+import org.ballerinalang.debugadapter.utils.PackageUtils;
 import org.ballerinalang.debugadapter.variable.BVariableType;
 import org.eclipse.lsp4j.debug.Breakpoint;
 import org.eclipse.lsp4j.debug.BreakpointEventArguments;
@@ -41,12 +45,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -68,11 +75,14 @@ public class BreakpointProcessor {
     private final ExecutionContext context;
     private final JDIEventProcessor jdiEventProcessor;
     private final Map<String, LinkedHashMap<Integer, BalBreakpoint>> userBreakpoints = new ConcurrentHashMap<>();
+    private final LoadedClassIndex loadedClasses;
     private static final Logger LOGGER = LoggerFactory.getLogger(BreakpointProcessor.class);
 
     public BreakpointProcessor(ExecutionContext context, JDIEventProcessor jdiEventProcessor) {
         this.context = context;
         this.jdiEventProcessor = jdiEventProcessor;
+        this.loadedClasses = new LoadedClassIndex(() -> context.getDebuggeeVM().getVirtualMachine().allClasses(),
+                context::getClassPrepareSuspensions, PackageUtils::getQualifiedClassName);
     }
 
     public Map<String, LinkedHashMap<Integer, BalBreakpoint>> getUserBreakpoints() {
@@ -90,6 +100,33 @@ public class BreakpointProcessor {
         userBreakpoints.put(qualifiedClassName, breakpoints);
     }
 
+    /**
+     * Requests the JDI notifications of the classes loaded in the target VM, excluding the JDK and Ballerina runtime
+     * classes. The loaded classes are indexed against their source files, and the user breakpoints of a source file
+     * are activated when its classes get loaded.
+     */
+    void enableClassPrepareRequests() {
+        ClassPrepareRequest classPrepareRequest = context.getEventManager().createClassPrepareRequest();
+        for (String pattern : LoadedClassIndex.EXCLUDED_CLASS_PATTERNS) {
+            classPrepareRequest.addClassExclusionFilter(pattern);
+        }
+        classPrepareRequest.enable();
+    }
+
+    /**
+     * Process the JDI notification of a class being loaded in the target VM.
+     *
+     * @param classPrepareEvent JDI class prepare event
+     */
+    void processClassPrepareEvent(ClassPrepareEvent classPrepareEvent) {
+        ReferenceType referenceType = classPrepareEvent.referenceType();
+        String qualifiedClassName = loadedClasses.add(referenceType);
+        // Dynamic breakpoints are in place while stepping over, the user breakpoints are restored afterwards.
+        if (context.getPrevInstruction() != DebugInstruction.STEP_OVER) {
+            activateUserBreakPoints(qualifiedClassName, List.of(referenceType), true);
+        }
+    }
+
     /**
      * Process the JDI notification of a breakpoint in the target VM. The breakpoint event is generated before the
      * code at its location is executed.
@@ -175,44 +212,96 @@ public class BreakpointProcessor {
         }
 
         context.getEventManager().deleteAllBreakpoints();
-        context.getDebuggeeVM().allClasses().forEach(ref -> activateUserBreakPoints(ref, false));
+        for (String qualifiedClassName : userBreakpoints.keySet()) {
+            activateUserBreakPoints(qualifiedClassName, loadedClasses.get(qualifiedClassName), false);
+        }
     }
 
     /**
-     * Activates user-configured source breakpoints in the program VM, via Java Debug Interface(JDI).
+     * Replaces the breakpoint requests of the given source file with its current user breakpoints. The breakpoint
+     * requests of the other source files are left intact.
      *
-     * @param referenceType represent the type of an object in the remote VM
-     * @param shouldNotify  if true, notifies the debugger frontend with the user breakpoint verification information
+     * @param qualifiedClassName full-qualified classname generated for the Ballerina source file
      */
-    void activateUserBreakPoints(ReferenceType referenceType, boolean shouldNotify) {
-        try {
-            String qualifiedClassName = getQualifiedClassName(referenceType);
-            if (!userBreakpoints.containsKey(qualifiedClassName)) {
-                return;
-            }
-            Map<Integer, BalBreakpoint> breakpoints = this.userBreakpoints.get(qualifiedClassName);
-            for (BalBreakpoint breakpoint : breakpoints.values()) {
-                List<Location> locations = referenceType.locationsOfLine(breakpoint.getLine());
-                if (!locations.isEmpty()) {
-                    // TODO: should we consider the last location instead?
-                    Location loc = locations.get(0);
-                    BreakpointRequest bpReq = context.getEventManager().createBreakpointRequest(loc);
-                    bpReq.enable();
-
-                    // verifies the breakpoint reachability and notifies the client if required.
-                    if (supportsBreakpointVerification(context) && !breakpoint.isVerified()) {
-                        breakpoint.setVerified(true);
-                        if (shouldNotify) {
-                            notifyBreakPointChangesToClient(breakpoint);
-                        }
+    void refreshUserBreakpoints(String qualifiedClassName) {
+        if (context.getDebuggeeVM() == null) {
+            return;
+        }
+
+        Set<ReferenceType> referenceTypes = loadedClasses.get(qualifiedClassName);
+        EventRequestManager eventManager = context.getEventManager();
+        List<BreakpointRequest> sourceRequests = eventManager.breakpointRequests().stream()
+                .filter(request -> referenceTypes.contains(request.location().declaringType()))
+                .toList();
+        eventManager.deleteEventRequests(sourceRequests);
+        activateUserBreakPoints(qualifiedClassName, referenceTypes, false);
+    }
+
+    /**
+     * Activates the user-configured breakpoints of a source file in the program VM, via Java Debug Interface(JDI).
+     * The locations of all the breakpoints are resolved first, and a single request is created per location.
+     *
+     * @param qualifiedClassName full-qualified classname generated for the Ballerina source file
+     * @param referenceTypes     loaded classes of the source file
+     * @param shouldNotify       if true, notifies the debugger frontend with the user breakpoint verification
+     *                           information
+     */
+    private void activateUserBreakPoints(String qualifiedClassName, Collection<ReferenceType> referenceTypes,
+                                         boolean shouldNotify) {
+        Map<Integer, BalBreakpoint> breakpoints = userBreakpoints.get(qualifiedClassName);
+        if (breakpoints == null || breakpoints.isEmpty() || referenceTypes.isEmpty()) {
+            return;
+        }
+
+        Set<Location> locations = new LinkedHashSet<>();
+        List<BalBreakpoint> reachedBreakpoints = new ArrayList<>();
+        for (ReferenceType referenceType : referenceTypes) {
+            try {
+                for (BalBreakpoint breakpoint : breakpoints.values()) {
+                    List<Location> lineLocations = referenceType.locationsOfLine(breakpoint.getLine());
+                    if (!lineLocations.isEmpty()) {
+                        // TODO: should we consider the last location instead?
+                        locations.add(lineLocations.get(0));
+                        reachedBreakpoints.add(breakpoint);
                     }
                 }
+            } catch (AbsentInformationException ignored) {
+                // classes with no line number information can be ignored.
+            } catch (Exception e) {
+                LOGGER.error("Error while activating user breakpoints:" + e.getMessage(), e);
+            }
+        }
+
+        try {
+            EventRequestManager eventManager = context.getEventManager();
+            eventManager.breakpointRequests().forEach(request -> locations.remove(request.location()));
+            for (Location location : locations) {
+                eventManager.createBreakpointRequest(location).enable();
             }
-        } catch (AbsentInformationException ignored) {
-            // classes with no line number information can be ignored.
         } catch (Exception e) {
             LOGGER.error("Error while activating user breakpoints:" + e.getMessage(), e);
+            return;
+        }
+
+        // verifies the breakpoint reachability and notifies the client if required.
+        if (!supportsBreakpointVerification(context)) {
+            return;
         }
+        for (BalBreakpoint breakpoint : reachedBreakpoints) {
+            if (!breakpoint.isVerified()) {
+                breakpoint.setVerified(true);
+                if (shouldNotify) {
+                    notifyBreakPointChangesToClient(breakpoint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the index of the loaded classes. The user breakpoints are retained for the next debug session.
+     */
+    void reset() {
+        loadedClasses.clear();
     }
 
     /**
@@ -227,7 +316,7 @@ public class BreakpointProcessor {
      */
     void activateDynamicBreakPoints(int threadId, DynamicBreakpointMode mode, boolean validate) {
         try {
-            ThreadReferenceProxyImpl threadReference = context.getAdapter().getAllThreads().get(threadId);
+            ThreadReferenceProxyImpl threadReference = context.getAdapter().getThread(threadId);
             List<StackFrameProxyImpl> jStackFrames = threadReference.frames();
             List<BallerinaStackFrame> validFrames = jdiEventProcessor.filterValidBallerinaFrames(jStackFrames);
 
@@ -378,7 +467,7 @@ public class BreakpointProcessor {
         // the condition evaluation.
         JDIUtils.disableJDIRequests(context);
 
-        ThreadReferenceProxyImpl thread = context.getAdapter().getAllThreads().get((int) threadReference.uniqueID());
+        ThreadReferenceProxyImpl thread = context.getAdapter().getThread(threadReference.uniqueID());
         List<BallerinaStackFrame> validFrames = jdiEventProcessor.filterValidBallerinaFrames(thread.frames());
         if (validFrames.isEmpty()) {
             throw new IllegalStateException("Failed to use stack frames for evaluation");
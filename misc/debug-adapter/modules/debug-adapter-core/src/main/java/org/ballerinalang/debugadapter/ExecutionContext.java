@@ -26,6 +26,7 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Context holder for debug execution state related information.
@@ -44,6 +45,7 @@ public class ExecutionContext {
     private boolean supportsRunInTerminalRequest;
     private DebugInstruction prevInstruction;
     private Location prevLocation;
+    private final AtomicLong classPrepareSuspensions = new AtomicLong();
 
     ExecutionContext(JBallerinaDebugServer adapter) {
         this.adapter = adapter;
@@ -179,6 +181,23 @@ public class ExecutionContext {
         this.prevInstruction = DebugInstruction.CONTINUE;
     }
 
+    /**
+     * Records that the class prepare requests are disabled or enabled again, since the classes loaded in between are
+     * not reported.
+     */
+    public void markClassPrepareSuspension() {
+        classPrepareSuspensions.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of times the class prepare requests were disabled or enabled again.
+     *
+     * @return number of class prepare suspensions
+     */
+    public long getClassPrepareSuspensions() {
+        return classPrepareSuspensions.get();
+    }
+
     /**
      * Currently supported debug configuration modes.
      */
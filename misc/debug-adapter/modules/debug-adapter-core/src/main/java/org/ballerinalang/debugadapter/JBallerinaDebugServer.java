@@ -114,7 +114,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -128,6 +128,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static org.ballerinalang.debugadapter.DebugExecutionManager.LOCAL_HOST;
 import static org.ballerinalang.debugadapter.completion.util.CompletionUtil.getInjectedExpressionNode;
@@ -160,12 +162,27 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
     private ThreadReferenceProxyImpl activeThread;
 
     private final AtomicInteger nextVarReference = new AtomicInteger(1);
-    private final Map<Integer, StackFrameProxyImpl> stackFrames = new HashMap<>();
-    private final Map<Long, StackFrame[]> threadStackTraces = new HashMap<>();
-    private final Map<Integer, Integer> scopeIdToFrameIds = new HashMap<>();
+    private final Map<Integer, StackFrameProxyImpl> stackFrames = new ConcurrentHashMap<>();
+    private final Map<Long, ThreadStackTrace> threadStackTraces = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> scopeIdToFrameIds = new ConcurrentHashMap<>();
     private final Map<Integer, Integer> variableToStackFrames = new ConcurrentHashMap<>();
-    private final Map<Integer, BCompoundVariable> loadedCompoundVariables = new ConcurrentHashMap<>();
+    // Compound variables of the current suspended state. Beyond the maximum number of entries, the least recently
+    // expanded ones are evicted and release the remote values they hold.
+    private final Map<Integer, BCompoundVariable> loadedCompoundVariables = Collections.synchronizedMap(
+            new LinkedHashMap<Integer, BCompoundVariable>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, BCompoundVariable> eldest) {
+                    if (size() <= MAX_LOADED_COMPOUND_VARIABLE_COUNT) {
+                        return false;
+                    }
+                    eldest.getValue().release();
+                    return true;
+                }
+            });
+    // Incremented whenever the suspended state is cleared, to skip the variable requests scheduled before.
+    private final AtomicLong suspendedStateVersion = new AtomicLong();
     // Multi-threading is avoided here due to observed intermittent VM crashes, likely related to JDI limitations.
+    // Hence, every request which invokes methods in the remote VM (variable expansions and evaluations) runs on it.
     private final ExecutorService variableExecutor = Executors.newSingleThreadExecutor();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JBallerinaDebugServer.class);
@@ -176,6 +193,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
     private static final String COMPILATION_ERROR_MESSAGE = "error: compilation contains errors";
     private static final String TERMINAL_TITLE = "Ballerina Debug Terminal";
     private static final String RUN_IN_TERMINAL_REQUEST = "runInTerminal";
+    private static final int MAX_LOADED_COMPOUND_VARIABLE_COUNT = 10_000;
 
     public JBallerinaDebugServer() {
         context = new ExecutionContext(this);
@@ -205,6 +223,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         capabilities.setSupportsCompletionsRequest(true);
         capabilities.setCompletionTriggerCharacters(getTriggerCharacters().toArray(String[]::new));
         capabilities.setSupportsRestartRequest(true);
+        capabilities.setSupportsDelayedStackTraceLoading(true);
         // unsupported capabilities
         capabilities.setSupportsHitConditionalBreakpoints(false);
         capabilities.setSupportsModulesRequest(false);
@@ -343,17 +362,20 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
     public CompletableFuture<StackTraceResponse> stackTrace(StackTraceArguments args) {
         StackTraceResponse stackTraceResponse = new StackTraceResponse();
         try {
-            activeThread = getAllThreads().get(args.getThreadId());
-            if (threadStackTraces.containsKey(activeThread.uniqueID())) {
-                stackTraceResponse.setStackFrames(threadStackTraces.get(activeThread.uniqueID()));
-            } else {
-                StackFrame[] validFrames = activeThread.frames().stream()
-                        .map(this::toDapStackFrame)
-                        .filter(ServerUtils::isValidFrame)
-                        .toArray(StackFrame[]::new);
-                stackTraceResponse.setStackFrames(validFrames);
-                threadStackTraces.put(activeThread.uniqueID(), validFrames);
+            ThreadReferenceProxyImpl thread = getThread(args.getThreadId());
+            activeThread = thread;
+            if (thread == null) {
+                stackTraceResponse.setStackFrames(new StackFrame[0]);
+                return CompletableFuture.completedFuture(stackTraceResponse);
             }
+
+            // Frames are converted only up to the requested page, and reused until the thread is resumed.
+            ThreadStackTrace stackTrace = threadStackTraces.computeIfAbsent(thread.uniqueID(),
+                    id -> new ThreadStackTrace(thread, this::toDapStackFrame));
+            int startFrame = Objects.requireNonNullElse(args.getStartFrame(), 0);
+            int levels = Objects.requireNonNullElse(args.getLevels(), 0);
+            stackTraceResponse.setStackFrames(stackTrace.getFrames(startFrame, levels));
+            stackTraceResponse.setTotalFrames(stackTrace.getTotalFrames());
             return CompletableFuture.completedFuture(stackTraceResponse);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -390,8 +412,13 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         try {
             Integer frameId = scopeIdToFrameIds.get(args.getVariablesReference());
             if (frameId == null) {
-                variablesResponse.setVariables(computeChildVariables(args));
-                return CompletableFuture.completedFuture(variablesResponse);
+                // Child variables are computed on the variable executor, which skips the requests outdated by a resume
+                // before they get to fetch any values.
+                variablesResponse.setVariables(new Variable[0]);
+                return supplyVariablesAsync(() -> {
+                    variablesResponse.setVariables(computeChildVariables(args));
+                    return variablesResponse;
+                }, variablesResponse);
             }
 
             StackFrameProxyImpl stackFrame = stackFrames.get(Math.abs(frameId));
@@ -528,6 +555,11 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
             return CompletableFuture.completedFuture(response);
         }
 
+        // Evaluations invoke methods in the remote VM, hence they must not run concurrently with variable expansions.
+        return supplyVariablesAsync(() -> evaluateExpression(args), new EvaluateResponse());
+    }
+
+    private EvaluateResponse evaluateExpression(EvaluateArguments args) {
         try {
             StackFrameProxyImpl frame = stackFrames.get(args.getFrameId());
             SuspendedContext suspendedContext = new SuspendedContext(context, activeThread, frame);
@@ -535,14 +567,13 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
             evaluator = Objects.requireNonNullElse(evaluator, new DebugExpressionEvaluator(evaluationContext));
             evaluator.setExpression(args.getExpression());
             BExpressionValue evaluateResult = evaluator.evaluate();
-            EvaluateResponse evaluateResponse = constructEvaluateResponse(args, evaluateResult.getBVariable());
-            return CompletableFuture.completedFuture(evaluateResponse);
+            return constructEvaluateResponse(args, evaluateResult.getBVariable());
         } catch (EvaluationException e) {
             context.getOutputLogger().sendErrorOutput(e.getMessage());
-            return CompletableFuture.completedFuture(new EvaluateResponse());
+            return new EvaluateResponse();
         } catch (Exception e) {
             context.getOutputLogger().sendErrorOutput(EvaluationExceptionKind.PREFIX + "internal error");
-            return CompletableFuture.completedFuture(new EvaluateResponse());
+            return new EvaluateResponse();
         }
     }
 
@@ -816,28 +847,33 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
      * Returns a map of all currently running threads in the remote VM, against their unique ID.
      * <p>
      * Thread objects that have not yet been started (see {@link java.lang.Thread#start()})
-     * and thread objects that have completed their execution are not included in the returned list.
+     * and thread objects that have completed their execution are not included in the returned list. The thread proxies
+     * are kept by the VM proxy, which is updated with the thread start and death events.
      */
     Map<Integer, ThreadReferenceProxyImpl> getAllThreads() {
         if (context.getDebuggeeVM() == null) {
             return null;
         }
-        Collection<ThreadReference> threadReferences = context.getDebuggeeVM().getVirtualMachine().allThreads();
         Map<Integer, ThreadReferenceProxyImpl> threadsMap = new HashMap<>();
-
-        // Filter thread references which are suspended, whose thread status is running, and which represents an active
-        // ballerina strand.
-        for (ThreadReference threadReference : threadReferences) {
-            threadsMap.put((int) threadReference.uniqueID(), new ThreadReferenceProxyImpl(context.getDebuggeeVM(),
-                    threadReference));
-        }
-        for (ThreadReference threadReference : eventProcessor.getVirtualThreads()) {
-            threadsMap.put((int) threadReference.uniqueID(), new ThreadReferenceProxyImpl(context.getDebuggeeVM(),
-                    threadReference));
+        for (ThreadReferenceProxyImpl threadProxy : context.getDebuggeeVM().allThreads()) {
+            threadsMap.put((int) threadProxy.uniqueID(), threadProxy);
         }
         return threadsMap;
     }
 
+    /**
+     * Returns the currently running thread with the given unique ID.
+     *
+     * @param threadId unique ID of the thread
+     * @return the thread proxy, or null if there is no such thread
+     */
+    ThreadReferenceProxyImpl getThread(long threadId) {
+        if (context.getDebuggeeVM() == null) {
+            return null;
+        }
+        return context.getDebuggeeVM().getThreadReferenceProxy(threadId);
+    }
+
     /**
      * Returns a map of thread instances which correspond to an active ballerina strand, against their unique ID.
      */
@@ -858,7 +894,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
                     && threadReference.isSuspended()
                     && isBalStrand(threadReference)
             ) {
-                balStrandThreads.put(id, new ThreadReferenceProxyImpl(context.getDebuggeeVM(), threadReference));
+                balStrandThreads.put(id, threadProxy);
             }
         });
         return balStrandThreads;
@@ -934,7 +970,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         VirtualMachine attachedVm = executionManager.attach(hostName, portName);
         context.setDebuggeeVM(new VirtualMachineProxyImpl(attachedVm));
         EventRequestManager erm = context.getEventManager();
-        erm.createClassPrepareRequest().enable();
+        eventProcessor.getBreakpointProcessor().enableClassPrepareRequests();
         erm.createThreadStartRequest().enable();
         erm.createThreadDeathRequest().enable();
         eventProcessor.startListenAsync();
@@ -1070,7 +1106,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
      * @param stackFrameRef reference ID of the parent stack frame
      */
     private CompletableFuture<Variable> computeVariableAsync(String name, Value value, Integer stackFrameRef) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyVariablesAsync(() -> {
             BVariable variable = VariableFactory.getVariable(suspendedContext, name, value);
             if (variable == null) {
                 return null;
@@ -1084,11 +1120,35 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
                 updateVariableToStackFrameMap(stackFrameRef, variableReference);
             }
             return variable.getDapVariable();
-        }, variableExecutor);
+        }, null);
     }
 
     private CompletableFuture<Variable[]> computeChildVariablesAsync(VariablesArguments args) {
-        return CompletableFuture.supplyAsync(() -> computeChildVariables(args), variableExecutor);
+        return supplyVariablesAsync(() -> computeChildVariables(args), new Variable[0]);
+    }
+
+    /**
+     * Schedules a variable computation on the variable executor. Computations which are cancelled before they get
+     * scheduled are not run, and the ones scheduled for an already cleared suspended state return the given default
+     * result without accessing the remote VM.
+     *
+     * @param supplier      variable computation
+     * @param defaultResult result to be used if the computation is outdated or fails
+     * @return the future result of the computation
+     */
+    private <T> CompletableFuture<T> supplyVariablesAsync(Supplier<T> supplier, T defaultResult) {
+        long stateVersion = suspendedStateVersion.get();
+        return CompletableFuture.supplyAsync(() -> {
+            if (stateVersion != suspendedStateVersion.get()) {
+                return defaultResult;
+            }
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                LOGGER.error(e.getMessage(), e);
+                return defaultResult;
+            }
+        }, variableExecutor);
     }
 
     private Variable[] computeChildVariables(VariablesArguments args) {
@@ -1115,7 +1175,10 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
             return new Variable[0];
         } else if (parentVar instanceof NamedCompoundVariable) {
             // Handles named variables.
-            Map<String, Value> childVars = ((NamedCompoundVariable) parentVar).getNamedChildVariables();
+            int startIndex = (args.getStart() != null) ? args.getStart() : 0;
+            int count = (args.getCount() != null) ? args.getCount() : 0;
+            Map<String, Value> childVars = ((NamedCompoundVariable) parentVar).getNamedChildVariables(startIndex,
+                    count);
             return createVariableArrayFrom(args, childVars);
         }
 
@@ -1206,11 +1269,18 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
      * Clears the suspended state information.
      */
     private void clearSuspendedState() {
+        suspendedStateVersion.incrementAndGet();
         suspendedContext = null;
         evaluator = null;
         activeThread = null;
         stackFrames.clear();
-        loadedCompoundVariables.clear();
+        List<BCompoundVariable> releasedVariables;
+        synchronized (loadedCompoundVariables) {
+            releasedVariables = new ArrayList<>(loadedCompoundVariables.values());
+            loadedCompoundVariables.clear();
+        }
+        // Released after the variable requests in progress, which may still read the remote values
+        variableExecutor.execute(() -> releasedVariables.forEach(BCompoundVariable::release));
         variableToStackFrames.clear();
         scopeIdToFrameIds.clear();
         threadStackTraces.clear();
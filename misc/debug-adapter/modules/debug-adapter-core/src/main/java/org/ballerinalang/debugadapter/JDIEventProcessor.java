@@ -18,7 +18,6 @@ package org.ballerinalang.debugadapter;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.Location;
-import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.event.BreakpointEvent;
 import com.sun.jdi.event.ClassPrepareEvent;
@@ -67,7 +66,6 @@ public class JDIEventProcessor {
     private volatile boolean isRemoteVmAttached;
     private volatile boolean interruptFlag;
     private final List<EventRequest> stepRequests = new CopyOnWriteArrayList<>();
-    private static final List<ThreadReference> virtualThreads = new CopyOnWriteArrayList<>();
     private static final Logger LOGGER = LoggerFactory.getLogger(JDIEventProcessor.class);
 
     private CompletableFuture<Void> listeningTask;
@@ -84,10 +82,6 @@ public class JDIEventProcessor {
         return breakpointProcessor;
     }
 
-    List<ThreadReference> getVirtualThreads() {
-        return virtualThreads;
-    }
-
     /**
      * Asynchronously listens and processes the incoming JDI events.
      */
@@ -139,13 +133,13 @@ public class JDIEventProcessor {
 
     private void processEvent(EventSet eventSet, Event event) {
         if (event instanceof ClassPrepareEvent evt) {
-            if (context.getPrevInstruction() != DebugInstruction.STEP_OVER) {
-                breakpointProcessor.activateUserBreakPoints(evt.referenceType(), true);
-            }
+            breakpointProcessor.processClassPrepareEvent(evt);
             eventSet.resume();
         } else if (event instanceof BreakpointEvent bpEvent) {
+            context.getDebuggeeVM().clearCaches();
             breakpointProcessor.processBreakpointEvent(bpEvent);
         } else if (event instanceof StepEvent stepEvent) {
+            context.getDebuggeeVM().clearCaches();
             ClientConfigHolder clientConfigs = context.getAdapter().getClientConfigHolder();
             int threadId = (int) stepEvent.thread().uniqueID();
             // If the debug client is in low-code mode and stepping into external sources, need to step out again
@@ -166,14 +160,11 @@ public class JDIEventProcessor {
                 || event instanceof VMDisconnectedException) {
             isRemoteVmAttached = false;
         } else if (event instanceof ThreadStartEvent threadStartEvent) {
-            ThreadReference thread = threadStartEvent.thread();
-            if (thread.isVirtual()) {
-                virtualThreads.add(thread);
-            }
+            // Virtual threads are not listed by the VM, hence only known from their start events
+            context.getDebuggeeVM().threadStarted(threadStartEvent.thread());
             eventSet.resume();
         } else if (event instanceof ThreadDeathEvent threadDeathEvent) {
-            ThreadReference thread = threadDeathEvent.thread();
-            virtualThreads.remove(thread);
+            context.getDebuggeeVM().threadStopped(threadDeathEvent.thread());
             eventSet.resume();
         } else {
             eventSet.resume();
@@ -186,7 +177,7 @@ public class JDIEventProcessor {
             return false;
         }
         try {
-            ThreadReferenceProxyImpl thread = context.getAdapter().getAllThreads().get((int) event.thread().uniqueID());
+            ThreadReferenceProxyImpl thread = context.getAdapter().getThread(event.thread().uniqueID());
             Optional<StackFrame> topFrame = thread.frames().stream()
                     .map(this::toDapStackFrame)
                     .filter(ServerUtils::isValidFrame).findFirst();
@@ -224,8 +215,7 @@ public class JDIEventProcessor {
         }
 
         // Setting breakpoints to an already running debug session.
-        context.getEventManager().deleteAllBreakpoints();
-        context.getDebuggeeVM().allClasses().forEach(ref -> breakpointProcessor.activateUserBreakPoints(ref, false));
+        breakpointProcessor.refreshUserBreakpoints(qClassName);
     }
 
     void sendStepRequest(int threadId, int stepType) {
@@ -241,7 +231,7 @@ public class JDIEventProcessor {
 
     private void createStepRequest(int threadId, int stepType) {
         context.getEventManager().deleteEventRequests(stepRequests);
-        ThreadReferenceProxyImpl proxy = context.getAdapter().getAllThreads().get(threadId);
+        ThreadReferenceProxyImpl proxy = context.getAdapter().getThread(threadId);
         if (proxy == null || proxy.getThreadReference() == null) {
             return;
         }
@@ -322,6 +312,9 @@ public class JDIEventProcessor {
      */
     void notifyStopEvent(String reason, long threadId) {
         context.getEventManager().deleteEventRequests(stepRequests);
+        // Thread proxies outlive suspensions. Drops anything they cached before the VM stopped, including the frames
+        // invalidated by method invocations while evaluating breakpoint conditions.
+        context.getDebuggeeVM().clearCaches();
         StoppedEventArguments stoppedEventArguments = new StoppedEventArguments();
         stoppedEventArguments.setReason(reason);
         stoppedEventArguments.setThreadId((int) threadId);
@@ -332,6 +325,6 @@ public class JDIEventProcessor {
     public void reset() {
         stopListening(true);
         stepRequests.clear();
-        virtualThreads.clear();
+        breakpointProcessor.reset();
     }
 }
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import com.sun.jdi.ReferenceType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Index of the classes loaded in the debuggee VM against the full-qualified class names of their Ballerina source
+ * files.
+ * <p>
+ * The classes loaded before the first lookup are indexed at once, and the classes loaded later are added on their
+ * class prepare events. Those events are not sent while the class prepare requests are disabled, which is the case
+ * during the method invocations of expression evaluations and breakpoint conditions. Hence, whenever the requests
+ * were disabled since the last lookup, the loaded classes that are missing from the index are added first.
+ *
+ * @since 1.3.0
+ */
+final class LoadedClassIndex {
+
+    // Packages of the JDK and the Ballerina runtime, which do not contain classes generated from Ballerina sources
+    static final String[] EXCLUDED_CLASS_PATTERNS = {"java.*", "javax.*", "jdk.*", "sun.*", "com.sun.*",
+            "io.ballerina.runtime.*"};
+
+    private final Supplier<List<ReferenceType>> loadedClasses;
+    private final LongSupplier suspensions;
+    private final Function<ReferenceType, String> sourceClassName;
+    private final Map<String, Set<ReferenceType>> classes = new ConcurrentHashMap<>();
+    private final Set<ReferenceType> indexedClasses = ConcurrentHashMap.newKeySet();
+    private volatile long indexedSuspensions = -1;
+
+    /**
+     * Creates an index of the loaded classes.
+     *
+     * @param loadedClasses   returns the classes currently loaded in the debuggee VM
+     * @param suspensions     number of times the class prepare requests were disabled or enabled again so far
+     * @param sourceClassName returns the full-qualified class name of the source file of a class
+     */
+    LoadedClassIndex(Supplier<List<ReferenceType>> loadedClasses, LongSupplier suspensions,
+                     Function<ReferenceType, String> sourceClassName) {
+        this.loadedClasses = loadedClasses;
+        this.suspensions = suspensions;
+        this.sourceClassName = sourceClassName;
+    }
+
+    /**
+     * Adds a class reported by a class prepare event.
+     *
+     * @param referenceType loaded class
+     * @return full-qualified class name of the source file of the class
+     */
+    String add(ReferenceType referenceType) {
+        String qualifiedClassName = sourceClassName.apply(referenceType);
+        classes.computeIfAbsent(qualifiedClassName, k -> ConcurrentHashMap.newKeySet()).add(referenceType);
+        indexedClasses.add(referenceType);
+        return qualifiedClassName;
+    }
+
+    /**
+     * Returns the loaded classes of a source file.
+     *
+     * @param qualifiedClassName full-qualified class name of the source file
+     * @return loaded classes of the source file
+     */
+    Set<ReferenceType> get(String qualifiedClassName) {
+        catchUp();
+        return classes.getOrDefault(qualifiedClassName, Set.of());
+    }
+
+    /**
+     * Clears the index, so that the loaded classes are indexed again on the next lookup.
+     */
+    synchronized void clear() {
+        classes.clear();
+        indexedClasses.clear();
+        indexedSuspensions = -1;
+    }
+
+    private void catchUp() {
+        if (indexedSuspensions == suspensions.getAsLong()) {
+            return;
+        }
+        synchronized (this) {
+            // Read before listing the classes, so that a suspension that begins meanwhile is caught up with next time
+            long currentSuspensions = suspensions.getAsLong();
+            if (indexedSuspensions == currentSuspensions) {
+                return;
+            }
+            for (ReferenceType referenceType : loadedClasses.get()) {
+                if (!indexedClasses.contains(referenceType) && !isExcludedClass(referenceType.name())) {
+                    add(referenceType);
+                }
+            }
+            indexedSuspensions = currentSuspensions;
+        }
+    }
+
+    private static boolean isExcludedClass(String className) {
+        for (String pattern : EXCLUDED_CLASS_PATTERNS) {
+            if (className.startsWith(pattern.substring(0, pattern.length() - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
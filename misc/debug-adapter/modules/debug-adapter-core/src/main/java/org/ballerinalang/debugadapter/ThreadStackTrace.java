@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import org.ballerinalang.debugadapter.jdi.JdiProxyException;
+import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
+import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
+import org.eclipse.lsp4j.debug.StackFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.ballerinalang.debugadapter.utils.ServerUtils.isBalStackFrame;
+import static org.ballerinalang.debugadapter.utils.ServerUtils.isValidFrame;
+
+/**
+ * Ballerina stack trace of a suspended thread, of which the DAP stack frames are created on demand.
+ * <p>
+ * The JDI frames are converted from the top of the stack only as far as the requested page reaches, so that stepping
+ * through deeply recursive strands does not convert thousands of frames the client never shows. A stack trace is only
+ * valid for a single suspension of the thread.
+ *
+ * @since 1.3.0
+ */
+final class ThreadStackTrace {
+
+    private final ThreadReferenceProxyImpl thread;
+    private final Function<StackFrameProxyImpl, StackFrame> converter;
+    private final List<StackFrame> frames = new ArrayList<>();
+    private List<StackFrameProxyImpl> jdiFrames;
+    private int nextJdiFrame;
+    private int balFrameCount = -1;
+
+    ThreadStackTrace(ThreadReferenceProxyImpl thread, Function<StackFrameProxyImpl, StackFrame> converter) {
+        this.thread = thread;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns a page of the stack frames, converting the frames up to the end of the page if not converted already.
+     *
+     * @param startFrame index of the first frame to return
+     * @param levels     maximum number of frames to return, or zero to return all the remaining frames
+     * @return the frames of the page
+     * @throws JdiProxyException if the frames of the thread cannot be read
+     */
+    synchronized StackFrame[] getFrames(int startFrame, int levels) throws JdiProxyException {
+        int endFrame = levels > 0 ? (int) Math.min((long) startFrame + levels, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+        List<StackFrameProxyImpl> threadFrames = getJdiFrames();
+        while (frames.size() < endFrame && nextJdiFrame < threadFrames.size()) {
+            StackFrame frame = converter.apply(threadFrames.get(nextJdiFrame++));
+            if (isValidFrame(frame)) {
+                frames.add(frame);
+            }
+        }
+        if (startFrame >= frames.size()) {
+            return new StackFrame[0];
+        }
+        return frames.subList(startFrame, Math.min(endFrame, frames.size())).toArray(StackFrame[]::new);
+    }
+
+    /**
+     * Returns the total number of stack frames. Until all the frames are converted, this is the number of Ballerina
+     * frames in the stack, which may exceed the number of frames returned if some of them lack source information.
+     *
+     * @return the total number of frames
+     * @throws JdiProxyException if the frames of the thread cannot be read
+     */
+    synchronized int getTotalFrames() throws JdiProxyException {
+        List<StackFrameProxyImpl> threadFrames = getJdiFrames();
+        if (nextJdiFrame >= threadFrames.size()) {
+            return frames.size();
+        }
+        if (balFrameCount < 0) {
+            int count = 0;
+            for (StackFrameProxyImpl frame : threadFrames) {
+                try {
+                    if (isBalStackFrame(frame.getStackFrame())) {
+                        count++;
+                    }
+                } catch (JdiProxyException ignored) {
+                    // frames which cannot be read are not converted either
+                }
+            }
+            balFrameCount = count;
+        }
+        return Math.max(balFrameCount, frames.size());
+    }
+
+    private List<StackFrameProxyImpl> getJdiFrames() throws JdiProxyException {
+        if (jdiFrames == null) {
+            jdiFrames = thread.frames();
+        }
+        return jdiFrames;
+    }
+}
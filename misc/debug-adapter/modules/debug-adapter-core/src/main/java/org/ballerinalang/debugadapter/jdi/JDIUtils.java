@@ -36,6 +36,7 @@ public class JDIUtils {
      */
     public static void disableJDIRequests(ExecutionContext context) {
         EventRequestManager eventManager = context.getEventManager();
+        context.markClassPrepareSuspension();
         eventManager.classPrepareRequests().forEach(EventRequest::disable);
         eventManager.breakpointRequests().forEach(EventRequest::disable);
     }
@@ -46,6 +47,9 @@ public class JDIUtils {
     public static void enableJDIRequests(ExecutionContext context) {
         EventRequestManager eventManager = context.getEventManager();
         eventManager.breakpointRequests().forEach(EventRequest::enable);
+        eventManager.classPrepareRequests().forEach(EventRequest::enable);
+        // The classes loaded while the requests were disabled are indexed on the next breakpoint lookup
+        context.markClassPrepareSuspension();
     }
 
     /**
@@ -64,8 +64,9 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
     private final Map<String, StringReference> myStringLiteralCache = new HashMap<>();
 
     private final Map<ThreadReference, ThreadReferenceProxyImpl> myAllThreads = new ConcurrentHashMap<>();
+    private final Map<Long, ThreadReferenceProxyImpl> myThreadsById = new ConcurrentHashMap<>();
     private final Map<ThreadGroupReference, ThreadGroupReferenceProxyImpl> myThreadGroups = new HashMap<>();
-    private boolean myAllThreadsDirty = true;
+    private volatile boolean myAllThreadsDirty = true;
     private List<ReferenceType> myAllClasses;
     private Map<ReferenceType, List<ReferenceType>> myNestedClassesCache = new HashMap<>();
 
@@ -141,6 +142,23 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
      * @return a list of all ThreadReferenceProxies
      */
     public Collection<ThreadReferenceProxyImpl> allThreads() {
+        loadAllThreads();
+        return new ArrayList<>(myAllThreads.values());
+    }
+
+    /**
+     * Returns the proxy of the live thread with the given unique ID. The threads are loaded from the VM once, and are
+     * kept up to date with the thread start and death events afterwards.
+     *
+     * @param uniqueId unique ID of the thread
+     * @return the thread proxy, or null if there is no such thread
+     */
+    public ThreadReferenceProxyImpl getThreadReferenceProxy(long uniqueId) {
+        loadAllThreads();
+        return myThreadsById.get(uniqueId);
+    }
+
+    private void loadAllThreads() {
         if (myAllThreadsDirty) {
             myAllThreadsDirty = false;
 
@@ -148,7 +166,6 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
                 getThreadReferenceProxy(threadReference); // add a proxy
             }
         }
-        return new ArrayList<>(myAllThreads.values());
     }
 
     public void threadStarted(ThreadReference thread) {
@@ -156,7 +173,10 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
     }
 
     public void threadStopped(ThreadReference thread) {
-        myAllThreads.remove(thread);
+        ThreadReferenceProxyImpl proxy = myAllThreads.remove(thread);
+        if (proxy != null) {
+            myThreadsById.remove(thread.uniqueID(), proxy);
+        }
     }
 
     public void suspend() {
@@ -573,7 +593,11 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
         if (thread == null) {
             return null;
         }
-        return myAllThreads.computeIfAbsent(thread, t -> new ThreadReferenceProxyImpl(this, t));
+        return myAllThreads.computeIfAbsent(thread, t -> {
+            ThreadReferenceProxyImpl proxy = new ThreadReferenceProxyImpl(this, t);
+            myThreadsById.put(t.uniqueID(), proxy);
+            return proxy;
+        });
     }
 
     public ThreadGroupReferenceProxyImpl getThreadGroupReferenceProxy(ThreadGroupReference group) {
@@ -69,6 +69,13 @@ public abstract class BCompoundVariable implements BVariable {
         return jvmValue;
     }
 
+    /**
+     * Releases the remote VM objects which this variable keeps from being garbage collected. Called once the variable
+     * can no longer be expanded, which is when the suspended state is cleared or the variable is evicted.
+     */
+    public void release() {
+    }
+
     /**
      * Child variable types.
      * <ul>
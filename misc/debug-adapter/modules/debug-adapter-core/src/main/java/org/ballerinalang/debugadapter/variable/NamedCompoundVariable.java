@@ -20,6 +20,7 @@ import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.eclipse.lsp4j.debug.Variable;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -45,6 +46,20 @@ public abstract class NamedCompoundVariable extends BCompoundVariable {
      */
     protected abstract Map<String, Value> computeChildVariables();
 
+    /**
+     * Retrieves JDI value representations of the child variables in the given range, as a map of named child
+     * variables.
+     * <p>
+     * By default, all the child variables are computed and the requested range is returned. Compound variable types
+     * which can fetch a range of values on their own may override this to avoid fetching the values outside the range.
+     *
+     * @param start The index of the first variable to return; if omitted children start at 0.
+     * @param count The number of variables to return. If count is missing or 0, all variables are returned.
+     */
+    protected Map<String, Value> computeChildVariables(int start, int count) {
+        return getRange(getNamedChildVariables(), start, count);
+    }
+
     /**
      * Retrieves JDI value representations of all the child variables, as a map of named child variables (i.e. error
      * variable entries, object fields, record fields).
@@ -56,6 +71,31 @@ public abstract class NamedCompoundVariable extends BCompoundVariable {
         return namedChildVariables;
     }
 
+    /**
+     * Returns JDI value representations of the child variables in a given range, as a map of named child variables.
+     *
+     * @param start The index of the first variable to return; if omitted children start at 0.
+     * @param count The number of variables to return. If count is missing or 0, all variables are returned.
+     */
+    public Map<String, Value> getNamedChildVariables(int start, int count) {
+        if (namedChildVariables != null) {
+            return getRange(namedChildVariables, start, count);
+        }
+        return computeChildVariables(start, count);
+    }
+
+    private static Map<String, Value> getRange(Map<String, Value> childVariables, int start, int count) {
+        if (start <= 0 && (count <= 0 || count >= childVariables.size())) {
+            return childVariables;
+        }
+        Map<String, Value> range = new LinkedHashMap<>();
+        childVariables.entrySet().stream()
+                .skip(Math.max(start, 0))
+                .limit(count > 0 ? count : Long.MAX_VALUE)
+                .forEach(entry -> range.put(entry.getKey(), entry.getValue()));
+        return range;
+    }
+
     /**
      * Returns the JDI value representation of the child variable for a given name.
      */
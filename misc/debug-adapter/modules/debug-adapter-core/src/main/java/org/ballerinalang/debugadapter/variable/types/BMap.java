@@ -22,10 +22,12 @@ import com.sun.jdi.Method;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.DebugVariableException;
 import org.ballerinalang.debugadapter.variable.IndexedCompoundVariable;
 import org.ballerinalang.debugadapter.variable.VariableUtils;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -39,11 +41,16 @@ public class BMap extends IndexedCompoundVariable {
 
     private int mapSize = -1;
     private ArrayReference loadedKeys = null;
-    private Value[] loadedValues = null;
+    private ArrayReference loadedValues = null;
+    private boolean valuesLoaded = false;
 
     private static final String FIELD_SIZE = "size";
     private static final String METHOD_GET_KEYS = "getKeys";
     private static final String METHOD_GET = "get";
+    private static final String METHOD_VALUES = "values";
+    private static final String METHOD_TO_ARRAY = "toArray";
+    private static final String VALUES_METHOD_SIGNATURE_PATTERN = "\\(\\)Ljava/util/Collection;";
+    private static final String TO_ARRAY_METHOD_SIGNATURE_PATTERN = "\\(\\)\\[Ljava/lang/Object;";
 
     public BMap(SuspendedContext context, String name, Value value) {
         this(context, name, BVariableType.MAP, value);
@@ -94,22 +101,52 @@ public class BMap extends IndexedCompoundVariable {
         return mapSize;
     }
 
+    @Override
+    public Value getChildByName(String key) throws DebugVariableException {
+        if (loadedKeys == null) {
+            loadAllKeys();
+        }
+        if (loadedKeys != null) {
+            // Only the value of the matching key is fetched.
+            List<Value> keys = loadedKeys.getValues();
+            for (int i = 0; i < keys.size(); i++) {
+                if (key.equals(VariableUtils.getStringFrom(keys.get(i)))) {
+                    return getValues(i, 1).get(0);
+                }
+            }
+        }
+        throw new DebugVariableException("No child variables found with key: '" + key + "'");
+    }
+
     private Map<Value, Value> getEntries(int startIndex, int count) {
         if (loadedKeys == null) {
             loadAllKeys();
         }
         Map<Value, Value> entries = new LinkedHashMap<>();
         List<Value> keysRange = loadedKeys.getValues(startIndex, count);
-        for (int i = startIndex; i < startIndex + count; i++) {
-            Value key = keysRange.get(i - startIndex);
-            if (loadedValues[i] == null) {
-                loadedValues[i] = getValueFor(key);
-            }
-            entries.put(key, loadedValues[i]);
+        List<Value> valuesRange = getValues(startIndex, count);
+        for (int i = 0; i < keysRange.size(); i++) {
+            entries.put(keysRange.get(i), valuesRange.get(i));
         }
         return entries;
     }
 
+    private List<Value> getValues(int startIndex, int count) {
+        if (!valuesLoaded) {
+            loadAllValues();
+        }
+        if (loadedValues != null && loadedValues.length() == loadedKeys.length()) {
+            // Reads the whole range with a single request to the remote VM.
+            return loadedValues.getValues(startIndex, count);
+        }
+
+        List<Value> values = new ArrayList<>(count);
+        for (Value key : loadedKeys.getValues(startIndex, count)) {
+            values.add(getValueFor(key));
+        }
+        return values;
+    }
+
     private Value getValueFor(Value key) {
         try {
             Optional<Method> getValueMethod = VariableUtils.getMethod(jvmValue, METHOD_GET);
@@ -130,11 +167,62 @@ public class BMap extends IndexedCompoundVariable {
                 return;
             }
             Value keyArray = VariableUtils.invokeRemoteVMMethod(context, jvmValue, entrySetMethod.get(), null);
-            loadedKeys = (ArrayReference) keyArray;
-            loadedValues = new Value[getChildrenCount()];
+            loadedKeys = retain((ArrayReference) keyArray);
         } catch (Exception ignored) {
             loadedKeys = null;
-            loadedValues = new Value[0];
+        }
+    }
+
+    /**
+     * Loads a snapshot of the map values as an array, in the same order as the keys, so that a range of values can be
+     * read without invoking a remote VM method per entry.
+     */
+    private void loadAllValues() {
+        valuesLoaded = true;
+        try {
+            Optional<Method> valuesMethod = VariableUtils.getMethod(jvmValue, METHOD_VALUES,
+                    VALUES_METHOD_SIGNATURE_PATTERN);
+            if (valuesMethod.isEmpty()) {
+                return;
+            }
+            Value values = VariableUtils.invokeRemoteVMMethod(context, jvmValue, valuesMethod.get(), null);
+            Optional<Method> toArrayMethod = VariableUtils.getMethod(values, METHOD_TO_ARRAY,
+                    TO_ARRAY_METHOD_SIGNATURE_PATTERN);
+            if (toArrayMethod.isEmpty()) {
+                return;
+            }
+            loadedValues = retain((ArrayReference) VariableUtils.invokeRemoteVMMethod(context, values,
+                    toArrayMethod.get(), null));
+        } catch (Exception ignored) {
+            loadedValues = null;
+        }
+    }
+
+    /**
+     * Keeps an array created by a remote method invocation from being garbage collected, since nothing in the remote
+     * VM refers to it and the following invocations let the VM run.
+     */
+    private static ArrayReference retain(ArrayReference array) {
+        if (array != null) {
+            array.disableCollection();
+        }
+        return array;
+    }
+
+    @Override
+    public void release() {
+        enableCollection(loadedKeys);
+        enableCollection(loadedValues);
+    }
+
+    private static void enableCollection(ArrayReference array) {
+        if (array == null) {
+            return;
+        }
+        try {
+            array.enableCollection();
+        } catch (Exception ignored) {
+            // The array is already collected or the remote VM is disconnected.
         }
     }
 
@@ -72,8 +72,8 @@ public class BObject extends NamedCompoundVariable {
             if (!(jvmValue instanceof ObjectReference jvmValueRef)) {
                 return 0;
             }
-            Map<Field, Value> fieldValueMap = jvmValueRef.getValues(jvmValueRef.referenceType().allFields());
-            long objectFieldCount = fieldValueMap.keySet()
+            // Counts the fields without fetching their values from the remote VM.
+            long objectFieldCount = jvmValueRef.referenceType().allFields()
                     .stream()
                     .filter(field -> field.toString().contains(OBJECT_FIELD_PATTERN_IDENTIFIER))
                     .count();
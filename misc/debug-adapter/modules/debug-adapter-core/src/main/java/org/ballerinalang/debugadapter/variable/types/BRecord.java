@@ -28,7 +28,6 @@ import org.ballerinalang.debugadapter.variable.VariableUtils;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -61,13 +60,18 @@ public class BRecord extends NamedCompoundVariable {
 
     @Override
     public Map<String, Value> computeChildVariables() {
+        return computeChildVariables(0, 0);
+    }
+
+    @Override
+    protected Map<String, Value> computeChildVariables(int start, int count) {
         try {
             if (!(jvmValue instanceof ObjectReference)) {
                 return new LinkedHashMap<>();
             }
 
             Map<String, Value> childVarMap = new LinkedHashMap<>();
-            Map<Value, Value> recordFields = getRecordFields();
+            Map<Value, Value> recordFields = getRecordFields(start, count);
 
             for (Map.Entry<Value, Value> mapEntry : recordFields.entrySet()) {
                 childVarMap.put(Utils.encodeNonFunctionIdentifier(
@@ -80,14 +84,18 @@ public class BRecord extends NamedCompoundVariable {
         }
     }
 
-    private Map<Value, Value> getRecordFields() {
+    private Map<Value, Value> getRecordFields(int start, int count) {
         try {
             loadAllKeys();
             Map<Value, Value> recordFields = new LinkedHashMap<>();
-            List<Value> keysRange = loadedKeys.getValues(0, loadedKeys.length());
+            int startIndex = Math.min(Math.max(start, 0), loadedKeys.length());
+            int length = loadedKeys.length() - startIndex;
+            if (count > 0) {
+                length = Math.min(count, length);
+            }
 
-            for (int i = 0; i < loadedKeys.length(); i++) {
-                Value key = keysRange.get(i);
+            // Only the values of the requested fields are fetched from the remote VM.
+            for (Value key : loadedKeys.getValues(startIndex, length)) {
                 recordFields.put(key, getValueFor(key));
             }
             return recordFields;
@@ -105,12 +113,26 @@ public class BRecord extends NamedCompoundVariable {
                         context.getOwningThread().getThreadReference(), getKeysMethod.get(), Collections.emptyList(),
                         ObjectReference.INVOKE_SINGLE_THREADED);
                 loadedKeys = (ArrayReference) keyArray;
+                // Nothing in the remote VM refers to the keys, which are read again by the next pages
+                loadedKeys.disableCollection();
             } catch (Exception ignored) {
                 loadedKeys = null;
             }
         }
     }
 
+    @Override
+    public void release() {
+        if (loadedKeys == null) {
+            return;
+        }
+        try {
+            loadedKeys.enableCollection();
+        } catch (Exception ignored) {
+            // The keys are already collected or the remote VM is disconnected.
+        }
+    }
+
     private Value getValueFor(Value key) {
         try {
             Optional<Method> getMethod = VariableUtils.getMethod(jvmValue, METHOD_GET, GET_METHOD_SIGNATURE_PATTERN);
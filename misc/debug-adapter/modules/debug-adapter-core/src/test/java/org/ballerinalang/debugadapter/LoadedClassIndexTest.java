@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import com.sun.jdi.ReferenceType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the index of the loaded classes of the debuggee VM.
+ *
+ * @since 1.3.0
+ */
+public class LoadedClassIndexTest {
+
+    private final List<ReferenceType> loadedClasses = new ArrayList<>();
+    private final Map<ReferenceType, String> sourceClassNames = new HashMap<>();
+    private final AtomicLong suspensions = new AtomicLong();
+    private final AtomicInteger scans = new AtomicInteger();
+
+    @Test(description = "Test that the loaded classes are indexed once and then kept up to date by the events")
+    public void testIndexedOnce() {
+        LoadedClassIndex index = createIndex();
+        ReferenceType main = loadClass("org.pkg.main", "org.pkg.main");
+        loadClass("java.lang.String", "java.lang.String");
+
+        Assert.assertEquals(index.get("org.pkg.main"), Set.of(main));
+        Assert.assertTrue(index.get("java.lang.String").isEmpty());
+
+        ReferenceType lambdas = loadClass("org.pkg.$lambdas$main", "org.pkg.main");
+        Assert.assertEquals(index.add(lambdas), "org.pkg.main");
+        Assert.assertEquals(index.get("org.pkg.main"), Set.of(main, lambdas));
+        Assert.assertEquals(scans.get(), 1);
+    }
+
+    @Test(description = "Test that classes loaded while the class prepare requests were disabled are indexed")
+    public void testClassesLoadedWhileSuspended() {
+        LoadedClassIndex index = createIndex();
+        ReferenceType main = loadClass("org.pkg.main", "org.pkg.main");
+        Assert.assertEquals(index.get("org.pkg.main"), Set.of(main));
+
+        // An evaluation disables the class prepare requests, hence the class loaded meanwhile has no event
+        suspensions.incrementAndGet();
+        ReferenceType util = loadClass("org.pkg.util", "org.pkg.util");
+        ReferenceType lambdas = loadClass("org.pkg.$lambdas$main", "org.pkg.main");
+        suspensions.incrementAndGet();
+
+        Assert.assertEquals(index.get("org.pkg.util"), Set.of(util));
+        Assert.assertEquals(index.get("org.pkg.main"), Set.of(main, lambdas));
+        Assert.assertEquals(scans.get(), 2);
+    }
+
+    @Test(description = "Test that a cleared index is built again on the next lookup")
+    public void testClear() {
+        LoadedClassIndex index = createIndex();
+        ReferenceType main = loadClass("org.pkg.main", "org.pkg.main");
+        Assert.assertEquals(index.get("org.pkg.main"), Set.of(main));
+
+        index.clear();
+        loadedClasses.clear();
+        ReferenceType reloaded = loadClass("org.pkg.main", "org.pkg.main");
+        Assert.assertEquals(index.get("org.pkg.main"), Set.of(reloaded));
+        Assert.assertEquals(scans.get(), 2);
+    }
+
+    private LoadedClassIndex createIndex() {
+        loadedClasses.clear();
+        sourceClassNames.clear();
+        suspensions.set(0);
+        scans.set(0);
+        return new LoadedClassIndex(() -> {
+            scans.incrementAndGet();
+            return List.copyOf(loadedClasses);
+        }, suspensions::get, sourceClassNames::get);
+    }
+
+    private ReferenceType loadClass(String name, String sourceClassName) {
+        ReferenceType referenceType = mock(ReferenceType.class);
+        when(referenceType.name()).thenReturn(name);
+        sourceClassNames.put(referenceType, sourceClassName);
+        loadedClasses.add(referenceType);
+        return referenceType;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+import org.ballerinalang.debugadapter.jdi.JdiProxyException;
+import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
+import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
+import org.eclipse.lsp4j.debug.Source;
+import org.eclipse.lsp4j.debug.StackFrame;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the paging of the stack frames of a suspended thread.
+ *
+ * @since 1.3.0
+ */
+public class ThreadStackTraceTest {
+
+    private final Map<StackFrameProxyImpl, Integer> frameIndexes = new HashMap<>();
+    private final List<Integer> converted = new ArrayList<>();
+
+    @Test(description = "Test that only the frames up to the end of the requested page are converted")
+    public void testConvertUpToPage() throws Exception {
+        ThreadStackTrace stackTrace = createStackTrace(balFrames(10));
+
+        Assert.assertEquals(ids(stackTrace.getFrames(0, 3)), List.of(0, 1, 2));
+        Assert.assertEquals(converted, List.of(0, 1, 2));
+        Assert.assertEquals(stackTrace.getTotalFrames(), 10);
+
+        Assert.assertEquals(ids(stackTrace.getFrames(3, 2)), List.of(3, 4));
+        Assert.assertEquals(converted, List.of(0, 1, 2, 3, 4));
+    }
+
+    @Test(description = "Test that the frames of an earlier page are reused rather than converted again")
+    public void testReuseConvertedFrames() throws Exception {
+        ThreadReferenceProxyImpl thread = thread(balFrames(5));
+        ThreadStackTrace stackTrace = new ThreadStackTrace(thread, this::convert);
+
+        StackFrame[] firstPage = stackTrace.getFrames(0, 2);
+        StackFrame[] samePage = stackTrace.getFrames(0, 2);
+        Assert.assertEquals(samePage, firstPage);
+        Assert.assertEquals(ids(stackTrace.getFrames(1, 1)), List.of(1));
+        Assert.assertEquals(converted, List.of(0, 1));
+        verify(thread, times(1)).frames();
+    }
+
+    @Test(description = "Test the pages at and beyond the end of the stack")
+    public void testPageBoundaries() throws Exception {
+        ThreadStackTrace stackTrace = createStackTrace(balFrames(5));
+
+        Assert.assertEquals(ids(stackTrace.getFrames(3, 5)), List.of(3, 4));
+        Assert.assertEquals(stackTrace.getFrames(5, 1).length, 0);
+        Assert.assertEquals(stackTrace.getFrames(7, 0).length, 0);
+        Assert.assertEquals(ids(stackTrace.getFrames(4, 1)), List.of(4));
+        Assert.assertEquals(stackTrace.getTotalFrames(), 5);
+    }
+
+    @Test(description = "Test that zero levels and levels beyond the integer range return all the remaining frames")
+    public void testUnboundedLevels() throws Exception {
+        ThreadStackTrace stackTrace = createStackTrace(balFrames(4));
+        Assert.assertEquals(ids(stackTrace.getFrames(1, 0)), List.of(1, 2, 3));
+        Assert.assertEquals(ids(stackTrace.getFrames(2, Integer.MAX_VALUE)), List.of(2, 3));
+        Assert.assertEquals(stackTrace.getTotalFrames(), 4);
+    }
+
+    @Test(description = "Test that the total frames is an upper bound until all the frames are converted")
+    public void testTotalFramesOfFramesWithoutSource() throws Exception {
+        // A Java frame, and a Ballerina frame without a line, are both dropped by the conversion
+        List<StackFrameProxyImpl> frames = List.of(frame(0, "main.bal"), frame(1, "Strand.java"),
+                frame(2, "main.bal"), frame(-1, "main.bal"), frame(4, "main.bal"));
+        ThreadStackTrace stackTrace = createStackTrace(frames);
+
+        Assert.assertEquals(ids(stackTrace.getFrames(0, 2)), List.of(0, 2));
+        Assert.assertEquals(stackTrace.getTotalFrames(), 4);
+
+        Assert.assertEquals(ids(stackTrace.getFrames(2, 2)), List.of(4));
+        Assert.assertEquals(stackTrace.getTotalFrames(), 3);
+        Assert.assertEquals(stackTrace.getFrames(3, 1).length, 0);
+    }
+
+    private ThreadStackTrace createStackTrace(List<StackFrameProxyImpl> frames) throws JdiProxyException {
+        return new ThreadStackTrace(thread(frames), this::convert);
+    }
+
+    private static ThreadReferenceProxyImpl thread(List<StackFrameProxyImpl> frames) throws JdiProxyException {
+        ThreadReferenceProxyImpl thread = mock(ThreadReferenceProxyImpl.class);
+        when(thread.frames()).thenReturn(frames);
+        return thread;
+    }
+
+    private List<StackFrameProxyImpl> balFrames(int count) throws Exception {
+        List<StackFrameProxyImpl> frames = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            frames.add(frame(i, "main.bal"));
+        }
+        return frames;
+    }
+
+    /**
+     * Creates a JDI frame of the given source, which is converted to a DAP frame of the given id. A negative id
+     * creates a frame which is converted without a line.
+     */
+    private StackFrameProxyImpl frame(int id, String sourceName) throws JdiProxyException,
+            AbsentInformationException {
+        Location location = mock(Location.class);
+        when(location.sourceName()).thenReturn(sourceName);
+        com.sun.jdi.StackFrame jdiFrame = mock(com.sun.jdi.StackFrame.class);
+        when(jdiFrame.location()).thenReturn(location);
+        StackFrameProxyImpl frame = mock(StackFrameProxyImpl.class);
+        when(frame.getStackFrame()).thenReturn(jdiFrame);
+        frameIndexes.put(frame, id);
+        return frame;
+    }
+
+    private StackFrame convert(StackFrameProxyImpl frame) {
+        int id = frameIndexes.get(frame);
+        converted.add(id);
+        StackFrame stackFrame = new StackFrame();
+        stackFrame.setId(id);
+        if (id >= 0 && isBalFrame(frame)) {
+            Source source = new Source();
+            source.setName("main.bal");
+            stackFrame.setSource(source);
+            stackFrame.setLine(id + 1);
+        }
+        return stackFrame;
+    }
+
+    private static boolean isBalFrame(StackFrameProxyImpl frame) {
+        try {
+            return frame.getStackFrame().location().sourceName().endsWith(".bal");
+        } catch (JdiProxyException | AbsentInformationException e) {
+            return false;
+        }
+    }
+
+    private static List<Integer> ids(StackFrame[] frames) {
+        return Arrays.stream(frames).map(StackFrame::getId).toList();
+    }
+}
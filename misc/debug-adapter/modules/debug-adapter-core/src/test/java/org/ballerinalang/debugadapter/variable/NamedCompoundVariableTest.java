@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter.variable;
+
+import com.sun.jdi.Value;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the paging of the named child variables.
+ *
+ * @since 1.3.0
+ */
+public class NamedCompoundVariableTest {
+
+    @Test(description = "Test that the requested range of the named child variables is returned")
+    public void testRange() {
+        TestVariable variable = new TestVariable();
+        Assert.assertEquals(List.copyOf(variable.getNamedChildVariables(1, 2).keySet()), List.of("b", "c"));
+        Assert.assertEquals(List.copyOf(variable.getNamedChildVariables(3, 5).keySet()), List.of("d", "e"));
+        Assert.assertTrue(variable.getNamedChildVariables(5, 1).isEmpty());
+        Assert.assertEquals(variable.getNamedChildVariables(0, 0).size(), 5);
+        Assert.assertEquals(variable.computations.get(), 1);
+    }
+
+    /**
+     * A variable with five named children, which counts how many times they are computed.
+     */
+    private static class TestVariable extends NamedCompoundVariable {
+
+        private final AtomicInteger computations = new AtomicInteger();
+
+        TestVariable() {
+            super(null, "test", BVariableType.RECORD, null);
+        }
+
+        @Override
+        protected Map<String, Value> computeChildVariables() {
+            computations.incrementAndGet();
+            Map<String, Value> children = new LinkedHashMap<>();
+            for (String name : List.of("a", "b", "c", "d", "e")) {
+                children.put(name, mock(Value.class));
+            }
+            return children;
+        }
+
+        @Override
+        public int getChildrenCount() {
+            return 5;
+        }
+
+        @Override
+        public String computeValue() {
+            return "test";
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter.variable.types;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Method;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.Value;
+import org.ballerinalang.debugadapter.SuspendedContext;
+import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the paged reads of the map entries from the remote VM.
+ *
+ * @since 1.3.0
+ */
+public class BMapTest {
+
+    private SuspendedContext context;
+    private ThreadReference thread;
+    private ObjectReference map;
+    private Method valuesMethod;
+    private ArrayReference keys;
+    private ArrayReference values;
+    private List<Value> keyValues;
+    private List<Value> entryValues;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        context = mock(SuspendedContext.class);
+        ThreadReferenceProxyImpl owningThread = mock(ThreadReferenceProxyImpl.class);
+        thread = mock(ThreadReference.class);
+        when(context.getOwningThread()).thenReturn(owningThread);
+        when(owningThread.getThreadReference()).thenReturn(thread);
+
+        map = mock(ObjectReference.class);
+        ReferenceType mapType = mock(ReferenceType.class);
+        when(map.referenceType()).thenReturn(mapType);
+        Method getKeysMethod = method("()[Lio/ballerina/runtime/api/values/BString;");
+        valuesMethod = method("()Ljava/util/Collection;");
+        when(mapType.methodsByName("getKeys")).thenReturn(List.of(getKeysMethod));
+        when(mapType.methodsByName("values")).thenReturn(List.of(valuesMethod));
+
+        ObjectReference valueCollection = mock(ObjectReference.class);
+        ReferenceType collectionType = mock(ReferenceType.class);
+        when(valueCollection.referenceType()).thenReturn(collectionType);
+        Method toArrayMethod = method("()[Ljava/lang/Object;");
+        when(collectionType.methodsByName("toArray")).thenReturn(List.of(toArrayMethod));
+
+        keyValues = List.of(key("a"), key("b"), key("c"));
+        entryValues = List.of(mock(Value.class), mock(Value.class), mock(Value.class));
+        keys = array(keyValues);
+        values = array(entryValues);
+        when(map.invokeMethod(eq(thread), eq(getKeysMethod), any(), anyInt())).thenReturn(keys);
+        when(map.invokeMethod(eq(thread), eq(valuesMethod), any(), anyInt())).thenReturn(valueCollection);
+        when(valueCollection.invokeMethod(eq(thread), eq(toArrayMethod), any(), anyInt())).thenReturn(values);
+    }
+
+    @Test(description = "Test that the pages of a map are read from a single snapshot of its values")
+    public void testPagedEntries() throws Exception {
+        BMap bMap = new BMap(context, "m", map);
+
+        Map<String, Value> firstPage = bMap.getIndexedChildVariables(0, 2).getLeft();
+        Assert.assertEquals(List.copyOf(firstPage.keySet()), List.of("a", "b"));
+        Assert.assertEquals(List.copyOf(firstPage.values()), entryValues.subList(0, 2));
+
+        Map<String, Value> secondPage = bMap.getIndexedChildVariables(2, 1).getLeft();
+        Assert.assertEquals(List.copyOf(secondPage.keySet()), List.of("c"));
+        Assert.assertEquals(List.copyOf(secondPage.values()), entryValues.subList(2, 3));
+
+        // The values are snapshot once, and no value is read with a method invocation per entry
+        verify(map, times(1)).invokeMethod(eq(thread), eq(valuesMethod), any(), anyInt());
+        verify(map, never()).invokeMethod(any(), any(), eq(List.of(keyValues.get(0))), anyInt());
+    }
+
+    @Test(description = "Test that the arrays of a map are kept from being collected until the map is released")
+    public void testRelease() {
+        BMap bMap = new BMap(context, "m", map);
+        bMap.getIndexedChildVariables(0, 2);
+        verify(keys).disableCollection();
+        verify(values).disableCollection();
+        verify(keys, never()).enableCollection();
+        verify(values, never()).enableCollection();
+
+        bMap.release();
+        verify(keys).enableCollection();
+        verify(values).enableCollection();
+    }
+
+    private static Method method(String signature) {
+        Method method = mock(Method.class);
+        when(method.signature()).thenReturn(signature);
+        return method;
+    }
+
+    private static Value key(String name) {
+        ObjectReference key = mock(ObjectReference.class);
+        ReferenceType keyType = mock(ReferenceType.class);
+        when(key.referenceType()).thenReturn(keyType);
+        when(keyType.name()).thenReturn("java.lang.String");
+        when(key.toString()).thenReturn("\"" + name + "\"");
+        return key;
+    }
+
+    private static ArrayReference array(List<Value> elements) {
+        ArrayReference array = mock(ArrayReference.class);
+        when(array.length()).thenReturn(elements.size());
+        when(array.getValues()).thenReturn(elements);
+        when(array.getValues(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int start = invocation.getArgument(0);
+            int length = invocation.getArgument(1);
+            return elements.subList(start, start + length);
+        });
+        return array;
+    }
+}
@@ -44,10 +44,25 @@ public final class DiagramUtil {
      * @return {@link JsonObject}   ST as a Json Object
      */
     public static JsonElement getSyntaxTreeJSON(Document srcFile, SemanticModel semanticModel) {
+        return getSyntaxTreeJSON(srcFile, semanticModel, EnrichmentLevel.FULL, true);
+    }
+
+    /**
+     * Get the Modified JSON ST with the given level of type info.
+     *
+     * @param srcFile         The source file associated with the syntax tree
+     * @param semanticModel   Semantic model for the syntax tree.
+     * @param enrichmentLevel Type info to add to the nodes
+     * @param includeMinutiae Whether to include the minutiae of the nodes
+     * @return {@link JsonObject}   ST as a Json Object
+     */
+    public static JsonElement getSyntaxTreeJSON(Document srcFile, SemanticModel semanticModel,
+                                                EnrichmentLevel enrichmentLevel, boolean includeMinutiae) {
         JsonElement syntaxTreeJson;
         try {
             // Map each type data by looking at the line ranges and prepare the SyntaxTree JSON.
-            SyntaxTreeMapGenerator mapGenerator = new SyntaxTreeMapGenerator(semanticModel);
+            SyntaxTreeMapGenerator mapGenerator = new SyntaxTreeMapGenerator(semanticModel, enrichmentLevel,
+                    includeMinutiae);
             SyntaxTree syntaxTree = srcFile.syntaxTree();
             ModulePartNode modulePartNode = syntaxTree.rootNode();
             syntaxTreeJson = mapGenerator.transform(modulePartNode);
@@ -66,9 +81,24 @@ public final class DiagramUtil {
      * @return {@link JsonObject}   ST as a Json Object
      */
     public static JsonElement getSyntaxTreeJSON(NonTerminalNode node, SemanticModel semanticModel) {
+        return getSyntaxTreeJSON(node, semanticModel, EnrichmentLevel.FULL, true);
+    }
+
+    /**
+     * Get the Modified JSON ST with the given level of type info for a node.
+     *
+     * @param node            {@link NonTerminalNode} The node that needs to be mapped
+     * @param semanticModel   {@link SemanticModel} Semantic model for the syntax tree.
+     * @param enrichmentLevel Type info to add to the nodes
+     * @param includeMinutiae Whether to include the minutiae of the nodes
+     * @return {@link JsonObject}   ST as a Json Object
+     */
+    public static JsonElement getSyntaxTreeJSON(NonTerminalNode node, SemanticModel semanticModel,
+                                                EnrichmentLevel enrichmentLevel, boolean includeMinutiae) {
         JsonElement syntaxTreeJson;
         try {
-            SyntaxTreeMapGenerator mapGenerator = new SyntaxTreeMapGenerator(semanticModel);
+            SyntaxTreeMapGenerator mapGenerator = new SyntaxTreeMapGenerator(semanticModel, enrichmentLevel,
+                    includeMinutiae);
             syntaxTreeJson = mapGenerator.transformSyntaxNode(node.kind() == SyntaxKind.LIST ? node.parent() : node);
         } catch (Throwable e) {
             syntaxTreeJson = new JsonObject();
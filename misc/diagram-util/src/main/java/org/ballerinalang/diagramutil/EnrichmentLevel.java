@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil;
+
+/**
+ * Levels of semantic information added to the syntax tree JSON by the {@link SyntaxTreeMapGenerator}.
+ *
+ * @since 1.3.0
+ */
+public enum EnrichmentLevel {
+
+    /**
+     * Only the syntax tree, without querying the semantic model.
+     */
+    SYNTAX,
+
+    /**
+     * Type data for the expression nodes and the nodes that may declare endpoints. The visible endpoints are
+     * resolved as for {@link #FULL}.
+     */
+    EXPRESSION_TYPES,
+
+    /**
+     * Type data for every node.
+     */
+    FULL
+}
@@ -39,6 +39,7 @@ import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.ChildNodeList;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.Minutiae;
 import io.ballerina.compiler.syntax.tree.MinutiaeList;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -64,25 +65,52 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Generates a {@code Map<String, Object>} for a given SyntaxTree.
  */
 public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
+    private static final Set<SyntaxKind> ENDPOINT_DECLARATION_KINDS = EnumSet.of(SyntaxKind.REQUIRED_PARAM,
+            SyntaxKind.MODULE_VAR_DECL, SyntaxKind.OBJECT_FIELD, SyntaxKind.LOCAL_VAR_DECL,
+            SyntaxKind.ASSIGNMENT_STATEMENT);
+    private static final Map<Class<?>, List<Method>> SYMBOL_METHODS = new ConcurrentHashMap<>();
+
     private SemanticModel semanticModel;
+    private final EnrichmentLevel enrichmentLevel;
+    private final boolean includeMinutiae;
     private final List<JsonObject> visibleEpsForEachBlock;
     private final List<JsonObject> visibleEpsForModule;
     private final List<JsonObject> visibleEpsForClass;
+    // Type JSON of the symbols already mapped in this request, by their signature
+    private final Map<String, JsonElement> typeJsonCache = new HashMap<>();
 
 
     public SyntaxTreeMapGenerator(SemanticModel semanticModel) {
-        this.semanticModel = semanticModel;
+        this(semanticModel, EnrichmentLevel.FULL, true);
+    }
+
+    /**
+     * Creates a generator adding the given level of semantic information.
+     *
+     * @param semanticModel   semantic model of the syntax tree, or null for {@link EnrichmentLevel#SYNTAX}
+     * @param enrichmentLevel semantic information to add to the nodes
+     * @param includeMinutiae whether the leading and trailing minutiae of the nodes are included
+     */
+    public SyntaxTreeMapGenerator(SemanticModel semanticModel, EnrichmentLevel enrichmentLevel,
+                                  boolean includeMinutiae) {
+        this.semanticModel = enrichmentLevel == EnrichmentLevel.SYNTAX ? null : semanticModel;
+        this.enrichmentLevel = enrichmentLevel;
+        this.includeMinutiae = includeMinutiae;
         this.visibleEpsForEachBlock = new ArrayList<>();
         this.visibleEpsForModule = new ArrayList<>();
         this.visibleEpsForClass = new ArrayList<>();
@@ -90,9 +118,7 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
 
 
     public SyntaxTreeMapGenerator() {
-        this.visibleEpsForEachBlock = new ArrayList<>();
-        this.visibleEpsForModule = new ArrayList<>();
-        this.visibleEpsForClass = new ArrayList<>();
+        this(null, EnrichmentLevel.SYNTAX, true);
     }
 
     @Override
@@ -198,18 +224,8 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
         if (syntaxDiagnostics != null) {
             nodeJson.add("syntaxDiagnostics", SyntaxTreeDiagnosticsUtil.getDiagnostics(syntaxDiagnostics));
         }
-        // Skip trailing minutiae if node doesn't have trailing minutiae (eg: ReTag)
-        try {
-            nodeJson.add("trailingMinutiae", evaluateMinutiae(node.trailingMinutiae()));
-        } catch (Exception e) {
-            nodeJson.add("trailingMinutiae", new JsonObject());
-        }
-        // Skip leading minutiae if node doesn't have leading minutiae (eg: ReTag)
-        try {
-            nodeJson.add("leadingMinutiae", evaluateMinutiae(node.leadingMinutiae()));
-        } catch (Exception e) {
-            nodeJson.add("leadingMinutiae", new JsonObject());
-        }
+        addMinutiae(nodeJson, node);
+        SemanticModel nodeSemanticModel = isEnriched(node) ? this.semanticModel : null;
 
         if (node.lineRange() != null) {
             LineRange lineRange = node.lineRange();
@@ -225,7 +241,7 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
             // TODO: Check and remove the Type() API usage and replace with symbol() API;
             JsonObject symbolJson = new JsonObject();
             try {
-                if (semanticModel != null) {
+                if (nodeSemanticModel != null) {
                     Optional<TypeSymbol> typeSymbol = this.semanticModel.type(lineRange);
                     if (node.kind() == SyntaxKind.OBJECT_FIELD) {
                         // Identify client qualifier with display annotation and access modifies
@@ -270,7 +286,7 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
             }
 
             try {
-                if (semanticModel != null) {
+                if (nodeSemanticModel != null) {
                     Optional<Symbol> symbol = this.semanticModel.symbol(node);
 
                     if (symbol.isPresent() && (symbol.get() instanceof VariableSymbol variableSymbol)) {
@@ -295,7 +311,7 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
 
             if (node.kind() == SyntaxKind.REMOTE_METHOD_CALL_ACTION) {
                 RemoteMethodCallActionNode remoteMethodCallActionNode = (RemoteMethodCallActionNode) node;
-                if (semanticModel != null) {
+                if (nodeSemanticModel != null) {
                     Optional<Symbol> expressionSymbol = this.semanticModel.symbol(
                             remoteMethodCallActionNode.expression());
                     if (expressionSymbol.isPresent() &&
@@ -305,7 +321,7 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
                 }
             } else if (node.kind() == SyntaxKind.CLIENT_RESOURCE_ACCESS_ACTION) {
                 ClientResourceAccessActionNode resourceCallActionNode = (ClientResourceAccessActionNode) node;
-                if (semanticModel != null) {
+                if (nodeSemanticModel != null) {
                     Optional<Symbol> expressionSymbol = this.semanticModel.symbol(
                             resourceCallActionNode.expression());
                     if (expressionSymbol.isPresent() &&
@@ -359,6 +375,32 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
         return nodeJson;
     }
 
+    private boolean isEnriched(Node node) {
+        return switch (enrichmentLevel) {
+            case FULL -> true;
+            case EXPRESSION_TYPES -> node instanceof ExpressionNode || ENDPOINT_DECLARATION_KINDS.contains(node.kind());
+            case SYNTAX -> false;
+        };
+    }
+
+    private void addMinutiae(JsonObject nodeJson, Node node) {
+        if (!includeMinutiae) {
+            return;
+        }
+        // Skip trailing minutiae if node doesn't have trailing minutiae (eg: ReTag)
+        try {
+            nodeJson.add("trailingMinutiae", evaluateMinutiae(node.trailingMinutiae()));
+        } catch (Exception e) {
+            nodeJson.add("trailingMinutiae", new JsonObject());
+        }
+        // Skip leading minutiae if node doesn't have leading minutiae (eg: ReTag)
+        try {
+            nodeJson.add("leadingMinutiae", evaluateMinutiae(node.leadingMinutiae()));
+        } catch (Exception e) {
+            nodeJson.add("leadingMinutiae", new JsonObject());
+        }
+    }
+
     private Optional<TypeSymbol> getClientQualifierTypeSymbol(ObjectFieldNode node) {
         if (node.metadata().isPresent()) {
             SyntaxKind[] kindArray = {SyntaxKind.QUALIFIED_NAME_REFERENCE, SyntaxKind.SIMPLE_NAME_REFERENCE};
@@ -564,13 +606,45 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
     }
 
     private JsonElement generateTypeJson(Symbol symbol) throws JSONGenerationException {
+        String cacheKey = typeJsonCacheKey(symbol);
+        if (cacheKey == null) {
+            return toTypeJson(symbol);
+        }
+        JsonElement typeJson = typeJsonCache.get(cacheKey);
+        if (typeJson == null) {
+            typeJson = toTypeJson(symbol);
+            typeJsonCache.put(cacheKey, typeJson);
+        }
+        // The type JSON is extended by the callers
+        return typeJson.deepCopy();
+    }
+
+    private static String typeJsonCacheKey(Symbol symbol) {
+        // Only the symbols whose JSON is fully determined by their kind and signature are memoised
+        if (symbol instanceof TypeSymbol typeSymbol) {
+            try {
+                return symbol.getClass().getName() + ":" + typeSymbol.getName().orElse("") + ":"
+                        + typeSymbol.signature();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+        if (symbol instanceof ModuleSymbol moduleSymbol) {
+            return symbol.getClass().getName() + ":" + moduleSymbol.id();
+        }
+        return null;
+    }
+
+    private JsonElement toTypeJson(Symbol symbol) throws JSONGenerationException {
         if (symbol == null) {
             return JsonNull.INSTANCE;
         }
 
-        Set<Method> methods = ClassUtils.getAllInterfaces(symbol.getClass()).stream()
-                .flatMap(aClass -> Arrays.stream(aClass.getMethods()))
-                .collect(Collectors.toSet());
+        List<Method> methods = SYMBOL_METHODS.computeIfAbsent(symbol.getClass(),
+                symbolClass -> ClassUtils.getAllInterfaces(symbolClass).stream()
+                        .flatMap(aClass -> Arrays.stream(aClass.getMethods()))
+                        .distinct()
+                        .toList());
         JsonObject nodeJson = new JsonObject();
         for (Method m : methods) {
             String jsonName = m.getName();
@@ -666,18 +740,7 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
             memberValues.getAsJsonObject().entrySet().forEach(memberEntry ->
                 nodeInfo.add(memberEntry.getKey(), memberEntry.getValue()));
         }
-        // Skip trailing minutiae if node doesn't have trailing minutiae (eg: ReTag)
-        try {
-            nodeInfo.add("trailingMinutiae", evaluateMinutiae(node.trailingMinutiae()));
-        } catch (Exception e) {
-            nodeInfo.add("trailingMinutiae", new JsonObject());
-        }
-        // Skip leading minutiae if node doesn't have leading minutiae
-        try {
-            nodeInfo.add("leadingMinutiae", evaluateMinutiae(node.leadingMinutiae()));
-        } catch (Exception e) {
-            nodeInfo.add("leadingMinutiae", new JsonObject());
-        }
+        addMinutiae(nodeInfo, node);
         return nodeInfo;
     }
 
@@ -48,15 +48,35 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class ReferenceType {
-    private static final Map<String, RefType> visitedTypeMap = new ConcurrentHashMap<>();
 
     public record Field(String fieldName, RefType type, boolean optional, String defaultValue) {
     }
 
     public static RefType fromSemanticSymbol(Symbol symbol, List<Symbol> typeDefSymbols) {
+        return fromSemanticSymbol(symbol, typeDefSymbols, TypeModelCache.detachedScope());
+    }
+
+    /**
+     * Builds the reference type model of the given symbol, reusing the models already built in the given scope. The
+     * models built by the call are published to the scope once they are complete.
+     *
+     * @param symbol         symbol to build the model for
+     * @param typeDefSymbols type definitions of the module
+     * @param scope          scope of the module the symbol is resolved in
+     * @return the reference type model, or null if the symbol does not have a type
+     */
+    public static RefType fromSemanticSymbol(Symbol symbol, List<Symbol> typeDefSymbols,
+                                             TypeModelCache.Scope scope) {
+        TypeModelCache.Draft draft = scope.draft();
+        RefType type = fromSemanticSymbol(symbol, typeDefSymbols, draft);
+        draft.publish();
+        return type;
+    }
+
+    private static RefType fromSemanticSymbol(Symbol symbol, List<Symbol> typeDefSymbols,
+                                              TypeModelCache.Draft draft) {
         SymbolKind kind = symbol.kind();
         TypeSymbol typeSymbol = null;
         String name = "";
@@ -81,7 +101,7 @@ public class ReferenceType {
             return new RefConstType(symbol.getName().orElse(""),
                     ((ConstantSymbol) symbol).broaderTypeDescriptor().signature());
         } else if (kind == SymbolKind.ENUM) {
-            return getEnumType((EnumSymbol) symbol, typeDefSymbols);
+            return getEnumType((EnumSymbol) symbol, typeDefSymbols, draft);
         }
 
         if (typeSymbol == null) {
@@ -92,26 +112,40 @@ public class ReferenceType {
         if (moduleId == null) {
             moduleId = getModuleID(typeSymbol, null);
         }
-        RefType type = fromSemanticSymbol(typeSymbol, name, moduleId, typeDefSymbols);
+        RefType type = fromSemanticSymbol(typeSymbol, name, moduleId, typeDefSymbols, draft);
 
         if (type.dependentTypes == null && !type.dependentTypeKeys.isEmpty()) {
-            type.dependentTypes = new HashMap<>();
+            Map<String, RefType> dependentTypes = new HashMap<>();
             for (String dependentTypeKey : type.dependentTypeKeys) {
-                RefType dependentType = visitedTypeMap.get(dependentTypeKey);
+                RefType dependentType = draft.get(dependentTypeKey);
                 if (dependentType != null) {
                     RefType clonedDependentType = dependentType.clone();
                     clonedDependentType.dependentTypes = null;
-                    type.dependentTypes.put(dependentTypeKey, clonedDependentType);
+                    dependentTypes.put(dependentTypeKey, clonedDependentType);
                 }
             }
+            type = draft.editable(type);
+            type.dependentTypes = dependentTypes;
         }
 
         return type;
     }
 
-
     public static RefType fromSemanticSymbol(TypeSymbol symbol, String name, ModuleID moduleID,
                                              List<Symbol> typeDefSymbols) {
+        return fromSemanticSymbol(symbol, name, moduleID, typeDefSymbols, TypeModelCache.detachedScope());
+    }
+
+    public static RefType fromSemanticSymbol(TypeSymbol symbol, String name, ModuleID moduleID,
+                                             List<Symbol> typeDefSymbols, TypeModelCache.Scope scope) {
+        TypeModelCache.Draft draft = scope.draft();
+        RefType type = fromSemanticSymbol(symbol, name, moduleID, typeDefSymbols, draft);
+        draft.publish();
+        return type;
+    }
+
+    private static RefType fromSemanticSymbol(TypeSymbol symbol, String name, ModuleID moduleID,
+                                              List<Symbol> typeDefSymbols, TypeModelCache.Draft draft) {
         TypeDescKind kind = symbol.typeKind();
         RefType primitiveType = getPrimitiveType(kind, name);
         if (primitiveType != null) {
@@ -122,13 +156,12 @@ public class ReferenceType {
         String typeHash = String.valueOf(Objects.hash(moduleIdString, name, symbol.signature()));
         String typeKey = String.valueOf((moduleIdString + ":" + name).hashCode());
 
-        RefType type = visitedTypeMap.get(typeKey);
+        RefType type = draft.get(typeKey);
         if (type != null && !(symbol.typeKind().equals(TypeDescKind.TYPE_REFERENCE))) {
             if (type.hashCode != null && !type.hashCode.equals(typeHash)) {
-                visitedTypeMap.remove(typeKey);
+                draft.remove(typeKey);
             } else if (type.dependentTypes != null) {
-                validateDependentTypes(type, typeDefSymbols);
-                return type;
+                return validateDependentTypes(type, typeDefSymbols, draft);
             } else {
                 return type;
             }
@@ -144,7 +177,7 @@ public class ReferenceType {
                 typeKey = typeHash;
                 recordType.key = typeKey;
             }
-            visitedTypeMap.put(typeKey, recordType);
+            draft.put(typeKey, recordType);
 
             Map<String, RecordFieldSymbol> fieldDescriptors = recordTypeSymbol.fieldDescriptors();
             fieldDescriptors.forEach((fieldName, fieldSymbol) -> {
@@ -155,7 +188,8 @@ public class ReferenceType {
                 if (fieldModuleId == null) {
                     fieldModuleId = getModuleID(fieldTypeSymbol, moduleID);
                 }
-                RefType fieldType = fromSemanticSymbol(fieldTypeSymbol, fieldTypeName, fieldModuleId, typeDefSymbols);
+                RefType fieldType = fromSemanticSymbol(fieldTypeSymbol, fieldTypeName, fieldModuleId, typeDefSymbols,
+                        draft);
                 if (fieldType.dependentTypeKeys == null || fieldType.dependentTypeKeys.isEmpty()) {
                     if (fieldType.hashCode != null && fieldType.typeName.equals("record")) {
                         RefType t = new RefType(fieldType.name);
@@ -200,7 +234,7 @@ public class ReferenceType {
             String elementTypeName = elementTypeSymbol.getName().orElse("");
             ModuleID elementModuleId = getModuleID(elementTypeSymbol, moduleID);
             RefType elementType = fromSemanticSymbol(elementTypeSymbol, elementTypeName, elementModuleId,
-                    typeDefSymbols);
+                    typeDefSymbols, draft);
             if (elementType.dependentTypeKeys == null || elementType.dependentTypeKeys.isEmpty()) {
                 if (elementType.hashCode != null && elementType.typeName.equals("record")) {
                     RefType t = new RefType(elementType.name);
@@ -241,13 +275,13 @@ public class ReferenceType {
             unionType.hashCode = typeHash;
             unionType.key = typeKey;
             unionType.moduleInfo = moduleID != null ? createTypeInfo(moduleID) : null;
-            visitedTypeMap.put(typeKey, unionType);
+            draft.put(typeKey, unionType);
 
             for (TypeSymbol memberTypeSymbol : unionTypeSymbol.memberTypeDescriptors()) {
                 String memberTypeName = memberTypeSymbol.getName().orElse("");
                 ModuleID memberModuleId = getModuleID(memberTypeSymbol, moduleID);
                 RefType memberType = fromSemanticSymbol(memberTypeSymbol, memberTypeName,
-                        memberModuleId, typeDefSymbols);
+                        memberModuleId, typeDefSymbols, draft);
                 if (memberType.dependentTypeKeys == null || memberType.dependentTypeKeys.isEmpty()) {
                     if (memberType.hashCode != null && memberType.typeName.equals("record")) {
                         RefType t = new RefType(memberType.name);
@@ -284,11 +318,12 @@ public class ReferenceType {
             return unionType;
         } else if (kind == TypeDescKind.INTERSECTION) {
             IntersectionTypeSymbol intersectionTypeSymbol = (IntersectionTypeSymbol) symbol;
-            return fromSemanticSymbol(intersectionTypeSymbol.effectiveTypeDescriptor(), name, moduleID, typeDefSymbols);
+            return fromSemanticSymbol(intersectionTypeSymbol.effectiveTypeDescriptor(), name, moduleID, typeDefSymbols,
+                    draft);
         } else if (kind == TypeDescKind.TYPE_REFERENCE) {
             TypeReferenceTypeSymbol typeRefSymbol = (TypeReferenceTypeSymbol) symbol;
             TypeSymbol typeSymbol = typeRefSymbol.typeDescriptor();
-            return fromSemanticSymbol(typeSymbol, name, moduleID, typeDefSymbols);
+            return fromSemanticSymbol(typeSymbol, name, moduleID, typeDefSymbols, draft);
         } else if (kind == TypeDescKind.SINGLETON) {
             String typeName = symbol.signature();
             if (typeName.startsWith("\"") && typeName.endsWith("\"")) {
@@ -317,7 +352,8 @@ public class ReferenceType {
             for (TypeSymbol memberTypeSymbol : typeSymbol.memberTypeDescriptors()) {
                 String memberTypeName = memberTypeSymbol.getName().orElse("");
                 ModuleID memberModuleId = getModuleID(memberTypeSymbol, moduleID);
-                RefType refType = fromSemanticSymbol(memberTypeSymbol, memberTypeName, memberModuleId, typeDefSymbols);
+                RefType refType = fromSemanticSymbol(memberTypeSymbol, memberTypeName, memberModuleId, typeDefSymbols,
+                        draft);
                 tupleType.memberTypes.add(refType);
             }
             return tupleType;
@@ -414,13 +450,15 @@ public class ReferenceType {
         }
     }
 
-    private static RefType getEnumType(EnumSymbol enumSymbol, List<Symbol> typeDefSymbols) {
+    private static RefType getEnumType(EnumSymbol enumSymbol, List<Symbol> typeDefSymbols,
+                                       TypeModelCache.Draft draft) {
         RefType type;
         List<RefType> fields = new ArrayList<>();
         enumSymbol.members().forEach(member -> {
             String name = member.getName().orElse("");
             ModuleID moduleId = getModuleID(member);
-            RefType semanticSymbol = fromSemanticSymbol(member.typeDescriptor(), name, moduleId, typeDefSymbols);
+            RefType semanticSymbol = fromSemanticSymbol(member.typeDescriptor(), name, moduleId, typeDefSymbols,
+                    draft);
             fields.add(semanticSymbol);
 
         });
@@ -430,11 +468,21 @@ public class ReferenceType {
         return type;
     }
 
-    private static void validateDependentTypes(RefType type, List<Symbol> typeDefSymbols) {
+    /**
+     * Rebuilds the dependent types of the given model that changed since it was built.
+     *
+     * @param type           model to validate
+     * @param typeDefSymbols type definitions of the module
+     * @param draft          draft the models are built in
+     * @return the given model, or an updated copy of it if any of its dependent types changed
+     */
+    private static RefType validateDependentTypes(RefType type, List<Symbol> typeDefSymbols,
+                                                  TypeModelCache.Draft draft) {
         if (type.dependentTypes == null) {
-            return;
+            return type;
         }
 
+        Map<String, RefType> updatedDepTypes = new HashMap<>();
         for (Map.Entry<String, RefType> entry : type.dependentTypes.entrySet()) {
             String depTypeKey = entry.getKey();
             RefType depType = entry.getValue();
@@ -470,18 +518,19 @@ public class ReferenceType {
                 if (depType.hashCode != null && depType.hashCode.equals(updatedHashCode)) {
                     continue;
                 }
-                visitedTypeMap.remove(depTypeKey);
-                RefType updatedDepType = fromSemanticSymbol(depSymbol, typeDefSymbols);
+                draft.remove(depTypeKey);
+                RefType updatedDepType = fromSemanticSymbol(depSymbol, typeDefSymbols, draft);
                 Objects.requireNonNull(updatedDepType,
                         "fromSemanticSymbol returned null for depSymbol: " + depSymbol);
-                entry.setValue(updatedDepType);
-                visitedTypeMap.put(depTypeKey, updatedDepType);
+                updatedDepTypes.put(depTypeKey, updatedDepType);
+                draft.put(depTypeKey, updatedDepType);
             }
         }
+        if (updatedDepTypes.isEmpty()) {
+            return type;
+        }
+        RefType updatedType = draft.editable(type);
+        updatedType.dependentTypes.putAll(updatedDepTypes);
+        return updatedType;
     }
-
-    public static void clearVisitedTypeMap() {
-        visitedTypeMap.clear();
-    }
-
 }
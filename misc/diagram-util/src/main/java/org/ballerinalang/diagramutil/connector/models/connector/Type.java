@@ -75,13 +75,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Type model.
  */
 public class Type {
 
-    private static final Map<String, VisitedType> visitedTypeMap = new HashMap<>();
+    // Types visited while building a type model, used to stop at recursive types. The entries are keyed by the
+    // symbols of a single compilation, so they are only kept until the outermost call on the current thread returns.
+    private static final ThreadLocal<Traversal> traversal = ThreadLocal.withInitial(Traversal::new);
 
     @Expose
     public String name;
@@ -122,10 +125,39 @@ public class Type {
     }
 
     public static void clearVisitedTypeMap() {
-        visitedTypeMap.clear();
+        Traversal current = traversal.get();
+        if (current.depth == 0) {
+            traversal.remove();
+        } else {
+            current.visitedTypes.clear();
+        }
+    }
+
+    /**
+     * Runs a public entry point of the type model builders. The visited types are cleared once the outermost entry
+     * point returns, so that they never outlive the traversal of the compilation they were built from.
+     *
+     * @param builder builds the type model
+     * @param <T>     type of the result
+     * @return the result of the builder
+     */
+    private static <T> T traverse(Supplier<T> builder) {
+        Traversal current = traversal.get();
+        current.depth++;
+        try {
+            return builder.get();
+        } finally {
+            if (--current.depth == 0) {
+                traversal.remove();
+            }
+        }
     }
 
     public static Optional<Type> fromSyntaxNode(Node node, SemanticModel semanticModel) {
+        return traverse(() -> typeFromSyntaxNode(node, semanticModel));
+    }
+
+    private static Optional<Type> typeFromSyntaxNode(Node node, SemanticModel semanticModel) {
         Optional<Type> type = Optional.empty();
 
         switch (node.kind()) {
@@ -139,7 +171,6 @@ public class Type {
                 if (optSymbol != null && optSymbol.isPresent()) {
                     Symbol symbol = optSymbol.get();
                     type = Optional.of(fromSemanticSymbol(symbol));
-                    clearVisitedTypeMap();
                 }
                 break;
             case OPTIONAL_TYPE_DESC:
@@ -271,14 +302,11 @@ public class Type {
     }
 
     public static VisitedType getVisitedType(String typeName) {
-        if (visitedTypeMap.containsKey(typeName)) {
-            return visitedTypeMap.get(typeName);
-        }
-        return null;
+        return traversal.get().visitedTypes.get(typeName);
     }
 
     public static void completeVisitedTypeEntry(String typeName, Type typeNode) {
-        VisitedType visitedType = visitedTypeMap.get(typeName);
+        VisitedType visitedType = traversal.get().visitedTypes.get(typeName);
         visitedType.setCompleted(true);
         visitedType.setTypeNode(typeNode);
     }
@@ -288,7 +316,7 @@ public class Type {
     }
 
     public static Type fromSemanticSymbol(Symbol symbol, SemanticModel semanticModel) {
-        return fromSemanticSymbol(symbol, new HashMap<>(), semanticModel);
+        return traverse(() -> fromSemanticSymbol(symbol, new HashMap<>(), semanticModel));
     }
 
     private static Type fromSemanticSymbol(Symbol symbol, Map<String, String> documentationMap,
@@ -305,7 +333,7 @@ public class Type {
                 if (typeName.contains("record {")) {
                     type = getRecordType(recordTypeSymbol, documentationMap, semanticModel);
                 } else {
-                    visitedTypeMap.put(typeName, new VisitedType());
+                    traversal.get().visitedTypes.put(typeName, new VisitedType());
                     type = getRecordType(recordTypeSymbol, documentationMap, semanticModel);
                     completeVisitedTypeEntry(typeName, type);
                 }
@@ -330,7 +358,7 @@ public class Type {
             if (visitedType != null) {
                 return getAlreadyVisitedType(symbol, typeName, visitedType, true);
             } else {
-                visitedTypeMap.put(typeName, new VisitedType());
+                traversal.get().visitedTypes.put(typeName, new VisitedType());
                 type = getUnionType(unionSymbol, documentationMap, semanticModel);
                 completeVisitedTypeEntry(typeName, type);
             }
@@ -347,7 +375,7 @@ public class Type {
             if (visitedType != null) {
                 return getAlreadyVisitedType(symbol, typeName, visitedType, false);
             } else {
-                visitedTypeMap.put(typeName, new VisitedType());
+                traversal.get().visitedTypes.put(typeName, new VisitedType());
                 type = getIntersectionType(intersectionTypeSymbol, documentationMap, semanticModel);
                 completeVisitedTypeEntry(typeName, type);
             }
@@ -619,4 +647,13 @@ public class Type {
     public void setRestType(boolean restType) {
         isRestType = restType;
     }
+
+    /**
+     * Types visited by the type model builders on a thread, and the depth of the public entry points being run.
+     */
+    private static final class Traversal {
+
+        private final Map<String, VisitedType> visitedTypes = new HashMap<>();
+        private int depth;
+    }
 }
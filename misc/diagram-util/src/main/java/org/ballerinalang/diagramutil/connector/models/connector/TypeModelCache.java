@@ -0,0 +1,346 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil.connector.models.connector;
+
+import io.ballerina.projects.Module;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefArrayType;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefEnumType;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefRecordType;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefTupleType;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefType;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefUnionType;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the reference type models built by {@link ReferenceType}.
+ * <p>
+ * The models are kept per {@link Scope}, which is identified by the project and the module, and is bound to the
+ * compilation the models were built from. Acquiring a scope for a newer compilation of the same module drops the
+ * models of the previous one. The total weight of the cached models is bounded; the least recently used scopes are
+ * evicted first when the bound is exceeded, which is checked whenever a scope is acquired and whenever models are
+ * added to it. Evicted scopes remain usable by the requests still holding them.
+ * <p>
+ * Models are built in a {@link Draft} and only published to the scope once they are fully built, so that the
+ * requests sharing a scope never see a partially built model.
+ *
+ * @since 1.3.0
+ */
+public final class TypeModelCache {
+
+    public static final String MAX_WEIGHT_PROPERTY = "ls.typeModelCache.maxWeight";
+    private static final long DEFAULT_MAX_WEIGHT = 200_000;
+
+    private final long maxWeight;
+    private final Map<ScopeKey, Scope> scopes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static class Holder {
+
+        private static final TypeModelCache INSTANCE =
+                new TypeModelCache(Long.getLong(MAX_WEIGHT_PROPERTY, DEFAULT_MAX_WEIGHT));
+    }
+
+    public static TypeModelCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public TypeModelCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the scope of the given module. The module's package instance is used as the compilation version, since
+     * the project API creates a new package instance whenever a document of the package changes.
+     *
+     * @param module module the types are resolved in
+     * @return the scope of the module
+     */
+    public Scope scope(Module module) {
+        return scope(module.project().sourceRoot().toString(), module.moduleName().toString(),
+                module.packageInstance());
+    }
+
+    /**
+     * Returns the scope of the given project and module, bound to the given compilation version. If the cached scope
+     * belongs to a different version, it is replaced by an empty one.
+     *
+     * @param project     project identifier
+     * @param module      module identifier
+     * @param compilation object identifying the compilation version
+     * @return the scope of the project and module
+     */
+    public Scope scope(String project, String module, Object compilation) {
+        ScopeKey key = new ScopeKey(project, module);
+        synchronized (scopes) {
+            Scope scope = scopes.get(key);
+            if (scope == null || !scope.isVersion(compilation)) {
+                scope = new Scope(this, key, compilation);
+                scopes.put(key, scope);
+            }
+            evict(key, scope);
+            return scope;
+        }
+    }
+
+    /**
+     * Returns a scope that is not cached. Models built in it are discarded once the scope is no longer referenced.
+     *
+     * @return a new detached scope
+     */
+    public static Scope detachedScope() {
+        return new Scope(null, null, null);
+    }
+
+    /**
+     * Drops the cached models of all the scopes.
+     */
+    public void invalidateAll() {
+        synchronized (scopes) {
+            scopes.clear();
+        }
+    }
+
+    /**
+     * Drops the cached models of all the modules of the given project.
+     *
+     * @param project project identifier
+     */
+    public void invalidate(String project) {
+        synchronized (scopes) {
+            scopes.keySet().removeIf(key -> key.project().equals(project));
+        }
+    }
+
+    /**
+     * Returns the total weight of the cached models.
+     *
+     * @return the total weight
+     */
+    public long weight() {
+        synchronized (scopes) {
+            return scopes.values().stream().mapToLong(Scope::weight).sum();
+        }
+    }
+
+    private void enforceBound(Scope scope) {
+        synchronized (scopes) {
+            // Scopes that were replaced or evicted are no longer accounted for
+            if (scopes.get(scope.key) == scope) {
+                evict(scope.key, scope);
+            }
+        }
+    }
+
+    private void evict(ScopeKey currentKey, Scope current) {
+        long total = 0;
+        Map<Scope, Long> weights = new LinkedHashMap<>();
+        for (Scope scope : scopes.values()) {
+            long scopeWeight = scope.weight();
+            weights.put(scope, scopeWeight);
+            total += scopeWeight;
+        }
+
+        // Iterates from the least recently used scope
+        Iterator<Map.Entry<ScopeKey, Scope>> iterator = scopes.entrySet().iterator();
+        while (total > maxWeight && iterator.hasNext()) {
+            Scope scope = iterator.next().getValue();
+            if (scope == current) {
+                continue;
+            }
+            total -= weights.get(scope);
+            iterator.remove();
+        }
+
+        // The current scope alone exceeds the bound. Start over with an empty one rather than clearing the models
+        // concurrent requests may still be walking.
+        if (total > maxWeight) {
+            scopes.put(currentKey, new Scope(this, currentKey, current.version.get()));
+        }
+    }
+
+    private record ScopeKey(String project, String module) {
+    }
+
+    /**
+     * Reference type models of a module, built from a single compilation. A scope can be shared by concurrent
+     * requests. The published models are not changed afterwards.
+     *
+     * @since 1.3.0
+     */
+    public static final class Scope {
+
+        private final TypeModelCache owner;
+        private final ScopeKey key;
+        private final WeakReference<Object> version;
+        private final Map<String, RefType> types = new ConcurrentHashMap<>();
+        private final Map<String, Long> weights = new HashMap<>();
+        private volatile long totalWeight;
+
+        private Scope(TypeModelCache owner, ScopeKey key, Object version) {
+            this.owner = owner;
+            this.key = key;
+            this.version = new WeakReference<>(version);
+        }
+
+        private boolean isVersion(Object compilation) {
+            return version.get() == compilation;
+        }
+
+        RefType get(String typeKey) {
+            return types.get(typeKey);
+        }
+
+        /**
+         * Starts building models on top of the ones of this scope.
+         *
+         * @return a new draft of the scope
+         */
+        Draft draft() {
+            return new Draft(this);
+        }
+
+        private void publish(Map<String, RefType> built, Set<String> removed) {
+            if (built.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+            synchronized (this) {
+                for (String typeKey : removed) {
+                    if (!built.containsKey(typeKey)) {
+                        types.remove(typeKey);
+                        Long removedWeight = weights.remove(typeKey);
+                        totalWeight -= removedWeight != null ? removedWeight : 0;
+                    }
+                }
+                built.forEach((typeKey, type) -> {
+                    long typeWeight = weigh(type);
+                    types.put(typeKey, type);
+                    Long replacedWeight = weights.put(typeKey, typeWeight);
+                    totalWeight += typeWeight - (replacedWeight != null ? replacedWeight : 0);
+                });
+            }
+            if (owner != null) {
+                owner.enforceBound(this);
+            }
+        }
+
+        public int size() {
+            return types.size();
+        }
+
+        /**
+         * Returns the weight of the models in the scope, which is the number of type nodes they hold.
+         *
+         * @return the weight of the scope
+         */
+        public long weight() {
+            return totalWeight;
+        }
+
+        private static long weigh(RefType type) {
+            long weight = 1 + type.dependentTypeKeys.size();
+            if (type.dependentTypes != null) {
+                weight += type.dependentTypes.size();
+            }
+            if (type instanceof RefRecordType recordType) {
+                weight += recordType.fields.size();
+            } else if (type instanceof RefUnionType unionType) {
+                weight += unionType.memberTypes.size();
+            } else if (type instanceof RefTupleType tupleType) {
+                weight += tupleType.memberTypes.size();
+            } else if (type instanceof RefEnumType enumType) {
+                weight += enumType.members.size();
+            } else if (type instanceof RefArrayType) {
+                weight += 1;
+            }
+            return weight;
+        }
+    }
+
+    /**
+     * Models built by a single call of {@link ReferenceType}. Lookups see the models of the draft over the ones of the
+     * scope, and the models of the scope are copied before they are changed. The built models are published to the
+     * scope once they are complete.
+     *
+     * @since 1.3.0
+     */
+    static final class Draft {
+
+        private final Scope scope;
+        private final Map<String, RefType> types = new HashMap<>();
+        private final Set<String> removed = new HashSet<>();
+        private final Map<RefType, String> shared = new IdentityHashMap<>();
+
+        private Draft(Scope scope) {
+            this.scope = scope;
+        }
+
+        RefType get(String typeKey) {
+            RefType type = types.get(typeKey);
+            if (type != null || removed.contains(typeKey)) {
+                return type;
+            }
+            type = scope.get(typeKey);
+            if (type != null) {
+                shared.put(type, typeKey);
+            }
+            return type;
+        }
+
+        void put(String typeKey, RefType type) {
+            types.put(typeKey, type);
+        }
+
+        void remove(String typeKey) {
+            types.remove(typeKey);
+            removed.add(typeKey);
+        }
+
+        /**
+         * Returns a model that can be changed by the draft. A model taken from the scope is copied, and the copy
+         * replaces it in the draft.
+         *
+         * @param type model to change
+         * @return the given model, or its copy if it belongs to the scope
+         */
+        RefType editable(RefType type) {
+            String typeKey = shared.get(type);
+            if (typeKey == null) {
+                return type;
+            }
+            RefType copy = type.clone();
+            types.put(typeKey, copy);
+            return copy;
+        }
+
+        /**
+         * Publishes the models built by the draft to the scope.
+         */
+        void publish() {
+            scope.publish(types, removed);
+        }
+    }
+}
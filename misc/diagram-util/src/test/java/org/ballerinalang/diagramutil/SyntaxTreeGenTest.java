@@ -75,6 +75,45 @@ public class SyntaxTreeGenTest {
         Assert.assertEquals(stJson.getAsJsonObject().get("members").getAsJsonArray().size(), 0);
     }
 
+    @Test(description = "Generate ST with each enrichment level.")
+    public void testEnrichmentLevels() throws IOException {
+        Path inputFile = TestUtil.createTempProject(documentLevelClientInit);
+        BuildProject project = BuildProject.load(inputFile);
+        ModuleId moduleId = project.currentPackage().getDefaultModule().moduleId();
+        Module module = project.currentPackage().module(moduleId);
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(moduleId);
+        Document document = module.document(module.documentIds().iterator().next());
+
+        JsonObject full = DiagramUtil.getSyntaxTreeJSON(document, semanticModel).getAsJsonObject();
+        JsonObject expressionTypes = DiagramUtil.getSyntaxTreeJSON(document, semanticModel,
+                EnrichmentLevel.EXPRESSION_TYPES, true).getAsJsonObject();
+        JsonObject syntax = DiagramUtil.getSyntaxTreeJSON(document, semanticModel, EnrichmentLevel.SYNTAX, false)
+                .getAsJsonObject();
+
+        // The source and the shape of the tree do not depend on the level
+        Assert.assertEquals(expressionTypes.get("source"), full.get("source"));
+        Assert.assertEquals(syntax.get("members").getAsJsonArray().size(),
+                full.get("members").getAsJsonArray().size());
+
+        // Endpoints are still resolved with the expression types
+        JsonObject fullFunctionBody = getFunctionBody(full);
+        JsonObject functionBody = getFunctionBody(expressionTypes);
+        Assert.assertEquals(functionBody.get("VisibleEndpoints"), fullFunctionBody.get("VisibleEndpoints"));
+        Assert.assertTrue(expressionTypes.get("members").getAsJsonArray().get(1).getAsJsonObject()
+                .get("typeData").getAsJsonObject().get("isEndpoint").getAsBoolean());
+        Assert.assertTrue(functionBody.get("typeData").getAsJsonObject().isEmpty());
+
+        Assert.assertFalse(getFunctionBody(syntax).has("VisibleEndpoints"));
+        Assert.assertTrue(getFunctionBody(syntax).get("typeData").getAsJsonObject().isEmpty());
+        Assert.assertFalse(syntax.has("leadingMinutiae"));
+        Assert.assertTrue(full.has("leadingMinutiae"));
+    }
+
+    private static JsonObject getFunctionBody(JsonObject modulePart) {
+        return modulePart.get("members").getAsJsonArray().get(2).getAsJsonObject()
+                .get("functionBody").getAsJsonObject();
+    }
+
     @Test(description = "Generate ST for client invocation in a main bal file.")
     public void testHttpMainBalST() throws IOException {
         Path inputFile = TestUtil.createTempProject(documentLevelClientInit);
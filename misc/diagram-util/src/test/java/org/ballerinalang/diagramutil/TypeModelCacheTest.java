@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.ballerinalang.diagramutil.connector.models.connector.ReferenceType;
+import org.ballerinalang.diagramutil.connector.models.connector.TypeModelCache;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Tests for the scoping, invalidation and eviction of the reference type model cache.
+ */
+public class TypeModelCacheTest {
+
+    private Module module;
+    private List<Symbol> typeDefSymbols;
+    private Symbol employee;
+
+    @BeforeClass
+    public void init() throws IOException {
+        Project project = ProjectLoader.loadProject(
+                TestUtil.createTempProject(TestUtil.RES_DIR.resolve("RefTypeTest/BalProject4")));
+        module = project.currentPackage().getDefaultModule();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        typeDefSymbols = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .toList();
+        employee = typeDefSymbols.stream()
+                .filter(symbol -> symbol.getName().orElse("").equals("Employee"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test(description = "Test that the models of a compilation are reused within its scope")
+    public void testReuseWithinScope() {
+        TypeModelCache cache = new TypeModelCache(Long.MAX_VALUE);
+        TypeModelCache.Scope scope = cache.scope(module);
+        RefType first = ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, scope);
+        Assert.assertNotNull(first);
+        Assert.assertTrue(scope.size() > 0);
+
+        Assert.assertSame(cache.scope(module), scope);
+        RefType second = ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, cache.scope(module));
+        Assert.assertSame(second, first);
+    }
+
+    @Test(description = "Test that a new compilation of a module starts with an empty scope")
+    public void testInvalidateOnNewCompilation() {
+        TypeModelCache cache = new TypeModelCache(Long.MAX_VALUE);
+        String project = module.project().sourceRoot().toString();
+        Object oldCompilation = new Object();
+        TypeModelCache.Scope oldScope = cache.scope(project, "mod", oldCompilation);
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, oldScope);
+        Assert.assertTrue(cache.weight() > 0);
+
+        TypeModelCache.Scope newScope = cache.scope(project, "mod", new Object());
+        Assert.assertNotSame(newScope, oldScope);
+        Assert.assertEquals(newScope.size(), 0);
+        Assert.assertEquals(cache.weight(), 0);
+
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, newScope);
+        cache.invalidate(project);
+        Assert.assertEquals(cache.weight(), 0);
+    }
+
+    @Test(description = "Test that the least recently used scopes are evicted when the weight bound is exceeded")
+    public void testEvictLeastRecentlyUsedScope() {
+        TypeModelCache.Scope probe = TypeModelCache.detachedScope();
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, probe);
+        long scopeWeight = probe.weight();
+
+        TypeModelCache cache = new TypeModelCache(scopeWeight * 2);
+        Object compilation = new Object();
+        TypeModelCache.Scope scope1 = cache.scope("project", "mod1", compilation);
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, scope1);
+        TypeModelCache.Scope scope2 = cache.scope("project", "mod2", compilation);
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, scope2);
+
+        // Touch the first scope so that the second one becomes the least recently used
+        Assert.assertSame(cache.scope("project", "mod1", compilation), scope1);
+        TypeModelCache.Scope scope3 = cache.scope("project", "mod3", compilation);
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, scope3);
+        cache.scope("project", "mod3", compilation);
+
+        Assert.assertSame(cache.scope("project", "mod1", compilation), scope1);
+        Assert.assertNotSame(cache.scope("project", "mod2", compilation), scope2);
+        Assert.assertTrue(cache.weight() <= scopeWeight * 2);
+    }
+
+    @Test(description = "Test that the weight bound is enforced when models are added to an acquired scope")
+    public void testEvictOnPublish() {
+        TypeModelCache.Scope probe = TypeModelCache.detachedScope();
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, probe);
+        long scopeWeight = probe.weight();
+
+        TypeModelCache cache = new TypeModelCache(scopeWeight);
+        Object compilation = new Object();
+        TypeModelCache.Scope scope1 = cache.scope("project", "mod1", compilation);
+        TypeModelCache.Scope scope2 = cache.scope("project", "mod2", compilation);
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, scope1);
+        Assert.assertEquals(cache.weight(), scopeWeight);
+
+        // No scope is acquired in between, the bound is enforced when the models of the second scope are published
+        ReferenceType.fromSemanticSymbol(employee, typeDefSymbols, scope2);
+        Assert.assertEquals(cache.weight(), scopeWeight);
+        Assert.assertSame(cache.scope("project", "mod2", compilation), scope2);
+        Assert.assertNotSame(cache.scope("project", "mod1", compilation), scope1);
+    }
+}
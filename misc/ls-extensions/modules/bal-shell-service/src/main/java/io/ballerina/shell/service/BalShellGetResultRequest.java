@@ -24,9 +24,17 @@ package io.ballerina.shell.service;
  */
 public class BalShellGetResultRequest {
     private final String source;
+    private final String notebookUri;
+    private final String cellUri;
 
     public BalShellGetResultRequest(String source) {
+        this(source, null, null);
+    }
+
+    public BalShellGetResultRequest(String source, String notebookUri, String cellUri) {
         this.source = source;
+        this.notebookUri = notebookUri;
+        this.cellUri = cellUri;
     }
 
     /**
@@ -37,4 +45,23 @@ public class BalShellGetResultRequest {
     public String getSource() {
         return source;
     }
+
+    /**
+     * Returns the uri of the notebook the snippet belongs to. Snippets without a notebook are evaluated in the
+     * shell of the REPL.
+     *
+     * @return notebook uri, or null
+     */
+    public String getNotebookUri() {
+        return notebookUri;
+    }
+
+    /**
+     * Returns the uri of the cell the snippet is the source of.
+     *
+     * @return cell uri, or null
+     */
+    public String getCellUri() {
+        return cellUri;
+    }
 }
@@ -35,6 +35,8 @@ public class BalShellGetResultResponse {
     private final ArrayList<String> diagnostics;
     private MetaInfo metaInfo;
     private String consoleOut;
+    private List<String> staleCells;
+    private boolean sessionRestarted;
 
     public BalShellGetResultResponse() {
         this.shellValue = null;
@@ -42,6 +44,7 @@ public class BalShellGetResultResponse {
         this.diagnostics = new ArrayList<>();
         this.metaInfo = null;
         this.consoleOut = "";
+        this.staleCells = new ArrayList<>();
     }
 
     /**
@@ -99,6 +102,28 @@ public class BalShellGetResultResponse {
         this.consoleOut = String.join("\n", consoleOut);
     }
 
+    /**
+     * Set the evaluated cells that depend on the declarations changed by the evaluation.
+     *
+     * @param staleCells uris of the cells to re-evaluate
+     */
+    public void setStaleCells(List<String> staleCells) {
+        this.staleCells = new ArrayList<>(staleCells);
+    }
+
+    /**
+     * Flag that the snippet was evaluated in a new shell, since the previous shell of the notebook was closed.
+     *
+     * @param sessionRestarted whether the shell was restarted
+     */
+    public void setSessionRestarted(boolean sessionRestarted) {
+        this.sessionRestarted = sessionRestarted;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
     public ShellValue getShellValue() {
         return shellValue;
     }
@@ -110,4 +135,12 @@ public class BalShellGetResultResponse {
     public String getConsoleOut() {
         return consoleOut;
     }
+
+    public List<String> getStaleCells() {
+        return staleCells;
+    }
+
+    public boolean isSessionRestarted() {
+        return sessionRestarted;
+    }
 }
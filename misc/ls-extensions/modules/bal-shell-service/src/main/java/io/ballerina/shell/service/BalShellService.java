@@ -16,9 +16,14 @@
 package io.ballerina.shell.service;
 
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.notebook.Notebook;
+import org.ballerinalang.langserver.commons.notebook.NotebookDocumentManager;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.util.List;
 import java.util.Map;
@@ -32,40 +37,67 @@ import java.util.concurrent.CompletableFuture;
 @JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
 @JsonSegment("balShell")
 public class BalShellService implements ExtendedLanguageServerService {
+    private final ShellSessions sessions = new ShellSessions();
+    private NotebookDocumentManager notebookManager;
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.notebookManager = NotebookDocumentManager.getInstance(serverContext);
+        this.notebookManager.addCloseListener(this.sessions::close);
+        this.sessions.start();
+    }
+
+    @Override
+    public void shutdown() {
+        this.sessions.shutdown();
+    }
+
     @Override
     public Class<?> getRemoteInterface() {
         return getClass();
     }
 
     /***
-     * Execute a given source with shell implementation and provide result.
+     * Execute a given source with shell implementation and provide result. Cells of a notebook are evaluated in the
+     * shell of the notebook, and evaluations running past the timeout are cancelled.
      *
      * @param request content of the source snippet
      * @return evaluated result of the snippet in BalShellGetResulResponse
      */
     @JsonRequest
     public CompletableFuture<BalShellGetResultResponse> getResult(BalShellGetResultRequest request) {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getResult(request.getSource()));
+        return this.sessions.evaluate(request.getNotebookUri(), shell -> {
+            if (request.getCellUri() == null) {
+                return shell.getResult(request.getSource());
+            }
+            Notebook notebook = this.notebookManager == null || request.getNotebookUri() == null ? null :
+                    this.notebookManager.notebook(request.getNotebookUri()).orElse(null);
+            return shell.getResult(request.getCellUri(), request.getSource(), notebook);
+        });
     }
 
     /**
      * Creates a copy of temporary bal file used by shell with the content of it and
      * returns the uri of newly created file and its content.
      *
+     * @param request notebook of the shell, or null for the REPL
      * @return new file details in BalFileSourceResponse
      */
     @JsonRequest
-    public CompletableFuture<ShellFileSourceResponse> getShellFileSource() {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getShellFileSource());
+    public CompletableFuture<ShellFileSourceResponse> getShellFileSource(ShellSessionRequest request) {
+        return this.sessions.execute(notebookUri(request), ShellWrapper::getShellFileSource,
+                new ShellFileSourceResponse());
     }
 
     /**
      * Get available variables in the memory with their name, type and current state value.
+     * @param request notebook of the shell, or null for the REPL
      * @return available variables
      */
     @JsonRequest
-    public CompletableFuture<List<Map<String, String>>> getVariableValues() {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getAvailableVariables());
+    public CompletableFuture<List<Map<String, String>>> getVariableValues(ShellSessionRequest request) {
+        return this.sessions.execute(notebookUri(request), ShellWrapper::getAvailableVariables, List.of());
     }
 
     /**
@@ -76,18 +108,23 @@ public class BalShellService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<Boolean> deleteDeclarations(DeleteRequest request) {
-        return CompletableFuture.supplyAsync(() ->
-                ShellWrapper.getInstance().deleteDeclarations(request.getVarToDelete()));
+        return this.sessions.execute(request.getNotebookUri(),
+                shell -> shell.deleteDeclarations(request.getVarToDelete()), false);
     }
 
     /**
      * Resets the shell into initial state.
      *
+     * @param request notebook of the shell, or null for the REPL
      * @return whether that restart was successful
      */
     @JsonRequest
-    public CompletableFuture<Boolean> restartNotebook() {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().restart());
+    public CompletableFuture<Boolean> restartNotebook(ShellSessionRequest request) {
+        return this.sessions.execute(notebookUri(request), ShellWrapper::restart, false);
+    }
+
+    private static String notebookUri(ShellSessionRequest request) {
+        return request == null ? null : request.getNotebookUri();
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.shell.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes the system output streams to the shell evaluations.
+ * <p>
+ * Writes are sent to the stream bound to the writing thread, so that the shells compile and run their snippets in
+ * parallel without mixing their output. The binding is inherited by the threads started while it is in place, which
+ * covers the threads the Ballerina runtime starts for a snippet. Writes of the other threads go to the execution that
+ * is running, as long as it is the only one, and to the streams that were in place when the router was installed
+ * otherwise. No lock is held while a snippet runs, hence a snippet that does not return never blocks the other
+ * shells. The original streams are restored once no thread is bound.
+ *
+ * @since 1.3.0
+ */
+final class ConsoleRouter {
+
+    private static final InheritableThreadLocal<Binding> boundStream = new InheritableThreadLocal<>();
+    private static final List<Binding> executions = new ArrayList<>();
+    private static volatile Binding soleExecution;
+    private static int bindings;
+    private static PrintStream out;
+    private static PrintStream err;
+    private static PrintStream originalOut;
+    private static PrintStream originalErr;
+
+    private ConsoleRouter() {
+    }
+
+    /**
+     * Routes the output of the current thread, and of the threads it starts, to the given stream until
+     * {@link #unbind()} is called.
+     *
+     * @param stream stream to write to
+     */
+    static void bind(PrintStream stream) {
+        Binding previous = boundStream.get();
+        if (previous != null && previous.active && previous.owner == Thread.currentThread()) {
+            // Rebound by the evaluation of this thread, which keeps the streams installed. A binding inherited from
+            // another evaluation is left to it, as that evaluation may still be writing.
+            previous.active = false;
+        } else {
+            install();
+        }
+        boundStream.set(new Binding(stream));
+    }
+
+    static void unbind() {
+        Binding binding = boundStream.get();
+        boundStream.remove();
+        if (binding != null && binding.active) {
+            // Threads that inherited the binding and outlive the evaluation fall back to the original streams
+            binding.active = false;
+            uninstall();
+        }
+    }
+
+    /**
+     * Runs the given action of the current thread, routing the output of the threads that are not bound to the stream
+     * of the current thread while no other action runs.
+     *
+     * @param action action to run
+     * @param <T>    result type of the action
+     * @param <E>    exception type of the action
+     * @return the result of the action
+     * @throws E if the action fails
+     */
+    static <T, E extends Exception> T executing(ConsoleAction<T, E> action) throws E {
+        Binding binding = boundStream.get();
+        if (binding == null) {
+            return action.run();
+        }
+        enter(binding);
+        try {
+            return action.run();
+        } finally {
+            exit(binding);
+        }
+    }
+
+    private static synchronized void enter(Binding binding) {
+        executions.add(binding);
+        soleExecution = executions.size() == 1 ? binding : null;
+    }
+
+    private static synchronized void exit(Binding binding) {
+        executions.remove(binding);
+        soleExecution = executions.size() == 1 ? executions.get(0) : null;
+    }
+
+    private static synchronized void install() {
+        bindings++;
+        // Reinstall if the streams were replaced since the last evaluation
+        if (System.out != out) {
+            originalOut = System.out;
+            out = new PrintStream(new RoutingOutputStream(originalOut), true, StandardCharsets.UTF_8);
+            System.setOut(out);
+        }
+        if (System.err != err) {
+            originalErr = System.err;
+            err = new PrintStream(new RoutingOutputStream(originalErr), true, StandardCharsets.UTF_8);
+            System.setErr(err);
+        }
+    }
+
+    private static synchronized void uninstall() {
+        if (--bindings > 0) {
+            return;
+        }
+        // Streams that were replaced by someone else since they were installed are left as they are
+        if (System.out == out) {
+            System.setOut(originalOut);
+        }
+        if (System.err == err) {
+            System.setErr(originalErr);
+        }
+    }
+
+    /**
+     * An action run with the output of the unbound threads routed to it.
+     *
+     * @param <T> result type
+     * @param <E> exception type
+     */
+    @FunctionalInterface
+    interface ConsoleAction<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * A stream bound to a thread, which is released once the thread is unbound.
+     */
+    private static final class Binding {
+        private final PrintStream stream;
+        private final Thread owner = Thread.currentThread();
+        private volatile boolean active = true;
+
+        Binding(PrintStream stream) {
+            this.stream = stream;
+        }
+    }
+
+    private static final class RoutingOutputStream extends OutputStream {
+
+        private final PrintStream fallback;
+
+        RoutingOutputStream(PrintStream fallback) {
+            this.fallback = fallback;
+        }
+
+        private PrintStream target() {
+            Binding binding = boundStream.get();
+            if (binding == null || !binding.active) {
+                binding = soleExecution;
+            }
+            return binding != null && binding.active ? binding.stream : fallback;
+        }
+
+        @Override
+        public void write(int b) {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+    }
+}
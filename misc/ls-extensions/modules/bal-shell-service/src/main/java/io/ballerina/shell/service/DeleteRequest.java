@@ -25,9 +25,15 @@ package io.ballerina.shell.service;
  */
 public class DeleteRequest {
     private final String varToDelete;
+    private final String notebookUri;
 
     public DeleteRequest(String varToDelete) {
+        this(varToDelete, null);
+    }
+
+    public DeleteRequest(String varToDelete, String notebookUri) {
         this.varToDelete = varToDelete;
+        this.notebookUri = notebookUri;
     }
 
     /**
@@ -38,4 +44,13 @@ public class DeleteRequest {
     public String getVarToDelete() {
         return varToDelete;
     }
+
+    /**
+     * Returns the uri of the notebook to delete the value from.
+     *
+     * @return notebook uri, or null for the REPL
+     */
+    public String getNotebookUri() {
+        return notebookUri;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.shell.service;
+
+/**
+ * Request format for the BalShell endpoints acting on the state of a shell.
+ *
+ * @since 1.3.0
+ */
+public class ShellSessionRequest {
+    private final String notebookUri;
+
+    public ShellSessionRequest(String notebookUri) {
+        this.notebookUri = notebookUri;
+    }
+
+    /**
+     * Returns the uri of the notebook whose shell is targeted.
+     *
+     * @return notebook uri, or null for the REPL
+     */
+    public String getNotebookUri() {
+        return notebookUri;
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.shell.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Shells of the open notebooks. Every notebook is evaluated in a shell of its own, so that the declarations of one
+ * notebook are neither visible to nor recompiled with the cells of another. Requests without a notebook share the
+ * session of the REPL, which is managed like the session of a notebook.
+ * <p>
+ * Initializing a shell compiles its initial module, which makes the first evaluation of a notebook slow. A pool of
+ * {@link #POOL_SIZE_PROPERTY} initialized shells is kept ready for new notebooks and refilled in the background.
+ * Shells that are idle for {@link #IDLE_TIMEOUT_PROPERTY} minutes are closed, and a request that runs longer than
+ * {@link #EVALUATION_TIMEOUT_PROPERTY} seconds is cancelled and its shell discarded. A shell is not closed while a
+ * request of it runs. The next evaluation of such a notebook starts over in a new shell, which is flagged in its
+ * response.
+ * <p>
+ * The requests run on threads of their own and their results are returned as futures, so that a slow evaluation does
+ * not hold a thread of the caller. A cancelled evaluation which does not stop on the interrupt keeps its thread until
+ * it returns. At most {@link #MAX_ABANDONED_EVALUATIONS} of them are let to run, after which new requests fail until
+ * one of them returns.
+ *
+ * @since 1.3.0
+ */
+public class ShellSessions {
+    public static final String POOL_SIZE_PROPERTY = "ls.shell.poolSize";
+    public static final String IDLE_TIMEOUT_PROPERTY = "ls.shell.idleTimeoutMinutes";
+    public static final String EVALUATION_TIMEOUT_PROPERTY = "ls.shell.evaluationTimeoutSeconds";
+    private static final int DEFAULT_POOL_SIZE = 1;
+    private static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 30;
+    private static final long DEFAULT_EVALUATION_TIMEOUT_SECONDS = 300;
+    private static final Duration MAX_EVICTION_INTERVAL = Duration.ofMinutes(1);
+    private static final int MAX_ABANDONED_EVALUATIONS = 8;
+    // States of a request running on the evaluation threads
+    private static final int RUNNING = 0;
+    private static final int COMPLETED = 1;
+    private static final int ABANDONED = 2;
+    // Key of the REPL session, which is not a notebook uri
+    private static final String REPL_SESSION = "";
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Set<String> discardedSessions = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<ShellWrapper> warmShells = new LinkedBlockingQueue<>();
+    private final AtomicInteger warmingShells = new AtomicInteger();
+    // Cancelled evaluations whose threads are still running
+    private final AtomicInteger abandonedEvaluations = new AtomicInteger();
+    private final int poolSize;
+    private final Duration idleTimeout;
+    private final Duration evaluationTimeout;
+    private final LongSupplier clock;
+    private final ExecutorService evaluationExecutor;
+    // Warming a shell takes seconds, hence it must not delay the eviction of the idle shells
+    private final ExecutorService warmingExecutor;
+    private final ScheduledExecutorService evictionExecutor;
+
+    public ShellSessions() {
+        this(Integer.getInteger(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE),
+                Duration.ofMinutes(Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT_MINUTES)),
+                Duration.ofSeconds(Long.getLong(EVALUATION_TIMEOUT_PROPERTY, DEFAULT_EVALUATION_TIMEOUT_SECONDS)));
+    }
+
+    public ShellSessions(int poolSize, Duration idleTimeout, Duration evaluationTimeout) {
+        this(poolSize, idleTimeout, evaluationTimeout, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the shell sessions with the given clock, which the idle timeout is measured with.
+     *
+     * @param poolSize          number of initialized shells to keep ready
+     * @param idleTimeout       time after which an unused shell is closed
+     * @param evaluationTimeout time after which an evaluation is cancelled
+     * @param clock             current time in milliseconds
+     */
+    public ShellSessions(int poolSize, Duration idleTimeout, Duration evaluationTimeout, LongSupplier clock) {
+        this.poolSize = poolSize;
+        this.idleTimeout = idleTimeout;
+        this.evaluationTimeout = evaluationTimeout;
+        this.clock = clock;
+        this.evaluationExecutor = Executors.newCachedThreadPool(daemonThreads("bal-shell-evaluation"));
+        this.warmingExecutor = Executors.newSingleThreadExecutor(daemonThreads("bal-shell-warming"));
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("bal-shell-eviction"));
+    }
+
+    /**
+     * Fills the pool of initialized shells and starts evicting the idle shells.
+     */
+    public void start() {
+        prewarm();
+        long interval = Math.max(1, Math.min(idleTimeout.toMillis(), MAX_EVICTION_INTERVAL.toMillis()));
+        evictionExecutor.scheduleWithFixedDelay(this::evictIdleSessions, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the shell of the given notebook, creating it on the first request.
+     *
+     * @param notebookUri uri of the notebook, or null for the REPL
+     * @return shell of the notebook
+     */
+    public ShellWrapper get(String notebookUri) {
+        return session(key(notebookUri), false).shell();
+    }
+
+    /**
+     * Evaluates in the shell of the given notebook, cancelling the evaluation if it does not complete in time.
+     *
+     * @param notebookUri uri of the notebook, or null for the REPL
+     * @param evaluation  evaluation to run in the shell
+     * @return future of the result of the evaluation
+     */
+    public CompletableFuture<BalShellGetResultResponse> evaluate(
+            String notebookUri, Function<ShellWrapper, BalShellGetResultResponse> evaluation) {
+        String key = key(notebookUri);
+        return begin(key).thenCompose(session -> run(key, session, evaluation, error -> {
+            BalShellGetResultResponse failed = new BalShellGetResultResponse();
+            failed.addError(error);
+            return failed;
+        }).thenApply(response -> {
+            if (session.consumeRestarted()) {
+                response.setSessionRestarted(true);
+            }
+            return response;
+        }));
+    }
+
+    /**
+     * Runs an action on the shell of the given notebook, with the timeout of the evaluations. The shell is not closed
+     * as idle while the action runs.
+     *
+     * @param notebookUri uri of the notebook, or null for the REPL
+     * @param action      action to run on the shell
+     * @param fallback    result if the action fails or does not complete in time
+     * @param <T>         result type of the action
+     * @return future of the result of the action
+     */
+    public <T> CompletableFuture<T> execute(String notebookUri, Function<ShellWrapper, T> action, T fallback) {
+        String key = key(notebookUri);
+        return begin(key).thenCompose(session -> run(key, session, action, error -> fallback));
+    }
+
+    /**
+     * Releases the shell of a closed notebook.
+     *
+     * @param notebookUri uri of the notebook
+     */
+    public void close(String notebookUri) {
+        discardedSessions.remove(notebookUri);
+        Session session = sessions.remove(notebookUri);
+        if (session != null) {
+            closeShell(session.shell());
+        }
+    }
+
+    /**
+     * Closes all the shells and stops the background tasks.
+     */
+    public void shutdown() {
+        evictionExecutor.shutdownNow();
+        warmingExecutor.shutdownNow();
+        sessions.values().forEach(session -> closeShell(session.shell()));
+        sessions.clear();
+        ShellWrapper shell;
+        while ((shell = warmShells.poll()) != null) {
+            closeShell(shell);
+        }
+        evaluationExecutor.shutdown();
+    }
+
+    /**
+     * Closes the shells that are not evaluating and have not been used within the idle timeout. This runs
+     * periodically once the sessions are started.
+     */
+    public void evictIdleSessions() {
+        long idleSince = clock.getAsLong() - idleTimeout.toMillis();
+        List<Session> evicted = new ArrayList<>();
+        for (String notebookUri : sessions.keySet()) {
+            // The check is done within the map, so that a session taken up in the meantime is not evicted
+            sessions.computeIfPresent(notebookUri, (key, session) -> {
+                if (!session.isIdleSince(idleSince)) {
+                    return session;
+                }
+                discardedSessions.add(key);
+                evicted.add(session);
+                return null;
+            });
+        }
+        evicted.forEach(session -> closeShell(session.shell()));
+    }
+
+    /**
+     * Begins a request on the session of the notebook. Creating the shell of a new session compiles its initial
+     * module, hence it is done on the evaluation threads rather than on the thread of the caller.
+     */
+    private CompletableFuture<Session> begin(String key) {
+        return CompletableFuture.supplyAsync(() -> session(key, true), evaluationExecutor);
+    }
+
+    /**
+     * Runs the action on the shell of a session which has been begun by {@link #begin(String)}. The returned future
+     * completes with the result of the failure function if the action fails or does not complete in time.
+     */
+    private <T> CompletableFuture<T> run(String key, Session session, Function<ShellWrapper, T> action,
+                                         Function<String, T> failure) {
+        if (abandonedEvaluations.get() >= MAX_ABANDONED_EVALUATIONS) {
+            session.end(clock.getAsLong());
+            return CompletableFuture.completedFuture(failure.apply("Too many cancelled evaluations are still " +
+                    "running. Try again once they return"));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger state = new AtomicInteger(RUNNING);
+        Future<?> task;
+        try {
+            task = evaluationExecutor.submit(() -> {
+                try {
+                    result.complete(action.apply(session.shell()));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    if (!state.compareAndSet(RUNNING, COMPLETED)) {
+                        abandonedEvaluations.decrementAndGet();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            session.end(clock.getAsLong());
+            return CompletableFuture.completedFuture(failure.apply("The shell sessions are shut down"));
+        }
+
+        return result.orTimeout(evaluationTimeout.toMillis(), TimeUnit.MILLISECONDS).handle((value, error) -> {
+            session.end(clock.getAsLong());
+            if (error == null) {
+                return value;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                    error.getCause() : error;
+            if (!(cause instanceof TimeoutException)) {
+                return failure.apply(cause.getMessage());
+            }
+            if (state.compareAndSet(RUNNING, ABANDONED)) {
+                abandonedEvaluations.incrementAndGet();
+            }
+            // The shell holds its monitor until the cancelled request returns, hence it is not used anymore
+            task.cancel(true);
+            discard(key, session);
+            return failure.apply("Evaluation did not complete within " + evaluationTimeout.toSeconds() +
+                    " seconds and was cancelled. The session will continue in a new shell");
+        });
+    }
+
+    private static String key(String notebookUri) {
+        return notebookUri == null ? REPL_SESSION : notebookUri;
+    }
+
+    int warmShellCount() {
+        return warmShells.size();
+    }
+
+    /**
+     * Returns the session of the notebook, marking it as used within the map so that it is not evicted in between.
+     *
+     * @param notebookUri key of the notebook
+     * @param begin       whether an evaluation begins on the session, which has to be ended once it completes
+     * @return session of the notebook
+     */
+    private Session session(String notebookUri, boolean begin) {
+        long now = clock.getAsLong();
+        Session session = sessions.computeIfPresent(notebookUri, (key, existing) -> {
+            existing.use(now, begin);
+            return existing;
+        });
+        if (session != null) {
+            return session;
+        }
+
+        // The shell is taken outside the map, since creating one compiles its initial module
+        Session created = new Session(takeShell(), now);
+        created.use(now, begin);
+        session = sessions.putIfAbsent(notebookUri, created);
+        if (session != null) {
+            // Another request of the notebook created its session first
+            if (warmShells.size() < poolSize) {
+                warmShells.offer(created.shell());
+            } else {
+                closeShell(created.shell());
+            }
+            return session(notebookUri, begin);
+        }
+        if (discardedSessions.remove(notebookUri)) {
+            created.markRestarted();
+        }
+        return created;
+    }
+
+    private ShellWrapper takeShell() {
+        ShellWrapper shell = warmShells.poll();
+        prewarm();
+        return shell != null ? shell : new ShellWrapper();
+    }
+
+    private void prewarm() {
+        while (warmShells.size() + warmingShells.get() < poolSize) {
+            warmingShells.incrementAndGet();
+            try {
+                warmingExecutor.execute(() -> {
+                    try {
+                        warmShells.offer(new ShellWrapper());
+                    } finally {
+                        warmingShells.decrementAndGet();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // The sessions are shut down
+                warmingShells.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void discard(String notebookUri, Session session) {
+        if (sessions.remove(notebookUri, session)) {
+            discardedSessions.add(notebookUri);
+        }
+        closeShell(session.shell());
+    }
+
+    private void closeShell(ShellWrapper shell) {
+        // Closing waits for the running evaluation of the shell, if any, to return
+        try {
+            evaluationExecutor.execute(shell::close);
+        } catch (RuntimeException e) {
+            shell.close();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The shell of a notebook and its usage.
+     */
+    private static final class Session {
+        private final ShellWrapper shell;
+        private final AtomicBoolean restarted = new AtomicBoolean();
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private volatile long lastAccess;
+
+        Session(ShellWrapper shell, long now) {
+            this.shell = shell;
+            this.lastAccess = now;
+        }
+
+        ShellWrapper shell() {
+            return shell;
+        }
+
+        void touch(long now) {
+            lastAccess = now;
+        }
+
+        void use(long now, boolean begin) {
+            if (begin) {
+                evaluations.incrementAndGet();
+            }
+            touch(now);
+        }
+
+        void end(long now) {
+            evaluations.decrementAndGet();
+            touch(now);
+        }
+
+        void markRestarted() {
+            restarted.set(true);
+        }
+
+        boolean isIdleSince(long time) {
+            return evaluations.get() == 0 && lastAccess < time;
+        }
+
+        boolean consumeRestarted() {
+            return restarted.getAndSet(false);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import io.ballerina.shell.exceptions.InvokerPanicException;
 import io.ballerina.shell.exceptions.SnippetException;
 import io.ballerina.shell.exceptions.TreeParserException;
 import io.ballerina.shell.invoker.AvailableVariable;
+import org.ballerinalang.langserver.commons.notebook.CellDeclarations;
+import org.ballerinalang.langserver.commons.notebook.Notebook;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -38,34 +40,84 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Wrapper for Ballerina Shell.
+ * <p>
+ * Each notebook gets its own wrapper, and hence its own shell state. The wrapper remembers the declarations each cell
+ * added to the shell, so that re-evaluating an edited cell replaces its previous declarations instead of
+ * accumulating them, and reports the evaluated cells depending on it as stale.
  *
  * @since 1.0.0
  */
 public class ShellWrapper {
     private final BShellConfiguration configuration;
+    private final Map<String, EvaluatedCell> evaluatedCells = new LinkedHashMap<>();
     private Evaluator evaluator;
     private File tempFile;
     private static final String TEMP_FILE_PREFIX = "temp-";
     private static final String TEMP_FILE_SUFFIX = ".bal";
     private static final String COMMAND_PREFIX = "/";
 
-    private static class InstanceHolder {
-        private static final ShellWrapper instance = new ShellWrapper();
-    }
-
-    private ShellWrapper() {
+    ShellWrapper() {
         this.configuration = new BShellConfiguration.Builder().build();
         this.initializeEvaluator();
     }
 
-    public static ShellWrapper getInstance() {
-        return InstanceHolder.instance;
+    /**
+     * Evaluates a cell of a notebook. If the cell was evaluated before with a different source, its previous
+     * declarations are removed from the shell first, and the evaluated cells referring to the previous or the new
+     * declarations are reported as stale. The other cells are left untouched.
+     *
+     * @param cellUri  uri of the cell
+     * @param source   source of the cell
+     * @param notebook notebook of the cell, if it is tracked by the language server
+     * @return result after the execution
+     */
+    public synchronized BalShellGetResultResponse getResult(String cellUri, String source, Notebook notebook) {
+        EvaluatedCell previous = evaluatedCells.get(cellUri);
+        boolean edited = previous != null && !previous.source().equals(source);
+        if (edited) {
+            removeDeclarations(previous.shellDeclarations());
+        }
+
+        BalShellGetResultResponse output = evaluate(source);
+        Set<String> shellDeclarations = new LinkedHashSet<>();
+        if (previous != null && !edited) {
+            shellDeclarations.addAll(previous.shellDeclarations());
+        }
+        if (output.getMetaInfo() != null) {
+            shellDeclarations.addAll(output.getMetaInfo().getDefinedVars());
+            shellDeclarations.addAll(output.getMetaInfo().getModuleDclns());
+        }
+        CellDeclarations declarations = Optional.ofNullable(notebook)
+                .flatMap(tracked -> tracked.cell(cellUri))
+                .filter(cell -> cell.source().equals(source))
+                .map(Notebook.Cell::declarations)
+                .orElseGet(() -> CellDeclarations.of(source));
+        evaluatedCells.put(cellUri, new EvaluatedCell(source, declarations, shellDeclarations));
+
+        if (edited) {
+            Set<String> names = new HashSet<>(previous.declarations().declaredNames());
+            names.addAll(declarations.declaredNames());
+            Set<String> dependents;
+            if (notebook != null) {
+                dependents = notebook.dependentsOf(cellUri, names);
+            } else {
+                Map<String, CellDeclarations> cellDeclarations = new LinkedHashMap<>();
+                evaluatedCells.forEach((uri, cell) -> cellDeclarations.put(uri, cell.declarations()));
+                dependents = CellDeclarations.dependents(cellDeclarations, cellUri, names);
+            }
+            output.setStaleCells(dependents.stream().filter(evaluatedCells::containsKey).toList());
+        }
+        return output;
     }
 
     /**
@@ -74,22 +126,25 @@ public class ShellWrapper {
      * @param source evaluated value
      * @return  result after the execution
      */
-    public BalShellGetResultResponse getResult(String source) {
+    public synchronized BalShellGetResultResponse getResult(String source) {
+        return evaluate(source);
+    }
+
+    private BalShellGetResultResponse evaluate(String source) {
         BalShellGetResultResponse output = new BalShellGetResultResponse();
-        PrintStream originalOut = System.out;
-        PrintStream originalErr = System.err;
         ConsoleOutCollector consoleOutCollector = new ConsoleOutCollector();
         PrintStream printStreamCollector = new PrintStream(consoleOutCollector, false, StandardCharsets.UTF_8);
         try (printStreamCollector) {
-            System.setOut(printStreamCollector);
-            System.setErr(printStreamCollector);
+            // compile and run in parallel with the other shells, each collecting the output of its own threads
+            ConsoleRouter.bind(printStreamCollector);
             ShellCompilation shellCompilation = evaluator.getCompilation(source);
             // continue the execution if the compilation is done successfully
             // info related to errors required for the Ballerina notebook in compilation
             // will include in diagnostics
             if (shellCompilation.getExceptionStatus() == ExceptionStatus.SUCCESS) {
                 Optional<PackageCompilation> compilation = shellCompilation.getPackageCompilation();
-                Optional<NotebookReturnValue> notebookReturnValue = evaluator.getValueAsObject(compilation);
+                Optional<NotebookReturnValue> notebookReturnValue =
+                        ConsoleRouter.executing(() -> evaluator.getValueAsObject(compilation));
                 if (notebookReturnValue.isPresent() &&
                         notebookReturnValue.get().getExceptionStatus() == ExceptionStatus.SUCCESS) {
                     Object out = notebookReturnValue.get().getResult();
@@ -123,8 +178,7 @@ public class ShellWrapper {
             );
             evaluator.resetDiagnostics();
             evaluator.clearPreviousVariablesAndModuleDclnsNames();
-            System.setOut(originalOut);
-            System.setErr(originalErr);
+            ConsoleRouter.unbind();
         }
         return output;
     }
@@ -134,7 +188,7 @@ public class ShellWrapper {
      *
      * @return temp file uri as a strings and its content
      */
-    public ShellFileSourceResponse getShellFileSource() {
+    public synchronized ShellFileSourceResponse getShellFileSource() {
         String fileContent;
         try {
             fileContent = Files.readString(Path.of(evaluator.getBufferFileUri()), Charset.defaultCharset()).trim();
@@ -150,7 +204,7 @@ public class ShellWrapper {
      *
      * @return list of variables with its name, type and current value
      */
-    public List<Map<String, String>> getAvailableVariables() {
+    public synchronized List<Map<String, String>> getAvailableVariables() {
         List<Map<String, String>> availableVarsMap = new ArrayList<>();
         for (AvailableVariable availableVar: evaluator.availableVariablesAsObjects()) {
             ObjectMapper oMapper = new ObjectMapper();
@@ -165,7 +219,7 @@ public class ShellWrapper {
      *
      * returns true when successfully completed else false
      */
-    public boolean deleteDeclarations(String varToDelete) {
+    public synchronized boolean deleteDeclarations(String varToDelete) {
         try {
             evaluator.delete(List.of(varToDelete));
         } catch (BallerinaShellException e) {
@@ -180,12 +234,41 @@ public class ShellWrapper {
      *
      * returns true when completed
      */
-    public boolean restart() {
+    public synchronized boolean restart() {
         this.evaluator.reset();
+        this.evaluatedCells.clear();
         this.initializeEvaluator();
         return true;
     }
 
+    /**
+     * Releases the shell state once the notebook of the shell is closed.
+     */
+    public synchronized void close() {
+        this.evaluator.reset();
+        this.evaluatedCells.clear();
+        if (this.tempFile != null) {
+            try {
+                Files.deleteIfExists(this.tempFile.toPath());
+            } catch (IOException ignored) {
+            }
+            this.tempFile = null;
+        }
+    }
+
+    private void removeDeclarations(Set<String> declarations) {
+        if (declarations.isEmpty()) {
+            return;
+        }
+        try {
+            evaluator.delete(new ArrayList<>(declarations));
+        } catch (BallerinaShellException e) {
+            // Declarations that were already deleted or redeclared by other cells
+        } finally {
+            evaluator.resetDiagnostics();
+        }
+    }
+
     private File writeToFile(String source) throws IOException {
         File tempFile = getTempBufferFile();
         try (FileWriter fileWriter = new FileWriter(tempFile, Charset.defaultCharset())) {
@@ -211,5 +294,14 @@ public class ShellWrapper {
             this.evaluator.resetDiagnostics();
         }
     }
-}
 
+    /**
+     * A cell evaluated in the shell.
+     *
+     * @param source            source the cell was evaluated with
+     * @param declarations      names declared and referred to by the source
+     * @param shellDeclarations variables and module declarations the cell added to the shell
+     */
+    private record EvaluatedCell(String source, CellDeclarations declarations, Set<String> shellDeclarations) {
+    }
+}
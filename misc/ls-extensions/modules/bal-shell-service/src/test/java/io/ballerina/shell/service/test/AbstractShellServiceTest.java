@@ -17,13 +17,13 @@
  */
 package io.ballerina.shell.service.test;
 
-import io.ballerina.shell.service.ShellWrapper;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 
 import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Base class for shell service tests.
@@ -46,7 +46,7 @@ public abstract class AbstractShellServiceTest {
     }
 
     @BeforeMethod
-    public void restartShell() {
-        ShellWrapper.getInstance().restart();
+    public void restartShell() throws ExecutionException, InterruptedException {
+        serviceEndpoint.request(NOTEBOOK_RESTART, null).get();
     }
 }
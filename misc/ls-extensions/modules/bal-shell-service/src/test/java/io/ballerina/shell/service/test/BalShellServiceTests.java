@@ -119,6 +119,31 @@ public class BalShellServiceTests extends AbstractShellServiceTest {
         });
     }
 
+    @Test(description = "Test that editing a notebook cell reports the cells depending on it as stale")
+    public void testEditNotebookCell() throws ExecutionException, InterruptedException {
+        String notebookUri = "file:///tmp/stale.cells.balnb";
+        evaluateCell(notebookUri, "cell1", "int x = 1;");
+        evaluateCell(notebookUri, "cell2", "int y = x + 1;");
+        evaluateCell(notebookUri, "cell3", "int z = 3;");
+
+        // Re-evaluating an unchanged cell does not invalidate the others
+        Assert.assertEquals(evaluateCell(notebookUri, "cell1", "int x = 1;").getStaleCells(), List.of());
+        BalShellGetResultResponse edited = evaluateCell(notebookUri, "cell1", "int x = 2;");
+        Assert.assertEquals(edited.getStaleCells(), List.of("cell2"));
+
+        // Notebooks do not share the shell state
+        CompletableFuture<?> variables = serviceEndpoint.request(GET_VARIABLES, null);
+        List<Map<String, String>> defaultVariables = (List<Map<String, String>>) variables.get();
+        Assert.assertTrue(defaultVariables.stream().noneMatch(variable -> "y".equals(variable.get("name"))));
+    }
+
+    private BalShellGetResultResponse evaluateCell(String notebookUri, String cellUri, String source)
+            throws ExecutionException, InterruptedException {
+        BalShellGetResultRequest request = new BalShellGetResultRequest(source, notebookUri, cellUri);
+        CompletableFuture<?> result = serviceEndpoint.request(GET_RESULT, request);
+        return (BalShellGetResultResponse) result.get();
+    }
+
     private void runGetResultTest(String filename) throws ExecutionException, IOException, InterruptedException {
         Path file = RES_DIR.resolve("testcases").resolve(filename);
         GetResultTestCase[] testCases = TestUtils.loadResultTestCases(file);
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.shell.service.test.unittests;
+
+import io.ballerina.shell.service.BalShellGetResultResponse;
+import io.ballerina.shell.service.ShellSessions;
+import io.ballerina.shell.service.ShellWrapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for the shell sessions of the notebooks.
+ *
+ * @since 1.3.0
+ */
+public class ShellSessionsTests {
+
+    @Test(description = "Test that notebooks and the REPL get separate shells")
+    public void testSessionIsolation() {
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMinutes(5));
+        try {
+            ShellWrapper first = sessions.get("file:///first.balnb");
+            Assert.assertSame(sessions.get("file:///first.balnb"), first);
+            Assert.assertNotSame(sessions.get("file:///second.balnb"), first);
+            ShellWrapper repl = sessions.get(null);
+            Assert.assertSame(sessions.get(null), repl);
+            Assert.assertNotSame(repl, first);
+
+            sessions.evaluate("file:///first.balnb", shell -> shell.getResult("int firstOnly = 1;")).join();
+            BalShellGetResultResponse response =
+                    sessions.evaluate("file:///second.balnb", shell -> shell.getResult("firstOnly")).join();
+            Assert.assertNull(response.getShellValue());
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    @Test(description = "Test that an evaluation past the timeout is cancelled and the notebook gets a new shell")
+    public void testEvaluationTimeout() {
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMillis(200));
+        String notebookUri = "file:///timeout.balnb";
+        try {
+            ShellWrapper shell = sessions.get(notebookUri);
+            BalShellGetResultResponse response = sessions.evaluate(notebookUri, ignored -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new BalShellGetResultResponse();
+            }).join();
+            Assert.assertEquals(response.getErrors().size(), 1);
+
+            Assert.assertNotSame(sessions.get(notebookUri), shell);
+            response = sessions.evaluate(notebookUri, newShell -> newShell.getResult("1 + 1")).join();
+            Assert.assertTrue(response.isSessionRestarted());
+            Assert.assertEquals(response.getShellValue().getValue(), "2");
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    @Test(description = "Test that a REPL request past the timeout discards the shell holding its monitor")
+    public void testReplTimeout() {
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMillis(200));
+        try {
+            ShellWrapper shell = sessions.get(null);
+            BalShellGetResultResponse response = sessions.evaluate(null, wedged -> {
+                // Holds the monitor of the shell as a snippet that does not return would
+                synchronized (wedged) {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return new BalShellGetResultResponse();
+            }).join();
+            Assert.assertEquals(response.getErrors().size(), 1);
+
+            Assert.assertNotSame(sessions.get(null), shell);
+            Assert.assertTrue(sessions.execute(null, ShellWrapper::restart, false).join());
+            response = sessions.evaluate(null, newShell -> newShell.getResult("1 + 1")).join();
+            Assert.assertTrue(response.isSessionRestarted());
+            Assert.assertEquals(response.getShellValue().getValue(), "2");
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    @Test(description = "Test that the requests other than evaluations are cancelled past the timeout")
+    public void testExecuteTimeout() {
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMillis(200));
+        String notebookUri = "file:///execute.balnb";
+        try {
+            ShellWrapper shell = sessions.get(notebookUri);
+            boolean deleted = sessions.execute(notebookUri, ignored -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }, false).join();
+            Assert.assertFalse(deleted);
+            Assert.assertNotSame(sessions.get(notebookUri), shell);
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    @Test(description = "Test that a shell is not closed as idle while a request of it runs")
+    public void testNoEvictionWhileExecuting() {
+        AtomicLong now = new AtomicLong();
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMinutes(5), now::get);
+        String notebookUri = "file:///busy.balnb";
+        try {
+            ShellWrapper shell = sessions.get(notebookUri);
+            List<Map<String, String>> variables = sessions.execute(notebookUri, busy -> {
+                now.addAndGet(Duration.ofMinutes(30).toMillis() + 1);
+                sessions.evictIdleSessions();
+                return busy.getAvailableVariables();
+            }, null).join();
+            Assert.assertNotNull(variables);
+            Assert.assertSame(sessions.get(notebookUri), shell);
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    @Test(description = "Test that idle shells are closed and the notebook continues in a new shell")
+    public void testIdleEviction() {
+        AtomicLong now = new AtomicLong();
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMinutes(5), now::get);
+        String notebookUri = "file:///idle.balnb";
+        try {
+            ShellWrapper shell = sessions.get(notebookUri);
+            now.addAndGet(Duration.ofMinutes(30).toMillis());
+            sessions.evictIdleSessions();
+            Assert.assertSame(sessions.get(notebookUri), shell);
+
+            now.addAndGet(Duration.ofMinutes(30).toMillis() + 1);
+            sessions.evictIdleSessions();
+            BalShellGetResultResponse response = sessions.evaluate(notebookUri, newShell -> newShell.getResult("1"))
+                    .join();
+            Assert.assertTrue(response.isSessionRestarted());
+            Assert.assertNotSame(sessions.get(notebookUri), shell);
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    @Test(description = "Test that the system output streams are restored once the evaluation completes")
+    public void testConsoleRestored() {
+        ShellSessions sessions = new ShellSessions(0, Duration.ofMinutes(30), Duration.ofMinutes(5));
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        try {
+            sessions.evaluate("file:///console.balnb", shell -> shell.getResult("1 + 1")).join();
+            Assert.assertSame(System.out, out);
+            Assert.assertSame(System.err, err);
+        } finally {
+            sessions.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.parsers;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A syntax tree flattened into arrays, for clients that only need the kinds and the positions of the nodes.
+ * <p>
+ * The nodes, tokens included, are listed in pre-order. Each node takes {@link #NODE_WIDTH} consecutive values of
+ * {@code nodes}: the index of its kind in {@code kinds}, the index of its parent node, or -1 for the root, and its
+ * start line, start column, end line and end column.
+ *
+ * @since 1.3.0
+ */
+public class CompactSyntaxTree {
+
+    public static final int NODE_WIDTH = 6;
+
+    private final List<String> kinds;
+    private final int[] nodes;
+
+    private CompactSyntaxTree(List<String> kinds, int[] nodes) {
+        this.kinds = kinds;
+        this.nodes = nodes;
+    }
+
+    public static CompactSyntaxTree from(Node root) {
+        List<String> kinds = new ArrayList<>();
+        Map<SyntaxKind, Integer> kindIndexes = new EnumMap<>(SyntaxKind.class);
+        List<int[]> rows = new ArrayList<>();
+        Deque<Node> nodeStack = new ArrayDeque<>();
+        Deque<Integer> parentStack = new ArrayDeque<>();
+        nodeStack.push(root);
+        parentStack.push(-1);
+        while (!nodeStack.isEmpty()) {
+            Node node = nodeStack.pop();
+            int parent = parentStack.pop();
+            int kind = kindIndexes.computeIfAbsent(node.kind(), syntaxKind -> {
+                kinds.add(syntaxKind.name());
+                return kinds.size() - 1;
+            });
+            LineRange lineRange = node.lineRange();
+            int index = rows.size();
+            rows.add(new int[]{kind, parent, lineRange.startLine().line(), lineRange.startLine().offset(),
+                    lineRange.endLine().line(), lineRange.endLine().offset()});
+
+            if (node instanceof NonTerminalNode nonTerminalNode) {
+                // Push in reverse to visit the children in order
+                List<Node> children = new ArrayList<>();
+                nonTerminalNode.children().forEach(children::add);
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    nodeStack.push(children.get(i));
+                    parentStack.push(index);
+                }
+            }
+        }
+
+        int[] nodes = new int[rows.size() * NODE_WIDTH];
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, nodes, i * NODE_WIDTH, NODE_WIDTH);
+        }
+        return new CompactSyntaxTree(kinds, nodes);
+    }
+
+    public List<String> getKinds() {
+        return kinds;
+    }
+
+    public int[] getNodes() {
+        return nodes;
+    }
+}
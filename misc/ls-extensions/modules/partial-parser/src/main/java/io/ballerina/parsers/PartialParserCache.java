@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.parsers;
+
+import com.google.gson.JsonElement;
+import io.ballerina.compiler.syntax.tree.Node;
+import org.ballerinalang.diagramutil.DiagramUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed snippets, keyed by the snippet kind and the source to parse. The least recently used
+ * snippets are evicted first. The JSON and the compact forms of a snippet are computed on the first request for each.
+ *
+ * @since 1.3.0
+ */
+final class PartialParserCache {
+
+    private final Map<SnippetKey, ParsedSnippet> snippets;
+
+    PartialParserCache(int maxSize) {
+        this.snippets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SnippetKey, ParsedSnippet> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the parsed snippet, parsing it if it is not cached. Concurrent requests for the same snippet may parse
+     * it more than once.
+     *
+     * @param kind   kind of the snippet
+     * @param source source to parse
+     * @param parser parses the source
+     * @return the parsed snippet
+     */
+    ParsedSnippet get(SnippetKind kind, String source, Function<String, Node> parser) {
+        SnippetKey key = new SnippetKey(kind, source);
+        synchronized (snippets) {
+            ParsedSnippet snippet = snippets.get(key);
+            if (snippet != null) {
+                return snippet;
+            }
+        }
+        ParsedSnippet snippet = new ParsedSnippet(parser.apply(source));
+        synchronized (snippets) {
+            snippets.put(key, snippet);
+        }
+        return snippet;
+    }
+
+    int size() {
+        synchronized (snippets) {
+            return snippets.size();
+        }
+    }
+
+    private record SnippetKey(SnippetKind kind, String source) {
+    }
+
+    /**
+     * A parsed snippet and its serialized forms.
+     *
+     * @since 1.3.0
+     */
+    static final class ParsedSnippet {
+
+        private final Node node;
+        private JsonElement json;
+        private CompactSyntaxTree compactSyntaxTree;
+
+        private ParsedSnippet(Node node) {
+            this.node = node;
+        }
+
+        synchronized JsonElement json() {
+            if (json == null) {
+                json = DiagramUtil.getSyntaxTreeJSON(node);
+            }
+            return json;
+        }
+
+        synchronized CompactSyntaxTree compact() {
+            if (compactSyntaxTree == null) {
+                compactSyntaxTree = CompactSyntaxTree.from(node);
+            }
+            return compactSyntaxTree;
+        }
+    }
+}
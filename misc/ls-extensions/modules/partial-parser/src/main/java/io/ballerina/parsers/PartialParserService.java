@@ -17,21 +17,18 @@
  */
 package io.ballerina.parsers;
 
-import com.google.gson.JsonElement;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
-import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
-import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.annotation.JavaSPIService;
-import org.ballerinalang.diagramutil.DiagramUtil;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
@@ -44,6 +41,7 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
@@ -64,6 +62,12 @@ enum Kind {
 @JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
 @JsonSegment("partialParser")
 public class PartialParserService implements ExtendedLanguageServerService {
+
+    public static final String CACHE_SIZE_PROPERTY = "ls.partialParser.cacheSize";
+    private static final int DEFAULT_CACHE_SIZE = 512;
+
+    private final PartialParserCache parserCache =
+            new PartialParserCache(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
     private LanguageServerContext serverContext;
 
     @Override
@@ -79,84 +83,50 @@ public class PartialParserService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<STResponse> getSTForSingleStatement(PartialSTRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-
-            String statement = STModificationUtil.getModifiedStatement(request.getCodeSnippet(),
-                    request.getStModification());
-            String formattedSourceCode = getFormattedSourceForBlockStatement(statement);
-            String sourceToBeParsed = getLinesWithoutLeadingTab(formattedSourceCode);
-
-            StatementNode statementNode = NodeParser.parseStatement(sourceToBeParsed);
-
-            JsonElement syntaxTreeJSON = DiagramUtil.getSyntaxTreeJSON(statementNode);
-            STResponse response = new STResponse();
-            response.setSyntaxTree(syntaxTreeJSON);
-            return response;
-        });
+        return CompletableFuture.supplyAsync(() -> getSTResponse(SnippetKind.STATEMENT, request.getCodeSnippet(),
+                request.getStModification()));
     }
 
     @JsonRequest
     public CompletableFuture<STResponse> getSTForExpression(PartialSTRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            String expression = STModificationUtil.getModifiedStatement(request.getCodeSnippet(),
-                    request.getStModification());
-            String formattedSourceCode = getFormattedSourceForExpression(expression);
-
-            ExpressionNode expressionNode = NodeParser.parseExpression(formattedSourceCode);
-            JsonElement syntaxTreeJSON = DiagramUtil.getSyntaxTreeJSON(expressionNode);
-            STResponse response = new STResponse();
-            response.setSyntaxTree(syntaxTreeJSON);
-            return response;
-        });
+        return CompletableFuture.supplyAsync(() -> getSTResponse(SnippetKind.EXPRESSION, request.getCodeSnippet(),
+                request.getStModification()));
     }
 
     @JsonRequest
     public CompletableFuture<STResponse> getSTForModuleMembers(PartialSTRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-
-            String statement = STModificationUtil.getModifiedStatement(request.getCodeSnippet(),
-                    request.getStModification());
-            String formattedSourceCode = getFormattedSource(statement);
-
-            ModuleMemberDeclarationNode expressionNode = NodeParser.parseModuleMemberDeclaration(formattedSourceCode);
-            JsonElement syntaxTreeJSON = DiagramUtil.getSyntaxTreeJSON(expressionNode);
-            STResponse response = new STResponse();
-            response.setSyntaxTree(syntaxTreeJSON);
-            return response;
-        });
+        return CompletableFuture.supplyAsync(() -> getSTResponse(SnippetKind.MODULE_MEMBER, request.getCodeSnippet(),
+                request.getStModification()));
     }
 
     @JsonRequest
     public CompletableFuture<STResponse> getSTForModulePart(PartialSTRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            String statement = STModificationUtil.getModifiedStatement(request.getCodeSnippet(),
-                    request.getStModification());
-            String formattedSourceCode = getFormattedSource(statement);
-
-            ModulePartNode modulePartNode = SyntaxTree.from(TextDocuments.from(formattedSourceCode)).rootNode();
-            JsonElement syntaxTreeJSON = DiagramUtil.getSyntaxTreeJSON(modulePartNode);
-            STResponse response = new STResponse();
-            response.setSyntaxTree(syntaxTreeJSON);
-            return response;
-        });
+        return CompletableFuture.supplyAsync(() -> getSTResponse(SnippetKind.MODULE_PART, request.getCodeSnippet(),
+                request.getStModification()));
     }
 
     @JsonRequest
     public CompletableFuture<STResponse> getSTForResource(PartialSTRequest request) {
+        return CompletableFuture.supplyAsync(() -> getSTResponse(SnippetKind.RESOURCE, request.getCodeSnippet(),
+                request.getStModification()));
+    }
+
+    /**
+     * Parses several snippets at once. The snippets are parsed in parallel, and the results are returned in the order
+     * of the snippets. A snippet that fails to parse is reported in its result without failing the others.
+     *
+     * @param request snippets to parse
+     * @return the syntax trees of the snippets
+     */
+    @JsonRequest
+    public CompletableFuture<PartialSTBatchResponse> getSTForSnippets(PartialSTBatchRequest request) {
         return CompletableFuture.supplyAsync(() -> {
-            String serviceMemberSource = "service / on new http:Listener(9090) {" + request.getCodeSnippet() + "}";
-            String statement = STModificationUtil.getModifiedStatement(serviceMemberSource,
-                    request.getStModification());
-            String formattedSourceCode = getFormattedSource(statement);
-
-            ModuleMemberDeclarationNode moduleMemberDeclaration = NodeParser.
-                    parseModuleMemberDeclaration(formattedSourceCode);
-            ServiceDeclarationNode serviceDeclaration = (ServiceDeclarationNode) moduleMemberDeclaration;
-
-            JsonElement syntaxTreeJSON = DiagramUtil.getSyntaxTreeJSON((FunctionDefinitionNode) (serviceDeclaration.
-                    members().get(0)));
-            STResponse response = new STResponse();
-            response.setSyntaxTree(syntaxTreeJSON);
+            List<PartialSTSnippet> snippets = request.getSnippets() == null ? List.of() : request.getSnippets();
+            List<PartialSTBatchResponse.Result> results = snippets.parallelStream()
+                    .map(snippet -> getBatchResult(snippet, request.isCompact()))
+                    .toList();
+            PartialSTBatchResponse response = new PartialSTBatchResponse();
+            response.setResults(results);
             return response;
         });
     }
@@ -166,6 +136,52 @@ public class PartialParserService implements ExtendedLanguageServerService {
         return Constants.CAPABILITY_NAME;
     }
 
+    private STResponse getSTResponse(SnippetKind kind, String codeSnippet, STModification stModification) {
+        STResponse response = new STResponse();
+        response.setSyntaxTree(getParsedSnippet(kind, codeSnippet, stModification).json());
+        return response;
+    }
+
+    private PartialSTBatchResponse.Result getBatchResult(PartialSTSnippet snippet, boolean compact) {
+        if (snippet.getKind() == null) {
+            return new PartialSTBatchResponse.Result(null, null, "Snippet kind is not specified");
+        }
+        try {
+            PartialParserCache.ParsedSnippet parsedSnippet =
+                    getParsedSnippet(snippet.getKind(), snippet.getCodeSnippet(), snippet.getStModification());
+            return compact ? new PartialSTBatchResponse.Result(null, parsedSnippet.compact(), null)
+                    : new PartialSTBatchResponse.Result(parsedSnippet.json(), null, null);
+        } catch (RuntimeException e) {
+            return new PartialSTBatchResponse.Result(null, null, e.getMessage() == null ? e.toString() :
+                    e.getMessage());
+        }
+    }
+
+    private PartialParserCache.ParsedSnippet getParsedSnippet(SnippetKind kind, String codeSnippet,
+                                                              STModification stModification) {
+        String snippet = kind == SnippetKind.RESOURCE
+                ? "service / on new http:Listener(9090) {" + codeSnippet + "}"
+                : codeSnippet;
+        String source = STModificationUtil.getModifiedStatement(snippet, stModification);
+        // Formatting is deterministic, hence the snippet is cached by the source before formatting
+        return parserCache.get(kind, source, modifiedSource -> parse(kind, modifiedSource));
+    }
+
+    private Node parse(SnippetKind kind, String source) {
+        return switch (kind) {
+            case STATEMENT -> NodeParser.parseStatement(
+                    getLinesWithoutLeadingTab(getFormattedSourceForBlockStatement(source)));
+            case EXPRESSION -> NodeParser.parseExpression(getFormattedSourceForExpression(source));
+            case MODULE_MEMBER -> NodeParser.parseModuleMemberDeclaration(getFormattedSource(source));
+            case MODULE_PART -> SyntaxTree.from(TextDocuments.from(getFormattedSource(source))).rootNode();
+            case RESOURCE -> {
+                ServiceDeclarationNode serviceDeclaration = (ServiceDeclarationNode) NodeParser
+                        .parseModuleMemberDeclaration(getFormattedSource(source));
+                yield (FunctionDefinitionNode) serviceDeclaration.members().get(0);
+            }
+        };
+    }
+
     private String getFormattedSource(String statement) {
 
         String formattedSourceCode = statement;
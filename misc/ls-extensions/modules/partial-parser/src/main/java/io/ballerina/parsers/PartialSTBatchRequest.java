@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.parsers;
+
+import java.util.List;
+
+/**
+ * Request format for parsing several code snippets at once.
+ *
+ * @since 1.3.0
+ */
+public class PartialSTBatchRequest {
+
+    private List<PartialSTSnippet> snippets;
+    private boolean compact;
+
+    public PartialSTBatchRequest(List<PartialSTSnippet> snippets, boolean compact) {
+        this.snippets = snippets;
+        this.compact = compact;
+    }
+
+    public List<PartialSTSnippet> getSnippets() {
+        return snippets;
+    }
+
+    public void setSnippets(List<PartialSTSnippet> snippets) {
+        this.snippets = snippets;
+    }
+
+    /**
+     * Returns whether the syntax trees should be returned as {@link CompactSyntaxTree}s instead of JSON trees.
+     *
+     * @return true for compact syntax trees
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.parsers;
+
+import com.google.gson.JsonElement;
+
+import java.util.List;
+
+/**
+ * Represents the syntax trees of a batched partial parser request, in the order of the requested snippets.
+ *
+ * @since 1.3.0
+ */
+public class PartialSTBatchResponse {
+
+    private List<Result> results;
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    /**
+     * The syntax tree of a snippet. Only one of the fields is set.
+     *
+     * @param syntaxTree        JSON syntax tree
+     * @param compactSyntaxTree compact syntax tree
+     * @param error             reason the snippet could not be parsed
+     * @since 1.3.0
+     */
+    public record Result(JsonElement syntaxTree, CompactSyntaxTree compactSyntaxTree, String error) {
+    }
+}
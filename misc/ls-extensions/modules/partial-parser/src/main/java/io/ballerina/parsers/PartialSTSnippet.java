@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.parsers;
+
+/**
+ * A code snippet of a batched partial parser request.
+ *
+ * @since 1.3.0
+ */
+public class PartialSTSnippet {
+
+    private SnippetKind kind;
+    private String codeSnippet;
+    private STModification stModification;
+
+    public PartialSTSnippet(SnippetKind kind, String codeSnippet) {
+        this(kind, codeSnippet, null);
+    }
+
+    public PartialSTSnippet(SnippetKind kind, String codeSnippet, STModification stModification) {
+        this.kind = kind;
+        this.codeSnippet = codeSnippet;
+        this.stModification = stModification;
+    }
+
+    public SnippetKind getKind() {
+        return kind;
+    }
+
+    public void setKind(SnippetKind kind) {
+        this.kind = kind;
+    }
+
+    public String getCodeSnippet() {
+        return codeSnippet;
+    }
+
+    public void setCodeSnippet(String codeSnippet) {
+        this.codeSnippet = codeSnippet;
+    }
+
+    public STModification getStModification() {
+        return stModification;
+    }
+
+    public void setStModification(STModification stModification) {
+        this.stModification = stModification;
+    }
+}
@@ -16,9 +16,17 @@
  *  under the License.
  */
 
-package io.ballerina.servicemodelgenerator.extension.model;
+package io.ballerina.parsers;
 
-import java.util.List;
-
-public record TriggerProperty(String name, String orgName, String packageName, List<String> keywords) {
+/**
+ * Kinds of code snippets the partial parser accepts.
+ *
+ * @since 1.3.0
+ */
+public enum SnippetKind {
+    STATEMENT,
+    EXPRESSION,
+    MODULE_MEMBER,
+    MODULE_PART,
+    RESOURCE
 }
@@ -31,6 +31,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -43,6 +44,7 @@ public class PartialParserTests {
     private static final String MODULE_MEMBER = "partialParser/getSTForModuleMembers";
     private static final String MODULE_PART = "partialParser/getSTForModulePart";
     private static final String RESOURCE = "partialParser/getSTForResource";
+    private static final String SNIPPETS = "partialParser/getSTForSnippets";
 
     private static final Path RES_DIR = Path.of("src/test/resources/").toAbsolutePath();
     private static final Path ST_WINDOWS = RES_DIR.resolve("syntax-tree").resolve("windows");
@@ -220,6 +222,34 @@ public class PartialParserTests {
         Assert.assertEquals(json.getSyntaxTree(), expected);
     }
 
+    @Test(description = "Test getting STs for a batch of snippets")
+    public void testSTForSnippets() throws ExecutionException, InterruptedException, IOException {
+        String expression = "(population - infantCount) * 20;";
+        List<PartialSTSnippet> snippets = List.of(
+                new PartialSTSnippet(SnippetKind.EXPRESSION, expression),
+                new PartialSTSnippet(SnippetKind.RESOURCE, Files.readString(sampleResource)),
+                new PartialSTSnippet(null, expression));
+        CompletableFuture<?> result = serviceEndpoint.request(SNIPPETS, new PartialSTBatchRequest(snippets, false));
+        List<PartialSTBatchResponse.Result> results = ((PartialSTBatchResponse) result.get()).getResults();
+
+        Assert.assertEquals(results.size(), 3);
+        Assert.assertEquals(results.get(0).syntaxTree(),
+                JsonParser.parseReader(new BufferedReader(getFileReader("expression.json"))));
+        Assert.assertEquals(results.get(1).syntaxTree(),
+                JsonParser.parseReader(new BufferedReader(getFileReader("sample_resource.json"))));
+        Assert.assertNull(results.get(2).syntaxTree());
+        Assert.assertNotNull(results.get(2).error());
+
+        result = serviceEndpoint.request(SNIPPETS, new PartialSTBatchRequest(snippets.subList(0, 1), true));
+        CompactSyntaxTree compactSyntaxTree =
+                ((PartialSTBatchResponse) result.get()).getResults().get(0).compactSyntaxTree();
+        Assert.assertNotNull(compactSyntaxTree);
+        int[] nodes = compactSyntaxTree.getNodes();
+        Assert.assertEquals(nodes.length % CompactSyntaxTree.NODE_WIDTH, 0);
+        Assert.assertEquals(compactSyntaxTree.getKinds().get(nodes[0]), "BINARY_EXPRESSION");
+        Assert.assertEquals(nodes[1], -1);
+    }
+
     private FileReader getFileReader(String fileName) throws FileNotFoundException {
         FileReader fileReader;
         if (System.getProperty("os.name").startsWith("Windows")) {
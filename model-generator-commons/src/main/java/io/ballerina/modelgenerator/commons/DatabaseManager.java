@@ -18,6 +18,9 @@
 
 package io.ballerina.modelgenerator.commons;
 
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
+
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
@@ -78,6 +81,7 @@ public class DatabaseManager {
         } catch (IOException e) {
             throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
         }
+        IndexDelta.applyDeltas(tempFile, INDEX_FILE_NAME);
 
         dbPath = "jdbc:sqlite:" + tempFile.toString();
     }
@@ -104,7 +108,8 @@ public class DatabaseManager {
                 "LIMIT ? " +
                 "OFFSET ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getAllFunctions");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
@@ -155,7 +160,8 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.kind = ? AND p.org = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getFunctionsByOrg");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
@@ -212,7 +218,8 @@ public class DatabaseManager {
                 "OFFSET ?;";
         String wildcardKeyword = "%" + queryMap.get("q") + "%";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchFunctions");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, kind.name());
             stmt.setString(2, wildcardKeyword);
@@ -272,7 +279,8 @@ public class DatabaseManager {
             sql.append("AND f.resource_path = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getFunction");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             stmt.setString(1, org);
             stmt.setString(2, packageName);
@@ -325,7 +333,8 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getFunction");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
             ResultSet rs = stmt.executeQuery();
@@ -367,7 +376,8 @@ public class DatabaseManager {
                 "p.import_statements " +
                 "FROM Parameter p " +
                 "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getFunctionParameters");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
             ResultSet rs = stmt.executeQuery();
@@ -416,7 +426,8 @@ public class DatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getFunctionParametersAsMap");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
             ResultSet rs = stmt.executeQuery();
@@ -527,7 +538,8 @@ public class DatabaseManager {
                 "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
                 "WHERE fc.connector_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getConnectorActions");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, connectorId);
             ResultSet rs = stmt.executeQuery();
@@ -578,7 +590,8 @@ public class DatabaseManager {
                 "AND p.package_name = ? " +
                 "AND c.kind = 'CONNECTOR';";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("getMethods");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, connectorName);
             stmt.setString(2, org);
@@ -648,7 +661,8 @@ public class DatabaseManager {
 
         sql.append("LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchFunctionsInPackages");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             int paramIndex = 1;
 
@@ -696,4 +710,8 @@ public class DatabaseManager {
             return List.of();
         }
     }
+
+    private static OperationSpan querySpan(String query) {
+        return OperationTracer.getInstance().startSpan("db/functions/", query);
+    }
 }
@@ -133,6 +133,7 @@ public class FunctionDataBuilder {
     private Project project;
     private boolean isCurrentModule;
     private boolean disableIndex;
+    private FunctionDataCache.Scope cacheScope;
 
     public static final String REST_RESOURCE_PATH = "/path/to/subdirectory";
     public static final String REST_PARAM_PATH = "/path/to/resource";
@@ -255,6 +256,17 @@ public class FunctionDataBuilder {
         return this;
     }
 
+    /**
+     * Reuses the function data built within the given scope for the same function, and caches the result otherwise.
+     *
+     * @param cacheScope scope of the user's package compilation
+     * @return this builder
+     */
+    public FunctionDataBuilder cache(FunctionDataCache.Scope cacheScope) {
+        this.cacheScope = cacheScope;
+        return this;
+    }
+
     private void setParentSymbol(Stream<Symbol> symbolStream, String parentSymbolName) {
         this.parentSymbol = symbolStream
                 .filter(symbol -> symbol.kind() == SymbolKind.VARIABLE && symbol.nameEquals(parentSymbolName))
@@ -265,6 +277,31 @@ public class FunctionDataBuilder {
     }
 
     public FunctionData build() {
+        FunctionDataCache.Key cacheKey = cacheScope == null ? null : cacheKey();
+        if (cacheKey == null) {
+            return buildFunctionData();
+        }
+        return cacheScope.get(cacheKey, this::buildFunctionData);
+    }
+
+    private FunctionDataCache.Key cacheKey() {
+        String name = functionName;
+        if (name == null && functionSymbol != null) {
+            name = functionSymbol.getName().orElse(null);
+        }
+        if (name == null || moduleInfo == null) {
+            return null;
+        }
+        String parent = parentSymbol != null ? parentSymbol.signature() : parentSymbolType;
+        String location = functionSymbol == null ? null : functionSymbol.getLocation()
+                .map(symbolLocation -> symbolLocation.lineRange().toString())
+                .orElse(null);
+        return new FunctionDataCache.Key(moduleInfo, userModuleInfo, parent, name,
+                functionKind == null ? FunctionData.Kind.FUNCTION : functionKind, resourcePath, location,
+                !disableIndex);
+    }
+
+    private FunctionData buildFunctionData() {
         // The function name is required to build the FunctionResult
         if (this.functionName == null) {
             if (functionSymbol == null) {
@@ -560,6 +597,16 @@ public class FunctionDataBuilder {
     }
 
     public List<FunctionData> buildChildNodes() {
+        if (cacheScope == null || moduleInfo == null || (parentSymbol == null && parentSymbolType == null)) {
+            return buildChildNodeList();
+        }
+        String parent = parentSymbol != null ? parentSymbol.signature() : parentSymbolType;
+        FunctionDataCache.Key cacheKey = new FunctionDataCache.Key(moduleInfo, userModuleInfo, parent, null, null,
+                null, null, !disableIndex);
+        return cacheScope.getChildNodes(cacheKey, this::buildChildNodeList);
+    }
+
+    private List<FunctionData> buildChildNodeList() {
         if (parentSymbolType != null && moduleInfo != null) {
             List<FunctionData> fetchedMethods = getMethodsFromIndex();
             if (!fetchedMethods.isEmpty()) {
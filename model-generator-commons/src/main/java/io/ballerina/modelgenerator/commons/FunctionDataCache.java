@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.Package;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the {@link FunctionData} built by the {@link FunctionDataBuilder}.
+ * <p>
+ * The function data is kept per {@link Scope}, which is bound to a compilation of the user's package. The project API
+ * creates a new package instance whenever a document of the package changes, so the scope of a package instance is
+ * dropped once the instance is no longer referenced. Each scope keeps the most recently used entries up to a bound.
+ *
+ * @since 1.3.0
+ */
+public final class FunctionDataCache {
+
+    public static final String MAX_ENTRIES_PROPERTY = "ls.functionDataCache.maxEntries";
+    private static final int DEFAULT_MAX_ENTRIES = 2048;
+
+    private final int maxEntries;
+    private final Map<Package, Scope> scopes = new WeakHashMap<>();
+
+    private static class Holder {
+
+        private static final FunctionDataCache INSTANCE =
+                new FunctionDataCache(Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES));
+    }
+
+    public static FunctionDataCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public FunctionDataCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the scope of the given compilation of the user's package.
+     *
+     * @param currentPackage package instance of the compilation
+     * @return the scope of the compilation
+     */
+    public Scope scope(Package currentPackage) {
+        synchronized (scopes) {
+            return scopes.computeIfAbsent(currentPackage, pkg -> new Scope(maxEntries));
+        }
+    }
+
+    /**
+     * Function data resolved within a compilation of the user's package. A scope can be shared by concurrent requests.
+     *
+     * @since 1.3.0
+     */
+    public static final class Scope {
+
+        private final Map<Key, FunctionData> entries;
+        private final Map<Key, List<FunctionData>> childNodes;
+
+        private Scope(int maxEntries) {
+            this.entries = boundedMap(maxEntries);
+            this.childNodes = boundedMap(maxEntries);
+        }
+
+        private static <V> Map<Key, V> boundedMap(int maxEntries) {
+            return new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        /**
+         * Returns the cached function data, building it if it is not cached. Concurrent requests for the same function
+         * may build it more than once. The function data returned must not be modified.
+         *
+         * @param key     identifies the function
+         * @param builder builds the function data
+         * @return the function data
+         */
+        FunctionData get(Key key, Supplier<FunctionData> builder) {
+            return get(entries, key, builder);
+        }
+
+        /**
+         * Returns the cached methods of a class, building them if they are not cached.
+         *
+         * @param key     identifies the class
+         * @param builder builds the function data of the methods
+         * @return the unmodifiable list of the function data
+         */
+        List<FunctionData> getChildNodes(Key key, Supplier<List<FunctionData>> builder) {
+            return get(childNodes, key, () -> List.copyOf(builder.get()));
+        }
+
+        private static <V> V get(Map<Key, V> map, Key key, Supplier<V> builder) {
+            synchronized (map) {
+                V value = map.get(key);
+                if (value != null) {
+                    return value;
+                }
+            }
+            V value = builder.get();
+            synchronized (map) {
+                map.put(key, value);
+            }
+            return value;
+        }
+
+        public int size() {
+            synchronized (entries) {
+                synchronized (childNodes) {
+                    return entries.size() + childNodes.size();
+                }
+            }
+        }
+    }
+
+    /**
+     * Identifies the function data built by a {@link FunctionDataBuilder}.
+     *
+     * @param moduleInfo     module of the function
+     * @param userModuleInfo module the function is used from
+     * @param parent         parent type of the function, if any
+     * @param functionName   name of the function
+     * @param kind           kind of the function
+     * @param resourcePath   resource path of the function, if a resource
+     * @param location       definition of the function symbol, if it is given
+     * @param indexed        whether the function can be read from the index
+     */
+    record Key(ModuleInfo moduleInfo, ModuleInfo userModuleInfo, String parent, String functionName,
+               FunctionData.Kind kind, String resourcePath, String location, boolean indexed) {
+    }
+}
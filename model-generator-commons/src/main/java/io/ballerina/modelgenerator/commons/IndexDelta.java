@@ -0,0 +1,365 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Delta between two revisions of an index database.
+ * <p>
+ * A delta is an SQLite file holding the ids of the packages removed since the base revision, and the rows of the
+ * packages added since then, with the ids they were given in the new revision. The rows of a package are the rows of
+ * the {@code Package} table and the rows of the tables referring to them through foreign keys, directly or
+ * transitively. Hence, a delta can only be applied to a database at its base revision, where the removed packages and
+ * their rows can be deleted by their ids, and the added rows keep their ids.
+ *
+ * @since 1.3.0
+ */
+public final class IndexDelta {
+
+    public static final String DELTA_DIR_PROPERTY = "ls.index.deltaDir";
+    public static final String DELTA_FILE_EXTENSION = ".delta";
+    static final String INFO_TABLE = "IndexInfo";
+    static final String REVISION_KEY = "revision";
+    private static final String PACKAGE_TABLE = "Package";
+    private static final String DELTA_INFO_TABLE = "DeltaInfo";
+    private static final String REMOVED_PACKAGE_TABLE = "RemovedPackage";
+    private static final String BASE_REVISION_KEY = "base_revision";
+    private static final Logger LOGGER = Logger.getLogger(IndexDelta.class.getName());
+
+    private IndexDelta() {
+    }
+
+    /**
+     * Applies the deltas found in the delta directory to the given index database. The deltas of the index are the
+     * files named {@code <index name>*.delta}, and are applied in the order of their revisions, starting from the
+     * revision of the database.
+     *
+     * @param database      path of the database
+     * @param indexFileName file name of the bundled index, e.g. {@code central-index.sqlite}
+     * @return number of deltas applied
+     */
+    public static int applyDeltas(Path database, String indexFileName) {
+        Path deltaDir = Path.of(System.getProperty(DELTA_DIR_PROPERTY,
+                Path.of(System.getProperty("user.home"), ".ballerina", "ls-index").toString()));
+        if (!Files.isDirectory(deltaDir)) {
+            return 0;
+        }
+
+        String indexName = indexFileName.endsWith(".sqlite")
+                ? indexFileName.substring(0, indexFileName.length() - ".sqlite".length())
+                : indexFileName;
+        int applied = 0;
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + database)) {
+            Optional<String> revision = revision(conn);
+            if (revision.isEmpty()) {
+                return 0;
+            }
+
+            // Index the deltas by their base revision, so that they can be chained
+            Map<String, Path> deltas = new HashMap<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(deltaDir,
+                    indexName + "*" + DELTA_FILE_EXTENSION)) {
+                for (Path deltaFile : stream) {
+                    readDeltaInfo(conn, deltaFile).ifPresent(info -> deltas.put(info.get(BASE_REVISION_KEY),
+                            deltaFile));
+                }
+            }
+
+            String current = revision.get();
+            Path deltaFile;
+            while ((deltaFile = deltas.remove(current)) != null) {
+                current = apply(conn, deltaFile);
+                applied++;
+            }
+        } catch (IOException | SQLException e) {
+            LOGGER.severe("Error applying the index deltas of " + indexFileName + ": " + e.getMessage());
+        }
+        if (applied > 0) {
+            LOGGER.info("Applied " + applied + " delta(s) to " + indexFileName);
+        }
+        return applied;
+    }
+
+    /**
+     * Writes the delta between the base revision and the current revision of the database.
+     *
+     * @param conn            connection to the database at the current revision
+     * @param deltaFile       file to write the delta to
+     * @param baseRevision    revision the delta applies to
+     * @param revision        current revision of the database
+     * @param removedPackages ids of the packages removed since the base revision
+     * @param addedPackages   ids of the packages added since the base revision
+     * @throws SQLException if the delta cannot be written
+     * @throws IOException  if the existing delta file cannot be replaced
+     */
+    static void write(Connection conn, Path deltaFile, String baseRevision, String revision,
+                      Collection<Integer> removedPackages, Collection<Integer> addedPackages)
+            throws SQLException, IOException {
+        Files.deleteIfExists(deltaFile);
+        Map<String, String> packageRows = packageRows(conn, addedPackages);
+        try (Statement stmt = conn.createStatement()) {
+            attach(conn, deltaFile);
+            try {
+                stmt.executeUpdate("CREATE TABLE delta." + DELTA_INFO_TABLE + " (key TEXT PRIMARY KEY, value TEXT)");
+                try (PreparedStatement info = conn.prepareStatement(
+                        "INSERT INTO delta." + DELTA_INFO_TABLE + " (key, value) VALUES (?, ?)")) {
+                    info.setString(1, BASE_REVISION_KEY);
+                    info.setString(2, baseRevision);
+                    info.addBatch();
+                    info.setString(1, REVISION_KEY);
+                    info.setString(2, revision);
+                    info.addBatch();
+                    info.executeBatch();
+                }
+                stmt.executeUpdate("CREATE TABLE delta." + REMOVED_PACKAGE_TABLE + " (package_id INTEGER)");
+                if (!removedPackages.isEmpty()) {
+                    stmt.executeUpdate("INSERT INTO delta." + REMOVED_PACKAGE_TABLE + " (package_id) VALUES " +
+                            removedPackages.stream().map(id -> "(" + id + ")").collect(Collectors.joining(", ")));
+                }
+
+                // Copy the rows of the added packages
+                for (Map.Entry<String, String> entry : packageRows.entrySet()) {
+                    stmt.executeUpdate("CREATE TABLE delta." + quote(entry.getKey()) + " AS SELECT * FROM main." +
+                            quote(entry.getKey()) + " WHERE " + entry.getValue());
+                }
+            } finally {
+                stmt.executeUpdate("DETACH DATABASE delta");
+            }
+        }
+    }
+
+    private static String apply(Connection conn, Path deltaFile) throws SQLException {
+        List<String> tables = tableNames(conn, "main");
+        try (Statement stmt = conn.createStatement()) {
+            attach(conn, deltaFile);
+            conn.setAutoCommit(false);
+            try {
+                Map<String, String> info = deltaInfo(conn);
+                List<Integer> removedPackages = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery("SELECT package_id FROM delta." + REMOVED_PACKAGE_TABLE)) {
+                    while (rs.next()) {
+                        removedPackages.add(rs.getInt(1));
+                    }
+                }
+                deletePackages(conn, removedPackages);
+                List<String> deltaTables = tableNames(conn, "delta");
+                for (String table : tables) {
+                    if (deltaTables.contains(table)) {
+                        stmt.executeUpdate("INSERT INTO main." + quote(table) + " SELECT * FROM delta." +
+                                quote(table));
+                    }
+                }
+                setRevision(conn, info.get(REVISION_KEY));
+                conn.commit();
+                return info.get(REVISION_KEY);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                stmt.executeUpdate("DETACH DATABASE delta");
+            }
+        }
+    }
+
+    /**
+     * Deletes the given packages along with the rows referring to them. The referring rows are deleted first, so that
+     * the triggers on them can still look up their packages.
+     *
+     * @param conn       connection to the database
+     * @param packageIds ids of the packages
+     * @throws SQLException if the rows cannot be deleted
+     */
+    static void deletePackages(Connection conn, Collection<Integer> packageIds) throws SQLException {
+        if (packageIds.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, String>> packageRows = new ArrayList<>(packageRows(conn, packageIds).entrySet());
+        try (Statement stmt = conn.createStatement()) {
+            for (int i = packageRows.size() - 1; i >= 0; i--) {
+                stmt.executeUpdate("DELETE FROM main." + quote(packageRows.get(i).getKey()) + " WHERE " +
+                        packageRows.get(i).getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the conditions selecting the rows of the given packages in each table, following the foreign keys from
+     * the package table. The tables are ordered so that a table comes after the table it refers to.
+     */
+    private static Map<String, String> packageRows(Connection conn, Collection<Integer> packageIds)
+            throws SQLException {
+        Map<String, String> packageRows = new LinkedHashMap<>();
+        packageRows.put(PACKAGE_TABLE, quote(primaryKey(conn, PACKAGE_TABLE)) + " IN (" + packageIds.stream()
+                .map(String::valueOf).collect(Collectors.joining(", ")) + ")");
+        Map<String, ForeignKey> pending = foreignKeys(conn);
+        boolean progressed = true;
+        while (progressed) {
+            progressed = false;
+            for (Map.Entry<String, ForeignKey> entry : new ArrayList<>(pending.entrySet())) {
+                ForeignKey foreignKey = entry.getValue();
+                String parentRows = packageRows.get(foreignKey.parent());
+                if (parentRows == null) {
+                    continue;
+                }
+                packageRows.put(entry.getKey(), quote(foreignKey.column()) + " IN (SELECT " +
+                        quote(foreignKey.parentColumn()) + " FROM main." + quote(foreignKey.parent()) + " WHERE " +
+                        parentRows + ")");
+                pending.remove(entry.getKey());
+                progressed = true;
+            }
+        }
+        return packageRows;
+    }
+
+    static Optional<String> revision(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type = 'table' " +
+                    "AND name = '" + INFO_TABLE + "'")) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT value FROM " + INFO_TABLE + " WHERE key = '" +
+                    REVISION_KEY + "'")) {
+                return rs.next() ? Optional.ofNullable(rs.getString(1)) : Optional.empty();
+            }
+        }
+    }
+
+    static void setRevision(Connection conn, String revision) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS main." + INFO_TABLE +
+                    " (key TEXT PRIMARY KEY, value TEXT)");
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT OR REPLACE INTO main." + INFO_TABLE + " (key, value) VALUES (?, ?)")) {
+            stmt.setString(1, REVISION_KEY);
+            stmt.setString(2, revision);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static Optional<Map<String, String>> readDeltaInfo(Connection conn, Path deltaFile) {
+        try (Statement stmt = conn.createStatement()) {
+            attach(conn, deltaFile);
+            try {
+                return Optional.of(deltaInfo(conn));
+            } finally {
+                stmt.executeUpdate("DETACH DATABASE delta");
+            }
+        } catch (SQLException e) {
+            LOGGER.warning("Skipping the invalid index delta " + deltaFile + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> deltaInfo(Connection conn) throws SQLException {
+        Map<String, String> info = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT key, value FROM delta." + DELTA_INFO_TABLE)) {
+            while (rs.next()) {
+                info.put(rs.getString(1), rs.getString(2));
+            }
+        }
+        if (!info.containsKey(BASE_REVISION_KEY) || !info.containsKey(REVISION_KEY)) {
+            throw new SQLException("The delta does not record its revisions");
+        }
+        return info;
+    }
+
+    private static void attach(Connection conn, Path deltaFile) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("ATTACH DATABASE ? AS delta")) {
+            stmt.setString(1, deltaFile.toString());
+            stmt.execute();
+        }
+    }
+
+    /**
+     * Returns the tables of a database in the order they were created, which has the referred tables first.
+     */
+    private static List<String> tableNames(Connection conn, String schema) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name FROM " + schema + ".sqlite_master WHERE type = 'table' " +
+                     "AND name NOT LIKE 'sqlite_%' AND sql NOT LIKE 'CREATE VIRTUAL%' ORDER BY rowid")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the first foreign key of each table of the main database that has one.
+     */
+    private static Map<String, ForeignKey> foreignKeys(Connection conn) throws SQLException {
+        Map<String, ForeignKey> foreignKeys = new LinkedHashMap<>();
+        for (String table : tableNames(conn, "main")) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("PRAGMA main.foreign_key_list(" + quote(table) + ")")) {
+                if (rs.next()) {
+                    String parent = rs.getString("table");
+                    String parentColumn = rs.getString("to");
+                    foreignKeys.put(table, new ForeignKey(rs.getString("from"), parent,
+                            parentColumn != null ? parentColumn : primaryKey(conn, parent)));
+                }
+            }
+        }
+        return foreignKeys;
+    }
+
+    static String primaryKey(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA main.table_info(" + quote(table) + ")")) {
+            while (rs.next()) {
+                if (rs.getInt("pk") == 1) {
+                    return rs.getString("name");
+                }
+            }
+        }
+        throw new SQLException("No primary key found for the table: " + table);
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    private record ForeignKey(String column, String parent, String parentColumn) {
+    }
+}
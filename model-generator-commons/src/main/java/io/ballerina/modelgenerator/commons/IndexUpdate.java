@@ -0,0 +1,265 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Tracks the packages written by an index generator, so that an index can be updated incrementally.
+ * <p>
+ * The content hash of each package is recorded in the {@code content_hash} column of the {@code Package} table. In
+ * the incremental mode, enabled with the {@value #INCREMENTAL_PROPERTY} system property, a package whose hash is
+ * unchanged is skipped, a changed package replaces the rows of its previous version, and the packages that are no
+ * longer listed are removed. Each run assigns a new revision to the index, and if the {@value #DELTA_PROPERTY} system
+ * property is set, an incremental run writes the {@link IndexDelta} from the previous revision to that file.
+ * <p>
+ * The rows of a changed package are deleted through the connection of the writer, within the transaction the package
+ * is written in, so that the package is either replaced or left as it was. The own connection of the tracker only
+ * writes once the packages are written.
+ *
+ * @since 1.3.0
+ */
+public final class IndexUpdate implements AutoCloseable {
+
+    public static final String INCREMENTAL_PROPERTY = "index.incremental";
+    public static final String DELTA_PROPERTY = "index.delta";
+    private static final Logger LOGGER = Logger.getLogger(IndexUpdate.class.getName());
+
+    private final Connection connection;
+    private final String packageNameColumn;
+    private final String packageKey;
+    private final String baseRevision;
+    private final Map<String, String> indexedHashes = new HashMap<>();
+    private final Set<String> listedPackages = new HashSet<>();
+    private final List<Integer> removedPackages = new ArrayList<>();
+    private final List<Integer> addedPackages = new ArrayList<>();
+
+    /**
+     * Creates the tracker of an index database.
+     *
+     * @param dbPath            JDBC URL of the database
+     * @param packageNameColumn column of the package table holding the package name
+     * @throws SQLException if the state of the index cannot be read
+     */
+    public IndexUpdate(String dbPath, String packageNameColumn) throws SQLException {
+        this.connection = DriverManager.getConnection(dbPath);
+        this.packageNameColumn = packageNameColumn;
+        try (Statement stmt = connection.createStatement()) {
+            this.packageKey = IndexDelta.primaryKey(connection, "Package");
+            this.baseRevision = isIncremental() ? IndexDelta.revision(connection).orElse(null) : null;
+            try (ResultSet rs = stmt.executeQuery("SELECT org, " + packageNameColumn + ", content_hash " +
+                    "FROM Package")) {
+                while (rs.next()) {
+                    indexedHashes.put(packageKey(rs.getString(1), rs.getString(2)), rs.getString(3));
+                }
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the generator runs in the incremental mode, in which an existing index is updated instead of
+     * being created afresh.
+     *
+     * @return true if the index is to be updated incrementally
+     */
+    public static boolean isIncremental() {
+        return Boolean.getBoolean(INCREMENTAL_PROPERTY);
+    }
+
+    /**
+     * Computes the content hash of a package from the inputs it is indexed with.
+     *
+     * @param parts inputs of the package, e.g. its entry in the package list
+     * @return the hex encoded SHA-256 hash
+     */
+    public static String contentHash(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Records that the package is listed, and checks whether it is already indexed with the same content.
+     *
+     * @param org         organization of the package
+     * @param packageName name of the package
+     * @param contentHash content hash of the package
+     * @return true if the package can be skipped
+     */
+    public synchronized boolean isIndexed(String org, String packageName, String contentHash) {
+        String key = packageKey(org, packageName);
+        listedPackages.add(key);
+        return contentHash.equals(indexedHashes.get(key));
+    }
+
+    /**
+     * Deletes the rows of the previously indexed version of the package, if any, through the connection of the
+     * writer. Called before the package is written, in the same transaction. The returned ids are to be passed to
+     * {@link #removed(String, String, Collection)} once the transaction is committed.
+     *
+     * @param writer      connection the package is written through
+     * @param org         organization of the package
+     * @param packageName name of the package
+     * @return ids of the deleted package rows
+     * @throws SQLException if the rows cannot be deleted
+     */
+    public List<Integer> replace(Connection writer, String org, String packageName) throws SQLException {
+        synchronized (this) {
+            if (!indexedHashes.containsKey(packageKey(org, packageName))) {
+                return List.of();
+            }
+        }
+        List<Integer> packageIds = new ArrayList<>();
+        try (PreparedStatement stmt = writer.prepareStatement("SELECT " + packageKey +
+                " FROM Package WHERE org = ? AND " + packageNameColumn + " = ?")) {
+            stmt.setString(1, org);
+            stmt.setString(2, packageName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    packageIds.add(rs.getInt(1));
+                }
+            }
+        }
+        IndexDelta.deletePackages(writer, packageIds);
+        return packageIds;
+    }
+
+    /**
+     * Removes the rows of the previously indexed version of the package, if any, for a writer that commits each
+     * statement on its own.
+     *
+     * @param org         organization of the package
+     * @param packageName name of the package
+     */
+    public synchronized void replace(String org, String packageName) {
+        try {
+            removed(org, packageName, replace(connection, org, packageName));
+        } catch (SQLException e) {
+            LOGGER.severe("Error removing the package " + org + "/" + packageName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the package rows deleted by {@link #replace(Connection, String, String)}, once they are committed.
+     *
+     * @param org         organization of the package
+     * @param packageName name of the package
+     * @param packageIds  ids of the deleted package rows
+     */
+    public synchronized void removed(String org, String packageName, Collection<Integer> packageIds) {
+        indexedHashes.remove(packageKey(org, packageName));
+        removedPackages.addAll(packageIds);
+    }
+
+    /**
+     * Records a package row written to the index.
+     *
+     * @param packageId id of the package row
+     */
+    public synchronized void added(int packageId) {
+        addedPackages.add(packageId);
+    }
+
+    /**
+     * Removes the packages that are no longer listed, assigns a new revision to the index and writes the delta if
+     * requested. Called once all the packages are written.
+     */
+    public synchronized void finish() {
+        String revision = UUID.randomUUID().toString();
+        try {
+            // The unlisted packages are removed along with the new revision, so that a failed run leaves the index
+            // at its previous revision
+            connection.setAutoCommit(false);
+            try {
+                Map<String, List<Integer>> unlisted = new HashMap<>();
+                for (String key : indexedHashes.keySet()) {
+                    if (!listedPackages.contains(key)) {
+                        String[] parts = key.split("/", 2);
+                        unlisted.put(key, replace(connection, parts[0], parts[1]));
+                    }
+                }
+                IndexDelta.setRevision(connection, revision);
+                connection.commit();
+                unlisted.forEach((key, packageIds) -> {
+                    indexedHashes.remove(key);
+                    removedPackages.addAll(packageIds);
+                });
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            LOGGER.info("Index revision: " + revision + " (" + addedPackages.size() + " added, " +
+                    removedPackages.size() + " removed)");
+            Optional<Path> deltaFile = Optional.ofNullable(System.getProperty(DELTA_PROPERTY)).map(Path::of);
+            if (deltaFile.isEmpty()) {
+                return;
+            }
+            if (baseRevision == null) {
+                LOGGER.warning("Skipping the delta, since the index was not updated incrementally from a revision");
+                return;
+            }
+            IndexDelta.write(connection, deltaFile.get(), baseRevision, revision, removedPackages, addedPackages);
+            LOGGER.info("Index delta written to " + deltaFile.get());
+        } catch (SQLException | IOException e) {
+            LOGGER.severe("Error writing the index revision: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    private static String packageKey(String org, String packageName) {
+        return org + "/" + packageName;
+    }
+}
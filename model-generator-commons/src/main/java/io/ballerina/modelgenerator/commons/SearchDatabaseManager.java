@@ -18,6 +18,9 @@
 
 package io.ballerina.modelgenerator.commons;
 
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
+
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
@@ -81,6 +84,7 @@ public class SearchDatabaseManager {
         } catch (IOException e) {
             throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
         }
+        IndexDelta.applyDeltas(tempFile, INDEX_FILE_NAME);
 
         dbPath = "jdbc:sqlite:" + tempFile;
     }
@@ -116,7 +120,8 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchFunctions");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, sanitizeQuery(q) + "*");
@@ -178,7 +183,8 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchConnectors");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, sanitizeQuery(q) + "*");
@@ -251,7 +257,8 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchFunctionsByPackages");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
 
             // Set parameters for package names
@@ -327,7 +334,8 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchConnectorsByPackage");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
 
             // Set parameters for package names and connector names
@@ -394,7 +402,8 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchTypes");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, sanitizeQuery(q) + "*");
@@ -455,7 +464,8 @@ public class SearchDatabaseManager {
                 .append(")");
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (OperationSpan ignored = querySpan("searchTypesByPackages");
+             Connection conn = DriverManager.getConnection(dbPath);
              PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
 
             // Set parameters for package names
@@ -498,4 +508,7 @@ public class SearchDatabaseManager {
                 .trim();
     }
 
+    private static OperationSpan querySpan(String query) {
+        return OperationTracer.getInstance().startSpan("db/search/", query);
+    }
 }
@@ -19,13 +19,13 @@
 package io.ballerina.modelgenerator.commons;
 
 import io.ballerina.compiler.api.symbols.AnnotationAttachPoint;
+import org.ballerinalang.langserver.commons.metrics.OperationSpan;
+import org.ballerinalang.langserver.commons.metrics.OperationTracer;
 
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -33,19 +33,42 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
  * Manages database operations for retrieving information about external connectors and functions.
+ * <p>
+ * The queries run on a pool of connections that keep their prepared statements. The index is not modified once it is
+ * loaded, so the service declarations and the trigger pages read from it are kept in memory, up to a bound on the
+ * number of entries.
  *
  * @since 1.0.0
  */
 public class ServiceDatabaseManager {
 
+    public static final String CACHE_SIZE_PROPERTY = "ls.serviceIndex.cacheSize";
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static final int MAX_IDLE_CONNECTIONS = 4;
     private static final String INDEX_FILE_NAME = "service-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(ServiceDatabaseManager.class.getName());
-    private final String dbPath;
+    private static final String TRIGGER_SELECT = "SELECT " +
+            "st.trigger_key, " +
+            "s.display_name, " +
+            "s.kind, " +
+            "p.package_id, " +
+            "p.org, " +
+            "p.name AS package_name, " +
+            "p.version " +
+            "FROM ServiceTrigger st " +
+            "JOIN Package p ON st.package_id = p.package_id " +
+            "JOIN ServiceDeclaration s ON s.package_id = p.package_id ";
+    private final StatementPool pool;
+    private final Map<PackageKey, Optional<ServiceDeclaration>> serviceDeclarations;
+    private final Map<TriggerQuery, List<ServiceTrigger>> triggers;
+
     private static class Holder {
 
         private static final ServiceDatabaseManager INSTANCE = new ServiceDatabaseManager();
@@ -79,8 +102,45 @@ public class ServiceDatabaseManager {
         } catch (IOException e) {
             throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
         }
+        IndexDelta.applyDeltas(tempFile, INDEX_FILE_NAME);
+
+        pool = new StatementPool("jdbc:sqlite:" + tempFile, MAX_IDLE_CONNECTIONS);
+        int cacheSize = Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+        serviceDeclarations = boundedMap(cacheSize);
+        triggers = boundedMap(cacheSize);
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+    private static <K, V> Map<K, V> boundedMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value of the key, loading it on a miss. A failed load is logged and answered with the
+     * fallback, which is not cached so that the next lookup queries the index again.
+     */
+    private static <K, V> V cached(Map<K, V> cache, K key, QueryLoader<V> loader, V fallback) {
+        synchronized (cache) {
+            V value = cache.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        V value;
+        try {
+            value = loader.load();
+        } catch (SQLException e) {
+            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
+            return fallback;
+        }
+        synchronized (cache) {
+            cache.put(key, value);
+        }
+        return value;
     }
 
     public Optional<FunctionData> getListener(String orgName, String module) {
@@ -100,14 +160,15 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (OperationSpan ignored = querySpan("getListener");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql.toString());
             stmt.setString(1, module);
             if (orgName != null) {
                 stmt.setString(2, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             if (rs.next()) {
                 FunctionData functionData = new FunctionData(
                         rs.getInt("listener_id"),
@@ -124,7 +185,6 @@ public class ServiceDatabaseManager {
                         false,
                         null);
                 functionData.setPackageId(rs.getString("package_id"));
-                conn.close();
                 return Optional.of(functionData);
             }
             return Optional.empty();
@@ -151,10 +211,11 @@ public class ServiceDatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.listener_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getFunctionParametersAsMap");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setInt(1, listenerId);
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
 
             // Use a builder to accumulate parameter data and member types
             LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
@@ -202,7 +263,6 @@ public class ServiceDatabaseManager {
             for (ParameterDataBuilder builder : builders.values()) {
                 parameterResults.put(builder.name, builder.build());
             }
-            conn.close();
             return parameterResults;
 
         } catch (SQLException e) {
@@ -212,6 +272,12 @@ public class ServiceDatabaseManager {
     }
 
     public Optional<ServiceDeclaration> getServiceDeclaration(String orgName, String moduleName) {
+        return cached(serviceDeclarations, new PackageKey(orgName, moduleName),
+                () -> queryServiceDeclaration(orgName, moduleName), Optional.empty());
+    }
+
+    private Optional<ServiceDeclaration> queryServiceDeclaration(String orgName, String moduleName)
+            throws SQLException {
         StringBuilder sql = new StringBuilder("SELECT ");
         sql.append("s.display_name, ");
         sql.append("s.optional_type_descriptor, ");
@@ -240,14 +306,15 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (OperationSpan ignored = querySpan("getServiceDeclaration");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql.toString());
             stmt.setString(1, moduleName);
             if (orgName != null) {
                 stmt.setString(2, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             if (rs.next()) {
                 ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
                         rs.getInt("package_id"),
@@ -275,17 +342,121 @@ public class ServiceDatabaseManager {
                         rs.getString("listener_kind"),
                         rs.getString("kind")
                 );
-                conn.close();
                 return Optional.of(serviceDeclaration);
             }
-            conn.close();
             return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a page of the triggers matching the given filters, in the order of the trigger catalogue. The filters
+     * that are null or blank are not applied.
+     *
+     * @param orgName     organization of the trigger package
+     * @param packageName name of the trigger package
+     * @param keyword     keyword of the trigger, matched as a whole ignoring the case
+     * @param query       prefix of a keyword, the display name or the package name of the trigger, or of a word of
+     *                    them, ignoring the case
+     * @param offset      number of matching triggers to skip
+     * @param limit       maximum number of triggers to return, or a negative value to return all of them
+     * @return the unmodifiable list of the matching triggers
+     */
+    public List<ServiceTrigger> getTriggers(String orgName, String packageName, String keyword, String query,
+                                            int offset, int limit) {
+        TriggerQuery triggerQuery = new TriggerQuery(blankToNull(orgName), blankToNull(packageName),
+                lowerCase(keyword), lowerCase(query), Math.max(offset, 0), limit < 0 ? -1 : limit);
+        return cached(triggers, triggerQuery, () -> queryTriggers(triggerQuery), List.of());
+    }
+
+    /**
+     * Returns the trigger of the given key.
+     *
+     * @param key key of the trigger
+     * @return the trigger, if it is indexed
+     */
+    public Optional<ServiceTrigger> getTrigger(String key) {
+        String sql = TRIGGER_SELECT + "WHERE st.trigger_key = ?";
+        try (OperationSpan ignored = querySpan("getTrigger");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
+            stmt.setString(1, key);
+            ResultSet rs = lease.executeQuery(stmt);
+            return rs.next() ? Optional.of(getServiceTrigger(rs)) : Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
         }
     }
 
+    private List<ServiceTrigger> queryTriggers(TriggerQuery query) throws SQLException {
+        StringBuilder sql = new StringBuilder(TRIGGER_SELECT);
+        sql.append("WHERE 1 = 1");
+        if (query.orgName() != null) {
+            sql.append(" AND p.org = ?");
+        }
+        if (query.packageName() != null) {
+            sql.append(" AND p.name = ?");
+        }
+        if (query.keyword() != null) {
+            sql.append(" AND st.trigger_id IN (SELECT trigger_id FROM ServiceTriggerTerm ");
+            sql.append("WHERE term = ? AND keyword = 1)");
+        }
+        if (query.prefix() != null) {
+            // A range on the term index rather than LIKE, so that the prefix does not have to be escaped
+            sql.append(" AND st.trigger_id IN (SELECT trigger_id FROM ServiceTriggerTerm ");
+            sql.append("WHERE term >= ? AND term < ?)");
+        }
+        // The keys of the catalogue are numbered in its order, while the ids follow the order the packages are indexed
+        sql.append(" ORDER BY CAST(st.trigger_key AS INTEGER), st.trigger_id LIMIT ? OFFSET ?");
+
+        try (OperationSpan ignored = querySpan("getTriggers");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql.toString());
+            int index = 1;
+            if (query.orgName() != null) {
+                stmt.setString(index++, query.orgName());
+            }
+            if (query.packageName() != null) {
+                stmt.setString(index++, query.packageName());
+            }
+            if (query.keyword() != null) {
+                stmt.setString(index++, query.keyword());
+            }
+            if (query.prefix() != null) {
+                stmt.setString(index++, query.prefix());
+                stmt.setString(index++, query.prefix() + Character.MAX_VALUE);
+            }
+            stmt.setInt(index++, query.limit());
+            stmt.setInt(index, query.offset());
+
+            ResultSet rs = lease.executeQuery(stmt);
+            List<ServiceTrigger> serviceTriggers = new ArrayList<>();
+            while (rs.next()) {
+                serviceTriggers.add(getServiceTrigger(rs));
+            }
+            return List.copyOf(serviceTriggers);
+        }
+    }
+
+    private static ServiceTrigger getServiceTrigger(ResultSet rs) throws SQLException {
+        ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
+                rs.getInt("package_id"),
+                rs.getString("org"),
+                rs.getString("package_name"),
+                rs.getString("version")
+        );
+        return new ServiceTrigger(rs.getString("trigger_key"), packageInfo, rs.getString("display_name"),
+                rs.getString("kind"));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static String lowerCase(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
     public Optional<ServiceInitInfo> getServiceInitInfo(String orgName, String moduleName) {
         StringBuilder sql = new StringBuilder("SELECT ");
         sql.append("s.display_name, ");
@@ -301,14 +472,15 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (OperationSpan ignored = querySpan("getServiceInitInfo");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql.toString());
             stmt.setString(1, moduleName);
             if (orgName != null) {
                 stmt.setString(2, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             if (rs.next()) {
                 ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
                         rs.getInt("package_id"),
@@ -318,7 +490,6 @@ public class ServiceDatabaseManager {
                 );
                 String displayName = rs.getString("display_name");
                 String description = rs.getString("description");
-                conn.close();
 
                 StringBuilder sql2 = new StringBuilder("SELECT ");
                 sql2.append("sip.initializer_id, ");
@@ -334,16 +505,15 @@ public class ServiceDatabaseManager {
                 sql2.append("FROM ServiceInitializerProperty sip ");
                 sql2.append("WHERE sip.package_id = ?");
 
-                try (Connection conn2 = DriverManager.getConnection(dbPath);
-                     PreparedStatement stmt2 = conn2.prepareStatement(sql2.toString())) {
+                try (StatementPool.Lease lease2 = pool.acquire()) {
+                    PreparedStatement stmt2 = lease2.prepare(sql2.toString());
                     stmt2.setInt(1, packageInfo.packageId());
 
-                    ResultSet rs2 = stmt2.executeQuery();
+                    ResultSet rs2 = lease2.executeQuery(stmt2);
                     List<ServiceInitProperty> initProperties = new ArrayList<>();
                     while (rs2.next()) {
                         initProperties.add(getServiceInitProperty(rs2));
                     }
-                    conn2.close();
                     ServiceInitInfo serviceInitInfo = new ServiceInitInfo(packageInfo, displayName, description,
                             initProperties);
                     return Optional.of(serviceInitInfo);
@@ -375,11 +545,12 @@ public class ServiceDatabaseManager {
     private List<ParameterMemberTypeData> getServiceInitPropertyMemberTypes(int initializerId) {
         String sql = "SELECT pmt.type AS member_type, pmt.kind AS member_kind, pmt.package AS member_package " +
                 "FROM ServiceInitializerPropertyMemberType pmt WHERE pmt.initializer_id = ?";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getServiceInitPropertyMemberTypes");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setInt(1, initializerId);
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             List<ParameterMemberTypeData> memberTypes = new ArrayList<>();
             while (rs.next()) {
                 memberTypes.add(new ParameterMemberTypeData(
@@ -389,7 +560,6 @@ public class ServiceDatabaseManager {
                         rs.getString("member_package")
                 ));
             }
-            conn.close();
             return memberTypes;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -400,15 +570,15 @@ public class ServiceDatabaseManager {
     public List<String> getServiceTypes(int packageId) {
         String sql = "SELECT DISTINCT name FROM ServiceType WHERE package_id = ?";
         List<String> serviceTypes = new ArrayList<>();
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getServiceTypes");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setInt(1, packageId);
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             while (rs.next()) {
                 serviceTypes.add(rs.getString("name"));
             }
-            conn.close();
             return serviceTypes;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -429,11 +599,12 @@ public class ServiceDatabaseManager {
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE a.package_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getAnnotationAttachments");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setInt(1, packageId);
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             List<AnnotationAttachment> annotations = new ArrayList<>();
             while (rs.next()) {
                 annotations.add(new AnnotationAttachment(
@@ -446,7 +617,6 @@ public class ServiceDatabaseManager {
                         rs.getString("package")
                 ));
             }
-            conn.close();
             return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -474,8 +644,9 @@ public class ServiceDatabaseManager {
         if (orgName != null) {
             sql.append(" AND p.org = ?");
         }
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (OperationSpan ignored = querySpan("getMatchingServiceTypeFunction");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql.toString());
             stmt.setString(1, moduleName);
             stmt.setString(2, serviceType);
             stmt.setString(3, functionName);
@@ -483,7 +654,7 @@ public class ServiceDatabaseManager {
                 stmt.setString(4, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             if (rs.next()) {
                 int functionId = rs.getInt("function_id");
                 List<ServiceTypeFunction.ServiceTypeFunctionParameter> params = getServiceFunctionParams(functionId);
@@ -500,10 +671,8 @@ public class ServiceDatabaseManager {
                         rs.getInt("enable"),
                         params
                 );
-                conn.close();
                 return Optional.of(function);
             }
-            conn.close();
             return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -528,12 +697,13 @@ public class ServiceDatabaseManager {
                 "JOIN ServiceType st ON f.service_type_id = st.service_type_id " +
                 "WHERE st.package_id = ? AND st.name = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getMatchingServiceTypeFunctions");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setInt(1, packageId);
             stmt.setString(2, serviceType);
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             List<ServiceTypeFunction> functions = new ArrayList<>();
             while (rs.next()) {
                 int functionId = rs.getInt("function_id");
@@ -552,7 +722,6 @@ public class ServiceDatabaseManager {
                         params
                 ));
             }
-            conn.close();
             return functions;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -575,11 +744,12 @@ public class ServiceDatabaseManager {
                 "FROM ServiceTypeFunctionParameter " +
                 "WHERE function_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getServiceFunctionParams");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setInt(1, functionId);
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             List<ServiceTypeFunction.ServiceTypeFunctionParameter> parameters = new ArrayList<>();
             while (rs.next()) {
                 parameters.add(new ServiceTypeFunction.ServiceTypeFunctionParameter(
@@ -595,7 +765,6 @@ public class ServiceDatabaseManager {
                         rs.getInt("editable_type")
                 ));
             }
-            conn.close();
             return parameters;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -614,13 +783,14 @@ public class ServiceDatabaseManager {
                 "FROM Annotation a " +
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE p.name = ? AND p.org = ? AND a.attachment_points LIKE ?";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (OperationSpan ignored = querySpan("getAnnotationAttachments");
+             StatementPool.Lease lease = pool.acquire()) {
+            PreparedStatement stmt = lease.prepare(sql);
             stmt.setString(1, packageName);
             stmt.setString(2, org);
             stmt.setString(3, "%" + attachPoint + "%");
 
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = lease.executeQuery(stmt);
             List<Annotation> annotations = new ArrayList<>();
             while (rs.next()) {
                 annotations.add(new Annotation(
@@ -633,7 +803,6 @@ public class ServiceDatabaseManager {
                         packageName
                 ));
             }
-            conn.close();
             return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -672,4 +841,20 @@ public class ServiceDatabaseManager {
         }
     }
 
+    @FunctionalInterface
+    private interface QueryLoader<V> {
+
+        V load() throws SQLException;
+    }
+
+    private record PackageKey(String orgName, String packageName) {
+    }
+
+    private record TriggerQuery(String orgName, String packageName, String keyword, String prefix, int offset,
+                                int limit) {
+    }
+
+    private static OperationSpan querySpan(String query) {
+        return OperationTracer.getInstance().startSpan("db/services/", query);
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Pool of connections to a read-only index database, each of which keeps the statements prepared on it.
+ * <p>
+ * A connection is leased by a single query at a time, so the statements of a connection are never shared between
+ * threads. Nested queries lease a connection of their own. The pool opens a new connection when all of them are in
+ * use, and keeps up to the given number of idle connections for reuse.
+ *
+ * @since 1.3.0
+ */
+final class StatementPool {
+
+    private static final Logger LOGGER = Logger.getLogger(StatementPool.class.getName());
+
+    private final String dbPath;
+    private final int maxIdle;
+    private final Deque<Lease> idle = new ArrayDeque<>();
+
+    StatementPool(String dbPath, int maxIdle) {
+        this.dbPath = dbPath;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Leases a connection of the pool. The lease must be closed to return the connection to the pool.
+     *
+     * @return the lease of a connection
+     * @throws SQLException if a new connection cannot be opened
+     */
+    Lease acquire() throws SQLException {
+        synchronized (idle) {
+            Lease lease = idle.pollFirst();
+            if (lease != null) {
+                return lease;
+            }
+        }
+        return new Lease(DriverManager.getConnection(dbPath));
+    }
+
+    private void release(Lease lease) {
+        synchronized (idle) {
+            if (idle.size() < maxIdle) {
+                idle.offerFirst(lease);
+                return;
+            }
+        }
+        lease.closeConnection();
+    }
+
+    /**
+     * A connection leased from the pool.
+     *
+     * @since 1.3.0
+     */
+    final class Lease implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private final List<ResultSet> resultSets = new ArrayList<>();
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Returns the statement of the given SQL, preparing it on the first use of the connection.
+         *
+         * @param sql SQL of the statement
+         * @return the prepared statement
+         * @throws SQLException if the statement cannot be prepared
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            } else {
+                statement.clearParameters();
+            }
+            return statement;
+        }
+
+        /**
+         * Executes the query of the statement. The result set is closed when the lease is closed.
+         *
+         * @param statement statement prepared on the lease
+         * @return the result set of the query
+         * @throws SQLException if the query fails
+         */
+        ResultSet executeQuery(PreparedStatement statement) throws SQLException {
+            ResultSet resultSet = statement.executeQuery();
+            resultSets.add(resultSet);
+            return resultSet;
+        }
+
+        @Override
+        public void close() {
+            for (ResultSet resultSet : resultSets) {
+                try {
+                    resultSet.close();
+                } catch (SQLException e) {
+                    LOGGER.warning("Error closing the index result set: " + e.getMessage());
+                }
+            }
+            resultSets.clear();
+            release(this);
+        }
+
+        private void closeConnection() {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing the index connection: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests the reuse, the invalidation and the bound of the function data cache.
+ *
+ * @since 1.3.0
+ */
+public class FunctionDataCacheTest {
+
+    private static final ModuleInfo MODULE_INFO = new ModuleInfo("ballerina", "http", "http", "2.14.0");
+    private static final ModuleInfo USER_MODULE_INFO = new ModuleInfo("wso2", "sample", "sample", "0.1.0");
+
+    private Path tempDir;
+    private Package currentPackage;
+
+    @BeforeClass
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("function-data-cache");
+        Path balFile = Files.writeString(tempDir.resolve("main.bal"), "public function main() {\n}\n");
+        currentPackage = ProjectLoader.loadProject(balFile).currentPackage();
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(tempDir.resolve("main.bal"));
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Test(description = "Function data of a compilation is built once and reused from its scope")
+    public void testHit() {
+        FunctionDataCache cache = new FunctionDataCache(16);
+        FunctionDataCache.Scope scope = cache.scope(currentPackage);
+        AtomicInteger builds = new AtomicInteger();
+
+        FunctionData first = scope.get(key("get"), counting(builds, "get"));
+        Assert.assertSame(cache.scope(currentPackage), scope);
+        FunctionData second = cache.scope(currentPackage).get(key("get"), counting(builds, "get"));
+        Assert.assertSame(second, first);
+        Assert.assertEquals(builds.get(), 1);
+
+        List<FunctionData> methods = scope.getChildNodes(key("Client"), () -> List.of(first));
+        Assert.assertSame(scope.getChildNodes(key("Client"), () -> {
+            throw new AssertionError("The methods must be read from the cache");
+        }), methods);
+        Assert.assertEquals(scope.size(), 2);
+    }
+
+    @Test(description = "A new compilation of the package starts with an empty scope")
+    public void testInvalidateOnNewCompilation() {
+        FunctionDataCache cache = new FunctionDataCache(16);
+        FunctionDataCache.Scope oldScope = cache.scope(currentPackage);
+        AtomicInteger builds = new AtomicInteger();
+        oldScope.get(key("get"), counting(builds, "get"));
+
+        Module module = currentPackage.getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        Document document = module.document(documentId).modify()
+                .withContent("public function main() {\n    int x = 1;\n}\n")
+                .apply();
+        Package modifiedPackage = document.module().packageInstance();
+        Assert.assertNotSame(modifiedPackage, currentPackage);
+
+        FunctionDataCache.Scope newScope = cache.scope(modifiedPackage);
+        Assert.assertNotSame(newScope, oldScope);
+        Assert.assertEquals(newScope.size(), 0);
+        newScope.get(key("get"), counting(builds, "get"));
+        Assert.assertEquals(builds.get(), 2);
+
+        // The scope of the previous compilation is left intact for the requests still holding it
+        Assert.assertEquals(oldScope.size(), 1);
+    }
+
+    @Test(description = "The least recently used entries are evicted once a scope exceeds its bound")
+    public void testEvictLeastRecentlyUsed() {
+        FunctionDataCache.Scope scope = new FunctionDataCache(2).scope(currentPackage);
+        AtomicInteger builds = new AtomicInteger();
+        scope.get(key("a"), counting(builds, "a"));
+        scope.get(key("b"), counting(builds, "b"));
+
+        // Touch the first entry so that the second one becomes the least recently used
+        scope.get(key("a"), counting(builds, "a"));
+        scope.get(key("c"), counting(builds, "c"));
+        Assert.assertEquals(builds.get(), 3);
+        Assert.assertEquals(scope.size(), 2);
+
+        scope.get(key("a"), counting(builds, "a"));
+        Assert.assertEquals(builds.get(), 3);
+        scope.get(key("b"), counting(builds, "b"));
+        Assert.assertEquals(builds.get(), 4);
+        Assert.assertEquals(scope.size(), 2);
+    }
+
+    private static FunctionDataCache.Key key(String functionName) {
+        return new FunctionDataCache.Key(MODULE_INFO, USER_MODULE_INFO, null, functionName,
+                FunctionData.Kind.FUNCTION, null, null, true);
+    }
+
+    private static Supplier<FunctionData> counting(AtomicInteger builds, String functionName) {
+        return () -> {
+            builds.incrementAndGet();
+            return new FunctionData(builds.get(), functionName, "", "()", MODULE_INFO.packageName(),
+                    MODULE_INFO.moduleName(), MODULE_INFO.org(), MODULE_INFO.version(), null,
+                    FunctionData.Kind.FUNCTION, false, false, null);
+        };
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Tests the incremental updates of an index database, and the deltas shipped from them.
+ *
+ * @since 1.3.0
+ */
+public class IndexUpdateTest {
+
+    private static final String ORG = "ballerinax";
+    private static final String INDEX_FILE_NAME = "index.sqlite";
+    private static final List<String> TABLES = List.of("Package", "Function", "Parameter", IndexDelta.INFO_TABLE);
+
+    private Path tempDir;
+    private Path deltaDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("index-update");
+        deltaDir = Files.createDirectory(tempDir.resolve("deltas"));
+        System.setProperty(IndexUpdate.INCREMENTAL_PROPERTY, "true");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        System.clearProperty(IndexUpdate.INCREMENTAL_PROPERTY);
+        System.clearProperty(IndexUpdate.DELTA_PROPERTY);
+        System.clearProperty(IndexDelta.DELTA_DIR_PROPERTY);
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "Deltas chained from the base revision turn a copy of the index into the updated index")
+    public void testDeltasRoundTrip() throws Exception {
+        Path index = createIndex();
+        update(index, Map.of("a", "1", "b", "1"));
+        Path client = Files.copy(index, tempDir.resolve("client.sqlite"));
+
+        // Change a and add c, then remove b
+        System.setProperty(IndexUpdate.DELTA_PROPERTY, deltaDir.resolve("index-1.delta").toString());
+        update(index, Map.of("a", "2", "b", "1", "c", "1"));
+        System.setProperty(IndexUpdate.DELTA_PROPERTY, deltaDir.resolve("index-2.delta").toString());
+        update(index, Map.of("a", "2", "c", "1"));
+        Assert.assertEquals(packages(index), Map.of("a", "2", "c", "1"));
+
+        System.setProperty(IndexDelta.DELTA_DIR_PROPERTY, deltaDir.toString());
+        Assert.assertEquals(IndexDelta.applyDeltas(client, INDEX_FILE_NAME), 2);
+        Assert.assertEquals(rows(client), rows(index));
+
+        // The client is at the last revision, which no delta applies to
+        Assert.assertEquals(IndexDelta.applyDeltas(client, INDEX_FILE_NAME), 0);
+    }
+
+    @Test(description = "A delta does not apply to a database at another revision")
+    public void testDeltaOfOtherRevision() throws Exception {
+        Path index = createIndex();
+        update(index, Map.of("a", "1"));
+        Path client = Files.copy(index, tempDir.resolve("client.sqlite"));
+        update(index, Map.of("a", "2"));
+
+        System.setProperty(IndexUpdate.DELTA_PROPERTY, deltaDir.resolve("index-1.delta").toString());
+        update(index, Map.of("a", "3"));
+
+        System.setProperty(IndexDelta.DELTA_DIR_PROPERTY, deltaDir.toString());
+        List<String> clientRows = rows(client);
+        Assert.assertEquals(IndexDelta.applyDeltas(client, INDEX_FILE_NAME), 0);
+        Assert.assertEquals(rows(client), clientRows);
+    }
+
+    @Test(description = "The previous rows of a package are deleted within the transaction of the writer")
+    public void testReplaceInWriterTransaction() throws Exception {
+        Path index = createIndex();
+        update(index, Map.of("a", "1"));
+        List<String> indexRows = rows(index);
+
+        System.setProperty(IndexUpdate.DELTA_PROPERTY, deltaDir.resolve("index-1.delta").toString());
+        String url = url(index);
+        try (IndexUpdate update = new IndexUpdate(url, "package_name");
+             Connection writer = DriverManager.getConnection(url)) {
+            Assert.assertFalse(update.isIndexed(ORG, "a", "2"));
+            writer.setAutoCommit(false);
+            Assert.assertEquals(update.replace(writer, ORG, "a").size(), 1);
+            writer.rollback();
+            update.finish();
+        }
+
+        // The package is kept, and the delta does not remove it
+        Assert.assertEquals(packages(index), Map.of("a", "1"));
+        Assert.assertEquals(rows(index).subList(0, 3), indexRows.subList(0, 3));
+        try (Connection conn = DriverManager.getConnection(url(deltaDir.resolve("index-1.delta")));
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM RemovedPackage")) {
+            Assert.assertTrue(rs.next());
+            Assert.assertEquals(rs.getInt(1), 0);
+        }
+    }
+
+    private Path createIndex() throws SQLException {
+        Path index = tempDir.resolve(INDEX_FILE_NAME);
+        try (Connection conn = DriverManager.getConnection(url(index));
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Package (id INTEGER PRIMARY KEY AUTOINCREMENT, org TEXT, " +
+                    "package_name TEXT, content_hash TEXT)");
+            stmt.executeUpdate("CREATE TABLE Function (id INTEGER PRIMARY KEY AUTOINCREMENT, package_id INTEGER, " +
+                    "name TEXT, FOREIGN KEY (package_id) REFERENCES Package(id) ON DELETE CASCADE)");
+            stmt.executeUpdate("CREATE TABLE Parameter (id INTEGER PRIMARY KEY AUTOINCREMENT, function_id INTEGER, " +
+                    "name TEXT, FOREIGN KEY (function_id) REFERENCES Function(id) ON DELETE CASCADE)");
+        }
+        return index;
+    }
+
+    /**
+     * Runs an incremental update of the index the way the index generators do, with one writer transaction per
+     * changed package.
+     */
+    private static void update(Path index, Map<String, String> packageHashes) throws SQLException {
+        String url = url(index);
+        try (IndexUpdate update = new IndexUpdate(url, "package_name");
+             Connection writer = DriverManager.getConnection(url)) {
+            writer.setAutoCommit(false);
+            for (Map.Entry<String, String> entry : new TreeMap<>(packageHashes).entrySet()) {
+                String name = entry.getKey();
+                if (update.isIndexed(ORG, name, entry.getValue())) {
+                    continue;
+                }
+                List<Integer> replacedIds = update.replace(writer, ORG, name);
+                int packageId = insert(writer, "INSERT INTO Package (org, package_name, content_hash) " +
+                        "VALUES (?, ?, ?)", ORG, name, entry.getValue());
+                int functionId = insert(writer, "INSERT INTO Function (package_id, name) VALUES (?, ?)",
+                        packageId, name + "Function");
+                insert(writer, "INSERT INTO Parameter (function_id, name) VALUES (?, ?)", functionId,
+                        "param" + entry.getValue());
+                writer.commit();
+                update.removed(ORG, name, replacedIds);
+                update.added(packageId);
+            }
+            update.finish();
+        }
+    }
+
+    private static int insert(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            stmt.executeUpdate();
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                Assert.assertTrue(generatedKeys.next());
+                return generatedKeys.getInt(1);
+            }
+        }
+    }
+
+    private static Map<String, String> packages(Path index) throws SQLException {
+        Map<String, String> packages = new HashMap<>();
+        try (Connection conn = DriverManager.getConnection(url(index));
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT package_name, content_hash FROM Package")) {
+            while (rs.next()) {
+                packages.put(rs.getString(1), rs.getString(2));
+            }
+        }
+        return packages;
+    }
+
+    private static List<String> rows(Path index) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(url(index));
+             Statement stmt = conn.createStatement()) {
+            for (String table : TABLES) {
+                try (ResultSet rs = stmt.executeQuery("SELECT * FROM " + table + " ORDER BY 1")) {
+                    int columns = rs.getMetaData().getColumnCount();
+                    while (rs.next()) {
+                        StringJoiner row = new StringJoiner(", ", table + "(", ")");
+                        for (int i = 1; i <= columns; i++) {
+                            row.add(rs.getString(i));
+                        }
+                        rows.add(row.toString());
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static String url(Path database) {
+        return "jdbc:sqlite:" + database;
+    }
+}
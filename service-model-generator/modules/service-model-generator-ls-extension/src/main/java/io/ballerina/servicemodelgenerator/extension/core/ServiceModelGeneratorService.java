@@ -18,9 +18,6 @@
 
 package io.ballerina.servicemodelgenerator.extension.core;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
@@ -35,6 +32,7 @@ import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.ServiceDatabaseManager;
 import io.ballerina.modelgenerator.commons.ServiceDeclaration;
+import io.ballerina.modelgenerator.commons.ServiceTrigger;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleId;
@@ -49,7 +47,6 @@ import io.ballerina.servicemodelgenerator.extension.model.Listener;
 import io.ballerina.servicemodelgenerator.extension.model.Service;
 import io.ballerina.servicemodelgenerator.extension.model.ServiceClass;
 import io.ballerina.servicemodelgenerator.extension.model.TriggerBasicInfo;
-import io.ballerina.servicemodelgenerator.extension.model.TriggerProperty;
 import io.ballerina.servicemodelgenerator.extension.model.Value;
 import io.ballerina.servicemodelgenerator.extension.model.request.AddFieldRequest;
 import io.ballerina.servicemodelgenerator.extension.model.request.ClassFieldModifierRequest;
@@ -103,11 +100,6 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -128,7 +120,6 @@ import static io.ballerina.servicemodelgenerator.extension.util.ServiceModelUtil
 import static io.ballerina.servicemodelgenerator.extension.util.Utils.FunctionAddContext.RESOURCE_ADD;
 import static io.ballerina.servicemodelgenerator.extension.util.Utils.FunctionSignatureContext.HTTP_RESOURCE_ADD;
 import static io.ballerina.servicemodelgenerator.extension.util.Utils.expectsTriggerByName;
-import static io.ballerina.servicemodelgenerator.extension.util.Utils.filterTriggers;
 import static io.ballerina.servicemodelgenerator.extension.util.Utils.generateFunctionDefSource;
 import static io.ballerina.servicemodelgenerator.extension.util.Utils.getImportStmt;
 import static io.ballerina.servicemodelgenerator.extension.util.Utils.importExists;
@@ -144,26 +135,6 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
 
     private LSClientLogger lsClientLogger;
     private WorkspaceManager workspaceManager;
-    private final Map<String, TriggerProperty> triggerProperties;
-    private static final Type propertyMapType = new TypeToken<Map<String, TriggerProperty>>() {
-    }.getType();
-
-    public ServiceModelGeneratorService() {
-        InputStream newPropertiesStream = getClass().getClassLoader()
-                .getResourceAsStream("trigger_properties.json");
-        Map<String, TriggerProperty> newTriggerProperties = Map.of();
-        if (newPropertiesStream != null) {
-            try (JsonReader reader = new JsonReader(new InputStreamReader(newPropertiesStream,
-                    StandardCharsets.UTF_8))) {
-                newTriggerProperties = new Gson().fromJson(reader, propertyMapType);
-                reader.close();
-                newPropertiesStream.close();
-            } catch (IOException e) {
-                // Ignore
-            }
-        }
-        this.triggerProperties = newTriggerProperties;
-    }
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
@@ -376,10 +347,13 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<TriggerListResponse> getTriggerModels(TriggerListRequest request) {
         return CompletableFuture.supplyAsync(() -> {
-            List<TriggerBasicInfo> triggerBasicInfoList = triggerProperties.values().stream()
-                    .filter(triggerProperty -> filterTriggers(triggerProperty, request))
-                    .map(trigger -> getTriggerBasicInfoByName(trigger.orgName(), trigger.name()))
-                    .flatMap(Optional::stream)
+            ServiceDatabaseManager database = ServiceDatabaseManager.getInstance();
+            List<ServiceTrigger> triggers = request == null ? database.getTriggers(null, null, null, null, 0, -1)
+                    : database.getTriggers(request.organization(), request.packageName(), request.keyWord(),
+                    request.query(), Objects.requireNonNullElse(request.offset(), 0),
+                    Objects.requireNonNullElse(request.limit(), -1));
+            List<TriggerBasicInfo> triggerBasicInfoList = triggers.stream()
+                    .map(trigger -> getTriggerBasicInfo(trigger.packageInfo(), trigger.displayName(), trigger.kind()))
                     .toList();
             return new TriggerListResponse(triggerBasicInfoList);
         });
@@ -585,12 +559,13 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
                         request.packageName()).orElse(null));
             }
 
-            TriggerProperty triggerProperty = triggerProperties.get(request.id());
-            if (triggerProperty == null) {
+            Optional<ServiceTrigger> trigger = ServiceDatabaseManager.getInstance().getTrigger(request.id());
+            if (trigger.isEmpty()) {
                 return new TriggerResponse();
             }
-            return new TriggerResponse(getTriggerBasicInfoByName(triggerProperty.orgName(),
-                    triggerProperty.name()).orElse(null));
+            ServiceTrigger serviceTrigger = trigger.get();
+            return new TriggerResponse(getTriggerBasicInfo(serviceTrigger.packageInfo(),
+                    serviceTrigger.displayName(), serviceTrigger.kind()));
         });
     }
 
@@ -961,22 +936,16 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
 
     private Optional<TriggerBasicInfo> getTriggerBasicInfoByName(String orgName, String name) {
         Optional<ServiceDeclaration> serviceDeclaration = ServiceDatabaseManager.getInstance()
-                .getServiceDeclaration(orgName, name); // TODO: improve this to use a single query
-
-        if (serviceDeclaration.isEmpty()) {
-            return Optional.empty();
-        }
-        ServiceDeclaration serviceTemplate = serviceDeclaration.get();
-        ServiceDeclaration.Package pkg = serviceTemplate.packageInfo();
-        String protocol = getProtocol(name);
-        String label = serviceTemplate.displayName();
-        String icon = CommonUtils.generateIcon(pkg.org(), pkg.name(), pkg.version());
-        TriggerBasicInfo triggerBasicInfo = new TriggerBasicInfo(pkg.packageId(),
-                label, pkg.org(), pkg.name(), pkg.name(),
-                pkg.version(), serviceTemplate.kind(), label, "",
-                protocol, icon);
+                .getServiceDeclaration(orgName, name);
+        return serviceDeclaration.map(serviceTemplate -> getTriggerBasicInfo(serviceTemplate.packageInfo(),
+                serviceTemplate.displayName(), serviceTemplate.kind()));
+    }
 
-        return Optional.of(triggerBasicInfo);
+    private static TriggerBasicInfo getTriggerBasicInfo(ServiceDeclaration.Package pkg, String label, String kind) {
+        String protocol = getProtocol(pkg.name());
+        String icon = CommonUtils.generateIcon(pkg.org(), pkg.name(), pkg.version());
+        return new TriggerBasicInfo(pkg.packageId(), label, pkg.org(), pkg.name(), pkg.name(), pkg.version(), kind,
+                label, "", protocol, icon);
     }
 
     private static NonTerminalNode findNonTerminalNode(Codedata codedata, Document document) {
@@ -18,5 +18,6 @@
 
 package io.ballerina.servicemodelgenerator.extension.model.request;
 
-public record TriggerListRequest(String organization, String packageName, String query, String keyWord) {
+public record TriggerListRequest(String organization, String packageName, String query, String keyWord,
+                                 Integer offset, Integer limit) {
 }
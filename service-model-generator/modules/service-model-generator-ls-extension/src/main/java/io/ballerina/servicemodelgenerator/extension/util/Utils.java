@@ -71,9 +71,7 @@ import io.ballerina.servicemodelgenerator.extension.model.Parameter;
 import io.ballerina.servicemodelgenerator.extension.model.Service;
 import io.ballerina.servicemodelgenerator.extension.model.ServiceClass;
 import io.ballerina.servicemodelgenerator.extension.model.ServiceInitModel;
-import io.ballerina.servicemodelgenerator.extension.model.TriggerProperty;
 import io.ballerina.servicemodelgenerator.extension.model.Value;
-import io.ballerina.servicemodelgenerator.extension.model.request.TriggerListRequest;
 import io.ballerina.servicemodelgenerator.extension.model.request.TriggerRequest;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
@@ -1087,16 +1085,6 @@ public final class Utils {
         return String.format(Constants.IMPORT_STMT_TEMPLATE, org, module);
     }
 
-    public static boolean filterTriggers(TriggerProperty triggerProperty, TriggerListRequest request) {
-        return (request == null) ||
-                ((request.organization() == null || request.organization().equals(triggerProperty.orgName())) &&
-                (request.packageName() == null || request.packageName().equals(triggerProperty.packageName())) &&
-                (request.keyWord() == null || triggerProperty.keywords().stream()
-                        .anyMatch(keyword -> keyword.equalsIgnoreCase(request.keyWord()))) &&
-                (request.query() == null || triggerProperty.keywords().stream()
-                        .anyMatch(keyword -> keyword.contains(request.query()))));
-    }
-
     public static boolean expectsTriggerByName(TriggerRequest request) {
         return request.id() == null && request.organization() != null && request.packageName() != null;
     }
@@ -24,6 +24,7 @@ import io.ballerina.servicemodelgenerator.extension.model.HttpResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Listener;
 import io.ballerina.servicemodelgenerator.extension.model.Parameter;
 import io.ballerina.servicemodelgenerator.extension.model.Service;
+import io.ballerina.servicemodelgenerator.extension.model.TriggerBasicInfo;
 import io.ballerina.servicemodelgenerator.extension.model.Value;
 import io.ballerina.servicemodelgenerator.extension.model.request.CommonModelFromSourceRequest;
 import io.ballerina.servicemodelgenerator.extension.model.request.FunctionModelRequest;
@@ -36,6 +37,7 @@ import io.ballerina.servicemodelgenerator.extension.model.request.ListenerSource
 import io.ballerina.servicemodelgenerator.extension.model.request.ServiceModelRequest;
 import io.ballerina.servicemodelgenerator.extension.model.request.ServiceModifierRequest;
 import io.ballerina.servicemodelgenerator.extension.model.request.ServiceSourceRequest;
+import io.ballerina.servicemodelgenerator.extension.model.request.TriggerListRequest;
 import io.ballerina.servicemodelgenerator.extension.model.response.CommonSourceResponse;
 import io.ballerina.servicemodelgenerator.extension.model.response.FunctionFromSourceResponse;
 import io.ballerina.servicemodelgenerator.extension.model.response.FunctionModelResponse;
@@ -249,6 +251,52 @@ public class ServiceModelAPITests {
         Assert.assertFalse(response.local().isEmpty());
     }
 
+    @Test
+    public void testSearchTriggerList() throws ExecutionException, InterruptedException {
+        TriggerListRequest request = new TriggerListRequest(null, null, "Kaf", null, null, null);
+        CompletableFuture<?> result = serviceEndpoint.request("serviceDesign/getTriggerModels", request);
+        List<TriggerBasicInfo> triggers = ((TriggerListResponse) result.get()).local();
+        Assert.assertEquals(triggers.size(), 1);
+        Assert.assertEquals(triggers.getFirst().packageName(), "kafka");
+
+        request = new TriggerListRequest(null, null, null, "messaging", null, null);
+        result = serviceEndpoint.request("serviceDesign/getTriggerModels", request);
+        Assert.assertEquals(((TriggerListResponse) result.get()).local().stream()
+                .map(TriggerBasicInfo::packageName).toList(), List.of("kafka", "rabbitmq"));
+
+        result = serviceEndpoint.request("serviceDesign/getTriggerModels", null);
+        List<TriggerBasicInfo> allTriggers = ((TriggerListResponse) result.get()).local();
+        request = new TriggerListRequest(null, null, null, null, 1, 2);
+        result = serviceEndpoint.request("serviceDesign/getTriggerModels", request);
+        Assert.assertEquals(((TriggerListResponse) result.get()).local(), allTriggers.subList(1, 3));
+    }
+
+    @Test
+    public void testFilterTriggerList() throws ExecutionException, InterruptedException {
+        // Keywords are matched as a whole, ignoring the case
+        Assert.assertEquals(triggerPackages(new TriggerListRequest(null, null, null, "MESSAGING", null, null)),
+                List.of("kafka", "rabbitmq"));
+        Assert.assertEquals(triggerPackages(new TriggerListRequest(null, null, null, "messag", null, null)),
+                List.of());
+
+        // Queries match the prefix of a keyword, the display name or the package name, or of a word of them
+        Assert.assertEquals(triggerPackages(new TriggerListRequest(null, null, "twil", null, null, null)),
+                List.of("trigger.twilio"));
+        Assert.assertEquals(triggerPackages(new TriggerListRequest(null, null, "bus", null, null, null)),
+                List.of("asb"));
+        Assert.assertEquals(triggerPackages(new TriggerListRequest(null, null, "afka", null, null, null)),
+                List.of());
+
+        // The triggers are listed in the order of the trigger catalogue
+        List<String> allTriggers = triggerPackages(null);
+        Assert.assertEquals(allTriggers.subList(0, 4), List.of("kafka", "rabbitmq", "mqtt", "asb"));
+    }
+
+    private List<String> triggerPackages(TriggerListRequest request) throws ExecutionException, InterruptedException {
+        CompletableFuture<?> result = serviceEndpoint.request("serviceDesign/getTriggerModels", request);
+        return ((TriggerListResponse) result.get()).local().stream().map(TriggerBasicInfo::packageName).toList();
+    }
+
     @Test
     public void testAddHttpService() throws ExecutionException, InterruptedException {
         Path filePath = resDir.resolve("sample2/main.bal");
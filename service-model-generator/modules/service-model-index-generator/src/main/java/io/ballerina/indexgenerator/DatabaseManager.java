@@ -18,6 +18,8 @@
 
 package io.ballerina.indexgenerator;
 
+import io.ballerina.modelgenerator.commons.IndexUpdate;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -42,6 +44,10 @@ class DatabaseManager {
     private static final String SERVICE_INDEX_SQL = "service-index.sql";
     private static final String dbPath = getDatabasePath();
 
+    static IndexUpdate indexUpdate() throws SQLException {
+        return new IndexUpdate(dbPath, "name");
+    }
+
     private static String getDatabasePath() {
         String destinationPath =
                 Path.of("service-model-generator/modules/service-model-generator-ls-extension/src/main/resources")
@@ -92,9 +98,21 @@ class DatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String name, String version, List<String> keywords) {
-        String sql = "INSERT INTO Package (org, name, version, keywords) VALUES (?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, name, version, keywords == null ? "" : String.join(",", keywords)});
+    public static int insertPackage(String org, String name, String version, List<String> keywords,
+                                    String contentHash) {
+        String sql = "INSERT INTO Package (org, name, version, keywords, content_hash) VALUES (?, ?, ?, ?, ?)";
+        return insertEntry(sql, new Object[]{org, name, version, keywords == null ? "" : String.join(",", keywords),
+                contentHash});
+    }
+
+    public static int insertServiceTrigger(int packageId, String triggerKey) {
+        String sql = "INSERT INTO ServiceTrigger (package_id, trigger_key) VALUES (?, ?)";
+        return insertEntry(sql, new Object[]{packageId, triggerKey});
+    }
+
+    public static void insertServiceTriggerTerm(int triggerId, String term, int keyword) {
+        String sql = "INSERT INTO ServiceTriggerTerm (trigger_id, term, keyword) VALUES (?, ?, ?)";
+        insertEntry(sql, new Object[]{triggerId, term, keyword});
     }
 
     public static int insertListener(int packageId, String name, String description, int returnError) {
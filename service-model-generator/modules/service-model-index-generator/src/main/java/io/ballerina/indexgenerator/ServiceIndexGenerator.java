@@ -61,6 +61,7 @@ import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.DefaultValueGeneratorUtil;
+import io.ballerina.modelgenerator.commons.IndexUpdate;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
@@ -79,9 +80,12 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -99,28 +103,53 @@ class ServiceIndexGenerator {
             List<PackageMetadataInfo>>>() {
     }.getType();
     private static final Logger LOGGER = Logger.getLogger(ServiceIndexGenerator.class.getName());
+    private static final java.lang.reflect.Type triggersTypeToken = new TypeToken<Map<String,
+            TriggerProperty>>() {
+    }.getType();
     private static final String SERVICE_ARTIFACTS_JSON = "service_artifacts.json";
+    private static final String TRIGGER_PROPERTIES_JSON = "trigger_properties.json";
     private static final Gson GSON = new Gson();
 
     public static void main(String[] args) {
-        DatabaseManager.createDatabase();
+        if (!IndexUpdate.isIncremental()) {
+            DatabaseManager.createDatabase();
+        }
         BuildProject buildProject = PackageUtil.getSampleProject();
 
         Gson gson = new Gson();
         URL resource = ServiceIndexGenerator.class.getClassLoader().getResource(SERVICE_ARTIFACTS_JSON);
-        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
+        URL triggersResource = ServiceIndexGenerator.class.getClassLoader().getResource(TRIGGER_PROPERTIES_JSON);
+        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8);
+             FileReader triggersReader = new FileReader(Objects.requireNonNull(triggersResource).getFile(),
+                     StandardCharsets.UTF_8);
+             IndexUpdate update = DatabaseManager.indexUpdate()) {
             Map<String, List<PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
+            Map<String, TriggerProperty> triggerProperties = gson.fromJson(triggersReader, triggersTypeToken);
+            Map<String, Trigger> triggers = new HashMap<>();
+            triggerProperties.forEach((triggerKey, property) -> triggers.put(
+                    property.orgName() + "/" + property.name(), new Trigger(triggerKey, property.keywords())));
             ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.forEach(
-                    packageMetadataInfo -> resolvePackage(buildProject, key, packageMetadataInfo)))).join();
+            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.forEach(packageMetadataInfo -> {
+                // Only the new and changed packages are indexed in the incremental mode
+                Trigger trigger = triggers.get(key + "/" + packageMetadataInfo.name());
+                String contentHash = IndexUpdate.contentHash(key, gson.toJson(packageMetadataInfo),
+                        gson.toJson(trigger));
+                if (!update.isIndexed(key, packageMetadataInfo.name(), contentHash)) {
+                    resolvePackage(buildProject, key, packageMetadataInfo, trigger, contentHash, update);
+                }
+            }))).join();
+            update.finish();
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
+        } catch (SQLException e) {
+            LOGGER.severe("Error reading the service index: " + e.getMessage());
         }
     }
 
     private static void resolvePackage(BuildProject buildProject, String org,
-                                       PackageMetadataInfo packageMetadataInfo) {
+                                       PackageMetadataInfo packageMetadataInfo, Trigger trigger,
+                                       String contentHash, IndexUpdate update) {
         Package resolvedPackage;
         try {
             resolvedPackage = Objects.requireNonNull(PackageUtil.getModulePackage(buildProject, org,
@@ -132,12 +161,14 @@ class ServiceIndexGenerator {
         PackageDescriptor descriptor = resolvedPackage.descriptor();
 
         LOGGER.info("Processing package: " + descriptor.name().value());
+        update.replace(org, packageMetadataInfo.name());
         int packageId = DatabaseManager.insertPackage(descriptor.org().value(), descriptor.name().value(),
-                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
+                descriptor.version().value().toString(), resolvedPackage.manifest().keywords(), contentHash);
         if (packageId == -1) {
             LOGGER.severe("Error inserting package to database: " + descriptor.name().value());
             return;
         }
+        update.added(packageId);
 
         SemanticModel semanticModel;
         try {
@@ -149,6 +180,9 @@ class ServiceIndexGenerator {
         }
 
         DatabaseManager.insertServiceDeclaration(packageId, packageMetadataInfo.serviceDeclaration());
+        if (trigger != null) {
+            insertTrigger(packageId, trigger, packageMetadataInfo.serviceDeclaration(), descriptor.name().value());
+        }
 
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
 
@@ -232,6 +266,38 @@ class ServiceIndexGenerator {
         }
     }
 
+    private static void insertTrigger(int packageId, Trigger trigger, ServiceDeclaration serviceDeclaration,
+                                      String packageName) {
+        int triggerId = DatabaseManager.insertServiceTrigger(packageId, trigger.key());
+        if (triggerId == -1) {
+            LOGGER.severe("Error inserting trigger to database: " + packageName);
+            return;
+        }
+
+        // The keywords are matched as a whole, while the keywords, the display name, the package name and their words
+        // are matched by prefix
+        Map<String, Boolean> terms = new LinkedHashMap<>();
+        List<String> texts = new ArrayList<>();
+        for (String keyword : trigger.keywords()) {
+            terms.put(keyword.toLowerCase(Locale.ROOT), true);
+            texts.add(keyword);
+        }
+        if (serviceDeclaration != null && serviceDeclaration.displayName() != null) {
+            texts.add(serviceDeclaration.displayName());
+        }
+        texts.add(packageName);
+        for (String text : texts) {
+            String lowerCaseText = text.toLowerCase(Locale.ROOT);
+            terms.putIfAbsent(lowerCaseText, false);
+            for (String word : lowerCaseText.split("[^\\p{Alnum}]+")) {
+                if (!word.isEmpty()) {
+                    terms.putIfAbsent(word, false);
+                }
+            }
+        }
+        terms.forEach((term, keyword) -> DatabaseManager.insertServiceTriggerTerm(triggerId, term, keyword ? 1 : 0));
+    }
+
     private static void processListenerInit(SemanticModel semanticModel, FunctionSymbol functionSymbol,
                                             Documentable documentable, int packageId,
                                             TypeSymbol errorTypeSymbol, Package resolvedPackage) {
@@ -636,6 +702,12 @@ class ServiceIndexGenerator {
     private record ParamForTypeInfer(String paramName, String defaultValue, String type) {
     }
 
+    private record TriggerProperty(String name, String orgName, String packageName, List<String> keywords) {
+    }
+
+    private record Trigger(String key, List<String> keywords) {
+    }
+
     private record PackageMetadataInfo(String name, String version, List<String> serviceTypeSkipList,
                                        ServiceDeclaration serviceDeclaration,
                                        Map<String, ServiceType> serviceTypes, Map<String, Annotation> annotations,
@@ -1,4 +1,6 @@
 -- Drop tables if they already exist to prevent conflicts
+DROP TABLE IF EXISTS ServiceTriggerTerm;
+DROP TABLE IF EXISTS ServiceTrigger;
 DROP TABLE IF EXISTS ServiceInitializerPropertyMemberType;
 DROP TABLE IF EXISTS ServiceInitializerProperty;
 DROP TABLE IF EXISTS ServiceTypeFunctionParameter;
@@ -17,7 +19,8 @@ CREATE TABLE Package (
     name TEXT NOT NULL,
     org TEXT NOT NULL,
     version TEXT,
-    keywords TEXT
+    keywords TEXT,
+    content_hash TEXT -- Hash of the service artifacts entry, used by the incremental updates
 );
 
 -- Create ServiceDeclaration table
@@ -157,3 +160,35 @@ CREATE TABLE ServiceInitializerPropertyMemberType (
     package TEXT, -- format of the package is org:name:version
     FOREIGN KEY (initializer_id) REFERENCES ServiceInitializerProperty(initializer_id) ON DELETE CASCADE
 );
+
+-- Create ServiceTrigger table
+CREATE TABLE ServiceTrigger (
+    trigger_id INTEGER PRIMARY KEY AUTOINCREMENT,
+    trigger_key TEXT NOT NULL, -- Key of the trigger in the trigger properties
+    package_id INTEGER,
+    FOREIGN KEY (package_id) REFERENCES Package(package_id) ON DELETE CASCADE
+);
+
+-- Create ServiceTriggerTerm table
+CREATE TABLE ServiceTriggerTerm (
+    trigger_id INTEGER,
+    term TEXT NOT NULL COLLATE NOCASE, -- Lower case keyword, or a word of a keyword, the display name or the package
+    keyword INTEGER CHECK(keyword IN (0, 1)),
+    FOREIGN KEY (trigger_id) REFERENCES ServiceTrigger(trigger_id) ON DELETE CASCADE
+);
+
+-- Create indices for the lookups of the language server
+CREATE INDEX idx_package_name_org ON Package(name, org);
+CREATE INDEX idx_listener_package ON Listener(package_id);
+CREATE INDEX idx_parameter_listener ON Parameter(listener_id);
+CREATE INDEX idx_parameter_member_type_parameter ON ParameterMemberType(parameter_id);
+CREATE INDEX idx_annotation_package ON Annotation(package_id);
+CREATE INDEX idx_service_type_package ON ServiceType(package_id, name);
+CREATE INDEX idx_service_type_function_service_type ON ServiceTypeFunction(service_type_id, name);
+CREATE INDEX idx_service_type_function_parameter_function ON ServiceTypeFunctionParameter(function_id);
+CREATE INDEX idx_service_initializer_property_package ON ServiceInitializerProperty(package_id);
+CREATE INDEX idx_service_initializer_property_member_type_initializer
+    ON ServiceInitializerPropertyMemberType(initializer_id);
+CREATE UNIQUE INDEX idx_service_trigger_key ON ServiceTrigger(trigger_key);
+CREATE INDEX idx_service_trigger_package ON ServiceTrigger(package_id);
+CREATE INDEX idx_service_trigger_term ON ServiceTriggerTerm(term, keyword, trigger_id);